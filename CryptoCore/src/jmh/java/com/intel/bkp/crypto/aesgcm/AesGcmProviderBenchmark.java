@@ -0,0 +1,141 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.aesgcm;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * Compares AES-GCM encryption with cached per-thread Cipher and SecureRandom against creating both per operation.
+ */
+@State(Scope.Thread)
+public class AesGcmProviderBenchmark {
+
+    private static final String CIPHER_TYPE = "GCM";
+
+    @Param({"64", "1024", "16384", "65536"})
+    private int dataSize;
+
+    private AesGcmProvider provider;
+    private byte[] data;
+    private byte[] encrypted;
+    private ByteBuffer directData;
+    private ByteBuffer directOutput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        provider = new BenchmarkAesGcmProvider(keyGenerator.generateKey(), new BouncyCastleProvider());
+
+        data = new byte[dataSize];
+        new Random(dataSize).nextBytes(data);
+        encrypted = provider.encrypt(data);
+        directData = ByteBuffer.allocateDirect(dataSize).put(data).flip();
+        directOutput = ByteBuffer.allocateDirect(AesGcmProvider.getEncryptedLength(dataSize));
+    }
+
+    @Benchmark
+    public byte[] encrypt() throws Exception {
+        return provider.encrypt(data);
+    }
+
+    @Benchmark
+    public byte[] decrypt() throws Exception {
+        return provider.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public int encryptDirectBuffer() throws Exception {
+        return provider.encrypt(directData.rewind(), directOutput.clear());
+    }
+
+    @Benchmark
+    public byte[] encryptWithNewCipherAndRandom() throws Exception {
+        final byte[] iv = new byte[AesGcmCipherEngine.IV_LEN_BYTES];
+        new SecureRandom().nextBytes(iv);
+        final Cipher cipher = Cipher.getInstance(CIPHER_TYPE, provider.getProvider());
+        cipher.init(Cipher.ENCRYPT_MODE, provider.getSecretKey(),
+            new GCMParameterSpec(AesGcmCipherEngine.AUTH_TAG_LEN_BITS, iv));
+        cipher.updateAAD(new byte[0]);
+        final byte[] encryptedBytes = cipher.doFinal(data);
+        return ByteBuffer.allocate(Integer.BYTES + iv.length + encryptedBytes.length)
+            .putInt(iv.length).put(iv).put(encryptedBytes).array();
+    }
+
+    private static class BenchmarkAesGcmProvider extends AesGcmProvider {
+
+        private final SecretKey secretKey;
+        private final Provider provider;
+
+        BenchmarkAesGcmProvider(SecretKey secretKey, Provider provider) {
+            this.secretKey = secretKey;
+            this.provider = provider;
+        }
+
+        @Override
+        public SecretKey getSecretKey() {
+            return secretKey;
+        }
+
+        @Override
+        public Provider getProvider() {
+            return provider;
+        }
+
+        @Override
+        public String getCipherType() {
+            return CIPHER_TYPE;
+        }
+
+        @Override
+        public ByteOrder getByteOrder() {
+            return ByteOrder.BIG_ENDIAN;
+        }
+    }
+}
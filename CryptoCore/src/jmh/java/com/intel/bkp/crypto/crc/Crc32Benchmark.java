@@ -0,0 +1,109 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.crc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Compares table-driven CRC32 with the previous bit-at-a-time calculation.
+ */
+@State(Scope.Thread)
+public class Crc32Benchmark {
+
+    private static final int POLY = 0x04C11DB7;
+
+    @Param({"64", "4096", "65536"})
+    private int dataSize;
+
+    @Param({"REGULAR", "BZIP2"})
+    private Crc32Type type;
+
+    private byte[] data;
+    private ByteBuffer directData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = new byte[dataSize];
+        new Random(dataSize).nextBytes(data);
+        directData = ByteBuffer.allocateDirect(dataSize).put(data).flip();
+    }
+
+    @Benchmark
+    public int tableDriven() {
+        return type.getChecksum(data);
+    }
+
+    @Benchmark
+    public int tableDrivenDirectBuffer() {
+        return type.getChecksum(directData);
+    }
+
+    @Benchmark
+    public int bitwise() {
+        return switch (type) {
+            case REGULAR -> bitwiseRegular(data);
+            case BZIP2 -> bitwiseBzip(data);
+        };
+    }
+
+    private static int bitwiseBzip(byte[] data) {
+        int crc = -1;
+        for (byte b : data) {
+            crc = updateBitwise(crc ^ (b << 24));
+        }
+        return ~crc;
+    }
+
+    private static int bitwiseRegular(byte[] data) {
+        int crc = -1;
+        for (byte b : data) {
+            crc = updateBitwise(crc ^ Integer.reverse(b & 0xFF));
+        }
+        return Integer.reverse(~crc);
+    }
+
+    private static int updateBitwise(int crc) {
+        for (int i = 0; i < Byte.SIZE; i++) {
+            crc = crc < 0 ? (crc << 1) ^ POLY : crc << 1;
+        }
+        return crc;
+    }
+}
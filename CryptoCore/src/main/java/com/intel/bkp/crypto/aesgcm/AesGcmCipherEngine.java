@@ -0,0 +1,118 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.aesgcm;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps AES-GCM Cipher instances and SecureRandom per thread, so that provider lookup and DRBG seeding
+ * happen once per thread instead of once per operation. Cipher is re-initialized with key, IV and AAD
+ * before every operation.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AesGcmCipherEngine {
+
+    static final int AUTH_TAG_LEN_BITS = 128;
+    static final int AUTH_TAG_LEN_BYTES = AUTH_TAG_LEN_BITS / Byte.SIZE;
+    static final int IV_LEN_BYTES = 12;
+
+    private static final int MAX_CACHED_CIPHERS_PER_THREAD = 8;
+
+    private static final ThreadLocal<SecureRandom> SECURE_RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    private static final ThreadLocal<Map<CipherId, Cipher>> CIPHERS = ThreadLocal.withInitial(
+        () -> new LinkedHashMap<>(MAX_CACHED_CIPHERS_PER_THREAD, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CipherId, Cipher> eldest) {
+                return size() > MAX_CACHED_CIPHERS_PER_THREAD;
+            }
+        });
+
+    static byte[] generateIv() {
+        // (https://nvlpubs.nist.gov/nistpubs/Legacy/SP/nistspecialpublication800-38d.pdf p.19)
+        final byte[] iv = new byte[IV_LEN_BYTES];
+        SECURE_RANDOM.get().nextBytes(iv);
+        return iv;
+    }
+
+    static Cipher init(int mode, String cipherType, Provider provider, SecretKey key, byte[] iv, byte[] aad)
+        throws GeneralSecurityException {
+        final Cipher cipher = getCipher(cipherType, provider);
+        cipher.init(mode, key, new GCMParameterSpec(AUTH_TAG_LEN_BITS, iv));
+        if (aad.length > 0) {
+            cipher.updateAAD(aad);
+        }
+        return cipher;
+    }
+
+    static Cipher getCipher(String cipherType, Provider provider)
+        throws NoSuchAlgorithmException, NoSuchPaddingException {
+        final Map<CipherId, Cipher> ciphers = CIPHERS.get();
+        final CipherId cipherId = new CipherId(cipherType, provider);
+        Cipher cipher = ciphers.get(cipherId);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(cipherType, provider);
+            ciphers.put(cipherId, cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * Provider is compared by identity - Provider inherits content based equals from Properties.
+     */
+    private record CipherId(String cipherType, Provider provider) {
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o
+                || o instanceof CipherId other && provider == other.provider && cipherType.equals(other.cipherType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * cipherType.hashCode() + System.identityHashCode(provider);
+        }
+    }
+}
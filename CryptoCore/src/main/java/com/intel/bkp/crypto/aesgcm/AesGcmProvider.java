@@ -39,17 +39,20 @@ import com.intel.bkp.utils.exceptions.ByteBufferSafeException;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.GCMParameterSpec;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.security.GeneralSecurityException;
 import java.security.Provider;
-import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Optional;
 
+import static com.intel.bkp.crypto.aesgcm.AesGcmCipherEngine.AUTH_TAG_LEN_BYTES;
+import static com.intel.bkp.crypto.aesgcm.AesGcmCipherEngine.IV_LEN_BYTES;
+
 public abstract class AesGcmProvider implements IEncryptionProvider {
 
-    private static final int AUTH_TAG_LEN_BITS = 128;
-    private static final int IV_LEN_BYTES = 12;
+    private static final int HEADER_LEN = Integer.BYTES + IV_LEN_BYTES;
+    private static final byte[] EMPTY_AAD = new byte[0];
 
     public abstract SecretKey getSecretKey();
 
@@ -60,61 +63,126 @@ public abstract class AesGcmProvider implements IEncryptionProvider {
     public abstract ByteOrder getByteOrder();
 
     public byte[] encrypt(byte[] data) throws EncryptionProviderException {
-        final byte[] iv = generateIV();
-        final byte[] encryptedBytes = perform(iv, data, Cipher.ENCRYPT_MODE);
-
-        ByteBuffer byteBuffer = ByteBuffer
-            .allocate(Integer.BYTES + iv.length + encryptedBytes.length)
-            .order(getByteOrderInternal());
-        return byteBuffer.putInt(iv.length).put(iv).put(encryptedBytes).array();
+        final ByteOrder byteOrder = getByteOrderInternal();
+        final byte[] iv = AesGcmCipherEngine.generateIv();
+        try {
+            final Cipher cipher = init(Cipher.ENCRYPT_MODE, iv);
+            final byte[] result = new byte[HEADER_LEN + cipher.getOutputSize(data.length)];
+            ByteBuffer.wrap(result).order(byteOrder).putInt(iv.length).put(iv);
+            final int encryptedLen = cipher.doFinal(data, 0, data.length, result, HEADER_LEN);
+            return trim(result, HEADER_LEN + encryptedLen);
+        } catch (EncryptionProviderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EncryptionProviderException("AES encryption failed.", e);
+        }
     }
 
     public byte[] decrypt(byte[] data) throws EncryptionProviderException {
+        final byte[] iv;
         try {
             ByteBufferSafe byteBuffer = ByteBufferSafe.wrap(data).order(getByteOrderInternal());
 
-            byte[] iv = byteBuffer.arrayFromNextInt();
+            iv = byteBuffer.arrayFromNextInt();
             if (iv.length != IV_LEN_BYTES) {
                 throw new EncryptionProviderException("Invalid iv length.");
             }
 
             byteBuffer.get(iv);
-
-            byte[] cipherText = byteBuffer.arrayFromRemaining();
-            byteBuffer.get(cipherText);
-
-            return perform(iv, cipherText, Cipher.DECRYPT_MODE);
         } catch (ByteBufferSafeException e) {
             throw new EncryptionProviderException("Data to decrypt for AesGcm is incorrect.", e);
         }
-    }
 
-    private byte[] generateIV() {
-        SecureRandom secureRandom = new SecureRandom();
+        try {
+            final Cipher cipher = init(Cipher.DECRYPT_MODE, iv);
+            return cipher.doFinal(data, HEADER_LEN, data.length - HEADER_LEN);
+        } catch (EncryptionProviderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EncryptionProviderException("AES decryption failed.", e);
+        }
+    }
 
-        // (https://nvlpubs.nist.gov/nistpubs/Legacy/SP/nistspecialpublication800-38d.pdf p.19)
-        byte[] iv = new byte[IV_LEN_BYTES];
-        secureRandom.nextBytes(iv);
-        return iv;
+    /**
+     * Encrypts remaining bytes of input into output in the same format as {@link #encrypt(byte[])}.
+     * Position of input is moved to its limit and position of output is moved past the written data.
+     *
+     * @return number of bytes written to output
+     */
+    public int encrypt(ByteBuffer input, ByteBuffer output) throws EncryptionProviderException {
+        final ByteOrder byteOrder = getByteOrderInternal();
+        final byte[] iv = AesGcmCipherEngine.generateIv();
+        try {
+            final Cipher cipher = init(Cipher.ENCRYPT_MODE, iv);
+            if (output.remaining() < HEADER_LEN + cipher.getOutputSize(input.remaining())) {
+                throw new EncryptionProviderException("Output buffer is too small for AES encryption.");
+            }
+            putInt(output, iv.length, byteOrder);
+            output.put(iv);
+            return HEADER_LEN + cipher.doFinal(input, output);
+        } catch (EncryptionProviderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EncryptionProviderException("AES encryption failed.", e);
+        }
     }
 
-    private byte[] perform(byte[] iv, byte[] data, int mode) throws EncryptionProviderException {
+    /**
+     * Decrypts remaining bytes of input, created by {@link #encrypt(ByteBuffer, ByteBuffer)} or
+     * {@link #encrypt(byte[])}, into output.
+     *
+     * @return number of bytes written to output
+     */
+    public int decrypt(ByteBuffer input, ByteBuffer output) throws EncryptionProviderException {
+        final ByteOrder byteOrder = getByteOrderInternal();
+        if (input.remaining() < HEADER_LEN) {
+            throw new EncryptionProviderException("Data to decrypt for AesGcm is incorrect.");
+        }
+        if (getInt(input, byteOrder) != IV_LEN_BYTES) {
+            throw new EncryptionProviderException("Invalid iv length.");
+        }
+
+        final byte[] iv = new byte[IV_LEN_BYTES];
+        input.get(iv);
+
         try {
-            final Cipher cipher = Cipher.getInstance(getCipherTypeInternal(), getProviderInternal());
-            cipher.init(mode, getSecretKeyInternal(), new GCMParameterSpec(AUTH_TAG_LEN_BITS, iv));
-            cipher.updateAAD(new byte[0]);
-            return cipher.doFinal(data);
+            final Cipher cipher = init(Cipher.DECRYPT_MODE, iv);
+            return cipher.doFinal(input, output);
         } catch (EncryptionProviderException e) {
             throw e;
         } catch (Exception e) {
-            if (mode == Cipher.ENCRYPT_MODE) {
-                throw new EncryptionProviderException("AES encryption failed.", e);
-            } else {
-                throw new EncryptionProviderException("AES decryption failed.", e);
-            }
+            throw new EncryptionProviderException("AES decryption failed.", e);
         }
     }
 
+    /**
+     * Size of {@link #encrypt(byte[])} result for plain data of given length.
+     */
+    public static int getEncryptedLength(int dataLength) {
+        return HEADER_LEN + dataLength + AUTH_TAG_LEN_BYTES;
+    }
+
+    private Cipher init(int mode, byte[] iv) throws EncryptionProviderException, GeneralSecurityException {
+        return AesGcmCipherEngine.init(mode, getCipherTypeInternal(), getProviderInternal(),
+            getSecretKeyInternal(), iv, EMPTY_AAD);
+    }
+
+    private static byte[] trim(byte[] data, int length) {
+        return data.length == length ? data : Arrays.copyOf(data, length);
+    }
+
+    private static void putInt(ByteBuffer buffer, int value, ByteOrder byteOrder) {
+        final ByteOrder originalOrder = buffer.order();
+        buffer.order(byteOrder).putInt(value).order(originalOrder);
+    }
+
+    private static int getInt(ByteBuffer buffer, ByteOrder byteOrder) {
+        final ByteOrder originalOrder = buffer.order();
+        final int value = buffer.order(byteOrder).getInt();
+        buffer.order(originalOrder);
+        return value;
+    }
+
     private SecretKey getSecretKeyInternal() throws EncryptionProviderException {
         return Optional.ofNullable(getSecretKey())
             .orElseThrow(() -> new EncryptionProviderException("Context Key is not set."));
@@ -32,38 +32,59 @@
 
 package com.intel.bkp.crypto.crc;
 
+import java.nio.ByteBuffer;
 
 /**
- * This is implementation of CRC32 algorithm using NORMAL FORM (shift left) with FORWARD POLYNOMINAL (0x04C11DB7).
- * Code is written based on C++ implementation from:
+ * This is implementation of CRC32 algorithm with FORWARD POLYNOMINAL (0x04C11DB7).
+ * Code was originally written based on C++ implementation from:
  * <a href="https://github.com/Michaelangel007/crc32#formulaic-crc">...</a>
+ * Implementations use precomputed tables and process 8 bytes per iteration (slicing-by-8),
+ * see: <a href="https://create.stephan-brumme.com/crc32/#slicing-by-8-overview">...</a>
  * CRC for tests are calculated using: <a href="https://crccalc.com">...</a>
  */
 public abstract class Crc32Base {
 
     private static final String EMPTY_DATA_ERROR_MSG = "Data cannot be null or empty";
-    private static final int INIT_CRC = -1;
-    private static final int POLY = 0x04C11DB7;
+    static final int INIT_CRC = -1;
+    static final int POLY = 0x04C11DB7;
+    static final int SLICES = 8;
+    static final int TABLE_SIZE = 256;
 
-    abstract int perform(int crc, byte[] data);
+    /**
+     * Updates CRC register with data[offset, offset + length).
+     */
+    abstract int update(int crc, byte[] data, int offset, int length);
+
+    /**
+     * Updates CRC register with remaining bytes of buffer. Buffer position is not modified.
+     */
+    abstract int update(int crc, ByteBuffer data);
 
     public int getChecksum(byte[] data) {
         if (data == null || 0 == data.length) {
             throw new IllegalArgumentException(EMPTY_DATA_ERROR_MSG);
         }
-        return perform(INIT_CRC, data);
+        return finish(update(INIT_CRC, data, 0, data.length));
     }
 
-    int getChecksumInternal(int crc) {
-        // read 8 bits one at a time
-        for (int i = 0; i < Byte.SIZE; i++) {
-            if (crc < 0) {
-                crc <<= 1;
-                crc ^= POLY;
-            } else {
-                crc <<= 1;
-            }
+    /**
+     * Calculates checksum of remaining bytes of buffer. Buffer position is not modified.
+     */
+    public int getChecksum(ByteBuffer data) {
+        if (data == null || !data.hasRemaining()) {
+            throw new IllegalArgumentException(EMPTY_DATA_ERROR_MSG);
         }
-        return crc;
+        return finish(update(INIT_CRC, data));
+    }
+
+    /**
+     * Creates checksum which can be updated incrementally, e.g. with consecutive chunks of streamed data.
+     */
+    public Crc32Checksum newChecksum() {
+        return new Crc32Checksum(this);
+    }
+
+    int finish(int crc) {
+        return ~crc;
     }
 }
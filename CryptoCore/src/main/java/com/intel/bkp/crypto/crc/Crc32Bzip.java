@@ -32,6 +32,11 @@
 
 package com.intel.bkp.crypto.crc;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * It is compliant with format CRC-32/BZIP2 algorithm which does NOT reverse neither input DATA nor calculated CRC.
  * Written based on this repo: <a href="https://github.com/Michaelangel007/crc32/blob/master/src/crc32.h#L33">...</a>
@@ -39,14 +44,75 @@ package com.intel.bkp.crypto.crc;
  */
 public final class Crc32Bzip extends Crc32Base {
 
+    private static final int[][] TABLES = createTables();
+    private static final int[] T0 = TABLES[0];
+    private static final int[] T1 = TABLES[1];
+    private static final int[] T2 = TABLES[2];
+    private static final int[] T3 = TABLES[3];
+    private static final int[] T4 = TABLES[4];
+    private static final int[] T5 = TABLES[5];
+    private static final int[] T6 = TABLES[6];
+    private static final int[] T7 = TABLES[7];
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    @Override
+    int update(int crc, byte[] data, int offset, int length) {
+        final int end = offset + length;
+        final int slicedEnd = end - length % SLICES;
+        int i = offset;
+        for (; i < slicedEnd; i += SLICES) {
+            crc = slice(crc ^ (int) INT_BE.get(data, i), (int) INT_BE.get(data, i + Integer.BYTES));
+        }
+        for (; i < end; i++) {
+            crc = updateByte(crc, data[i]);
+        }
+        return crc;
+    }
+
     @Override
-    int perform(int crc, byte[] data) {
-        for (byte b : data) {
-            crc = (crc ^ (b << 24));
-            crc = getChecksumInternal(crc);
+    int update(int crc, ByteBuffer data) {
+        if (data.hasArray()) {
+            return update(crc, data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+
+        final ByteBuffer buffer = data.duplicate().order(ByteOrder.BIG_ENDIAN);
+        final int end = buffer.limit();
+        final int slicedEnd = end - buffer.remaining() % SLICES;
+        int i = buffer.position();
+        for (; i < slicedEnd; i += SLICES) {
+            crc = slice(crc ^ buffer.getInt(i), buffer.getInt(i + Integer.BYTES));
+        }
+        for (; i < end; i++) {
+            crc = updateByte(crc, buffer.get(i));
         }
+        return crc;
+    }
+
+    private static int slice(int one, int two) {
+        return T7[one >>> 24] ^ T6[(one >>> 16) & 0xFF] ^ T5[(one >>> 8) & 0xFF] ^ T4[one & 0xFF]
+            ^ T3[two >>> 24] ^ T2[(two >>> 16) & 0xFF] ^ T1[(two >>> 8) & 0xFF] ^ T0[two & 0xFF];
+    }
 
-        return ~crc;
+    private static int updateByte(int crc, byte b) {
+        return (crc << 8) ^ T0[((crc >>> 24) ^ b) & 0xFF];
     }
 
+    private static int[][] createTables() {
+        final int[][] tables = new int[SLICES][TABLE_SIZE];
+        for (int n = 0; n < TABLE_SIZE; n++) {
+            int crc = n << 24;
+            // read 8 bits one at a time
+            for (int i = 0; i < Byte.SIZE; i++) {
+                crc = crc < 0 ? (crc << 1) ^ POLY : crc << 1;
+            }
+            tables[0][n] = crc;
+        }
+        for (int n = 0; n < TABLE_SIZE; n++) {
+            for (int s = 1; s < SLICES; s++) {
+                final int prev = tables[s - 1][n];
+                tables[s][n] = (prev << 8) ^ tables[0][prev >>> 24];
+            }
+        }
+        return tables;
+    }
 }
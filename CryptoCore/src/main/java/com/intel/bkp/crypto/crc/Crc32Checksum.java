@@ -0,0 +1,84 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.crc;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+/**
+ * Incremental CRC32 calculation. Not thread-safe.
+ */
+public final class Crc32Checksum implements Checksum {
+
+    private final Crc32Base algorithm;
+    private int crc = Crc32Base.INIT_CRC;
+
+    Crc32Checksum(Crc32Base algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = algorithm.update(crc, new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void update(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        crc = algorithm.update(crc, data, offset, length);
+    }
+
+    /**
+     * Updates checksum with remaining bytes of buffer. Upon return, buffer position is equal to its limit.
+     */
+    @Override
+    public void update(ByteBuffer buffer) {
+        crc = algorithm.update(crc, buffer);
+        buffer.position(buffer.limit());
+    }
+
+    @Override
+    public void reset() {
+        crc = Crc32Base.INIT_CRC;
+    }
+
+    @Override
+    public long getValue() {
+        return Integer.toUnsignedLong(getChecksum());
+    }
+
+    public int getChecksum() {
+        return algorithm.finish(crc);
+    }
+}
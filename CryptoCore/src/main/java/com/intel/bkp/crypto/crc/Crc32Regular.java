@@ -32,38 +32,90 @@
 
 package com.intel.bkp.crypto.crc;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * It is compliant with format CRC-32 algorithm which reverses both input DATA and calculated CRC.
  * Written based on this repo: <a href="https://github.com/Michaelangel007/crc32/blob/master/src/crc32.h#L52">...</a>
  * This is how SmartNIC team is calculating CRC32 under Manifest.
+ * Instead of reversing every byte, register is kept in reflected form and processed with reflected polynomial.
  */
 public class Crc32Regular extends Crc32Base {
 
+    private static final int REFLECTED_POLY = Integer.reverse(POLY);
+    private static final int[][] TABLES = createTables();
+    private static final int[] T0 = TABLES[0];
+    private static final int[] T1 = TABLES[1];
+    private static final int[] T2 = TABLES[2];
+    private static final int[] T3 = TABLES[3];
+    private static final int[] T4 = TABLES[4];
+    private static final int[] T5 = TABLES[5];
+    private static final int[] T6 = TABLES[6];
+    private static final int[] T7 = TABLES[7];
+    private static final VarHandle INT_LE =
+        MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    @Override
+    int update(int crc, byte[] data, int offset, int length) {
+        final int end = offset + length;
+        final int slicedEnd = end - length % SLICES;
+        int i = offset;
+        for (; i < slicedEnd; i += SLICES) {
+            crc = slice(crc ^ (int) INT_LE.get(data, i), (int) INT_LE.get(data, i + Integer.BYTES));
+        }
+        for (; i < end; i++) {
+            crc = updateByte(crc, data[i]);
+        }
+        return crc;
+    }
+
     @Override
-    int perform(int crc, byte[] data) {
-        for (byte b : data) {
-            crc = (crc ^ (reverseBits(b) << 24));
-            crc = getChecksumInternal(crc);
+    int update(int crc, ByteBuffer data) {
+        if (data.hasArray()) {
+            return update(crc, data.array(), data.arrayOffset() + data.position(), data.remaining());
         }
-        return reverseBits32(~crc);
+
+        final ByteBuffer buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int end = buffer.limit();
+        final int slicedEnd = end - buffer.remaining() % SLICES;
+        int i = buffer.position();
+        for (; i < slicedEnd; i += SLICES) {
+            crc = slice(crc ^ buffer.getInt(i), buffer.getInt(i + Integer.BYTES));
+        }
+        for (; i < end; i++) {
+            crc = updateByte(crc, buffer.get(i));
+        }
+        return crc;
     }
 
-    private int reverseBits(byte x) {
-        return (reverseBits32(x) >> 24) & 0xFF;
+    private static int slice(int one, int two) {
+        return T7[one & 0xFF] ^ T6[(one >>> 8) & 0xFF] ^ T5[(one >>> 16) & 0xFF] ^ T4[one >>> 24]
+            ^ T3[two & 0xFF] ^ T2[(two >>> 8) & 0xFF] ^ T1[(two >>> 16) & 0xFF] ^ T0[two >>> 24];
     }
 
-    private int reverseBits32(int x) {
-        int bits = 0;
-        int mask = x;
+    private static int updateByte(int crc, byte b) {
+        return (crc >>> 8) ^ T0[(crc ^ b) & 0xFF];
+    }
 
-        for (int i = 0; i < Integer.SIZE; i++) {
-            bits <<= 1;
-            if ((mask & 1) != 0) {
-                bits |= 1;
+    private static int[][] createTables() {
+        final int[][] tables = new int[SLICES][TABLE_SIZE];
+        for (int n = 0; n < TABLE_SIZE; n++) {
+            int crc = n;
+            // read 8 bits one at a time
+            for (int i = 0; i < Byte.SIZE; i++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ REFLECTED_POLY : crc >>> 1;
             }
-            mask >>= 1;
+            tables[0][n] = crc;
         }
-
-        return bits;
+        for (int n = 0; n < TABLE_SIZE; n++) {
+            for (int s = 1; s < SLICES; s++) {
+                final int prev = tables[s - 1][n];
+                tables[s][n] = (prev >>> 8) ^ tables[0][prev & 0xFF];
+            }
+        }
+        return tables;
     }
 }
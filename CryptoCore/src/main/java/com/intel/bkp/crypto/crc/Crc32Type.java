@@ -34,6 +34,8 @@ package com.intel.bkp.crypto.crc;
 
 import lombok.AllArgsConstructor;
 
+import java.nio.ByteBuffer;
+
 @AllArgsConstructor
 public enum Crc32Type {
     REGULAR(new Crc32Regular()),
@@ -44,4 +46,12 @@ public enum Crc32Type {
     public int getChecksum(byte[] data) {
         return instance.getChecksum(data);
     }
+
+    public int getChecksum(ByteBuffer data) {
+        return instance.getChecksum(data);
+    }
+
+    public Crc32Checksum newChecksum() {
+        return instance.newChecksum();
+    }
 }
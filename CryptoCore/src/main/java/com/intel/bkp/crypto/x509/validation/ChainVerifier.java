@@ -71,6 +71,7 @@ public class ChainVerifier {
     private BasicConstraintsVerifier basicConstraintsVerifier = new BasicConstraintsVerifier();
     private KeyUsageVerifier keyUsageVerifier = new KeyUsageVerifier();
     private CriticalExtensionsVerifier criticalExtensionsVerifier = new CriticalExtensionsVerifier();
+    private VerifiedLinkCache verifiedLinkCache = VerifiedLinkCache.shared();
 
     private List<X509Certificate> certificates = new LinkedList<>();
     private final Optional<Integer> rootBasicConstraints = Optional.empty();
@@ -116,11 +117,27 @@ public class ChainVerifier {
     private boolean verifyCertificate(X509Certificate child, X509Certificate parent,
                                       Optional<Integer> childExpectedBasicConstraints, KeyUsage childExpectedKeyUsage) {
         return validityVerifier.verify(child)
-                && signatureVerifier.verify(child, parent)
-                && issuerVerifier.verify(child, parent)
-                && akiVerifier.verify(child, parent)
+                && verifyLink(child, parent)
                 && keyUsageVerifier.verify(child, childExpectedKeyUsage)
                 && criticalExtensionsVerifier.verify(child, knownExtensionOids)
                 && childExpectedBasicConstraints.map(bc -> basicConstraintsVerifier.verify(child, bc)).orElse(true);
     }
+
+    /**
+     * Checks depending only on the pair of certificates - result is memoized, as upper part of the chain
+     * is shared by many devices.
+     */
+    private boolean verifyLink(X509Certificate child, X509Certificate parent) {
+        if (verifiedLinkCache.contains(child, parent)) {
+            return true;
+        }
+
+        final boolean valid = signatureVerifier.verify(child, parent)
+                && issuerVerifier.verify(child, parent)
+                && akiVerifier.verify(child, parent);
+        if (valid) {
+            verifiedLinkCache.add(child, parent);
+        }
+        return valid;
+    }
 }
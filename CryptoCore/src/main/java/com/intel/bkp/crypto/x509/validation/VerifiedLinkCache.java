@@ -0,0 +1,156 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.x509.validation;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Bounded memo of certificate links (child certificate and its issuer) that passed signature, issuer and
+ * authority key identifier verification. Root and intermediate certificates are shared by many devices,
+ * so only device-unique links need ECDSA verification after the first chain.
+ *
+ * <p>Entry expires at the earliest of child NotAfter, parent NotAfter and configured max age.
+ * Revocation is not memoized - CRLs are checked separately for each chain.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VerifiedLinkCache {
+
+    static final int DEFAULT_MAX_SIZE = 10_000;
+    static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private static final VerifiedLinkCache SHARED =
+        new VerifiedLinkCache(DEFAULT_MAX_SIZE, DEFAULT_MAX_AGE, Clock.systemUTC());
+
+    private final int maxSize;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    private final Map<Link, Instant> expiryByLink = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Link, Instant> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public static VerifiedLinkCache shared() {
+        return SHARED;
+    }
+
+    public boolean contains(X509Certificate child, X509Certificate parent) {
+        return toLink(child, parent)
+            .map(this::containsValid)
+            .orElse(false);
+    }
+
+    public void add(X509Certificate child, X509Certificate parent) {
+        toLink(child, parent).ifPresent(link -> {
+            final Instant expiry = getExpiry(child, parent);
+            if (expiry.isAfter(clock.instant())) {
+                synchronized (expiryByLink) {
+                    expiryByLink.put(link, expiry);
+                }
+            }
+        });
+    }
+
+    public int size() {
+        synchronized (expiryByLink) {
+            return expiryByLink.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (expiryByLink) {
+            expiryByLink.clear();
+        }
+    }
+
+    private boolean containsValid(Link link) {
+        synchronized (expiryByLink) {
+            final Instant expiry = expiryByLink.get(link);
+            if (expiry == null) {
+                return false;
+            }
+            if (!expiry.isAfter(clock.instant())) {
+                expiryByLink.remove(link);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private Instant getExpiry(X509Certificate child, X509Certificate parent) {
+        return Stream.concat(
+                Stream.of(clock.instant().plus(maxAge)),
+                Stream.of(child.getNotAfter(), parent.getNotAfter())
+                    .filter(Objects::nonNull)
+                    .map(Date::toInstant))
+            .min(Instant::compareTo)
+            .orElseThrow();
+    }
+
+    private static Optional<Link> toLink(X509Certificate child, X509Certificate parent) {
+        return fingerprint(child)
+            .flatMap(childFingerprint -> fingerprint(parent)
+                .map(parentFingerprint -> new Link(childFingerprint, parentFingerprint)));
+    }
+
+    private static Optional<String> fingerprint(X509Certificate certificate) {
+        try {
+            return Optional.ofNullable(certificate.getEncoded())
+                .map(CryptoUtils::generateSha256Fingerprint);
+        } catch (CertificateEncodingException e) {
+            log.debug("Certificate link will not be memoized - failed to encode certificate.", e);
+            return Optional.empty();
+        }
+    }
+
+    private record Link(String childFingerprint, String parentFingerprint) {
+    }
+}
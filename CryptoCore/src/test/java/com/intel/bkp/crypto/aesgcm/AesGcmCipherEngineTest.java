@@ -0,0 +1,102 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.aesgcm;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import java.security.Provider;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AesGcmCipherEngineTest {
+
+    private static final String CIPHER_TYPE = "GCM";
+
+    private final Provider provider = new BouncyCastleProvider();
+
+    @Test
+    void getCipher_SameThread_ReturnsCachedCipher() throws Exception {
+        // when
+        final Cipher first = AesGcmCipherEngine.getCipher(CIPHER_TYPE, provider);
+        final Cipher second = AesGcmCipherEngine.getCipher(CIPHER_TYPE, provider);
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    void getCipher_OtherThread_ReturnsOtherCipher() throws Exception {
+        // given
+        final Cipher current = AesGcmCipherEngine.getCipher(CIPHER_TYPE, provider);
+
+        // when
+        final Cipher other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return AesGcmCipherEngine.getCipher(CIPHER_TYPE, provider);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        // then
+        assertNotSame(current, other);
+    }
+
+    @Test
+    void getCipher_OtherProviderInstance_ReturnsOtherCipher() throws Exception {
+        // when
+        final Cipher first = AesGcmCipherEngine.getCipher(CIPHER_TYPE, provider);
+        final Cipher second = AesGcmCipherEngine.getCipher(CIPHER_TYPE, new BouncyCastleProvider());
+
+        // then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void generateIv_ReturnsRandomIvOfExpectedLength() {
+        // when
+        final byte[] first = AesGcmCipherEngine.generateIv();
+        final byte[] second = AesGcmCipherEngine.generateIv();
+
+        // then
+        assertEquals(AesGcmCipherEngine.IV_LEN_BYTES, first.length);
+        assertFalse(Arrays.equals(first, second));
+    }
+}
@@ -40,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -240,6 +241,97 @@ public class AesGcmProviderTest {
         assertEquals("Data to decrypt for AesGcm is incorrect.", exception.getMessage());
     }
 
+    @Test
+    void encrypt_ResultHasExpectedLength() throws Exception {
+        // given
+        prepareAll();
+        final byte[] data = new byte[100];
+
+        // when
+        final byte[] result = sut.encrypt(data);
+
+        // then
+        assertEquals(AesGcmProvider.getEncryptedLength(data.length), result.length);
+    }
+
+    @Test
+    void encrypt_decrypt_ByteBuffer_Success() throws Exception {
+        // given
+        prepareAll();
+        final byte[] expected = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final ByteBuffer encrypted = ByteBuffer.allocateDirect(AesGcmProvider.getEncryptedLength(expected.length));
+        final ByteBuffer decrypted = ByteBuffer.allocate(expected.length);
+
+        // when
+        final int encryptedLength = sut.encrypt(ByteBuffer.wrap(expected), encrypted);
+        final int decryptedLength = sut.decrypt(encrypted.flip(), decrypted);
+
+        // then
+        assertEquals(encrypted.limit(), encryptedLength);
+        assertEquals(expected.length, decryptedLength);
+        assertArrayEquals(expected, decrypted.array());
+    }
+
+    @Test
+    void encrypt_ByteBuffer_decrypt_ByteArray_Success() throws Exception {
+        // given
+        prepareAll();
+        final byte[] expected = new byte[]{1, 2, 3};
+        final ByteBuffer encrypted = ByteBuffer.allocate(AesGcmProvider.getEncryptedLength(expected.length))
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        // when
+        sut.encrypt(ByteBuffer.wrap(expected), encrypted);
+        final byte[] decrypted = sut.decrypt(encrypted.array());
+
+        // then
+        assertArrayEquals(expected, decrypted);
+        assertEquals(ByteOrder.LITTLE_ENDIAN, encrypted.order());
+    }
+
+    @Test
+    void encrypt_ByteBuffer_OutputTooSmall_ThrowsException() throws Exception {
+        // given
+        prepareAll();
+
+        // when-then
+        final EncryptionProviderException exception = assertThrows(EncryptionProviderException.class,
+            () -> sut.encrypt(ByteBuffer.wrap(new byte[10]), ByteBuffer.allocate(10))
+        );
+
+        // then
+        assertEquals("Output buffer is too small for AES encryption.", exception.getMessage());
+    }
+
+    @Test
+    void decrypt_ByteBuffer_ThrowsNotValidIvLengthException() throws Exception {
+        // given
+        prepareAll();
+        final ByteBuffer input = ByteBuffer.wrap(new byte[]{0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+
+        // when-then
+        final EncryptionProviderException exception = assertThrows(EncryptionProviderException.class,
+            () -> sut.decrypt(input, ByteBuffer.allocate(16))
+        );
+
+        // then
+        assertEquals("Invalid iv length.", exception.getMessage());
+    }
+
+    @Test
+    void decrypt_ByteBuffer_DataTooShort_ThrowsException() throws Exception {
+        // given
+        prepareAll();
+
+        // when-then
+        final EncryptionProviderException exception = assertThrows(EncryptionProviderException.class,
+            () -> sut.decrypt(ByteBuffer.wrap(new byte[]{0, 0, 0, 12, 0}), ByteBuffer.allocate(16))
+        );
+
+        // then
+        assertEquals("Data to decrypt for AesGcm is incorrect.", exception.getMessage());
+    }
+
     private void prepareSecretKey() throws KeystoreGenericException {
         when(sut.getSecretKey()).thenReturn(KeyGenUtils.genAes256());
     }
@@ -34,6 +34,11 @@ package com.intel.bkp.crypto.crc;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+
 import static com.intel.bkp.crypto.crc.Crc32Type.BZIP2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -196,6 +201,74 @@ class Crc32RegularTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    void getChecksum_DirectByteBuffer_DoesNotMovePosition() {
+        // given
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(REFERENCE_CHECKSUM_DATA.length + 2);
+        buffer.put((byte) 0xAA).put(REFERENCE_CHECKSUM_DATA).put((byte) 0xBB).flip();
+        buffer.position(1).limit(1 + REFERENCE_CHECKSUM_DATA.length);
+
+        // when
+        final int result = sut.getChecksum(buffer);
+
+        // then
+        assertEquals(REFERENCE_CHECKSUM, result);
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    void newChecksum_UpdatedInChunks_SameAsSingleCall() {
+        // given
+        final byte[] data = prepareRandomData(1027);
+        final Crc32Checksum checksum = sut.newChecksum();
+
+        // when
+        checksum.update(data, 0, 5);
+        checksum.update(data[5]);
+        checksum.update(ByteBuffer.wrap(data, 6, 500));
+        checksum.update(Arrays.copyOfRange(data, 506, data.length));
+
+        // then
+        assertEquals(sut.getChecksum(data), checksum.getChecksum());
+        assertEquals(Integer.toUnsignedLong(sut.getChecksum(data)), checksum.getValue());
+    }
+
+    @Test
+    void newChecksum_Reset() {
+        // given
+        final Crc32Checksum checksum = sut.newChecksum();
+        checksum.update(prepareRandomData(16));
+
+        // when
+        checksum.reset();
+        checksum.update(REFERENCE_CHECKSUM_DATA);
+
+        // then
+        assertEquals(REFERENCE_CHECKSUM, checksum.getChecksum());
+    }
+
+    @Test
+    void getChecksum_SameAsJdkCrc32() {
+        for (int length = 1; length < 100; length++) {
+            // given
+            final byte[] data = prepareRandomData(length);
+            final CRC32 expected = new CRC32();
+            expected.update(data);
+
+            // when
+            final int result = sut.getChecksum(data);
+
+            // then
+            assertEquals((int) expected.getValue(), result);
+        }
+    }
+
+    private byte[] prepareRandomData(int length) {
+        final byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
     private byte[] prepareData(int... ints) {
         byte[] bytes = new byte[ints.length];
         int counter = 0;
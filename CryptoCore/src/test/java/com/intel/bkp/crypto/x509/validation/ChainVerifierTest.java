@@ -94,6 +94,9 @@ class ChainVerifierTest {
     @Mock
     private CriticalExtensionsVerifier criticalExtensionsVerifier;
 
+    @Mock
+    private VerifiedLinkCache verifiedLinkCache;
+
     @InjectMocks
     private ChainVerifier sut;
 
@@ -144,6 +147,26 @@ class ChainVerifierTest {
         verify(criticalExtensionsVerifier).verify(rootCert, COMMON_EXTENSION_OIDS);
     }
 
+    @Test
+    void verify_LinksAlreadyVerified_SkipsSignatureVerification() {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        mockAllChecks();
+        when(verifiedLinkCache.contains(parentCert, rootCert)).thenReturn(true);
+        when(verifiedLinkCache.contains(rootCert, rootCert)).thenReturn(true);
+
+        // when
+        final boolean result = sut.verify();
+
+        // then
+        assertTrue(result);
+        verify(signatureVerifier).verify(attestationCert, parentCert);
+        verifyNoMoreInteractions(signatureVerifier);
+        verify(verifiedLinkCache).add(attestationCert, parentCert);
+        verify(validityVerifier).verify(rootCert);
+        verify(keyUsageVerifier).verify(rootCert, KeyUsage.KEY_CERT_SIGN);
+    }
+
     @Test
     void verify_knownExtensionOids() {
         // given
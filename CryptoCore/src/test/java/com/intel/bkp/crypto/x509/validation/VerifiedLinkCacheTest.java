@@ -0,0 +1,129 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.crypto.x509.validation;
+
+import com.intel.bkp.test.FileUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedLinkCacheTest {
+
+    // https://tsci.intel.com/content/IPCS/certs/IPCSSigningCA.cer
+    private static final String PARENT_CERT_FILENAME = "IPCSSigningCA.cer";
+    // https://tsci.intel.com/content/IPCS/certs/IPCS.cer
+    private static final String ROOT_CERT_FILENAME = "IPCS.cer";
+
+    private static X509Certificate parentCert;
+    private static X509Certificate rootCert;
+    private static Instant validAt;
+
+    @BeforeAll
+    static void init() {
+        parentCert = FileUtils.loadCertificate(PARENT_CERT_FILENAME);
+        rootCert = FileUtils.loadCertificate(ROOT_CERT_FILENAME);
+        validAt = parentCert.getNotBefore().toInstant();
+    }
+
+    @Test
+    void contains_AddedLink_ReturnsTrue() {
+        // given
+        final VerifiedLinkCache sut = prepareSut(validAt, 10);
+
+        // when
+        sut.add(parentCert, rootCert);
+
+        // then
+        assertTrue(sut.contains(parentCert, rootCert));
+        assertFalse(sut.contains(rootCert, rootCert));
+    }
+
+    @Test
+    void add_CertificateAlreadyExpired_NotAdded() {
+        // given
+        final VerifiedLinkCache sut = prepareSut(parentCert.getNotAfter().toInstant(), 10);
+
+        // when
+        sut.add(parentCert, rootCert);
+
+        // then
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void contains_AfterMaxAge_ReturnsFalse() {
+        // given
+        final AtomicReference<Instant> now = new AtomicReference<>(validAt);
+        final Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        final VerifiedLinkCache sut = new VerifiedLinkCache(10, Duration.ofMinutes(1), clock);
+        sut.add(parentCert, rootCert);
+
+        // when
+        now.set(validAt.plus(Duration.ofMinutes(1)));
+
+        // then
+        assertFalse(sut.contains(parentCert, rootCert));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void add_MoreLinksThanMaxSize_EvictsLeastRecentlyUsed() {
+        // given
+        final VerifiedLinkCache sut = prepareSut(validAt, 1);
+        sut.add(parentCert, rootCert);
+
+        // when
+        sut.add(rootCert, rootCert);
+
+        // then
+        assertFalse(sut.contains(parentCert, rootCert));
+        assertTrue(sut.contains(rootCert, rootCert));
+    }
+
+    private static VerifiedLinkCache prepareSut(Instant now, int maxSize) {
+        return new VerifiedLinkCache(maxSize, Duration.ofMinutes(1), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
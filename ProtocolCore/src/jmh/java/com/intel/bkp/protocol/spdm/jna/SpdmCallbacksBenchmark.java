@@ -0,0 +1,128 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.jna.model.CustomMemory;
+import com.intel.bkp.protocol.spdm.jna.model.LibSpdmReturn;
+import com.intel.bkp.protocol.spdm.jna.model.MessageSender;
+import com.intel.bkp.protocol.spdm.jna.model.NativeSize;
+import com.intel.bkp.protocol.spdm.jna.model.Uint64;
+import com.sun.jna.Memory;
+import com.sun.jna.ptr.PointerByReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE;
+
+/**
+ * Measures the SpdmCallbacks send/receive round trip as invoked by the wrapper:
+ * request read from native memory, response copied back into the native receive buffer.
+ */
+@State(Scope.Thread)
+public class SpdmCallbacksBenchmark {
+
+    private static final long SPDM_CONTEXT_SIZE = 64;
+
+    @Param({"64", "4096", "20000"})
+    private int messageSize;
+
+    private SpdmCallbacks callbacks;
+    private Memory spdmContext;
+    private Memory request;
+    private Memory receiveBuffer;
+    private Memory receiveSize;
+    private PointerByReference receiveBufferP;
+    private NativeSize requestSize;
+    private final Uint64 timeout = new Uint64(0);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final byte[] message = new byte[messageSize];
+        new Random(messageSize).nextBytes(message);
+
+        callbacks = new SpdmCallbacks(new EchoMessageSender(message));
+        callbacks.setSpdmContextSize(SPDM_CONTEXT_SIZE);
+
+        spdmContext = new CustomMemory(SPDM_CONTEXT_SIZE);
+        request = new CustomMemory(messageSize);
+        request.write(0, message, 0, messageSize);
+        requestSize = new NativeSize(messageSize);
+
+        receiveBuffer = new CustomMemory(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
+        receiveBufferP = new PointerByReference(receiveBuffer);
+        receiveSize = new CustomMemory(Long.BYTES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        spdmContext.close();
+        request.close();
+        receiveBuffer.close();
+        receiveSize.close();
+    }
+
+    @Benchmark
+    public LibSpdmReturn sendReceiveRoundTrip() {
+        callbacks.spdmDeviceSendMessage(spdmContext, requestSize, request, timeout);
+        receiveSize.setLong(0, LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
+        return callbacks.spdmDeviceReceiveMessage(spdmContext, receiveSize, receiveBufferP, timeout);
+    }
+
+    private static final class EchoMessageSender implements MessageSender {
+
+        private final byte[] response;
+
+        private EchoMessageSender(byte[] response) {
+            this.response = response;
+        }
+
+        @Override
+        public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) {
+            buffer.get(response, 0, buffer.remaining());
+        }
+
+        @Override
+        public Optional<byte[]> receiveResponse() {
+            return Optional.of(response);
+        }
+    }
+}
@@ -129,9 +129,7 @@ public class SpdmCallbacks {
             reqBaseAsymAlg.intValue(), baseHashAlgo.intValue());
 
         final int signatureLen = signatureBytes.length;
-        for (int i = 0; i < signatureLen; i++) {
-            signature.setByte(i, signatureBytes[i]);
-        }
+        signature.write(0, signatureBytes, 0, signatureLen);
 
         sigSize.setLong(0, signatureLen);
 
@@ -0,0 +1,151 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.exceptions.SpdmRuntimeException;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmContext;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmContextPoolMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of native SPDM contexts (context memory together with its scratch buffer).
+ * Contexts are allocated lazily up to capacity and, once released, wiped and handed out again
+ * instead of being freed, so each SPDM exchange skips the native allocation.
+ */
+@Slf4j
+public class SpdmContextPool implements AutoCloseable {
+
+    @Getter
+    private final int capacity;
+    private final Duration acquireTimeout;
+
+    private final BlockingDeque<SpdmContext> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    public SpdmContextPool(int capacity, Duration acquireTimeout) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("SPDM context pool capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public SpdmContext acquire(long spdmContextSize) {
+        SpdmContext spdmContext = idle.pollFirst();
+        if (spdmContext != null) {
+            reused.incrementAndGet();
+        } else {
+            spdmContext = tryCreate(spdmContextSize);
+        }
+
+        if (spdmContext == null) {
+            spdmContext = awaitReleased();
+            reused.incrementAndGet();
+        }
+
+        if (spdmContext.getContext().size() != spdmContextSize) {
+            log.debug("Pooled SPDM context size differs from required: {}. Reallocating.", spdmContextSize);
+            spdmContext.close();
+            spdmContext = new SpdmContext(spdmContextSize);
+        }
+
+        acquired.incrementAndGet();
+        inUse.incrementAndGet();
+        return spdmContext;
+    }
+
+    public void release(SpdmContext spdmContext) {
+        if (spdmContext == null) {
+            return;
+        }
+
+        spdmContext.reset();
+        inUse.decrementAndGet();
+        idle.offerFirst(spdmContext);
+        log.debug("SPDM context released to pool: {}", getMetrics());
+    }
+
+    public SpdmContextPoolMetrics getMetrics() {
+        return new SpdmContextPoolMetrics(capacity, created.get(), idle.size(), inUse.get(), acquired.get(),
+            reused.get(), timedOut.get());
+    }
+
+    @Override
+    public void close() {
+        SpdmContext spdmContext;
+        while ((spdmContext = idle.pollFirst()) != null) {
+            spdmContext.close();
+            created.decrementAndGet();
+        }
+    }
+
+    private SpdmContext tryCreate(long spdmContextSize) {
+        while (true) {
+            final int current = created.get();
+            if (current >= capacity) {
+                return null;
+            }
+            if (created.compareAndSet(current, current + 1)) {
+                log.debug("Allocating SPDM context {} of {}.", current + 1, capacity);
+                return new SpdmContext(spdmContextSize);
+            }
+        }
+    }
+
+    private SpdmContext awaitReleased() {
+        log.debug("SPDM context pool exhausted, waiting for a released context: {}", getMetrics());
+        try {
+            final SpdmContext spdmContext = idle.pollFirst(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (spdmContext == null) {
+                timedOut.incrementAndGet();
+                throw new SpdmRuntimeException("No SPDM context available within %s.".formatted(acquireTimeout));
+            }
+            return spdmContext;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SpdmRuntimeException("Interrupted while waiting for SPDM context.", e);
+        }
+    }
+}
@@ -49,7 +49,6 @@ import com.intel.bkp.protocol.spdm.jna.model.SpdmParametersProvider;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import com.intel.bkp.protocol.spdm.jna.model.Uint16;
 import com.intel.bkp.protocol.spdm.jna.model.Uint32;
-import com.intel.bkp.protocol.spdm.jna.model.Uint64;
 import com.intel.bkp.protocol.spdm.jna.model.Uint8;
 import com.intel.bkp.protocol.spdm.service.SpdmSetCertificateBuilder;
 import com.intel.bkp.utils.ByteBufferSafe;
@@ -81,6 +80,7 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 public abstract class SpdmProtocol12 implements SpdmProtocol {
 
     private static final int SHA384_LEN = 48;
+    private static final Object CONTEXT_PREPARATION_LOCK = new Object();
 
     private final SpdmParametersSetter spdmParametersSetter = new SpdmParametersSetter();
     @Getter
@@ -95,6 +95,12 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
     private final Memory sessionId = new CustomMemory(Uint32.SIZE);
 
+    // Native buffers reused by every request of this instance instead of being allocated per SPDM message
+    private final Memory responseBuffer = new CustomMemory(MAX_SPDM_BUFFER_SIZE);
+    private final Memory responseSize = new CustomMemory(Long.BYTES);
+    private final Memory numberOfBlocks = new CustomMemory(Uint8.SIZE);
+    private Memory requestBuffer;
+
     @Getter
     private boolean connectionInitialized = false;
 
@@ -105,6 +111,8 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
     protected LibSpdmLibraryWrapper jnaInterface;
 
+    protected SpdmContextPool contextPool;
+
     protected abstract void initializeLibrary();
 
     protected byte[] getCertChain() {
@@ -279,12 +287,18 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
         final long spdmContextSize = jnaInterface.libspdm_get_context_size_w().longValue();
         registerCallbacks(spdmContextSize, mctpEncapsulationTypeCallback);
-        jnaInterface.set_callbacks(callbacks);
 
-        spdmContext = new SpdmContext(spdmContextSize);
+        spdmContext = contextPool != null
+                      ? contextPool.acquire(spdmContextSize)
+                      : new SpdmContext(spdmContextSize);
 
-        final LibSpdmReturn status = jnaInterface.libspdm_prepare_context_w(spdmContext.getContext(),
-            new Uint32(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE));
+        final LibSpdmReturn status;
+        // wrapper binds the most recently set callbacks to the context being prepared
+        synchronized (CONTEXT_PREPARATION_LOCK) {
+            jnaInterface.set_callbacks(callbacks);
+            status = jnaInterface.libspdm_prepare_context_w(spdmContext.getContext(),
+                new Uint32(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE));
+        }
 
         log.debug("Initialize context status: {}", toFormattedHex(status.asLong()));
 
@@ -340,71 +354,60 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private SpdmGetDigestResult getDigestInternal() throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_DIGESTS ...");
 
-        try (final Memory digestBuffer = new CustomMemory(MAX_SPDM_BUFFER_SIZE)) {
-            final ByteByReference slotMask = new ByteByReference();
-            final LibSpdmReturn status = jnaInterface.libspdm_get_digest_w(spdmContext.getContext(), null,
-                slotMask, digestBuffer);
-            log.debug("DIGESTS status: {}", toFormattedHex(status.asLong()));
+        final ByteByReference slotMask = new ByteByReference();
+        final LibSpdmReturn status = jnaInterface.libspdm_get_digest_w(spdmContext.getContext(), null,
+            slotMask, responseBuffer);
+        log.debug("DIGESTS status: {}", toFormattedHex(status.asLong()));
 
-            throwOnError(status);
-
-            final int hashAlgSize = SHA384_LEN;
-            final byte slotMaskValue = slotMask.getValue();
-            return new SpdmGetDigestResult(slotMaskValue,
-                getBytes(digestBuffer, countSetBits(slotMaskValue) * hashAlgSize), hashAlgSize);
-        }
+        throwOnError(status);
 
+        final int hashAlgSize = SHA384_LEN;
+        final byte slotMaskValue = slotMask.getValue();
+        return new SpdmGetDigestResult(slotMaskValue,
+            getBytes(responseBuffer, countSetBits(slotMaskValue) * hashAlgSize), hashAlgSize);
     }
 
     private String getCertsInternal(int slotId) throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_CERTIFICATE ...");
 
-        try (final Memory certChain = new CustomMemory(MAX_SPDM_BUFFER_SIZE);
-             final Memory certChainSize = new CustomMemory(Long.BYTES)) {
-            certChainSize.setLong(0, MAX_SPDM_BUFFER_SIZE);
+        responseSize.setLong(0, MAX_SPDM_BUFFER_SIZE);
 
-            final LibSpdmReturn status = jnaInterface.libspdm_get_certificate_w(spdmContext.getContext(),
-                null, new Uint8(slotId), certChainSize, certChain);
-            log.debug("CERTIFICATE status: {}", toFormattedHex(status.asLong()));
+        final LibSpdmReturn status = jnaInterface.libspdm_get_certificate_w(spdmContext.getContext(),
+            null, new Uint8(slotId), responseSize, responseBuffer);
+        log.debug("CERTIFICATE status: {}", toFormattedHex(status.asLong()));
 
-            throwOnError(status);
+        throwOnError(status);
 
-            final byte[] certChainArray = getBytes(certChain, certChainSize);
+        final byte[] certChainArray = getBytes(responseBuffer, responseSize);
 
-            final String chain = toHex(certChainArray);
-            log.debug("CERTIFICATE: {}", chain);
+        final String chain = toHex(certChainArray);
+        log.debug("CERTIFICATE: {}", chain);
 
-            return chain;
-        }
+        return chain;
     }
 
     private String getMeasurementsInternal(int slotId) throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_MEASUREMENTS ...");
 
-        try (final Memory measurementRecord = new CustomMemory(MAX_SPDM_BUFFER_SIZE);
-             final Memory measurementRecordLength = new CustomMemory(Integer.BYTES);
-             final Memory numberOfBlocks = new CustomMemory(Uint8.SIZE)) {
+        responseSize.setInt(0, MAX_SPDM_BUFFER_SIZE);
+        numberOfBlocks.clear(Uint8.SIZE);
 
-            measurementRecordLength.setInt(0, MAX_SPDM_BUFFER_SIZE);
+        final LibSpdmReturn status = jnaInterface.libspdm_get_measurement_w(spdmContext.getContext(), null,
+            getRequestAttributes(), new Uint8(SPDM_GET_MEASUREMENTS_REQUEST_MEASUREMENT_OPERATION_ALL_MEASUREMENTS),
+            new Uint8(slotId), null, numberOfBlocks,
+            responseSize, responseBuffer);
+        log.debug("MEASUREMENTS status: {}", toFormattedHex(status.asLong()));
 
-            final LibSpdmReturn status = jnaInterface.libspdm_get_measurement_w(spdmContext.getContext(), null,
-                getRequestAttributes(), new Uint8(SPDM_GET_MEASUREMENTS_REQUEST_MEASUREMENT_OPERATION_ALL_MEASUREMENTS),
-                new Uint8(slotId), null, numberOfBlocks,
-                measurementRecordLength, measurementRecord);
-            log.debug("MEASUREMENTS status: {}", toFormattedHex(status.asLong()));
-
-            throwOnError(status);
+        throwOnError(status);
 
-            final byte[] measurementsArray = getBytes(measurementRecord, measurementRecordLength);
-            final byte[] numberOfBlocksArray = getBytes(numberOfBlocks, Uint8.SIZE);
+        final byte[] measurementsArray = getBytes(responseBuffer, responseSize);
 
-            final String measurements = toHex(measurementsArray);
-            expectedMeasurementHash = toHex(DigestUtils.sha384(measurementsArray));
-            final int numberOfBlocksInt = ByteBufferSafe.wrap(numberOfBlocksArray).getByte();
-            log.debug("MEASUREMENTS (blocks: {}): {}", numberOfBlocksInt, measurements);
+        final String measurements = toHex(measurementsArray);
+        expectedMeasurementHash = toHex(DigestUtils.sha384(measurementsArray));
+        final int numberOfBlocksInt = numberOfBlocks.getByte(0);
+        log.debug("MEASUREMENTS (blocks: {}): {}", numberOfBlocksInt, measurements);
 
-            return measurements;
-        }
+        return measurements;
     }
 
     private void setAuthorityInternal(List<byte[]> certificateChain, int slotId) throws SpdmCommandFailedException {
@@ -459,28 +462,33 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private byte[] sendDataInSecureSessionInternal(byte[] payload) throws SpdmCommandFailedException {
         log.debug("Sending VENDOR_DEFINED_REQUEST in session ...");
         final int payloadLen = payload.length;
-        final int responseBufferLen = MAX_SPDM_BUFFER_SIZE;
-
-        try (final Memory payloadP = new CustomMemory(payloadLen);
-             final Memory responseP = new CustomMemory(responseBufferLen);
-             final Memory responseSizeP = new CustomMemory(Uint64.SIZE)) {
-            payloadP.clear(payloadLen);
-            responseP.clear(responseBufferLen);
-            responseSizeP.clear(Uint64.SIZE);
-
-            responseSizeP.setLong(0, responseBufferLen);
-            for (int i = 0; i < payloadLen; i++) {
-                payloadP.setByte(i, payload[i]);
-            }
 
-            final LibSpdmReturn status = jnaInterface.libspdm_send_receive_data_w(spdmContext.getContext(),
-                sessionId, false, payloadP, new NativeSize(payloadLen), responseP, responseSizeP);
+        final Memory payloadP = getRequestBuffer(payloadLen);
+        payloadP.write(0, payload, 0, payloadLen);
+        responseSize.setLong(0, MAX_SPDM_BUFFER_SIZE);
 
-            log.debug("VENDOR_DEFINED_REQUEST status: {}", toFormattedHex(status.asLong()));
+        final LibSpdmReturn status = jnaInterface.libspdm_send_receive_data_w(spdmContext.getContext(),
+            sessionId, false, payloadP, new NativeSize(payloadLen), responseBuffer, responseSize);
 
-            throwOnError(status);
+        log.debug("VENDOR_DEFINED_REQUEST status: {}", toFormattedHex(status.asLong()));
+
+        throwOnError(status);
+
+        return getBytes(responseBuffer, responseSize);
+    }
+
+    private Memory getRequestBuffer(int requiredSize) {
+        if (requestBuffer == null || requestBuffer.size() < requiredSize) {
+            closeWiped(requestBuffer);
+            requestBuffer = new CustomMemory(Math.max(requiredSize, MAX_SPDM_BUFFER_SIZE));
+        }
+        return requestBuffer;
+    }
 
-            return getBytes(responseP, responseSizeP);
+    private static void closeWiped(Memory memory) {
+        if (memory != null) {
+            memory.clear();
+            memory.close();
         }
     }
 
@@ -510,11 +518,20 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         deinitialize();
 
         if (spdmContext != null) {
-            spdmContext.close();
+            if (contextPool != null) {
+                contextPool.release(spdmContext);
+            } else {
+                spdmContext.close();
+            }
             spdmContext = null;
         }
 
         certificateChain.close();
         sessionId.close();
+        closeWiped(responseBuffer);
+        closeWiped(requestBuffer);
+        requestBuffer = null;
+        responseSize.close();
+        numberOfBlocks.close();
     }
 }
@@ -55,9 +55,7 @@ public class SpdmUtils {
 
         verifyDestinationBufferLen(dstLen, srcLen);
 
-        for (int i = 0; i < srcLen; i++) {
-            dstBuffer.setByte(i, srcBuffer.get(i));
-        }
+        dstBuffer.getByteBuffer(0, srcLen).put(srcBuffer.duplicate());
 
         dstLenP.setLong(0, srcLen);
     }
@@ -67,9 +65,7 @@ public class SpdmUtils {
 
         verifyDestinationBufferLen(dstLen, srcLen);
 
-        for (int i = 0; i < srcLen; i++) {
-            dstBuffer.setByte(i, srcBuffer[i]);
-        }
+        dstBuffer.write(0, srcBuffer, 0, srcBuffer.length);
     }
 
     static byte[] getBytes(Pointer data, Pointer dataLenP) {
@@ -78,11 +74,7 @@ public class SpdmUtils {
     }
 
     static byte[] getBytes(Pointer data, int dataLen) {
-        final ByteBuffer buffer = data.getByteBuffer(0, dataLen);
-
-        final byte[] dataBytes = new byte[dataLen];
-        buffer.get(dataBytes);
-        return dataBytes;
+        return data.getByteArray(0, dataLen);
     }
 
     public static void throwOnError(LibSpdmReturn status) throws SpdmCommandFailedException {
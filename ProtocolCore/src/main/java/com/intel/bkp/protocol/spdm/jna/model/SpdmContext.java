@@ -52,13 +52,30 @@ public class SpdmContext implements AutoCloseable {
     }
 
     public void withScratchBuffer(NativeSize scratchBufferSize) {
-        this.scratchBuffer = new CustomMemory(scratchBufferSize.longValue());
+        final long requiredSize = scratchBufferSize.longValue();
+        if (scratchBuffer != null && this.scratchBufferSize == requiredSize) {
+            return;
+        }
+
+        if (scratchBuffer != null) {
+            scratchBuffer.close();
+        }
+        this.scratchBuffer = new CustomMemory(requiredSize);
         this.scratchBufferSize = scratchBuffer.size();
     }
 
+    public void reset() {
+        context.clear();
+        if (scratchBuffer != null) {
+            scratchBuffer.clear();
+        }
+    }
+
     @Override
     public void close() {
         context.close();
-        scratchBuffer.close();
+        if (scratchBuffer != null) {
+            scratchBuffer.close();
+        }
     }
 }
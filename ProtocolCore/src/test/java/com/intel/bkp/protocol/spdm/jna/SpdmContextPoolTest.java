@@ -0,0 +1,127 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.exceptions.SpdmRuntimeException;
+import com.intel.bkp.protocol.spdm.jna.model.NativeSize;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmContext;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmContextPoolMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpdmContextPoolTest {
+
+    private static final long CONTEXT_SIZE = 64;
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(10);
+
+    private final SpdmContextPool sut = new SpdmContextPool(2, ACQUIRE_TIMEOUT);
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void acquire_AfterRelease_ReusesContextAndScratchBuffer() {
+        // given
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        first.withScratchBuffer(new NativeSize(16));
+        first.getContext().setByte(0, (byte) 1);
+        first.getScratchBuffer().setByte(0, (byte) 1);
+        sut.release(first);
+
+        // when
+        final SpdmContext second = sut.acquire(CONTEXT_SIZE);
+
+        // then
+        assertSame(first, second);
+        assertEquals(0, second.getContext().getByte(0));
+        assertEquals(0, second.getScratchBuffer().getByte(0));
+        final SpdmContextPoolMetrics metrics = sut.getMetrics();
+        assertEquals(1, metrics.created());
+        assertEquals(1, metrics.inUse());
+        assertEquals(2, metrics.acquired());
+        assertEquals(1, metrics.reused());
+    }
+
+    @Test
+    void acquire_WhileInUse_AllocatesNewContextUpToCapacity() {
+        // when
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        final SpdmContext second = sut.acquire(CONTEXT_SIZE);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(2, sut.getMetrics().created());
+        assertEquals(2, sut.getMetrics().inUse());
+
+        sut.release(first);
+        sut.release(second);
+    }
+
+    @Test
+    void acquire_PoolExhausted_Throws() {
+        // given
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        final SpdmContext second = sut.acquire(CONTEXT_SIZE);
+
+        // when-then
+        assertThrows(SpdmRuntimeException.class, () -> sut.acquire(CONTEXT_SIZE));
+        assertEquals(1, sut.getMetrics().timedOut());
+
+        sut.release(first);
+        sut.release(second);
+    }
+
+    @Test
+    void acquire_DifferentContextSize_Reallocates() {
+        // given
+        final SpdmContext first = sut.acquire(CONTEXT_SIZE);
+        sut.release(first);
+
+        // when
+        final SpdmContext second = sut.acquire(CONTEXT_SIZE * 2);
+
+        // then
+        assertEquals(CONTEXT_SIZE * 2, second.getContext().size());
+
+        sut.release(second);
+    }
+}
@@ -83,6 +83,36 @@ class SpdmUtilsTest {
         }
     }
 
+    @Test
+    void copyBuffer_srcBufferPartiallyConsumed_CopiesRemainingBytes() {
+        // given
+        final ByteBuffer srcBuffer = ByteBuffer.wrap(DATA).position(1);
+
+        try (Memory dstBuffer = createBuffer(DATA.length); Memory dstLenP = createBufferLenP(dstBuffer.size())) {
+            final PointerByReference dstBufferP = new PointerByReference(dstBuffer);
+
+            // when
+            SpdmUtils.copyBuffer(srcBuffer, dstBufferP, dstLenP);
+
+            // then
+            assertEquals(DATA.length - 1, dstLenP.getLong(0));
+            assertArrayEquals(new byte[]{2, 3, 4}, dstBuffer.getByteArray(0, DATA.length - 1));
+            assertEquals(1, srcBuffer.position());
+        }
+    }
+
+    @Test
+    void copyBuffer_byteArray_Success() {
+        // given
+        try (Memory dstBuffer = createBuffer(DATA.length)) {
+            // when
+            SpdmUtils.copyBuffer(DATA, dstBuffer, dstBuffer.size());
+
+            // then
+            assertArrayEquals(DATA, dstBuffer.getByteArray(0, DATA.length));
+        }
+    }
+
     @Test
     void getBytes() {
         // given
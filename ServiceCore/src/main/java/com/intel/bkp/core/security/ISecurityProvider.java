@@ -63,4 +63,21 @@ public interface ISecurityProvider extends ISecurityProviderCommon {
     String getAesCipherType();
 
     String getAesCtrCipherType();
+
+    /**
+     * Starts batch in which keystore modifications made by current thread are only kept in memory. Batches may be
+     * nested - keystore is persisted once, when the outermost batch ends. Modifications made by other threads are
+     * persisted immediately.
+     */
+    void beginBatch();
+
+    /**
+     * Ends batch started with {@link #beginBatch()} and persists pending modifications if it was the outermost one.
+     */
+    void endBatch();
+
+    /**
+     * Persists pending keystore modifications of current thread immediately, also inside a batch.
+     */
+    void flush();
 }
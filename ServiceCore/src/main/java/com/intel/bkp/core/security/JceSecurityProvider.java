@@ -55,7 +55,6 @@ import dev.failsafe.FailsafeException;
 import dev.failsafe.RetryPolicy;
 import dev.failsafe.function.CheckedPredicate;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.SecretKey;
@@ -76,6 +75,12 @@ import java.security.spec.InvalidKeySpecException;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
 
@@ -88,7 +93,6 @@ public class JceSecurityProvider implements ISecurityProvider {
     @Getter
     protected Provider provider;
 
-    @Setter
     protected KeyStore keyStore;
 
     @Getter
@@ -115,6 +119,20 @@ public class JceSecurityProvider implements ISecurityProvider {
     private String inputStreamParam;
     private final IKeystoreManagerChooser chooserCallback;
 
+    // Handles of asymmetric keys by alias - invalidated whenever alias is (re)created, deleted or keystore is reloaded
+    private final ConcurrentMap<String, PrivateKey> privateKeys = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PublicKey> publicKeys = new ConcurrentHashMap<>();
+
+    // Keystore modifications made while batch is open are persisted once, when the outermost batch of the same
+    // thread ends - batches are bound to the calling thread, as transactions joining them are
+    private final ThreadLocal<KeystoreBatch> batches = ThreadLocal.withInitial(KeystoreBatch::new);
+    private final AtomicInteger batchesWithUnsavedChanges = new AtomicInteger();
+
+    private final AtomicLong signCounter = new AtomicLong();
+    private final AtomicLong verifiedSignCounter = new AtomicLong();
+    private final LongAdder signTotalNanos = new LongAdder();
+    private final AtomicLong signMaxNanos = new AtomicLong();
+
     private final RetryPolicy<Object> retryPolicy = prepareRetryPolicy(Optional.empty());
     private final RetryPolicy<Object> retryPolicyWithResult = prepareRetryPolicy(Optional.of(Objects::isNull));
     private final RetryPolicy<Object> retryPolicyWithBoolean = prepareRetryPolicy(Optional.of(o -> !((boolean) o)));
@@ -183,11 +201,79 @@ public class JceSecurityProvider implements ISecurityProvider {
         }
     }
 
+    public void setKeyStore(KeyStore keyStore) {
+        this.keyStore = keyStore;
+        clearKeyCache();
+    }
+
     public boolean checkConnection() {
         return keyStore != null && KeystoreUtils.listSecurityObjects(keyStore) != null;
     }
 
     private void saveSecureEnclave() {
+        final KeystoreBatch batch = batches.get();
+        if (batch.depth == 0) {
+            batches.remove();
+            store();
+            return;
+        }
+
+        if (!batch.unsavedChanges) {
+            batch.unsavedChanges = true;
+            batchesWithUnsavedChanges.incrementAndGet();
+        }
+        log.debug("Secure enclave will be saved when batch ends.");
+    }
+
+    @Override
+    public void beginBatch() {
+        batches.get().depth++;
+    }
+
+    @Override
+    public void endBatch() {
+        final KeystoreBatch batch = batches.get();
+        if (batch.depth == 0) {
+            batches.remove();
+            throw new IllegalStateException("No keystore batch was started.");
+        }
+
+        if (--batch.depth == 0) {
+            batches.remove();
+            try {
+                flush(batch);
+            } finally {
+                clearUnsavedChanges(batch);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        final KeystoreBatch batch = batches.get();
+        if (batch.depth == 0) {
+            batches.remove();
+        }
+        flush(batch);
+    }
+
+    private void flush(KeystoreBatch batch) {
+        if (!batch.unsavedChanges) {
+            return;
+        }
+
+        store();
+        clearUnsavedChanges(batch);
+    }
+
+    private void clearUnsavedChanges(KeystoreBatch batch) {
+        if (batch.unsavedChanges) {
+            batch.unsavedChanges = false;
+            batchesWithUnsavedChanges.decrementAndGet();
+        }
+    }
+
+    private synchronized void store() {
         log.debug("Saving secure enclave.");
         try {
             String password = securityProperties.getPassword();
@@ -211,6 +297,8 @@ public class JceSecurityProvider implements ISecurityProvider {
             return kp;
         } catch (KeystoreGenericException e) {
             throw new JceSecurityProviderException(e.getMessage(), e);
+        } finally {
+            invalidateKeyCache(name);
         }
     }
 
@@ -243,6 +331,8 @@ public class JceSecurityProvider implements ISecurityProvider {
             }
         } catch (KeystoreGenericException e) {
             throw new JceSecurityProviderException(e.getMessage(), e);
+        } finally {
+            invalidateKeyCache(name);
         }
     }
 
@@ -270,6 +360,8 @@ public class JceSecurityProvider implements ISecurityProvider {
         } catch (KeystoreGenericException e) {
             throw new JceSecurityProviderException(
                 String.format("Failed to import secret key with alias '%s'.", name), e);
+        } finally {
+            invalidateKeyCache(name);
         }
     }
 
@@ -283,6 +375,8 @@ public class JceSecurityProvider implements ISecurityProvider {
         } catch (KeystoreGenericException e) {
             throw new JceSecurityProviderException(
                 String.format("Failed to import EC key with alias '%s'.", name), e);
+        } finally {
+            invalidateKeyCache(name);
         }
     }
 
@@ -293,6 +387,8 @@ public class JceSecurityProvider implements ISecurityProvider {
             saveSecureEnclave();
         } catch (FailsafeException e) {
             throw new JceSecurityProviderException(String.format("Failed to delete security object '%1s'.", name), e);
+        } finally {
+            invalidateKeyCache(name);
         }
     }
 
@@ -330,25 +426,26 @@ public class JceSecurityProvider implements ISecurityProvider {
     public byte[] signObject(byte[] content, String name) {
         try {
             log.debug("Signing object with name {}.", name);
-            final PrivateKey privateKey = Failsafe.with(retryPolicyWithResult).get(
-                () -> (PrivateKey) keyStore.getKey(name, "".toCharArray())
-            );
+            final long start = System.nanoTime();
+            final PrivateKey privateKey = getCachedPrivateKey(name);
             final byte[] signature = EcUtils.signEcData(privateKey, content,
                 ecProperties.getSignatureAlgorithm(), provider);
 
-            final byte[] pubKey = getPubKeyFromSecurityObject(name);
-            log.trace("Object ({}) public key: {}", name, toHex(pubKey));
-
-            EcUtils.sigVerify(PublicKeyUtils.toPublicEncoded(pubKey, ecProperties.getKeyName(), provider),
-                content, signature, ecProperties.getSignatureAlgorithm(), provider);
-
-            log.trace("Signature check - PASS");
+            if (shouldVerifySignature()) {
+                EcUtils.sigVerify(getCachedPublicKey(name), content, signature,
+                    ecProperties.getSignatureAlgorithm(), provider);
+                verifiedSignCounter.incrementAndGet();
+                log.trace("Signature check - PASS");
+            }
 
+            recordSigningTime(name, System.nanoTime() - start);
             return signature;
         } catch (FailsafeException e) {
             throw new JceSecurityProviderException(
                 String.format("Failed to retrieve key '%1s'. KeyStore may be not initialized.", name), e);
         } catch (KeystoreGenericException e) {
+            // cached handle may be stale (e.g. HSM session was reset) - fetch it again next time
+            invalidateKeyCache(name);
             throw new JceSecurityProviderException(
                 String.format("Failed to sign data with private key '%1s'.", name), e);
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
@@ -360,6 +457,11 @@ public class JceSecurityProvider implements ISecurityProvider {
         }
     }
 
+    public SigningMetrics getSigningMetrics() {
+        return new SigningMetrics(signCounter.get(), verifiedSignCounter.get(),
+            Duration.ofNanos(signTotalNanos.sum()), Duration.ofNanos(signMaxNanos.get()));
+    }
+
     public SecretKey getKeyFromSecurityObject(String name) {
         log.debug("Getting secret key from security object with name {}.", name);
         try {
@@ -374,8 +476,7 @@ public class JceSecurityProvider implements ISecurityProvider {
     public PrivateKey getPrivateKeyFromSecurityObject(String name) {
         log.debug("Getting private key from security object with name {}.", name);
         try {
-            return Failsafe.with(retryPolicyWithResult)
-                .get(() -> (PrivateKey) keyStore.getKey(name, "".toCharArray()));
+            return getCachedPrivateKey(name);
         } catch (FailsafeException e) {
             throw new JceSecurityProviderException(
                 String.format("Failed to retrieve PrivateKey for alias '%s'.", name), e);
@@ -392,8 +493,81 @@ public class JceSecurityProvider implements ISecurityProvider {
         return aesCtrProperties.getCipherType();
     }
 
-    private void reloadKeystore() {
+    private PrivateKey getCachedPrivateKey(String name) {
+        final PrivateKey cached = privateKeys.get(name);
+        if (cached != null) {
+            return cached;
+        }
+
+        final PrivateKey privateKey = Failsafe.with(retryPolicyWithResult).get(
+            () -> (PrivateKey) keyStore.getKey(name, "".toCharArray())
+        );
+        // alias still missing after retries - not cached, callers handle it as before caching was added
+        if (privateKey != null) {
+            privateKeys.put(name, privateKey);
+        }
+        return privateKey;
+    }
+
+    private PublicKey getCachedPublicKey(String name) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        final PublicKey cached = publicKeys.get(name);
+        if (cached != null) {
+            return cached;
+        }
+
+        final byte[] pubKey = getPubKeyFromSecurityObject(name);
+        log.trace("Object ({}) public key: {}", name, toHex(pubKey));
+        final PublicKey publicKey = PublicKeyUtils.toPublicEncoded(pubKey, ecProperties.getKeyName(), provider);
+        publicKeys.put(name, publicKey);
+        return publicKey;
+    }
+
+    private boolean shouldVerifySignature() {
+        final int sampling = securityProperties.getSignatureVerificationSampling();
+        final long signNumber = signCounter.incrementAndGet();
+        return sampling > 0 && signNumber % sampling == 0;
+    }
+
+    private void recordSigningTime(String name, long elapsedNanos) {
+        signTotalNanos.add(elapsedNanos);
+        signMaxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        log.debug("Signed object with name {} in {} us.", name, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    private void invalidateKeyCache(String name) {
+        // called after the entry is modified - concurrent signObject could cache the old handle again otherwise
+        privateKeys.remove(name);
+        publicKeys.remove(name);
+    }
+
+    private void clearKeyCache() {
+        privateKeys.clear();
+        publicKeys.clear();
+    }
+
+    private synchronized void reloadKeystore() {
         log.trace("Reloading keystore.");
-        login();
+        if (batchesWithUnsavedChanges.get() > 0) {
+            try {
+                log.debug("Saving keystore modifications from open batches before reload.");
+                store();
+            } catch (JceSecurityProviderException e) {
+                // reload would silently drop keys the callers consider created - keep them in memory instead,
+                // the batch owner fails when its batch ends and the keystore still cannot be stored
+                log.error("Skipping keystore reload as modifications from open batches could not be saved.", e);
+                return;
+            }
+        }
+        try {
+            login();
+        } finally {
+            clearKeyCache();
+        }
+    }
+
+    private static class KeystoreBatch {
+
+        private int depth;
+        private boolean unsavedChanges;
     }
 }
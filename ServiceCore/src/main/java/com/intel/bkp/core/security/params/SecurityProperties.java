@@ -43,10 +43,17 @@ public class SecurityProperties {
     private String password;
     private String inputStreamParam;
 
+    /**
+     * Every N-th signature created in keystore is verified with the public key before it is returned.
+     * 1 verifies every signature, 0 disables verification.
+     */
+    private int signatureVerificationSampling = 1;
+
     @Override
     public String toString() {
         return "SecurityProperties("
             + "keyStoreName=" + keyStoreName
+            + ", signatureVerificationSampling=" + signatureVerificationSampling
             + ')';
     }
 }
@@ -34,14 +34,20 @@ package com.intel.bkp.core.security.provider;
 
 import com.intel.bkp.core.exceptions.JceSecurityProviderException;
 import com.intel.bkp.core.security.IKeystoreManager;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.SystemUtils;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -52,8 +58,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+@Slf4j
 public class FileBasedProvider implements IKeystoreManager {
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     @Override
     public void load(KeyStore keyStore, String inputStreamParam, String password)
         throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
@@ -81,10 +90,49 @@ public class FileBasedProvider implements IKeystoreManager {
         storeInternal(keyStore, inputStreamParam, password);
     }
 
+    /**
+     * Keystore is written to temporary file in the same directory, synced to disk and then renamed over the
+     * target, so a crash in the middle of the write never leaves a truncated keystore behind.
+     */
     private void storeInternal(KeyStore keyStore, String inputStreamParam, String password)
         throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
-        try (FileOutputStream out = new FileOutputStream(inputStreamParam)) {
-            keyStore.store(out, Optional.ofNullable(password).orElse("").toCharArray());
+        final Path target = Paths.get(inputStreamParam).toAbsolutePath();
+        final Path tempFile = createTempFile(target);
+        try {
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+                keyStore.store(out, Optional.ofNullable(password).orElse("").toCharArray());
+                out.getFD().sync();
+            }
+            moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        syncDirectory(target.getParent());
+    }
+
+    private Path createTempFile(Path target) throws IOException {
+        // on POSIX systems temporary files are created with owner-only permissions
+        return Files.createTempFile(target.getParent(), target.getFileName().toString(), TEMP_FILE_SUFFIX);
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.warn("Atomic move is not supported for keystore location - replacing file non-atomically.");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void syncDirectory(Path directory) {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Failed to sync keystore directory: {}", e.getMessage());
         }
     }
 
@@ -70,6 +70,7 @@ import java.security.cert.CertificateException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
@@ -109,6 +110,8 @@ class JceSecurityProviderTest {
     @Mock
     private IKeystoreManagerChooser keystoreManagerChooser;
 
+    private final TestKeystoreManager keystoreManager = new TestKeystoreManager();
+
     private JceSecurityProvider securityService;
 
     private static final Provider provider = prepareProvider();
@@ -134,6 +137,8 @@ class JceSecurityProviderTest {
 
     private static class TestKeystoreManager implements IKeystoreManager {
 
+        private int storeCount;
+
         @Override
         public void load(KeyStore keyStore, String inputStreamParam, String password)
             throws IOException, NoSuchAlgorithmException, CertificateException {
@@ -142,6 +147,7 @@ class JceSecurityProviderTest {
 
         @Override
         public void store(KeyStore keyStore, String inputStreamParam, String password) {
+            storeCount++;
         }
     }
 
@@ -159,7 +165,8 @@ class JceSecurityProviderTest {
         when(securityProperties.getKeyStoreName()).thenReturn(keyStoreName);
         when(securityProperties.getPassword()).thenReturn(TestKeyStore.password);
         when(securityProperties.getInputStreamParam()).thenReturn("/tmp/unit-test-keystore.jks");
-        when(keystoreManagerChooser.getKeystoreManager()).thenReturn(new TestKeystoreManager());
+        when(securityProperties.getSignatureVerificationSampling()).thenReturn(1);
+        when(keystoreManagerChooser.getKeystoreManager()).thenReturn(keystoreManager);
 
         when(keyTypesProperties.getEc()).thenReturn(ecProperties);
         when(ecProperties.getKeyName()).thenReturn(CryptoConstants.EC_KEY);
@@ -355,6 +362,85 @@ class JceSecurityProviderTest {
         assertEquals(secretKey, result);
     }
 
+    @Test
+    void importSecretKey_InBatch_StoresKeystoreOnceWhenOutermostBatchEnds() throws Exception {
+        // given
+        final var keyStore = prepareKeyStore(true);
+        securityService.setKeyStore(keyStore);
+
+        // when
+        securityService.beginBatch();
+        securityService.beginBatch();
+        securityService.importSecretKey("alias1", CryptoUtils.genAesBC());
+        securityService.importSecretKey("alias2", CryptoUtils.genAesBC());
+        securityService.endBatch();
+        final int storeCountInBatch = keystoreManager.storeCount;
+        securityService.endBatch();
+
+        // then
+        assertEquals(0, storeCountInBatch);
+        assertEquals(1, keystoreManager.storeCount);
+        assertTrue(keyStore.isKeyEntry("alias1"));
+        assertTrue(keyStore.isKeyEntry("alias2"));
+    }
+
+    @Test
+    void flush_InBatch_StoresPendingChanges() throws Exception {
+        // given
+        final var keyStore = prepareKeyStore(true);
+        securityService.setKeyStore(keyStore);
+        securityService.beginBatch();
+        securityService.importSecretKey(testKeyAliasPositive, CryptoUtils.genAesBC());
+
+        // when
+        securityService.flush();
+        securityService.endBatch();
+
+        // then
+        assertEquals(1, keystoreManager.storeCount);
+    }
+
+    @Test
+    void importSecretKey_FromOtherThreadDuringBatch_StoresKeystoreImmediately() throws Exception {
+        // given
+        final var keyStore = prepareKeyStore(true);
+        securityService.setKeyStore(keyStore);
+        final SecretKey secretKey = CryptoUtils.genAesBC();
+        securityService.beginBatch();
+
+        // when
+        final Thread other = new Thread(() -> securityService.importSecretKey("alias1", secretKey));
+        other.start();
+        other.join();
+        final int storeCountInBatch = keystoreManager.storeCount;
+        securityService.endBatch();
+
+        // then
+        assertEquals(1, storeCountInBatch);
+        assertEquals(1, keystoreManager.storeCount);
+    }
+
+    @Test
+    void existsSecurityObject_ReloadWithPendingBatchChanges_StoresKeystoreBeforeReload() throws Exception {
+        // given
+        securityService.setKeyStore(prepareKeyStore(true));
+        securityService.beginBatch();
+        securityService.importSecretKey("alias1", CryptoUtils.genAesBC());
+        securityService.setKeyStore(prepareKeyStore(false));
+
+        // when
+        securityService.existsSecurityObject(testKeyAliasPositive);
+
+        // then
+        assertEquals(1, keystoreManager.storeCount);
+    }
+
+    @Test
+    void endBatch_WithoutBeginBatch_Throws() {
+        // when-then
+        assertThrows(IllegalStateException.class, () -> securityService.endBatch());
+    }
+
     @Test
     void getPubKeyFromSecurityObject_returnsPubKey() throws Exception {
         // given
@@ -424,6 +510,79 @@ class JceSecurityProviderTest {
         assertNotNull(signature);
     }
 
+    @Test
+    void signObject_WithVerificationSampling_VerifiesEveryNthSignature() throws Exception {
+        // given
+        when(securityProperties.getSignatureVerificationSampling()).thenReturn(2);
+        prepareSigningKey();
+        final byte[] content = "content".getBytes();
+
+        // when
+        securityService.signObject(content, testKeyAliasPositive);
+        securityService.signObject(content, testKeyAliasPositive);
+        securityService.signObject(content, testKeyAliasPositive);
+
+        // then
+        final SigningMetrics metrics = securityService.getSigningMetrics();
+        assertEquals(3, metrics.count());
+        assertEquals(1, metrics.verifiedCount());
+    }
+
+    @Test
+    void signObject_WithVerificationDisabled_DoesNotVerify() throws Exception {
+        // given
+        when(securityProperties.getSignatureVerificationSampling()).thenReturn(0);
+        prepareSigningKey();
+
+        // when
+        securityService.signObject("content".getBytes(), testKeyAliasPositive);
+
+        // then
+        assertEquals(0, securityService.getSigningMetrics().verifiedCount());
+    }
+
+    @Test
+    void signObject_AfterDeleteSecurityObject_DoesNotUseCachedKey() throws Exception {
+        // given
+        prepareSigningKey();
+        final byte[] content = "content".getBytes();
+        securityService.signObject(content, testKeyAliasPositive);
+
+        // when
+        securityService.deleteSecurityObject(testKeyAliasPositive);
+
+        // then
+        assertThrows(JceSecurityProviderException.class,
+            () -> securityService.signObject(content, testKeyAliasPositive));
+    }
+
+    @Test
+    void getPrivateKeyFromSecurityObject_AfterDeleteSecurityObject_ReturnsNull() throws Exception {
+        // given
+        prepareSigningKey();
+        securityService.getPrivateKeyFromSecurityObject(testKeyAliasPositive);
+        securityService.deleteSecurityObject(testKeyAliasPositive);
+
+        // when
+        final PrivateKey result = securityService.getPrivateKeyFromSecurityObject(testKeyAliasPositive);
+
+        // then
+        assertNull(result);
+    }
+
+    @Test
+    void getPrivateKeyFromSecurityObject_AfterCreateSecurityObjectWithSameName_ReturnsNewKey() throws Exception {
+        // given
+        prepareSigningKey();
+        securityService.getPrivateKeyFromSecurityObject(testKeyAliasPositive);
+
+        // when
+        final KeyPair created = (KeyPair) securityService.createSecurityObject(testKeyAliasPositive);
+
+        // then
+        assertEquals(created.getPrivate(), securityService.getPrivateKeyFromSecurityObject(testKeyAliasPositive));
+    }
+
     @Test
     void signObject_throwsExceptionDueToKeyStoreNotInitialized() throws Exception {
         // given
@@ -547,4 +706,13 @@ class JceSecurityProviderTest {
         }
         return keyStore;
     }
+
+    private void prepareSigningKey() throws Exception {
+        final var keyStore = prepareKeyStore(true);
+        final KeyPair keyPair = prepareEcKey(true);
+        assert keyPair != null;
+        KeystoreUtils.storeKeyWithCertificate(securityService.getProvider(), keyStore, keyPair,
+            testKeyAliasPositive, 1L, CryptoConstants.SHA384_WITH_ECDSA);
+        securityService.setKeyStore(keyStore);
+    }
 }
@@ -40,15 +40,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.crypto.spec.SecretKeySpec;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class FileBasedProviderTest {
@@ -106,6 +110,24 @@ class FileBasedProviderTest {
         assertDoesNotThrow(() -> sut.store(keystore, keystoreFile.getAbsolutePath(), KEYSTORE_PASSWORD));
     }
 
+    @Test
+    void store_ReplacesKeystoreFileWithoutLeavingTemporaryFiles() throws Exception {
+        // given
+        sut.load(keystore, keystoreFile.getAbsolutePath(), KEYSTORE_PASSWORD);
+        keystore.setKeyEntry("alias", new SecretKeySpec(new byte[32], "AES"), KEYSTORE_PASSWORD.toCharArray(), null);
+
+        // when
+        sut.store(keystore, keystoreFile.getAbsolutePath(), KEYSTORE_PASSWORD);
+
+        // then
+        final KeyStore reloaded = KeyStore.getInstance(KEYSTORE_TYPE);
+        sut.load(reloaded, keystoreFile.getAbsolutePath(), KEYSTORE_PASSWORD);
+        assertTrue(reloaded.isKeyEntry("alias"));
+        try (Stream<Path> files = Files.list(keystoreFile.getParentFile().toPath())) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
     @Test
     void store_WithoutInitializingKeystore_ThrowsException() {
         // when
@@ -49,6 +49,7 @@ public class Properties {
     public static final String VERIFIER_KEY_PARAMS_GROUP = "verifier-key-params";
     public static final String VERIFIER_KEY_CHAIN_GROUP = "verifier-root-qky-chain";
     public static final String LIB_SPDM_PARAMS_GROUP = "lib-spdm-params";
+    public static final String TRANSPORT_PARAMS_GROUP = "transport-params";
     public static final String DATABASE_CONFIGURATION_GROUP = "database-configuration";
     public static final String PROVIDER_GROUP = "provider";
     public static final String SECURITY_GROUP = "security";
@@ -69,6 +70,9 @@ public class Properties {
     public static final String LIB_SPDM_CT_EXPONENT = "ct-exponent";
     public static final String LIB_SPDM_MEASUREMENTS_REQUEST_SIGNATURE = "measurements-request-signature";
 
+    public static final String TRANSPORT_FRAMED_RESPONSE = "framed-response";
+    public static final String TRANSPORT_RESPONSE_TIMEOUT_MS = "response-timeout-ms";
+
     public static final String TRUSTSTORE_LOCATION = "location";
     public static final String TRUSTSTORE_PASSWORD = "password";
     public static final String TRUSTSTORE_TYPE = "type";
@@ -33,5 +33,6 @@
 package com.intel.bkp.verifier.database;
 
 public enum CacheEntityType {
-    S10
+    S10,
+    CRL
 }
@@ -37,31 +37,46 @@ import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.DbUtils;
+import org.sqlite.SQLiteConfig;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Small pool of SQLite connections in WAL mode, so that readers of the cache do not block each other.
+ */
 @Slf4j
 public class DatabaseManager {
 
     private static final String DATABASE_NAME = "verifier_core.sqlite";
+    static final int MAX_CONNECTIONS = 4;
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
 
     private static DatabaseManager INSTANCE;
 
     private final DatabaseConfiguration dbConfig;
 
-    private Connection connection;
+    private final Semaphore connectionPermits;
+    private final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+    private final List<Connection> openedConnections = new CopyOnWriteArrayList<>();
 
     private DatabaseManager(DatabaseConfiguration dbConfig) {
         this.dbConfig = dbConfig;
+        this.connectionPermits = new Semaphore(getMaxConnections());
     }
 
     private DatabaseManager() {
-        this.dbConfig = null;
+        this(null);
     }
 
-    public static DatabaseManager instance(DatabaseConfiguration dbConfig) {
+    public static synchronized DatabaseManager instance(DatabaseConfiguration dbConfig) {
         if (INSTANCE == null) {
             log.debug("Creating instance of DatabaseManager.");
             INSTANCE = new DatabaseManager(dbConfig);
@@ -69,21 +84,50 @@ public class DatabaseManager {
         return INSTANCE;
     }
 
+    /**
+     * Borrows connection from the pool. It must be given back with {@link #releaseConnection(Connection)}.
+     */
     public Connection getConnection() {
         try {
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(getJdbcUrl());
+            connectionPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while waiting for database connection", e);
+        }
+
+        try {
+            Connection connection;
+            while ((connection = idleConnections.poll()) != null) {
+                if (!connection.isClosed()) {
+                    return connection;
+                }
+                openedConnections.remove(connection);
             }
+            return openConnection();
         } catch (Exception e) {
+            connectionPermits.release();
             throw new DatabaseException("Failed to initialize database connection", e);
         }
-        return connection;
+    }
+
+    public void releaseConnection(Connection connection) {
+        idleConnections.offer(connection);
+        connectionPermits.release();
+    }
+
+    public <T> T withConnection(ConnectionCallback<T> callback) throws SQLException {
+        final Connection connection = getConnection();
+        try {
+            return callback.execute(connection);
+        } finally {
+            releaseConnection(connection);
+        }
     }
 
     @SneakyThrows
     String getJdbcUrl() {
         final String url;
-        if (dbConfig != null && dbConfig.isInternalDatabase()) {
+        if (isInternalDatabase()) {
             url = ":resource:" + DATABASE_NAME;
         } else {
             File jarDirectory = new File(".");
@@ -93,6 +137,31 @@ public class DatabaseManager {
     }
 
     public void closeDatabase() {
-        DbUtils.closeQuietly(connection);
+        openedConnections.forEach(DbUtils::closeQuietly);
+        openedConnections.clear();
+        idleConnections.clear();
+    }
+
+    private Connection openConnection() throws SQLException {
+        final SQLiteConfig config = new SQLiteConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+
+        final Connection connection = DriverManager.getConnection(getJdbcUrl(), config.toProperties());
+        openedConnections.add(connection);
+        log.debug("Opened database connection {} of {}.", openedConnections.size(), getMaxConnections());
+        return connection;
+    }
+
+    /**
+     * Internal database is extracted from resources on connect, so all callers share one connection to it.
+     */
+    private int getMaxConnections() {
+        return isInternalDatabase() ? 1 : MAX_CONNECTIONS;
+    }
+
+    private boolean isInternalDatabase() {
+        return dbConfig != null && dbConfig.isInternalDatabase();
     }
 }
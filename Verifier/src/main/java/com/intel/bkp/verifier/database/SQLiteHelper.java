@@ -33,17 +33,18 @@
 package com.intel.bkp.verifier.database;
 
 import com.intel.bkp.verifier.database.repository.CacheEntityServiceBase;
+import com.intel.bkp.verifier.database.repository.CrlCacheEntityService;
 import com.intel.bkp.verifier.database.repository.S10CacheEntityService;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.handlers.ScalarHandler;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static com.intel.bkp.verifier.database.CacheEntityType.CRL;
 import static com.intel.bkp.verifier.database.CacheEntityType.S10;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
@@ -53,13 +54,12 @@ public class SQLiteHelper implements AutoCloseable {
     /**
      * Updating database schema requires updating CURRENT_SCHEMA_VERSION.
      */
-    private static final int CURRENT_SCHEMA_VERSION = 1;
+    private static final int CURRENT_SCHEMA_VERSION = 2;
 
 
     private static final String SQL_SCHEMA_VERSION = "PRAGMA user_version";
 
     private final DatabaseManager databaseManager;
-    private final Connection connection;
 
     private Map<CacheEntityType, CacheEntityServiceBase> entityServices;
 
@@ -67,10 +67,10 @@ public class SQLiteHelper implements AutoCloseable {
 
     public SQLiteHelper(DatabaseConfiguration dbConfig) {
         this.databaseManager = DatabaseManager.instance(dbConfig);
-        this.connection = databaseManager.getConnection();
 
         entityServices = Stream.of(
-            new S10CacheEntityService(connection)
+            new S10CacheEntityService(databaseManager),
+            new CrlCacheEntityService(databaseManager)
         ).collect(toUnmodifiableMap(CacheEntityServiceBase::getCacheEntityType, s -> s));
 
         final int oldVersion = getDatabaseVersion();
@@ -90,9 +90,14 @@ public class SQLiteHelper implements AutoCloseable {
         return (S10CacheEntityService)entityServices.get(S10);
     }
 
+    public CrlCacheEntityService getCrlCacheEntityService() {
+        return (CrlCacheEntityService)entityServices.get(CRL);
+    }
+
     private int getDatabaseVersion() {
         try {
-            return runner.query(connection, SQL_SCHEMA_VERSION, new ScalarHandler<>());
+            return databaseManager.withConnection(
+                connection -> runner.query(connection, SQL_SCHEMA_VERSION, new ScalarHandler<Integer>()));
         } catch (SQLException e) {
             log.error("Database error: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -102,7 +107,8 @@ public class SQLiteHelper implements AutoCloseable {
 
     private void setDatabaseVersion() {
         try {
-            runner.update(connection, String.format("%s = %d", SQL_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION));
+            databaseManager.withConnection(connection -> runner.update(connection,
+                String.format("%s = %d", SQL_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION)));
         } catch (SQLException e) {
             log.error("Database error: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -38,11 +38,17 @@ public interface ITableDefinition {
 
     String getTableName();
 
+    String getKeyColumnName();
+
     String getTableDefinition();
 
     String getInsertSQL();
 
+    String getUpsertSQL();
+
     String getSelectSQL();
 
+    String getSelectByKeySQL();
+
     Map<Integer, String> getMigrationQuery();
 }
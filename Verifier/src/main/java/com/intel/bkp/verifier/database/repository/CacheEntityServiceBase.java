@@ -33,6 +33,7 @@
 package com.intel.bkp.verifier.database.repository;
 
 import com.intel.bkp.verifier.database.CacheEntityType;
+import com.intel.bkp.verifier.database.DatabaseManager;
 import com.intel.bkp.verifier.database.model.IMigratable;
 import com.intel.bkp.verifier.database.model.ITableDefinition;
 import com.intel.bkp.verifier.exceptions.DatabaseException;
@@ -42,7 +43,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Optional;
@@ -55,7 +55,7 @@ public abstract class CacheEntityServiceBase implements IMigratable {
 
     @Getter
     protected final CacheEntityType cacheEntityType;
-    protected final Connection connection;
+    protected final DatabaseManager databaseManager;
     protected final ITableDefinition tableDefinition;
     private final QueryRunner runner = new QueryRunner();
 
@@ -74,7 +74,8 @@ public abstract class CacheEntityServiceBase implements IMigratable {
             try {
                 log.debug("Migrating table {} to version {}: {}", tableDefinition.getTableName(),
                     currentMigrationVersion + 1, fromOrdinal(currentMigrationVersion).getDescription());
-                runner.update(connection, migrationQuery.get(currentMigrationVersion));
+                databaseManager.withConnection(
+                    connection -> runner.update(connection, migrationQuery.get(currentMigrationVersion)));
             } catch (SQLException e) {
                 throw new DatabaseException("Failed to update database schema: " + tableDefinition.getTableName(), e);
             }
@@ -83,17 +84,52 @@ public abstract class CacheEntityServiceBase implements IMigratable {
 
     <T> T select(ResultSetHandler<T> handler) {
         try {
-            return runner.query(connection, tableDefinition.getSelectSQL(), handler);
+            return databaseManager.withConnection(
+                connection -> runner.query(connection, tableDefinition.getSelectSQL(), handler));
         } catch (SQLException e) {
             throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
         }
     }
 
-    void insert(Object[] params) {
+    <T> T selectByKey(Object key, ResultSetHandler<T> handler) {
         try {
-            runner.update(connection, tableDefinition.getInsertSQL(), params);
+            return databaseManager.withConnection(
+                connection -> runner.query(connection, tableDefinition.getSelectByKeySQL(), handler, key));
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
+        }
+    }
+
+    void upsert(Object[] params) {
+        try {
+            databaseManager.withConnection(
+                connection -> runner.update(connection, tableDefinition.getUpsertSQL(), params));
         } catch (SQLException e) {
             throw new DatabaseException("Failed to create row in: " + tableDefinition.getTableName(), e);
         }
     }
+
+    /**
+     * Stores all rows in single transaction - either all of them are saved or none.
+     */
+    void upsertBatch(Object[][] params) {
+        try {
+            databaseManager.withConnection(connection -> {
+                final boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    final int[] result = runner.batch(connection, tableDefinition.getUpsertSQL(), params);
+                    connection.commit();
+                    return result;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to create rows in: " + tableDefinition.getTableName(), e);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import com.intel.bkp.fpgacerts.interfaces.ICrlCacheStore;
+import com.intel.bkp.verifier.database.CacheEntityType;
+import com.intel.bkp.verifier.database.DatabaseManager;
+import com.intel.bkp.verifier.database.model.CrlCacheEntity;
+import com.intel.bkp.verifier.database.table.CrlTableDefinition;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.handlers.BeanHandler;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+@Slf4j
+public class CrlCacheEntityService extends CacheEntityServiceBase implements ICrlCacheStore {
+
+    public CrlCacheEntityService(DatabaseManager databaseManager) {
+        super(CacheEntityType.CRL, databaseManager, new CrlTableDefinition());
+    }
+
+    public CrlCacheEntityService store(CrlCacheEntity entity) {
+        log.debug("Insert CRL downloaded from: {}", entity.getUrl());
+        upsert(getParams(entity));
+        return this;
+    }
+
+    public Optional<CrlCacheEntity> read(String url) {
+        log.debug("Reading cached CRL downloaded from: {}", url);
+        return Optional.ofNullable(selectByKey(url, new BeanHandler<>(CrlCacheEntity.class)));
+    }
+
+    @Override
+    public Optional<byte[]> load(String crlUrl) {
+        return read(crlUrl)
+            .map(CrlCacheEntity::getCrl)
+            .map(Base64.getDecoder()::decode);
+    }
+
+    @Override
+    public void save(String crlUrl, byte[] crl, Instant nextUpdate) {
+        store(new CrlCacheEntity(crlUrl, Base64.getEncoder().encodeToString(crl), nextUpdate.toEpochMilli()));
+    }
+
+    private Object[] getParams(CrlCacheEntity entity) {
+        return new Object[] {
+            entity.getUrl(),
+            entity.getCrl(),
+            entity.getNextUpdate()
+        };
+    }
+}
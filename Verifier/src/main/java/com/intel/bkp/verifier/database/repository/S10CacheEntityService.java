@@ -33,12 +33,13 @@
 package com.intel.bkp.verifier.database.repository;
 
 import com.intel.bkp.verifier.database.CacheEntityType;
+import com.intel.bkp.verifier.database.DatabaseManager;
 import com.intel.bkp.verifier.database.model.S10CacheEntity;
 import com.intel.bkp.verifier.database.table.S10TableDefinition;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.handlers.BeanHandler;
 
-import java.sql.Connection;
+import java.util.Collection;
 import java.util.Optional;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
@@ -46,13 +47,25 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 @Slf4j
 public class S10CacheEntityService extends CacheEntityServiceBase {
 
-    public S10CacheEntityService(Connection connection) {
-        super(CacheEntityType.S10, connection, new S10TableDefinition());
+    public S10CacheEntityService(DatabaseManager databaseManager) {
+        super(CacheEntityType.S10, databaseManager, new S10TableDefinition());
     }
 
     public S10CacheEntityService store(S10CacheEntity entity) {
         log.debug("Insert entity for deviceId: {}", entity.getDeviceId());
-        insert(getParams(entity));
+        upsert(getParams(entity));
+        return this;
+    }
+
+    public S10CacheEntityService storeAll(Collection<S10CacheEntity> entities) {
+        if (entities.isEmpty()) {
+            return this;
+        }
+
+        log.debug("Insert {} entities.", entities.size());
+        upsertBatch(entities.stream()
+            .map(this::getParams)
+            .toArray(Object[][]::new));
         return this;
     }
 
@@ -60,10 +73,7 @@ public class S10CacheEntityService extends CacheEntityServiceBase {
         final String deviceIdHex = toHex(deviceId);
         log.debug("Reading cached entity for deviceId: {}", deviceIdHex);
 
-        return select(getResultsHandler())
-            .stream()
-            .filter(entity -> entity.getDeviceId().equals(deviceIdHex))
-            .findFirst();
+        return Optional.ofNullable(selectByKey(deviceIdHex, getResultHandler()));
     }
 
     private Object[] getParams(S10CacheEntity entity) {
@@ -76,7 +86,7 @@ public class S10CacheEntityService extends CacheEntityServiceBase {
         };
     }
 
-    private BeanListHandler<S10CacheEntity> getResultsHandler() {
-        return new BeanListHandler<>(S10CacheEntity.class);
+    private BeanHandler<S10CacheEntity> getResultHandler() {
+        return new BeanHandler<>(S10CacheEntity.class);
     }
 }
@@ -60,6 +60,11 @@ public final class S10TableDefinition extends TableDefinitionBase {
         return TABLE_NAME;
     }
 
+    @Override
+    public String getKeyColumnName() {
+        return UID.getColName();
+    }
+
     @Override
     protected void getColumnsForCreateTable(StringBuilder sb) {
         buildColumnCreate(sb, UID.getColName(), "TEXT PRIMARY KEY UNIQUE");
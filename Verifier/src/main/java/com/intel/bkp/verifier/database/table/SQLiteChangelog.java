@@ -41,7 +41,8 @@ import java.util.Arrays;
 @AllArgsConstructor
 public enum SQLiteChangelog {
     // enum order matters!
-    V1("Create table s10_cache.");
+    V1("Create table s10_cache."),
+    V2("Create table crl_cache.");
 
     private final String description;
 
@@ -35,6 +35,9 @@ package com.intel.bkp.verifier.database.table;
 import com.intel.bkp.verifier.database.model.ITableDefinition;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 public abstract class TableDefinitionBase implements ITableDefinition {
 
     private static final String SPACE = " ";
@@ -43,8 +46,14 @@ public abstract class TableDefinitionBase implements ITableDefinition {
     private static final String RIGHT_PARENTHESIS = ")";
     private static final String CREATE_TABLE_IF_NOT_EXISTS = "CREATE TABLE IF NOT EXISTS";
     private static final String REPLACE_INTO = "REPLACE INTO";
+    private static final String INSERT_INTO = "INSERT INTO";
     private static final String VALUES = "VALUES";
+    private static final String ON_CONFLICT = "ON CONFLICT";
+    private static final String DO_UPDATE_SET = "DO UPDATE SET";
+    private static final String DO_NOTHING = "DO NOTHING";
+    private static final String EXCLUDED = "excluded.";
     private  static final String SELECT_FROM = "SELECT * FROM ";
+    private static final String WHERE = "WHERE";
 
     protected abstract void getColumnsForCreateTable(StringBuilder sb);
 
@@ -73,6 +82,11 @@ public abstract class TableDefinitionBase implements ITableDefinition {
         return SELECT_FROM + getTableName();
     }
 
+    @Override
+    public String getSelectByKeySQL() {
+        return SELECT_FROM + getTableName() + SPACE + WHERE + SPACE + getKeyColumnName() + " = ?";
+    }
+
     @Override
     public String getTableDefinition() {
         final StringBuilder sb = new StringBuilder(CREATE_TABLE_IF_NOT_EXISTS);
@@ -100,4 +114,30 @@ public abstract class TableDefinitionBase implements ITableDefinition {
         sb.append(RIGHT_PARENTHESIS);
         return sb.toString();
     }
+
+    /**
+     * Unlike REPLACE INTO, existing row is updated in place instead of being deleted and inserted again.
+     */
+    @Override
+    public String getUpsertSQL() {
+        final StringBuilder columns = new StringBuilder();
+        getColumnsForInsert(columns);
+
+        final String updateColumns = Arrays.stream(columns.toString().split(COMMA))
+            .filter(colName -> !colName.equals(getKeyColumnName()))
+            .map(colName -> colName + " = " + EXCLUDED + colName)
+            .collect(Collectors.joining(COMMA));
+
+        final StringBuilder sb = new StringBuilder(INSERT_INTO);
+        sb.append(SPACE).append(getTableName()).append(SPACE);
+        sb.append(LEFT_PARENTHESIS).append(columns).append(RIGHT_PARENTHESIS);
+        sb.append(SPACE).append(VALUES).append(SPACE);
+        sb.append(LEFT_PARENTHESIS);
+        sb.append(StringUtils.repeat("?", ",", getColumnLength()));
+        sb.append(RIGHT_PARENTHESIS);
+        sb.append(SPACE).append(ON_CONFLICT).append(SPACE);
+        sb.append(LEFT_PARENTHESIS).append(getKeyColumnName()).append(RIGHT_PARENTHESIS).append(SPACE);
+        sb.append(updateColumns.isEmpty() ? DO_NOTHING : DO_UPDATE_SET + SPACE + updateColumns);
+        return sb.toString();
+    }
 }
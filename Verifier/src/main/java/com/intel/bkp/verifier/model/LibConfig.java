@@ -57,6 +57,7 @@ public class LibConfig {
     private DatabaseConfiguration databaseConfiguration;
     private TrustStore trustStore;
     private LibSpdmParams libSpdmParams;
+    private TransportParams transportParams;
     private boolean testModeSecrets;
     private boolean acceptUnsignedCorim;
 }
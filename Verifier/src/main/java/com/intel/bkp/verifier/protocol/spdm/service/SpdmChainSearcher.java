@@ -32,7 +32,6 @@
 
 package com.intel.bkp.verifier.protocol.spdm.service;
 
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
 import com.intel.bkp.fpgacerts.spdm.SpdmChainSearcherBase;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import com.intel.bkp.verifier.service.certificate.AppContext;
@@ -55,7 +54,7 @@ public class SpdmChainSearcher extends SpdmChainSearcherBase {
     private SpdmChainSearcher(AppContext appContext, SpdmProtocol spdmProtocol) {
         super(spdmProtocol, new IidAliasFlowDetector(),
             new DiceAliasChainVerifier(
-                new DistributionPointCrlProvider(appContext.getDpConnector()),
+                appContext.getCrlProvider(),
                 appContext.getDpTrustedRootHashes(),
                 appContext.getLibConfig().isTestModeSecrets()
             )
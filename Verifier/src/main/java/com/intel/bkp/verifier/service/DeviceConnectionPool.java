@@ -0,0 +1,130 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.transport.tcp.TcpConfig;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Device connections keyed by host:port of transport id, so that sessions with different devices run
+ * in parallel, while sessions with the same device (or System Console instance) are serialized.
+ * When more than maxConnections endpoints are known, least recently used connections not in use are closed.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class DeviceConnectionPool implements AutoCloseable {
+
+    static final int DEFAULT_MAX_CONNECTIONS = 64;
+
+    private final Map<String, DeviceConnection> connections = new ConcurrentHashMap<>();
+    private final Function<String, DeviceConnection> connectionFactory;
+    private final int maxConnections;
+
+    DeviceConnectionPool(Function<String, DeviceConnection> connectionFactory) {
+        this(connectionFactory, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Returns connection for endpoint of transport id. It is not evicted until passed to {@link #release}.
+     */
+    DeviceConnection acquire(String transportId) {
+        final DeviceConnection connection = connections.compute(toEndpoint(transportId), (endpoint, current) -> {
+            final DeviceConnection result = current != null ? current : create(endpoint);
+            result.retain();
+            return result;
+        });
+        evictIdle();
+        return connection;
+    }
+
+    void release(DeviceConnection connection) {
+        connection.release();
+    }
+
+    int size() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() {
+        connections.values().forEach(DeviceConnection::close);
+        connections.clear();
+    }
+
+    private DeviceConnection create(String endpoint) {
+        log.debug("Creating connection for endpoint: {}", endpoint);
+        return connectionFactory.apply(endpoint);
+    }
+
+    private void evictIdle() {
+        if (connections.size() <= maxConnections) {
+            return;
+        }
+
+        connections.values().stream()
+            .filter(connection -> !connection.isInUse())
+            .sorted(Comparator.comparingLong(DeviceConnection::getLastUsedNanos))
+            .limit(Math.max(0, connections.size() - maxConnections))
+            .forEach(this::evict);
+    }
+
+    private void evict(DeviceConnection candidate) {
+        // removed only if still idle - checked atomically with acquire() of the same endpoint
+        final AtomicBoolean removed = new AtomicBoolean();
+        connections.computeIfPresent(candidate.getEndpoint(), (endpoint, current) -> {
+            if (current != candidate || current.isInUse()) {
+                return current;
+            }
+            removed.set(true);
+            return null;
+        });
+
+        if (removed.get()) {
+            log.debug("Closing idle connection for endpoint: {}", candidate.getEndpoint());
+            candidate.close();
+        }
+    }
+
+    static String toEndpoint(String transportId) {
+        final TcpConfig config = new TcpConfig(transportId);
+        return config.getHost() + ":" + config.getPort();
+    }
+}
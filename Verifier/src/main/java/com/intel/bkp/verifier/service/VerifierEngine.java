@@ -0,0 +1,141 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.transport.model.TransportLayer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps Verifier resources - parsed configuration, security provider, SQLite cache and distribution point
+ * connections - open between calls, so that attesting many devices does not pay the startup cost for each of them.
+ * <p>
+ * Engine is thread-safe. Each device endpoint gets its own transport layer and protocol state, so different devices
+ * can be attested in parallel, while sessions with the same endpoint are serialized.
+ * Only one engine should be open at a time, as all of them share the same {@link AppContext}.
+ */
+@Slf4j
+public class VerifierEngine implements AutoCloseable {
+
+    private final AppContext appContext;
+    private final DeviceConnectionPool connectionPool;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    VerifierEngine(AppContext appContext) {
+        this(appContext, VerifierProtocols::create);
+    }
+
+    VerifierEngine(AppContext appContext, Supplier<VerifierProtocols> protocolsFactory) {
+        this.appContext = appContext;
+        this.connectionPool = new DeviceConnectionPool(endpoint ->
+            new DeviceConnection(endpoint, appContext.createTransportLayer(), protocolsFactory.get()));
+    }
+
+    public static VerifierEngine start() {
+        return new VerifierEngine(AppContext.instance());
+    }
+
+    /**
+     * Initializes transport layer for given device, performs action and disconnects.
+     */
+    <T> T withDevice(String transportId, Function<DeviceConnection, T> action) {
+        final Lock sessionLock = lifecycleLock.readLock();
+        sessionLock.lock();
+        try {
+            ensureOpen();
+            appContext.init();
+            final DeviceConnection connection = connectionPool.acquire(transportId);
+            try {
+                connection.getLock().lock();
+                try {
+                    return runSession(connection, transportId, action);
+                } finally {
+                    connection.getLock().unlock();
+                }
+            } finally {
+                connectionPool.release(connection);
+            }
+        } finally {
+            sessionLock.unlock();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Waits for sessions in progress and releases all resources.
+     */
+    @Override
+    public void close() {
+        final Lock closeLock = lifecycleLock.writeLock();
+        closeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            log.debug("Closing Verifier engine.");
+            connectionPool.close();
+            appContext.close();
+        } finally {
+            closeLock.unlock();
+        }
+    }
+
+    private <T> T runSession(DeviceConnection connection, String transportId, Function<DeviceConnection, T> action) {
+        final TransportLayer transportLayer = connection.getTransportLayer();
+        appContext.bindTransportLayer(transportLayer);
+        try {
+            transportLayer.initialize(transportId);
+            return action.apply(connection);
+        } finally {
+            transportLayer.disconnect();
+            appContext.unbindTransportLayer();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Verifier engine is already closed.");
+        }
+    }
+}
@@ -33,22 +33,16 @@
 package com.intel.bkp.verifier.service;
 
 import com.intel.bkp.core.manufacturing.model.PufType;
-import com.intel.bkp.protocol.spdm.exceptions.SpdmNotSupportedException;
-import com.intel.bkp.protocol.spdm.exceptions.UnsupportedSpdmVersionException;
-import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
-import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
-import com.intel.bkp.protocol.spdm.service.SpdmVersionVerifier;
-import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.interfaces.VerifierExchange;
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
-import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
-import com.intel.bkp.verifier.service.certificate.AppContext;
-import com.intel.bkp.verifier.transport.model.TransportLayer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.intel.bkp.verifier.service.GetDeviceAttestationComponentSpdm.SPDM_SUPPORTED_VERSION;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
 import static com.intel.bkp.verifier.service.VerifierExchangeProtocol.logAttestationResult;
 
@@ -56,34 +50,30 @@ import static com.intel.bkp.verifier.service.VerifierExchangeProtocol.logAttesta
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class VerifierExchangeImpl implements VerifierExchange {
 
-    private final SpdmProtocol spdmProtocol = new SpdmProtocol12Impl();
-    private final SpdmVersionVerifier spdmVersionVerifier = new SpdmVersionVerifier(SPDM_SUPPORTED_VERSION);
-    private final VerifierExchangeProtocolSpdm verifierExchangeProtocolSpdm;
-    private final VerifierExchangeProtocolSigma verifierExchangeProtocolSigma;
-    private final SpdmGetVersionMessageSender spdmGetVersionMessageSender;
+    private final Supplier<VerifierEngine> engineProvider;
+    private final boolean closeEngineAfterCall;
+    private final AtomicReference<VerifierProtocols> deprecatedProtocols = new AtomicReference<>();
 
+    /**
+     * Each call opens Verifier resources and closes them when it completes.
+     */
     public VerifierExchangeImpl() {
-        this.verifierExchangeProtocolSpdm = new VerifierExchangeProtocolSpdm();
-        this.verifierExchangeProtocolSigma = new VerifierExchangeProtocolSigma();
-        this.spdmGetVersionMessageSender = new SpdmGetVersionMessageSender(spdmProtocol);
+        this(VerifierEngine::start, true);
+    }
+
+    /**
+     * Calls share resources of provided engine, which remains open until closed by the caller.
+     * Calls for different devices may be performed concurrently.
+     */
+    public VerifierExchangeImpl(VerifierEngine engine) {
+        this(() -> engine, false);
     }
 
     @Override
     public int createDeviceAttestationSubKey(String transportId, String context, String pufType) {
-        try (AppContext appContext = AppContext.instance()) {
-            appContext.init();
-            final TransportLayer transportLayer = appContext.getTransportLayer();
-
-            try {
-                transportLayer.initialize(transportId);
-                return getProtocol().createSubKeyInternal(context, PufType.valueOf(pufType));
-            } catch (Exception e) {
-                log.error("Create attestation subkey failed: {}", e.getMessage());
-                log.debug("Stacktrace: ", e);
-                return ERROR.getCode();
-            } finally {
-                transportLayer.disconnect();
-            }
+        try {
+            return withDevice(transportId, connection -> connection.getProtocols().getProtocol()
+                .createSubKeyInternal(context, PufType.valueOf(pufType)));
         } catch (Exception e) {
             log.error("Create attestation subkey failed: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -95,19 +85,9 @@ public class VerifierExchangeImpl implements VerifierExchange {
     public VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurementHex) {
         var attestationResult = new VerifierExchangeResponseDTO(ERROR.getCode(), "");
 
-        try (AppContext appContext = AppContext.instance()) {
-            appContext.init();
-            final TransportLayer transportLayer = appContext.getTransportLayer();
-
-            try {
-                transportLayer.initialize(transportId);
-                attestationResult = getProtocol().getAttestationInternal(refMeasurementHex);
-            } catch (Exception e) {
-                log.error("Device attestation failed: {}", e.getMessage());
-                log.debug("Stacktrace: ", e);
-            } finally {
-                transportLayer.disconnect();
-            }
+        try {
+            attestationResult = withDevice(transportId, connection -> connection.getProtocols().getProtocol()
+                .getAttestationInternal(refMeasurementHex));
         } catch (Exception e) {
             log.error("Device attestation failed: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -120,20 +100,9 @@ public class VerifierExchangeImpl implements VerifierExchange {
 
     @Override
     public int healthCheck(String transportId) {
-        try (AppContext appContext = AppContext.instance()) {
-            appContext.init();
-            final TransportLayer transportLayer = appContext.getTransportLayer();
-
-            try {
-                transportLayer.initialize(transportId);
-                return getProtocol().healthCheckInternal(transportLayer);
-            } catch (Exception e) {
-                log.error("Health check failed: {}", e.getMessage());
-                log.debug("Stacktrace: ", e);
-                return ERROR.getCode();
-            } finally {
-                transportLayer.disconnect();
-            }
+        try {
+            return withDevice(transportId, connection -> connection.getProtocols().getProtocol()
+                .healthCheckInternal(connection.getTransportLayer()));
         } catch (Exception e) {
             log.error("Health check failed: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -141,32 +110,38 @@ public class VerifierExchangeImpl implements VerifierExchange {
         }
     }
 
+    /**
+     * @deprecated protocol is now selected per device connection by each call; this uses the transport layer
+     * bound to current thread and protocol state not shared with any connection.
+     */
+    @Deprecated(forRemoval = true)
     public VerifierExchangeProtocol getProtocol() {
-        final VerifierExchangeProtocol protocol;
+        return getDeprecatedProtocols().getProtocol();
+    }
 
-        if (spdmSupported()) {
-            protocol = this.verifierExchangeProtocolSpdm;
-        } else {
-            protocol = this.verifierExchangeProtocolSigma;
+    /**
+     * @deprecated see {@link #getProtocol()}.
+     */
+    @Deprecated(forRemoval = true)
+    public boolean spdmSupported() {
+        return getDeprecatedProtocols().spdmSupported();
+    }
+
+    private synchronized VerifierProtocols getDeprecatedProtocols() {
+        if (deprecatedProtocols.get() == null) {
+            deprecatedProtocols.set(VerifierProtocols.create());
         }
-        return protocol;
+        return deprecatedProtocols.get();
     }
 
-    public boolean spdmSupported() {
-        try {
-            final String responderVersion = spdmGetVersionMessageSender.send();
-            log.debug("SPDM Responder version: {}", responderVersion);
-            spdmVersionVerifier.ensureVersionIsSupported(responderVersion);
-            return true;
-        } catch (SpdmNotSupportedException e) {
-            log.debug("SPDM is not supported: ", e);
-            return false;
-        } catch (UnsupportedSpdmVersionException e) {
-            throw new VerifierRuntimeException("SPDM is in unsupported version: %s".formatted(e.getMessage()), e);
-        } catch (VerifierRuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new VerifierRuntimeException("Failed to verify if SPDM is supported.", e);
+    private <T> T withDevice(String transportId, Function<DeviceConnection, T> action) {
+        final VerifierEngine engine = engineProvider.get();
+        if (!closeEngineAfterCall) {
+            return engine.withDevice(transportId, action);
+        }
+
+        try (engine) {
+            return engine.withDevice(transportId, action);
         }
     }
 }
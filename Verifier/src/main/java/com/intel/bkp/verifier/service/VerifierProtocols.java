@@ -0,0 +1,104 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.protocol.spdm.exceptions.SpdmNotSupportedException;
+import com.intel.bkp.protocol.spdm.exceptions.UnsupportedSpdmVersionException;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
+import com.intel.bkp.protocol.spdm.service.SpdmVersionVerifier;
+import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
+import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.intel.bkp.verifier.service.GetDeviceAttestationComponentSpdm.SPDM_SUPPORTED_VERSION;
+
+/**
+ * Protocol handlers with their SPDM state, owned by single device connection.
+ */
+@Slf4j
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+class VerifierProtocols implements AutoCloseable {
+
+    private final SpdmVersionVerifier spdmVersionVerifier = new SpdmVersionVerifier(SPDM_SUPPORTED_VERSION);
+    private final SpdmProtocol spdmProtocol;
+    private final VerifierExchangeProtocolSpdm verifierExchangeProtocolSpdm;
+    private final VerifierExchangeProtocolSigma verifierExchangeProtocolSigma;
+    private final SpdmGetVersionMessageSender spdmGetVersionMessageSender;
+
+    static VerifierProtocols create() {
+        final SpdmProtocol spdmProtocol = new SpdmProtocol12Impl();
+        return new VerifierProtocols(spdmProtocol, new VerifierExchangeProtocolSpdm(),
+            new VerifierExchangeProtocolSigma(), new SpdmGetVersionMessageSender(spdmProtocol));
+    }
+
+    VerifierExchangeProtocol getProtocol() {
+        final VerifierExchangeProtocol protocol;
+
+        if (spdmSupported()) {
+            protocol = this.verifierExchangeProtocolSpdm;
+        } else {
+            protocol = this.verifierExchangeProtocolSigma;
+        }
+        return protocol;
+    }
+
+    boolean spdmSupported() {
+        try {
+            final String responderVersion = spdmGetVersionMessageSender.send();
+            log.debug("SPDM Responder version: {}", responderVersion);
+            spdmVersionVerifier.ensureVersionIsSupported(responderVersion);
+            return true;
+        } catch (SpdmNotSupportedException e) {
+            log.debug("SPDM is not supported: ", e);
+            return false;
+        } catch (UnsupportedSpdmVersionException e) {
+            throw new VerifierRuntimeException("SPDM is in unsupported version: %s".formatted(e.getMessage()), e);
+        } catch (VerifierRuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new VerifierRuntimeException("Failed to verify if SPDM is supported.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            spdmProtocol.close();
+        } catch (Exception e) {
+            log.warn("Failed to release SPDM resources: {}", e.getMessage());
+        }
+    }
+}
@@ -38,12 +38,17 @@ import com.intel.bkp.core.properties.DistributionPoint;
 import com.intel.bkp.core.properties.Proxy;
 import com.intel.bkp.core.properties.TrustStore;
 import com.intel.bkp.core.security.ISecurityProvider;
+import com.intel.bkp.fpgacerts.crl.CachingCrlProvider;
 import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
 import com.intel.bkp.utils.PathUtils;
 import com.intel.bkp.verifier.config.JceSecurityConfiguration;
 import com.intel.bkp.verifier.database.SQLiteHelper;
 import com.intel.bkp.verifier.exceptions.VerifierKeyNotInitializedException;
+import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.TransportParams;
 import com.intel.bkp.verifier.model.VerifierKeyParams;
 import com.intel.bkp.verifier.protocol.common.service.VerifierKeyManager;
 import com.intel.bkp.verifier.security.X509TrustManagerManager;
@@ -55,6 +60,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
+
 @Getter
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -70,11 +77,14 @@ public class AppContext implements AutoCloseable {
     private VerifierKeyParams verifierKeyParams;
     private VerifierKeyManager verifierKeyManager;
     private DistributionPointConnector dpConnector;
+    private ICrlProvider crlProvider;
     private TrustStore trustStore;
 
     private static AppContext INSTANCE;
 
-    public static AppContext instance() {
+    private static final ThreadLocal<TransportLayer> SESSION_TRANSPORT_LAYER = new ThreadLocal<>();
+
+    public static synchronized AppContext instance() {
         if (INSTANCE == null) {
             log.debug("Initializing AppContext...");
             logAppInfo();
@@ -89,11 +99,13 @@ public class AppContext implements AutoCloseable {
         final ISecurityProvider securityProvider = prepareSecurityProvider(libConfig);
         final VerifierKeyParams verifierKeyParams = prepareVerifierKeyParams(libConfig);
         final TrustStore trustStore = prepareTrustStore(libConfig);
+        final SQLiteHelper sqLiteHelper = prepareSqLiteHelper(libConfig);
+        final DistributionPointConnector dpConnector = prepareDistributionPointConnector(libConfig, trustStore);
 
         return new AppContext(libConfig, prepareCommandLayer(), securityProvider,
-            prepareSqLiteHelper(libConfig), verifierKeyParams,
+            sqLiteHelper, verifierKeyParams,
             prepareVerifierKeyManager(securityProvider, verifierKeyParams.getKeyName()),
-            prepareDistributionPointConnector(libConfig, trustStore), trustStore);
+            dpConnector, prepareCrlProvider(dpConnector, sqLiteHelper), trustStore);
     }
 
     private static void logAppInfo() {
@@ -142,6 +154,15 @@ public class AppContext implements AutoCloseable {
             new X509TrustManagerManager(trustStore).getTrustManagers());
     }
 
+    /**
+     * CRLs are shared by all attestations until their NextUpdate, so that they are not downloaded every time.
+     */
+    private static ICrlProvider prepareCrlProvider(DistributionPointConnector dpConnector,
+                                                   SQLiteHelper sqLiteHelper) {
+        return new CachingCrlProvider(new DistributionPointCrlProvider(dpConnector),
+            sqLiteHelper.getCrlCacheEntityService());
+    }
+
     /**
      * Must be called after calling instance() for the first time.
      */
@@ -152,8 +173,29 @@ public class AppContext implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns transport layer of device session open on current thread.
+     */
     public TransportLayer getTransportLayer() {
-        return libConfig.getTransportLayerType().getTransportLayer();
+        final TransportLayer transportLayer = SESSION_TRANSPORT_LAYER.get();
+        if (transportLayer == null) {
+            throw new VerifierRuntimeException("No device session is open on current thread.");
+        }
+        return transportLayer;
+    }
+
+    public TransportLayer createTransportLayer() {
+        final TransportParams transportParams = Optional.ofNullable(libConfig.getTransportParams())
+            .orElseGet(TransportParams::defaults);
+        return libConfig.getTransportLayerType().createTransportLayer(transportParams);
+    }
+
+    public void bindTransportLayer(TransportLayer transportLayer) {
+        SESSION_TRANSPORT_LAYER.set(transportLayer);
+    }
+
+    public void unbindTransportLayer() {
+        SESSION_TRANSPORT_LAYER.remove();
     }
 
     public String[] getDpTrustedRootHashes() {
@@ -173,6 +215,8 @@ public class AppContext implements AutoCloseable {
         } catch (Exception e) {
             log.error("Failed to close active DP connections.");
         }
-        INSTANCE = null;
+        synchronized (AppContext.class) {
+            INSTANCE = null;
+        }
     }
 }
@@ -32,6 +32,7 @@
 
 package com.intel.bkp.verifier.transport.hps;
 
+import com.intel.bkp.verifier.model.TransportParams;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import com.intel.bkp.verifier.transport.tcp.TcpClient;
 import com.intel.bkp.verifier.transport.tcp.TcpConfig;
@@ -44,7 +45,21 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 public class HpsTransportImpl implements TransportLayer {
 
     @Setter
-    private TcpClient client = new TcpClient();
+    private TcpClient client;
+
+    public HpsTransportImpl() {
+        this(new TcpClient());
+    }
+
+    public HpsTransportImpl(TransportParams transportParams) {
+        this(transportParams.isFramedResponse()
+             ? new TcpClient(new MailboxResponseFrame(), transportParams.getResponseTimeout())
+             : new TcpClient());
+    }
+
+    private HpsTransportImpl(TcpClient client) {
+        this.client = client;
+    }
 
     @Override
     public void initialize(String connectionConfig) {
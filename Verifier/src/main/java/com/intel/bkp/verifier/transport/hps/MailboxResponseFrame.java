@@ -0,0 +1,70 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.transport.hps;
+
+import com.intel.bkp.command.exception.CommandHeaderValidationException;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import com.intel.bkp.verifier.transport.tcp.ResponseFrame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mailbox response is complete once header and number of argument words declared in it were received.
+ */
+class MailboxResponseFrame implements ResponseFrame {
+
+    private static final int HEADER_LEN = Integer.BYTES;
+    private static final int WORD_SIZE = Integer.BYTES;
+
+    @Override
+    public int length(ByteBuffer received) {
+        if (received.remaining() < HEADER_LEN) {
+            return INCOMPLETE;
+        }
+
+        final byte[] header = new byte[HEADER_LEN];
+        received.duplicate().get(header);
+
+        final int frameLength = HEADER_LEN + parseArgumentsSize(header) * WORD_SIZE;
+        return received.remaining() >= frameLength ? frameLength : INCOMPLETE;
+    }
+
+    private static int parseArgumentsSize(byte[] header) {
+        try {
+            return CommandHeaderManager.parseFromFw(header).getArgumentsSize();
+        } catch (CommandHeaderValidationException e) {
+            throw new TransportLayerException("Failed to parse response header.", e);
+        }
+    }
+}
@@ -32,16 +32,24 @@
 
 package com.intel.bkp.verifier.transport.model;
 
+import com.intel.bkp.verifier.model.TransportParams;
 import com.intel.bkp.verifier.transport.hps.HpsTransportImpl;
 import com.intel.bkp.verifier.transport.systemconsole.SystemConsoleTransportImpl;
 import lombok.AllArgsConstructor;
-import lombok.Getter;
 
-@Getter
+import java.util.function.Function;
+
 @AllArgsConstructor
 public enum TransportLayerType {
-    SYSTEM_CONSOLE(new SystemConsoleTransportImpl()),
-    HPS(new HpsTransportImpl());
+    SYSTEM_CONSOLE(SystemConsoleTransportImpl::new),
+    HPS(HpsTransportImpl::new);
+
+    private final Function<TransportParams, TransportLayer> transportLayerFactory;
 
-    private final TransportLayer transportLayer;
+    /**
+     * Creates new transport layer with its own connection, so that devices can be accessed in parallel.
+     */
+    public TransportLayer createTransportLayer(TransportParams transportParams) {
+        return transportLayerFactory.apply(transportParams);
+    }
 }
@@ -33,22 +33,47 @@
 package com.intel.bkp.verifier.transport.systemconsole;
 
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import com.intel.bkp.verifier.transport.tcp.ResponseFrame;
 import com.intel.bkp.verifier.transport.tcp.TcpClient;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class SystemConsoleNioClient extends TcpClient {
 
+    /**
+     * Tcl prompt is not terminated with new line, so after each command a marker is requested from the server.
+     * Command sends it in lower case and result comes back in upper case, so echoed command is never mistaken
+     * for the end of response.
+     */
+    static final String END_OF_RESPONSE = "__VERIFIER_END_OF_RESPONSE__";
+    private static final String END_OF_RESPONSE_COMMAND = "string toupper "
+        + END_OF_RESPONSE.toLowerCase(Locale.ROOT);
+    private static final byte[] END_OF_RESPONSE_BYTES = END_OF_RESPONSE.getBytes(StandardCharsets.US_ASCII);
+
+    public SystemConsoleNioClient() {
+        super();
+    }
+
+    public SystemConsoleNioClient(Duration responseTimeout) {
+        super(SystemConsoleNioClient::responseLength, responseTimeout);
+    }
+
     /**
      * Sends packet using socket with or without response.
      */
     public String sendPacket(String currentCommand) {
-        final byte[] responseBytes = sendPacket(currentCommand.getBytes(StandardCharsets.UTF_8));
+        final String command = isFramed()
+                               ? currentCommand + "\n" + END_OF_RESPONSE_COMMAND + "\n"
+                               : currentCommand;
+        final byte[] responseBytes = sendPacket(command.getBytes(StandardCharsets.UTF_8));
         final String fullResponse = new String(responseBytes);
         log.trace("Full response: {}", fullResponse);
         final String processedResponse = processResponse(fullResponse);
@@ -67,4 +92,35 @@ public class SystemConsoleNioClient extends TcpClient {
             .filter(StringUtils::isNotBlank)
             .collect(Collectors.joining());
     }
+
+    /**
+     * Response is complete when marker is received. It ends before the line containing the marker.
+     */
+    static int responseLength(ByteBuffer received) {
+        final int markerIdx = indexOf(received, END_OF_RESPONSE_BYTES);
+        if (markerIdx < 0) {
+            return ResponseFrame.INCOMPLETE;
+        }
+
+        int lineStartIdx = markerIdx;
+        while (lineStartIdx > 0 && received.get(received.position() + lineStartIdx - 1) != '\n') {
+            lineStartIdx--;
+        }
+        return lineStartIdx;
+    }
+
+    private static int indexOf(ByteBuffer data, byte[] pattern) {
+        final int start = data.position();
+        final int lastCandidate = data.limit() - pattern.length;
+        for (int i = start; i <= lastCandidate; i++) {
+            int j = 0;
+            while (j < pattern.length && data.get(i + j) == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i - start;
+            }
+        }
+        return -1;
+    }
 }
@@ -32,6 +32,7 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
+import com.intel.bkp.verifier.model.TransportParams;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import lombok.AccessLevel;
 import lombok.Setter;
@@ -41,10 +42,20 @@ import lombok.extern.slf4j.Slf4j;
 public class SystemConsoleTransportImpl implements TransportLayer {
 
     @Setter(AccessLevel.PACKAGE)
-    private SystemConsoleNioClient client = new SystemConsoleNioClient();
+    private SystemConsoleNioClient client;
 
     private static final TclCommands TCL_COMMANDS = new TclCommands();
 
+    public SystemConsoleTransportImpl() {
+        this.client = new SystemConsoleNioClient();
+    }
+
+    public SystemConsoleTransportImpl(TransportParams transportParams) {
+        this.client = transportParams.isFramedResponse()
+                      ? new SystemConsoleNioClient(transportParams.getResponseTimeout())
+                      : new SystemConsoleNioClient();
+    }
+
     @Override
     public void initialize(String config) {
         SystemConsoleConfig systemConsoleConfig = new SystemConsoleConfig(config);
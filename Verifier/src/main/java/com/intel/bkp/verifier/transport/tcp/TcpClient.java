@@ -40,16 +40,44 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class TcpClient {
 
     private static final int SLEEP_BEFORE_READ_RESPONSE = 1000; // 1 second
     static final int RESPONSE_ALLOCATED_SIZE = 1024 * 32;
+    static final int MAX_RESPONSE_SIZE = 1024 * 1024;
+
+    /**
+     * Detects end of response. If not set, response is read once after fixed delay.
+     */
+    private final ResponseFrame responseFrame;
+    private final Duration responseTimeout;
+
+    private ByteBuffer responseBuffer = ByteBuffer.allocate(RESPONSE_ALLOCATED_SIZE);
 
     @Setter
     private SocketChannel socketChannel;
+    private Selector selector;
+    private SelectionKey selectionKey;
+
+    public TcpClient() {
+        this(null, Duration.ZERO);
+    }
+
+    public TcpClient(ResponseFrame responseFrame, Duration responseTimeout) {
+        this.responseFrame = responseFrame;
+        this.responseTimeout = responseTimeout;
+    }
+
+    protected boolean isFramed() {
+        return responseFrame != null;
+    }
 
     /**
      * Opens socket connection to Tcp server.
@@ -61,7 +89,11 @@ public class TcpClient {
         try {
             InetSocketAddress socketAddress = new InetSocketAddress(config.getHost(), config.getPort());
             socketChannel = SocketChannel.open(socketAddress);
+            if (isFramed()) {
+                registerSelector();
+            }
         } catch (Exception e) {
+            disconnect();
             throw new TransportLayerException("Failed to open socket", e);
         }
     }
@@ -71,8 +103,16 @@ public class TcpClient {
      */
     @SneakyThrows
     public void disconnect() {
-        if (socketChannel != null) {
-            socketChannel.close();
+        try {
+            if (selector != null) {
+                selector.close();
+            }
+        } finally {
+            selector = null;
+            selectionKey = null;
+            if (socketChannel != null) {
+                socketChannel.close();
+            }
         }
     }
 
@@ -82,23 +122,9 @@ public class TcpClient {
         }
 
         try {
-            socketChannel.write(ByteBuffer.wrap(currentCommand));
-            Thread.sleep(SLEEP_BEFORE_READ_RESPONSE);
-            ByteBuffer responseBuffer = ByteBuffer.allocate(RESPONSE_ALLOCATED_SIZE);
-            final int readBytesCnt = socketChannel.read(responseBuffer);
-            log.trace("Read {} bytes from socket.", readBytesCnt);
-            if (readBytesCnt <= 0) {
-                throw new TransportLayerException("No response bytes received.");
-            }
-            if (readBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
-                throw new TransportLayerException("Response exceeded max allocated size.");
-            }
-
-            final byte[] response = new byte[readBytesCnt];
-            responseBuffer.rewind();
-            responseBuffer.get(response);
-
-            return response;
+            return isFramed()
+                   ? sendFramedPacket(currentCommand)
+                   : sendPacketWithFixedDelay(currentCommand);
         } catch (IOException e) {
             throw new TransportLayerException("Failed to send packet", e);
         } catch (InterruptedException e) {
@@ -106,4 +132,113 @@ public class TcpClient {
             throw new TransportLayerException("Failed to send packet", e);
         }
     }
+
+    private byte[] sendPacketWithFixedDelay(byte[] currentCommand) throws IOException, InterruptedException {
+        socketChannel.write(ByteBuffer.wrap(currentCommand));
+        Thread.sleep(SLEEP_BEFORE_READ_RESPONSE);
+        responseBuffer.clear();
+        final int readBytesCnt = socketChannel.read(responseBuffer);
+        log.trace("Read {} bytes from socket.", readBytesCnt);
+        if (readBytesCnt <= 0) {
+            throw new TransportLayerException("No response bytes received.");
+        }
+        if (readBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
+            throw new TransportLayerException("Response exceeded max allocated size.");
+        }
+
+        final byte[] response = new byte[readBytesCnt];
+        responseBuffer.rewind();
+        responseBuffer.get(response);
+
+        return response;
+    }
+
+    private byte[] sendFramedPacket(byte[] currentCommand) throws IOException {
+        if (selector == null) {
+            registerSelector();
+        }
+
+        final long deadline = System.nanoTime() + responseTimeout.toNanos();
+        discardStaleBytes();
+        writeFully(ByteBuffer.wrap(currentCommand), deadline);
+
+        responseBuffer.clear();
+        int frameLength;
+        while ((frameLength = responseFrame.length(receivedBytes())) == ResponseFrame.INCOMPLETE) {
+            awaitReady(SelectionKey.OP_READ, deadline);
+            ensureResponseCapacity();
+            final int readBytesCnt = socketChannel.read(responseBuffer);
+            if (readBytesCnt < 0) {
+                throw new TransportLayerException("Connection closed before complete response was received.");
+            }
+            log.trace("Read {} bytes from socket.", readBytesCnt);
+        }
+
+        final byte[] response = new byte[frameLength];
+        receivedBytes().get(response);
+        return response;
+    }
+
+    private void registerSelector() throws IOException {
+        socketChannel.configureBlocking(false);
+        selector = Selector.open();
+        selectionKey = socketChannel.register(selector, SelectionKey.OP_READ);
+    }
+
+    private ByteBuffer receivedBytes() {
+        return responseBuffer.duplicate().flip();
+    }
+
+    /**
+     * Leftovers of previous response (e.g. trailing prompt) must not be taken as beginning of next one.
+     */
+    private void discardStaleBytes() throws IOException {
+        responseBuffer.clear();
+        int readBytesCnt;
+        while ((readBytesCnt = socketChannel.read(responseBuffer)) > 0) {
+            log.trace("Discarded {} stale bytes from socket.", readBytesCnt);
+            responseBuffer.clear();
+        }
+        if (readBytesCnt < 0) {
+            throw new TransportLayerException("Connection closed by remote host.");
+        }
+    }
+
+    private void writeFully(ByteBuffer command, long deadline) throws IOException {
+        while (command.hasRemaining()) {
+            if (socketChannel.write(command) == 0) {
+                awaitReady(SelectionKey.OP_WRITE, deadline);
+            }
+        }
+    }
+
+    private void awaitReady(int operation, long deadline) throws IOException {
+        final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new TransportLayerException(
+                "Response not received within %d ms.".formatted(responseTimeout.toMillis()));
+        }
+
+        selectionKey.interestOps(operation);
+        try {
+            selector.select(remainingMillis);
+        } finally {
+            selector.selectedKeys().clear();
+            selectionKey.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void ensureResponseCapacity() {
+        if (responseBuffer.hasRemaining()) {
+            return;
+        }
+        if (responseBuffer.capacity() >= MAX_RESPONSE_SIZE) {
+            throw new TransportLayerException("Response exceeded max allocated size.");
+        }
+
+        final ByteBuffer extended = ByteBuffer.allocate(Math.min(responseBuffer.capacity() * 2, MAX_RESPONSE_SIZE));
+        responseBuffer.flip();
+        extended.put(responseBuffer);
+        responseBuffer = extended;
+    }
 }
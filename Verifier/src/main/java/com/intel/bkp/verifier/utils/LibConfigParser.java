@@ -43,6 +43,7 @@ import com.intel.bkp.verifier.model.AttestationCertificateFlow;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.LibSpdmParams;
+import com.intel.bkp.verifier.model.TransportParams;
 import com.intel.bkp.verifier.model.VerifierKeyParams;
 import com.intel.bkp.verifier.model.VerifierRootQkyChain;
 import com.intel.bkp.verifier.transport.model.TransportLayerType;
@@ -57,6 +58,7 @@ import java.net.URISyntaxException;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Properties;
@@ -83,7 +85,10 @@ import static com.intel.bkp.verifier.config.Properties.PROXY_GROUP;
 import static com.intel.bkp.verifier.config.Properties.REQUIRE_IID_UDS;
 import static com.intel.bkp.verifier.config.Properties.SECURITY_GROUP;
 import static com.intel.bkp.verifier.config.Properties.TEST_MODE_SECRETS;
+import static com.intel.bkp.verifier.config.Properties.TRANSPORT_FRAMED_RESPONSE;
 import static com.intel.bkp.verifier.config.Properties.TRANSPORT_LAYER_TYPE;
+import static com.intel.bkp.verifier.config.Properties.TRANSPORT_PARAMS_GROUP;
+import static com.intel.bkp.verifier.config.Properties.TRANSPORT_RESPONSE_TIMEOUT_MS;
 import static com.intel.bkp.verifier.config.Properties.TRUSTED_ROOT_HASH_GROUP;
 import static com.intel.bkp.verifier.config.Properties.TRUSTSTORE_GROUP;
 import static com.intel.bkp.verifier.config.Properties.TRUSTSTORE_LOCATION;
@@ -135,6 +140,7 @@ public class LibConfigParser {
     private LibConfig getPropValues(SchemaParams prop) {
         final LibConfig appConfig = new LibConfig();
         appConfig.setTransportLayerType(getTransportLayerType(prop));
+        appConfig.setTransportParams(getTransportParams(prop));
         appConfig.setAttestationCertificateFlow(getAttestationCertificateFlow(prop));
         appConfig.setDistributionPoint(getDistributionPoint(prop));
         appConfig.setVerifierKeyParams(getVerifierKeyParams(prop));
@@ -158,6 +164,21 @@ public class LibConfigParser {
         }
     }
 
+    private TransportParams getTransportParams(SchemaParams prop) {
+        final boolean framedResponse = Optional.ofNullable(
+                prop.getPropertyGroup(TRANSPORT_FRAMED_RESPONSE, TRANSPORT_PARAMS_GROUP))
+            .filter(StringUtils::isNotBlank)
+            .map(Boolean::valueOf)
+            .orElse(true);
+        final Duration responseTimeout = Optional.ofNullable(
+                prop.getPropertyGroup(TRANSPORT_RESPONSE_TIMEOUT_MS, TRANSPORT_PARAMS_GROUP))
+            .filter(StringUtils::isNotBlank)
+            .map(s -> toPositiveLong(s.trim(), TRANSPORT_RESPONSE_TIMEOUT_MS))
+            .map(Duration::ofMillis)
+            .orElse(TransportParams.DEFAULT_RESPONSE_TIMEOUT);
+        return new TransportParams(framedResponse, responseTimeout);
+    }
+
     private AttestationCertificateFlow getAttestationCertificateFlow(SchemaParams prop) {
         return new AttestationCertificateFlow(
             Optional.ofNullable(prop.getProperty(REQUIRE_IID_UDS))
@@ -320,6 +341,18 @@ public class LibConfigParser {
         }
     }
 
+    private long toPositiveLong(String value, String param) {
+        try {
+            final long result = Long.parseLong(value);
+            if (result > 0) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Invalid number: {}", value);
+        }
+        throw new VerifierRuntimeException("Provide %s parameter as positive integer.".formatted(param));
+    }
+
     private String remove0x(String value) {
         return StringUtils.substringAfter(value, "0x");
     }
@@ -0,0 +1,123 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.database;
+
+import com.intel.bkp.verifier.database.model.S10CacheEntity;
+import com.intel.bkp.verifier.database.repository.S10CacheEntityService;
+import com.intel.bkp.verifier.database.table.SQLiteChangelog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class S10CacheEntityServiceTest {
+
+    private static final String DEVICE_ID = "0102030405060708";
+    private static final String OTHER_DEVICE_ID = "1112131415161718";
+
+    @TempDir
+    Path tempDir;
+
+    @Spy
+    private DatabaseManager databaseManager;
+
+    private S10CacheEntityService sut;
+
+    @BeforeEach
+    void setUp() {
+        doReturn("jdbc:sqlite:" + tempDir.resolve("cache.sqlite")).when(databaseManager).getJdbcUrl();
+        sut = new S10CacheEntityService(databaseManager);
+        sut.migrate(0, SQLiteChangelog.values().length);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseManager.closeDatabase();
+    }
+
+    @Test
+    void read_NotStored_ReturnsEmpty() {
+        // when
+        final Optional<S10CacheEntity> result = sut.read(fromHex(DEVICE_ID));
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void store_SameDeviceTwice_UpdatesExistingRow() {
+        // given
+        sut.store(new S10CacheEntity(DEVICE_ID, "context", 1, "EFUSE", "alias"));
+        sut.store(new S10CacheEntity(OTHER_DEVICE_ID, "other", 5, "IID", "other-alias"));
+
+        // when
+        sut.store(new S10CacheEntity(DEVICE_ID, "new-context", 2, "EFUSE", "new-alias"));
+
+        // then
+        assertEquals(Optional.of(new S10CacheEntity(DEVICE_ID, "new-context", 2, "EFUSE", "new-alias")),
+            sut.read(fromHex(DEVICE_ID)));
+        assertEquals(Optional.of(new S10CacheEntity(OTHER_DEVICE_ID, "other", 5, "IID", "other-alias")),
+            sut.read(fromHex(OTHER_DEVICE_ID)));
+    }
+
+    @Test
+    void storeAll_StoresAllEntities() {
+        // given
+        final List<S10CacheEntity> entities = List.of(
+            new S10CacheEntity(DEVICE_ID, "context", 1, "EFUSE", "alias"),
+            new S10CacheEntity(OTHER_DEVICE_ID, "other", 5, "IID", "other-alias"));
+
+        // when
+        sut.storeAll(entities);
+
+        // then
+        assertEquals(Optional.of(entities.get(0)), sut.read(fromHex(DEVICE_ID)));
+        assertEquals(Optional.of(entities.get(1)), sut.read(fromHex(OTHER_DEVICE_ID)));
+    }
+}
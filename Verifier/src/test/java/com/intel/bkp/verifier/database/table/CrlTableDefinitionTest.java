@@ -0,0 +1,67 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.database.table;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CrlTableDefinitionTest {
+
+    private final CrlTableDefinition sut = new CrlTableDefinition();
+
+    @Test
+    void getTableDefinition() {
+        // when
+        final String result = sut.getTableDefinition();
+
+        // then
+        assertEquals("CREATE TABLE IF NOT EXISTS crl_cache (url TEXT PRIMARY KEY,crl TEXT NOT NULL,"
+            + "nextupdate INTEGER NOT NULL)", result);
+    }
+
+    @Test
+    void getSelectByKeySQL() {
+        // when
+        final String result = sut.getSelectByKeySQL();
+
+        // then
+        assertEquals("SELECT * FROM crl_cache WHERE url = ?", result);
+    }
+
+    @Test
+    void getMigrationQuery_CreatesTableInSecondVersion() {
+        // when-then
+        assertEquals(sut.getTableDefinition(), sut.getMigrationQuery().get(SQLiteChangelog.V2.ordinal()));
+    }
+}
@@ -88,4 +88,15 @@ class S10TableDefinitionTest {
         // then
         assertEquals(5, result);
     }
+
+    @Test
+    void getUpsertSQL_DoesNotUpdateKeyColumn() {
+        // when
+        final String result = sut.getUpsertSQL();
+
+        // then
+        assertEquals("INSERT INTO s10_cache (deviceid,context,counter,puftype,alias) VALUES (?,?,?,?,?) "
+            + "ON CONFLICT (deviceid) DO UPDATE SET context = excluded.context,counter = excluded.counter,"
+            + "puftype = excluded.puftype,alias = excluded.alias", result);
+    }
 }
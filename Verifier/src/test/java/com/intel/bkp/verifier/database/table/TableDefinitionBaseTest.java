@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class TableDefinitionBaseTest {
 
     private static final String TABLE_NAME = "TABLE";
+    private static final String KEY_COLUMN = "KEY";
     private static final String COLUMN = "COLUMN";
 
     private final TableDefinitionBase sut = new TableDefinitionBase() {
@@ -64,6 +65,11 @@ class TableDefinitionBaseTest {
             return TABLE_NAME;
         }
 
+        @Override
+        public String getKeyColumnName() {
+            return KEY_COLUMN;
+        }
+
         @Override
         public Map<Integer, String> getMigrationQuery() {
             return null;
@@ -98,4 +104,23 @@ class TableDefinitionBaseTest {
         assertEquals(String.format("REPLACE INTO %s (%s) VALUES (?)", TABLE_NAME, COLUMN),
             result);
     }
+
+    @Test
+    void getSelectByKeySQL() {
+        // when
+        final String result = sut.getSelectByKeySQL();
+
+        // then
+        assertEquals(String.format("SELECT * FROM %s WHERE %s = ?", TABLE_NAME, KEY_COLUMN), result);
+    }
+
+    @Test
+    void getUpsertSQL() {
+        // when
+        final String result = sut.getUpsertSQL();
+
+        // then
+        assertEquals(String.format("INSERT INTO %s (%s) VALUES (?) ON CONFLICT (%s) DO UPDATE SET %s = excluded.%s",
+            TABLE_NAME, COLUMN, KEY_COLUMN, COLUMN, COLUMN), result);
+    }
 }
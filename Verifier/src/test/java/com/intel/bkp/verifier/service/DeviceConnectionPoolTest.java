@@ -0,0 +1,133 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.transport.model.TransportLayer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceConnectionPoolTest {
+
+    @Mock
+    private VerifierProtocols protocols;
+
+    private final DeviceConnectionPool sut = new DeviceConnectionPool(
+        endpoint -> new DeviceConnection(endpoint, mock(TransportLayer.class), protocols));
+
+    @Test
+    void acquire_SameHostAndPort_ReturnsSameConnection() {
+        // when
+        final DeviceConnection first = sut.acquire("host:10.0.0.1; port:50001");
+        final DeviceConnection second = sut.acquire("host: 10.0.0.1;port: 50001; cableID:1");
+
+        // then
+        assertSame(first, second);
+        assertEquals("10.0.0.1:50001", first.getEndpoint());
+    }
+
+    @Test
+    void acquire_DifferentPorts_ReturnsIsolatedConnections() {
+        // when
+        final DeviceConnection first = sut.acquire("host:10.0.0.1; port:50001");
+        final DeviceConnection second = sut.acquire("host:10.0.0.1; port:50002");
+
+        // then
+        assertNotSame(first, second);
+        assertNotSame(first.getTransportLayer(), second.getTransportLayer());
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void acquire_InvalidTransportId_Throws() {
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> sut.acquire("abcde"));
+    }
+
+    @Test
+    void acquire_MaxConnectionsExceeded_ClosesLeastRecentlyUsedIdleConnection() {
+        // given
+        final VerifierProtocols evictedProtocols = mock(VerifierProtocols.class);
+        final DeviceConnectionPool pool = new DeviceConnectionPool(endpoint -> new DeviceConnection(endpoint,
+            mock(TransportLayer.class), endpoint.endsWith("50001") ? evictedProtocols : protocols), 2);
+        pool.release(pool.acquire("host:10.0.0.1; port:50001"));
+        pool.release(pool.acquire("host:10.0.0.1; port:50002"));
+
+        // when
+        pool.acquire("host:10.0.0.1; port:50003");
+
+        // then
+        assertEquals(2, pool.size());
+        verify(evictedProtocols).close();
+        verify(protocols, never()).close();
+    }
+
+    @Test
+    void acquire_MaxConnectionsExceeded_DoesNotCloseConnectionsInUse() {
+        // given
+        final DeviceConnectionPool pool = new DeviceConnectionPool(
+            endpoint -> new DeviceConnection(endpoint, mock(TransportLayer.class), protocols), 1);
+        final DeviceConnection inUse = pool.acquire("host:10.0.0.1; port:50001");
+
+        // when
+        final DeviceConnection other = pool.acquire("host:10.0.0.1; port:50002");
+
+        // then
+        assertEquals(2, pool.size());
+        assertNotSame(inUse, other);
+        verify(protocols, never()).close();
+    }
+
+    @Test
+    void close_ReleasesProtocols() {
+        // given
+        sut.acquire("host:10.0.0.1; port:50001");
+
+        // when
+        sut.close();
+
+        // then
+        verify(protocols).close();
+        assertEquals(0, sut.size());
+    }
+}
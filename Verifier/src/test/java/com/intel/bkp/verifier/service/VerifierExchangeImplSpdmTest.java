@@ -32,7 +32,6 @@
 
 package com.intel.bkp.verifier.service;
 
-import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
 import com.intel.bkp.verifier.exceptions.InitSessionFailedException;
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
@@ -42,13 +41,18 @@ import com.intel.bkp.verifier.transport.model.TransportLayer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static com.intel.bkp.utils.HexConverter.toHex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -56,7 +60,8 @@ import static org.mockito.Mockito.*;
 class VerifierExchangeImplSpdmTest {
 
     private static final byte[] deviceId = new byte[]{0x01, 0x02};
-    private static final String TRANSPORT_ID = "abcde";
+    private static final String TRANSPORT_ID = "host:127.0.0.1; port:50001";
+    private static final String OTHER_TRANSPORT_ID = "host:127.0.0.1; port:50002";
 
     @Mock
     private AppContext appContext;
@@ -65,7 +70,7 @@ class VerifierExchangeImplSpdmTest {
     private TransportLayer transportLayer;
 
     @Mock
-    private SpdmGetVersionMessageSender spdmGetVersionMessageSender;
+    private VerifierProtocols protocols;
 
     @Mock
     private InitSessionComponent initSessionComponent;
@@ -73,197 +78,227 @@ class VerifierExchangeImplSpdmTest {
     @Mock
     private GetDeviceAttestationComponentSpdm getAttestationComponentSpdm;
 
-    @InjectMocks
     private VerifierExchangeProtocolSpdm verifierExchangeProtocolSpdm;
 
-    @InjectMocks
-    private  VerifierExchangeImpl verifierExchangeImpl;
+    private VerifierExchangeImpl verifierExchangeImpl;
 
     @BeforeEach
     void setUp() {
         this.verifierExchangeProtocolSpdm = spy(new VerifierExchangeProtocolSpdm(initSessionComponent, getAttestationComponentSpdm));
-        this.verifierExchangeImpl = spy(new VerifierExchangeImpl(verifierExchangeProtocolSpdm, null, spdmGetVersionMessageSender));
+        this.verifierExchangeImpl = new VerifierExchangeImpl(() -> new VerifierEngine(appContext, () -> protocols), true);
     }
 
     @Test
     void getDeviceAttestation_ExceptionThrown_ReturnsError() throws Exception {
         // given
         mockAppContext();
+        mockSpdmSupported();
         String refMeasurement = "some reference measurements";
         mockInitSessionComponent();
         when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
             .thenThrow(TransportLayerException.class);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
-
-            // when
-            VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+        // when
+        VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.getStatus());
-            assertEquals(toHex(deviceId), result.getDeviceId());
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.getStatus());
+        assertEquals(toHex(deviceId), result.getDeviceId());
+        verify(transportLayer, times(1)).disconnect();
+        verify(appContext, times(1)).close();
     }
 
     @Test
     void getDeviceAttestation_Success_ReturnsOk() throws Exception {
         // given
         mockAppContext();
+        mockSpdmSupported();
         String refMeasurement = "some reference measurements";
         mockInitSessionComponent();
         when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
-
-            //when
-            VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+        //when
+        VerifierExchangeResponseDTO result = verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
-            assertEquals(toHex(deviceId), result.getDeviceId());
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
+        assertEquals(toHex(deviceId), result.getDeviceId());
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
     void getDeviceAttestation_CallsInitializeAndDisconnect() throws Exception {
         // given
         mockAppContext();
+        mockSpdmSupported();
         String refMeasurement = "some reference measurements";
         mockInitSessionComponent();
         when(getAttestationComponentSpdm.perform(refMeasurement, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
-
-            // when
-            verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+        // when
+        verifierExchangeImpl.getDeviceAttestation(TRANSPORT_ID, refMeasurement);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        verify(transportLayer, times(1)).disconnect();
+        verify(appContext).bindTransportLayer(transportLayer);
+        verify(appContext).unbindTransportLayer();
     }
 
     @Test
     void healthCheck_ExceptionThrown_ReturnsError() {
         // given
         mockAppContext();
+        mockSpdmSupported();
         when(transportLayer.sendCommand(any())).thenThrow(TransportLayerException.class);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
-
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
     void healthCheck_Succcess_ReturnsOk() {
         // given
         mockAppContext();
+        mockSpdmSupported();
         when(transportLayer.sendCommand(any())).thenReturn(new byte[]{0x01, 0x02});
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
-
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.OK.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.OK.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
+        verify(appContext, times(1)).close();
     }
 
     @Test
     void healthCheck_EmptyResponse_ReturnsError() {
         // given
         mockAppContext();
+        mockSpdmSupported();
         when(transportLayer.sendCommand(any())).thenReturn(new byte[0]);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
-
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
     }
 
     @Test
     void healthCheck_NullResponse_ReturnsError() {
         // given
         mockAppContext();
+        mockSpdmSupported();
         when(transportLayer.sendCommand(any())).thenReturn(null);
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        // when
+        int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
 
-            // when
-            int result = verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+        // then
+        verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(transportLayer, times(1)).disconnect();
+    }
 
-            // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
-            verify(transportLayer, times(1)).disconnect();
-        }
+    @Test
+    void healthCheck_InvalidTransportId_ReturnsError() {
+        // when
+        int result = verifierExchangeImpl.healthCheck("abcde");
+
+        // then
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verifyNoInteractions(transportLayer);
+        verify(appContext, times(1)).close();
     }
 
     @Test
-    void healthCheck_CallInitializeAndDisconnect() {
+    void healthCheck_WithSharedEngine_ReusesAppContextAndConnection() {
         // given
         mockAppContext();
-        when(transportLayer.sendCommand(any())).thenReturn(new byte[0]);
+        mockSpdmSupported();
+        when(transportLayer.sendCommand(any())).thenReturn(new byte[]{0x01, 0x02});
+        final var sut = new VerifierExchangeImpl(new VerifierEngine(appContext, () -> protocols));
 
-        try (MockedStatic<AppContext> app = mockStatic(AppContext.class)) {
-            app.when(AppContext::instance).thenReturn(appContext);
-            doReturn(true).when(verifierExchangeImpl).spdmSupported();
+        // when
+        sut.healthCheck(TRANSPORT_ID);
+        sut.healthCheck(TRANSPORT_ID);
 
+        // then
+        verify(appContext, never()).close();
+        verify(appContext, times(1)).createTransportLayer();
+        verify(transportLayer, times(2)).initialize(TRANSPORT_ID);
+        verify(transportLayer, times(2)).disconnect();
+    }
+
+    @Test
+    void healthCheck_WithSharedEngine_DifferentDevicesRunInParallel() throws Exception {
+        // given
+        final TransportLayer otherTransportLayer = mock(TransportLayer.class);
+        when(appContext.createTransportLayer()).thenReturn(transportLayer, otherTransportLayer);
+        mockSpdmSupported();
+        final CountDownLatch bothDevicesConnected = new CountDownLatch(2);
+        doAnswer(invocation -> awaitOtherDevice(bothDevicesConnected)).when(transportLayer).sendCommand(any());
+        doAnswer(invocation -> awaitOtherDevice(bothDevicesConnected)).when(otherTransportLayer).sendCommand(any());
+        final var sut = new VerifierExchangeImpl(new VerifierEngine(appContext, () -> protocols));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
             // when
-            verifierExchangeImpl.healthCheck(TRANSPORT_ID);
+            final Future<Integer> result = executor.submit(() -> sut.healthCheck(TRANSPORT_ID));
+            final Future<Integer> otherResult = executor.submit(() -> sut.healthCheck(OTHER_TRANSPORT_ID));
 
             // then
-            app.verify(AppContext::instance, times(1));
-            verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
-            verify(transportLayer, times(1)).disconnect();
+            assertEquals(VerifierExchangeResponse.OK.getCode(), result.get(5, TimeUnit.SECONDS));
+            assertEquals(VerifierExchangeResponse.OK.getCode(), otherResult.get(5, TimeUnit.SECONDS));
+            verify(transportLayer).initialize(TRANSPORT_ID);
+            verify(otherTransportLayer).initialize(OTHER_TRANSPORT_ID);
+        } finally {
+            executor.shutdownNow();
         }
     }
 
+    @Test
+    void healthCheck_WithClosedEngine_ReturnsError() {
+        // given
+        final var engine = new VerifierEngine(appContext, () -> protocols);
+        final var sut = new VerifierExchangeImpl(engine);
+        engine.close();
+
+        // when
+        int result = sut.healthCheck(TRANSPORT_ID);
+
+        // then
+        assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
+        verify(appContext, times(1)).close();
+        verifyNoInteractions(transportLayer);
+    }
+
+    private static byte[] awaitOtherDevice(CountDownLatch bothDevicesConnected) throws InterruptedException {
+        bothDevicesConnected.countDown();
+        assertTrue(bothDevicesConnected.await(5, TimeUnit.SECONDS));
+        return new byte[]{0x01, 0x02};
+    }
+
     private void mockAppContext() {
-        when(appContext.getTransportLayer()).thenReturn(transportLayer);
+        when(appContext.createTransportLayer()).thenReturn(transportLayer);
+    }
+
+    private void mockSpdmSupported() {
+        when(protocols.getProtocol()).thenReturn(verifierExchangeProtocolSpdm);
     }
 
     private void mockInitSessionComponent() throws InitSessionFailedException {
@@ -0,0 +1,82 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.verifier.transport.hps;
+
+import com.intel.bkp.verifier.transport.tcp.ResponseFrame;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MailboxResponseFrameTest {
+
+    // LENGTH = 2 words, little-endian as sent by firmware
+    private static final byte[] HEADER = new byte[]{0x00, 0x20, 0x00, 0x00};
+    private static final int FRAME_LENGTH = HEADER.length + 2 * Integer.BYTES;
+
+    private final MailboxResponseFrame sut = new MailboxResponseFrame();
+
+    @Test
+    void length_HeaderNotComplete_ReturnsIncomplete() {
+        // when
+        final int result = sut.length(ByteBuffer.wrap(HEADER, 0, 3));
+
+        // then
+        assertEquals(ResponseFrame.INCOMPLETE, result);
+    }
+
+    @Test
+    void length_ArgumentsNotComplete_ReturnsIncomplete() {
+        // given
+        final ByteBuffer received = ByteBuffer.allocate(FRAME_LENGTH - 1).put(HEADER).position(0);
+
+        // when
+        final int result = sut.length(received);
+
+        // then
+        assertEquals(ResponseFrame.INCOMPLETE, result);
+    }
+
+    @Test
+    void length_MoreBytesThanFrame_ReturnsFrameLength() {
+        // given
+        final ByteBuffer received = ByteBuffer.allocate(FRAME_LENGTH + 3).put(HEADER).position(0);
+
+        // when
+        final int result = sut.length(received);
+
+        // then
+        assertEquals(FRAME_LENGTH, result);
+    }
+}
@@ -32,6 +32,7 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
+import com.intel.bkp.verifier.transport.tcp.ResponseFrame;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -40,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,4 +88,34 @@ class SystemConsoleNioClientTest {
         // when-then
         assertEquals(RESPONSE, sut.sendPacket(tclCommand));
     }
+
+    @Test
+    void responseLength_EndMarkerReceived_ReturnsLengthUpToMarkerLine() {
+        // given
+        final String response = UNPROCESSED_RESPONSE + "\n\ntcl>\nreturn \"";
+        final String received = response + SystemConsoleNioClient.END_OF_RESPONSE + "\"\n\ntcl>";
+
+        // when
+        final int result = SystemConsoleNioClient.responseLength(toBuffer(received));
+
+        // then
+        assertEquals(response.lastIndexOf('\n') + 1, result);
+    }
+
+    @Test
+    void responseLength_OnlyEchoedMarkerCommand_ReturnsIncomplete() {
+        // given
+        final String received = UNPROCESSED_RESPONSE + "\nstring toupper "
+            + SystemConsoleNioClient.END_OF_RESPONSE.toLowerCase() + "\n";
+
+        // when
+        final int result = SystemConsoleNioClient.responseLength(toBuffer(received));
+
+        // then
+        assertEquals(ResponseFrame.INCOMPLETE, result);
+    }
+
+    private static ByteBuffer toBuffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -39,10 +39,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,6 +62,10 @@ import static org.mockito.Mockito.when;
 class TcpClientTest {
 
     private static final byte[] COMMAND = new byte[]{0x00, 0x01, 0x02};
+    private static final byte[] RESPONSE = new byte[]{0x0A, 0x0B, 0x0C, 0x0D, 0x0E};
+    private static final ResponseFrame FIXED_LENGTH_FRAME =
+        received -> received.remaining() >= RESPONSE.length ? RESPONSE.length : ResponseFrame.INCOMPLETE;
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(5);
 
     @Mock
     private SocketChannel socketChannel;
@@ -123,4 +135,88 @@ class TcpClientTest {
         // when-then
         assertDoesNotThrow(sut::disconnect);
     }
+
+    @Test
+    void sendPacket_Framed_ResponseInChunks_ReadsUntilFrameComplete() throws Exception {
+        // given
+        final TcpClient framedSut = new TcpClient(FIXED_LENGTH_FRAME, RESPONSE_TIMEOUT);
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final CompletableFuture<Void> device = CompletableFuture.runAsync(() -> serve(server, socket -> {
+                final OutputStream out = socket.getOutputStream();
+                out.write(RESPONSE, 0, 2);
+                out.flush();
+                Thread.sleep(100);
+                out.write(RESPONSE, 2, RESPONSE.length - 2);
+                out.write(new byte[]{0x7F}); // trailing byte, not part of the frame
+                out.flush();
+            }));
+            framedSut.initialize(localConfig(server));
+
+            // when
+            final byte[] result = framedSut.sendPacket(COMMAND);
+
+            // then
+            assertArrayEquals(RESPONSE, result);
+            device.join();
+        } finally {
+            framedSut.disconnect();
+        }
+    }
+
+    @Test
+    void sendPacket_Framed_NoCompleteResponseWithinTimeout_Throws() throws Exception {
+        // given
+        final TcpClient framedSut = new TcpClient(FIXED_LENGTH_FRAME, Duration.ofMillis(200));
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final CompletableFuture<Void> device = CompletableFuture.runAsync(() -> serve(server, socket -> {
+                socket.getOutputStream().write(RESPONSE, 0, 2);
+                Thread.sleep(1000);
+            }));
+            framedSut.initialize(localConfig(server));
+
+            // when-then
+            assertThrows(TransportLayerException.class, () -> framedSut.sendPacket(COMMAND));
+            device.join();
+        } finally {
+            framedSut.disconnect();
+        }
+    }
+
+    @Test
+    void sendPacket_Framed_ConnectionClosedBeforeFrameComplete_Throws() throws Exception {
+        // given
+        final TcpClient framedSut = new TcpClient(FIXED_LENGTH_FRAME, RESPONSE_TIMEOUT);
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final CompletableFuture<Void> device = CompletableFuture.runAsync(() -> serve(server, socket ->
+                socket.getOutputStream().write(RESPONSE, 0, 2)));
+            framedSut.initialize(localConfig(server));
+
+            // when-then
+            assertThrows(TransportLayerException.class, () -> framedSut.sendPacket(COMMAND));
+            device.join();
+        } finally {
+            framedSut.disconnect();
+        }
+    }
+
+    private static TcpConfig localConfig(ServerSocket server) {
+        return TcpConfig.builder()
+            .host(server.getInetAddress().getHostAddress()).port(server.getLocalPort()).build();
+    }
+
+    private static void serve(ServerSocket server, DeviceBehaviour behaviour) {
+        try (Socket socket = server.accept()) {
+            final InputStream in = socket.getInputStream();
+            in.readNBytes(COMMAND.length);
+            behaviour.respond(socket);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DeviceBehaviour {
+
+        void respond(Socket socket) throws Exception;
+    }
 }
@@ -35,6 +35,7 @@ package com.intel.bkp.verifier.utils;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.TransportParams;
 import com.intel.bkp.verifier.transport.model.TransportLayerType;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.DEFAULT_CT_EXPONENT;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_CT_EXPONENT;
@@ -97,6 +99,8 @@ class LibConfigParserTest {
         assertEquals("fake_path", config.getLibSpdmParams().getWrapperLibraryPath());
         assertEquals(0xAA, config.getLibSpdmParams().getCtExponent());
         assertFalse(config.getLibSpdmParams().isMeasurementsRequestSignature());
+        assertFalse(config.getTransportParams().isFramedResponse());
+        assertEquals(Duration.ofMillis(5000), config.getTransportParams().getResponseTimeout());
         assertTrue(config.getDatabaseConfiguration().isInternalDatabase());
 
         assertEquals("path/to/single-rooted-chain",
@@ -155,6 +159,8 @@ class LibConfigParserTest {
         assertEquals("", config.getLibSpdmParams().getWrapperLibraryPath());
         assertEquals(DEFAULT_CT_EXPONENT, config.getLibSpdmParams().getCtExponent());
         assertTrue(config.getLibSpdmParams().isMeasurementsRequestSignature());
+        assertTrue(config.getTransportParams().isFramedResponse());
+        assertEquals(TransportParams.DEFAULT_RESPONSE_TIMEOUT, config.getTransportParams().getResponseTimeout());
     }
 
     @Test
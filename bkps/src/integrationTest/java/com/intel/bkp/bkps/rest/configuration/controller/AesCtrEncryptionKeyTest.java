@@ -35,6 +35,7 @@ package com.intel.bkp.bkps.rest.configuration.controller;
 import com.intel.bkp.bkps.BkpsApp;
 import com.intel.bkp.bkps.crypto.aesctr.AesCtrEncryptionKeyProviderImpl;
 import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
+import com.intel.bkp.bkps.crypto.sealingkey.ActiveSealingKeyCache;
 import com.intel.bkp.bkps.domain.AesKey;
 import com.intel.bkp.bkps.domain.Qek;
 import com.intel.bkp.bkps.domain.SealingKey;
@@ -109,6 +110,9 @@ public class AesCtrEncryptionKeyTest {
     @Autowired
     private SealingKeyRepository sealingKeyRepository;
 
+    @Autowired
+    private ActiveSealingKeyCache activeSealingKeyCache;
+
     @Autowired
     private ServiceConfigurationRepository serviceConfigurationRepository;
 
@@ -353,6 +357,7 @@ public class AesCtrEncryptionKeyTest {
         if (sealingKeyRepository.findAll().isEmpty()) {
             sealingKeyRepository.save(sealingKey);
         }
+        activeSealingKeyCache.invalidate();
         SecretKey key = new SecretKeySpec(fromHex(TestHelper.AES_ROOT_KEY), "AES/GCM/NoPadding");
         securityService.importSecretKey(SEALING_KEYNAME, key);
 
@@ -34,6 +34,7 @@ package com.intel.bkp.bkps.rest.configuration.controller;
 
 import com.intel.bkp.bkps.BkpsApp;
 import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
+import com.intel.bkp.bkps.crypto.sealingkey.ActiveSealingKeyCache;
 import com.intel.bkp.bkps.domain.AesKey;
 import com.intel.bkp.bkps.domain.Qek;
 import com.intel.bkp.bkps.domain.SealingKey;
@@ -112,6 +113,9 @@ public class ServiceConfigurationControllerTestIT {
     @Autowired
     private SealingKeyRepository sealingKeyRepository;
 
+    @Autowired
+    private ActiveSealingKeyCache activeSealingKeyCache;
+
     @Autowired
     private ServiceConfigurationRepository serviceConfigurationRepository;
 
@@ -436,6 +440,7 @@ public class ServiceConfigurationControllerTestIT {
         if (sealingKeyRepository.findAll().isEmpty()) {
             sealingKeyRepository.save(sealingKey);
         }
+        activeSealingKeyCache.invalidate();
 
         when(securityService.existsSecurityObject(anyString())).thenReturn(true);
         when(aesGcmSealingKeyProvider.encrypt(any())).thenReturn(ENCRYPTED_DATA.getBytes());
@@ -0,0 +1,114 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.bkps.exception.ProvisioningConverterException;
+import com.intel.bkp.bkps.protocol.common.model.FlowStage;
+import com.intel.bkp.bkps.protocol.common.model.ProtocolType;
+import com.intel.bkp.bkps.protocol.common.model.ProvContextWithFlow;
+import com.intel.bkp.bkps.protocol.spdm.model.ProvSpdmContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Measures encoding and decoding of provisioning context (without encryption) for each SPDM flow stage,
+ * in binary format and in JSON format used previously.
+ */
+@State(Scope.Thread)
+public class ProvisioningContextConverterBenchmark {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final String CHIP_ID = "0102030405060708";
+    private static final long CFG_ID = 1555L;
+
+    @Param({"PROTOCOL_DECISION", "SPDM_GET_CHIPID", "SPDM_SESSION"})
+    private FlowStage flowStage;
+
+    private ProvSpdmContext provContext;
+    private String spdmSessionId;
+    private byte[] binaryContext;
+    private byte[] jsonContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        provContext = FlowStage.SPDM_SESSION == flowStage ? new ProvSpdmContext(CHIP_ID, CFG_ID) : null;
+        spdmSessionId = UUID.randomUUID().toString();
+        binaryContext = encodeBinary();
+        jsonContext = encodeJson();
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws ProvisioningConverterException {
+        final byte[] contextData = provContext == null ? null : ProvisioningContextConverter.serialize(provContext);
+        return ProvisioningContextConverter.serialize(withFlow(contextData));
+    }
+
+    @Benchmark
+    public Object decodeBinary() throws ProvisioningConverterException {
+        final ProvContextWithFlow base = ProvisioningContextConverter.deserializeBase(binaryContext);
+        return base.getContextData() == null
+               ? base
+               : ProvisioningContextConverter.deserialize(base.getContextData(), ProvSpdmContext.class);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        final byte[] contextData = provContext == null ? null : JSON_MAPPER.writeValueAsBytes(provContext);
+        return JSON_MAPPER.writeValueAsBytes(withFlow(contextData));
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        final ProvContextWithFlow base = JSON_MAPPER.readValue(jsonContext, ProvContextWithFlow.class);
+        return base.getContextData() == null
+               ? base
+               : JSON_MAPPER.readValue(base.getContextData(), ProvSpdmContext.class);
+    }
+
+    private ProvContextWithFlow withFlow(byte[] contextData) {
+        return ProvContextWithFlow.builder()
+            .flowStage(flowStage)
+            .protocolType(FlowStage.PROTOCOL_DECISION == flowStage ? null : ProtocolType.SPDM)
+            .spdmSessionId(spdmSessionId)
+            .contextData(contextData)
+            .build();
+    }
+}
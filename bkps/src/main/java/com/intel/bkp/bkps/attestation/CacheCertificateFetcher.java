@@ -49,8 +49,8 @@ public class CacheCertificateFetcher extends CacheObjectFetcherBase<X509Certific
     implements ICertificateFetcher<X509Certificate> {
 
     public CacheCertificateFetcher(CertificatePrefetchRepositoryService prefetchRepositoryService,
-                                   DpConnector connector) {
-        super(prefetchRepositoryService, connector);
+                                   DpConnector connector, DecodedObjectCacheFactory cacheFactory) {
+        super(prefetchRepositoryService, connector, cacheFactory.create("certificate"));
     }
 
     @Override
@@ -46,8 +46,9 @@ import java.util.Optional;
 @Component
 public class CacheCrlFetcher extends CacheObjectFetcherBase<X509CRL> {
 
-    public CacheCrlFetcher(CrlPrefetchRepositoryService prefetchRepositoryService, DpConnector connector) {
-        super(prefetchRepositoryService, connector);
+    public CacheCrlFetcher(CrlPrefetchRepositoryService prefetchRepositoryService, DpConnector connector,
+                           DecodedObjectCacheFactory cacheFactory) {
+        super(prefetchRepositoryService, connector, cacheFactory.create("crl"));
     }
 
     @Override
@@ -40,8 +40,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -52,13 +54,23 @@ public class CacheCrlMapFetcher {
     private final CacheCrlFetcher crlFetcher;
 
     public List<DistributionPointCrl> fetchCrls(List<DistributionPointCertificate> certificateChain) {
+        return getCrlUrls(certificateChain)
+            .stream()
+            .map(this::getCrl)
+            .collect(Collectors.toList());
+    }
+
+    public List<DistributionPointCrl> fetchCrls(List<String> crlUrls, Executor executor) {
+        return new ArrayList<>(ParallelFetchUtils.mapConcurrently(crlUrls, this::getCrl, executor));
+    }
+
+    public List<String> getCrlUrls(List<DistributionPointCertificate> certificateChain) {
         return certificateChain
             .stream()
             .map(DistributionPointCertificate::getX509Cert)
             .map(CrlDistributionPointsUtils::getCrlUrl)
             .filter(Optional::isPresent)
             .map(Optional::get)
-            .map(this::getCrl)
             .collect(Collectors.toList());
     }
 
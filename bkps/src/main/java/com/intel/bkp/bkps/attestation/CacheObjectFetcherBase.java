@@ -45,11 +45,18 @@ public abstract class CacheObjectFetcherBase<T> {
     private final IPrefetchRepositoryService<T> repositoryService;
     private final CacheObjectMapper<T> mapper;
     private final DpConnector connector;
+    private final DecodedObjectCache<T> l1Cache;
 
     CacheObjectFetcherBase(IPrefetchRepositoryService<T> repositoryService, DpConnector connector) {
+        this(repositoryService, connector, DecodedObjectCache.disabled());
+    }
+
+    CacheObjectFetcherBase(IPrefetchRepositoryService<T> repositoryService, DpConnector connector,
+                           DecodedObjectCache<T> l1Cache) {
         this.repositoryService = repositoryService;
         this.mapper = repositoryService.getMapper();
         this.connector = connector;
+        this.l1Cache = l1Cache;
     }
 
     abstract boolean isValid(T obj);
@@ -66,8 +73,24 @@ public abstract class CacheObjectFetcherBase<T> {
     }
 
     private Optional<T> findValidInCache(String url) {
-        return repositoryService.find(url)
-            .filter(this::isValid);
+        return findValidInMemory(url)
+            .or(() -> findValidInDatabase(url));
+    }
+
+    private Optional<T> findValidInMemory(String url) {
+        final Optional<T> cached = l1Cache.get(url);
+        if (cached.isPresent() && !isValid(cached.get())) {
+            l1Cache.invalidate(url);
+            return Optional.empty();
+        }
+        return cached;
+    }
+
+    private Optional<T> findValidInDatabase(String url) {
+        final Optional<T> found = repositoryService.find(url).filter(this::isValid);
+        found.ifPresent(obj -> l1Cache.put(url, obj));
+        l1Cache.logMetrics();
+        return found;
     }
 
     private Optional<T> downloadAndSaveInCache(String url) {
@@ -81,6 +104,7 @@ public abstract class CacheObjectFetcherBase<T> {
 
     private T saveInCache(String url, T obj) {
         repositoryService.save(url, obj);
+        l1Cache.put(url, obj);
         return obj;
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.attestation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory LRU cache of already decoded prefetched objects, kept in front of the DB-backed
+ * prefetch repository so that the same root/intermediate certificates and CRLs are not queried and re-parsed
+ * for every device. Entries older than TTL are dropped on access. Capacity of 0 disables the cache.
+ */
+@Slf4j
+public class DecodedObjectCache<T> {
+
+    private record Entry<T>(T value, long storedAtNanos) {
+    }
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry<T>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public DecodedObjectCache(String name, int maxEntries, Duration ttl) {
+        this(name, maxEntries, ttl, System::nanoTime);
+    }
+
+    DecodedObjectCache(String name, int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        this.name = name;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > DecodedObjectCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static <T> DecodedObjectCache<T> disabled() {
+        return new DecodedObjectCache<>("disabled", 0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    public Optional<T> get(String key) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        final Optional<T> result = find(key);
+        if (result.isPresent()) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return result;
+    }
+
+    public void put(String key, T value) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+        }
+    }
+
+    public void invalidate(String key) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public void logMetrics() {
+        log.debug("L1 {} cache - size: {}, hits: {}, misses: {}", name, size(), getHitCount(), getMissCount());
+    }
+
+    private Optional<T> find(String key) {
+        synchronized (entries) {
+            final Entry<T> entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (nanoClock.getAsLong() - entry.storedAtNanos() > ttlNanos) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value());
+        }
+    }
+}
@@ -42,66 +42,81 @@ import com.intel.bkp.fpgacerts.dice.IpcsCertificateFetcher;
 import com.intel.bkp.fpgacerts.dice.iidutils.IidFlowDetector;
 import com.intel.bkp.utils.PathUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static com.intel.bkp.bkps.attestation.ParallelFetchUtils.join;
+import static com.intel.bkp.bkps.attestation.ParallelFetchUtils.supplyAsync;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 @Service
 @Slf4j
 public class DiceDpFetchService extends FetchServiceBase<X509Certificate, PrefetchChainDataDTO> {
 
-    private final IpcsCertificateFetcher ipcsCertificateFetcher;
+    private final CacheCertificateFetcher certFetcher;
+    private final String certificateUrlPrefix;
     private final IidFlowDetector iidFlowDetector;
+    private final Executor executor;
 
     protected DiceDpFetchService(ApplicationProperties applicationProperties,
                                  CacheChainFetcher chainFetcher,
                                  CacheCertificateFetcher certFetcher,
                                  CacheCrlMapFetcher crlFetcher,
-                                 IidFlowDetector iidFlowDetector) {
+                                 IidFlowDetector iidFlowDetector,
+                                 @Qualifier("dpFetchTaskExecutor") Executor executor) {
         super(applicationProperties.getDistributionPoint(), chainFetcher, crlFetcher);
 
         final DistributionPoint dp = applicationProperties.getDistributionPoint();
-        this.ipcsCertificateFetcher = new IpcsCertificateFetcher(certFetcher,
-            PathUtils.buildPath(dp.getMainPath(), dp.getAttestationCertBasePath()));
+        this.certFetcher = certFetcher;
+        this.certificateUrlPrefix = PathUtils.buildPath(dp.getMainPath(), dp.getAttestationCertBasePath());
         this.iidFlowDetector = iidFlowDetector;
+        this.executor = executor;
     }
 
+    /**
+     * Downloads EFUSE and IID UDS chains concurrently and starts downloading CRLs as soon as the chain they are
+     * taken from is known, so that latency is bounded by the longest chain rather than the sum of all downloads.
+     */
     @Override
     public PrefetchChainDataDTO fetch(X509Certificate enrollmentDeviceIdCert) {
-        ipcsCertificateFetcher.clear();
-        ipcsCertificateFetcher.setDeviceIdL0Cert(enrollmentDeviceIdCert);
-        final var efuseChain = fetchEfuseUdsChain();
-        final var iidChain = fetchIidUdsChain(enrollmentDeviceIdCert);
-        final var notEmptyChain = ensureAtLeastOneChainFetched(efuseChain, iidChain);
-        final var crls = fetchCrls(notEmptyChain);
+        final var efuseChainFuture = supplyAsync(() -> fetchEfuseUdsChain(enrollmentDeviceIdCert), executor);
+        final var iidChainFuture = supplyAsync(() -> fetchIidUdsChain(enrollmentDeviceIdCert), executor);
+        final var crlsFuture = efuseChainFuture
+            .thenCompose(efuseChain -> efuseChain.isEmpty() ? iidChainFuture : completedFuture(efuseChain))
+            .thenApply(chain -> chain.isEmpty() ? List.<DistributionPointCrl>of() : fetchCrls(chain));
+
+        final var efuseChain = join(efuseChainFuture);
+        final var iidChain = join(iidChainFuture);
+        ensureAtLeastOneChainFetched(efuseChain, iidChain);
+        final var crls = join(crlsFuture);
         return new PrefetchChainDataDTO(efuseChain, iidChain, crls);
     }
 
-    private List<DistributionPointCertificate> fetchEfuseUdsChain() {
-        return fetchChain("EFUSE UDS", fetchDeviceIdCert().or(this::fetchEnrollmentCert));
-    }
-
-    private Optional<DistributionPointCertificate> fetchDeviceIdCert() {
-        return ipcsCertificateFetcher.fetchIpcsDeviceIdCert();
+    private IpcsCertificateFetcher createIpcsCertificateFetcher(X509Certificate enrollmentDeviceIdCert) {
+        final var ipcsCertificateFetcher = new IpcsCertificateFetcher(certFetcher, certificateUrlPrefix);
+        ipcsCertificateFetcher.setDeviceIdL0Cert(enrollmentDeviceIdCert);
+        return ipcsCertificateFetcher;
     }
 
-    private Optional<DistributionPointCertificate> fetchEnrollmentCert() {
-        return ipcsCertificateFetcher.fetchIpcsEnrollmentCert();
+    private List<DistributionPointCertificate> fetchEfuseUdsChain(X509Certificate enrollmentDeviceIdCert) {
+        final var ipcsCertificateFetcher = createIpcsCertificateFetcher(enrollmentDeviceIdCert);
+        return fetchChain("EFUSE UDS", ipcsCertificateFetcher.fetchIpcsDeviceIdCert()
+            .or(ipcsCertificateFetcher::fetchIpcsEnrollmentCert));
     }
 
     private List<DistributionPointCertificate> fetchIidUdsChain(X509Certificate enrollmentDeviceIdCert) {
         return iidFlowDetector.isIidFlow(enrollmentDeviceIdCert)
-               ? fetchChain("IID UDS", fetchIidUdsCert())
+               ? fetchChain("IID UDS", createIpcsCertificateFetcher(enrollmentDeviceIdCert).fetchIpcsIidUdsCert())
                : List.of();
     }
 
-    private Optional<DistributionPointCertificate> fetchIidUdsCert() {
-        return ipcsCertificateFetcher.fetchIpcsIidUdsCert();
-    }
-
     private List<DistributionPointCertificate> fetchChain(String chainType,
                                                           Optional<DistributionPointCertificate> firstCertOfChain) {
         return firstCertOfChain
@@ -119,24 +134,21 @@ public class DiceDpFetchService extends FetchServiceBase<X509Certificate, Prefet
         return certs;
     }
 
-    private List<DistributionPointCertificate> ensureAtLeastOneChainFetched(
-        List<DistributionPointCertificate> certificates,
-        List<DistributionPointCertificate> certificatesIid) {
+    private void ensureAtLeastOneChainFetched(List<DistributionPointCertificate> certificates,
+                                              List<DistributionPointCertificate> certificatesIid) {
         if (certificates.isEmpty() && certificatesIid.isEmpty()) {
             throw new PrefetchingFailedToDownloadException(
                 "Failed to download at least one full chain (EFUSE or IID UDS).");
         }
-        return certificates.isEmpty() ? certificatesIid : certificates;
     }
 
     @Override
     List<DistributionPointCrl> fetchCrls(List<DistributionPointCertificate> certificateChain) {
-        final var crls = super.fetchCrls(certificateChain);
-        if (!crls.isEmpty()) {
-            final String crlUrlOriginal = crls.iterator().next().getUrl();
-            final String crlUrl = crlUrlOriginal.replace(".crl", "_L1.crl");
-            crls.add(getCrlFetcher().getCrl(crlUrl));
+        final List<String> crlUrls = new ArrayList<>(getCrlFetcher().getCrlUrls(certificateChain));
+        if (!crlUrls.isEmpty()) {
+            final String crlUrlOriginal = crlUrls.iterator().next();
+            crlUrls.add(crlUrlOriginal.replace(".crl", "_L1.crl"));
         }
-        return crls;
+        return getCrlFetcher().fetchCrls(crlUrls, executor);
     }
 }
@@ -36,10 +36,13 @@ import com.intel.bkp.fpgacerts.cbor.service.CoRimHandler;
 import com.intel.bkp.fpgacerts.dp.IDistributionPointConnector;
 import com.intel.bkp.fpgacerts.rim.IRimHandler;
 import com.intel.bkp.fpgacerts.rim.IRimHandlersProvider;
+import com.intel.bkp.fpgacerts.rim.MeasurementHolderCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class RimHandlersProvider implements IRimHandlersProvider {
@@ -47,13 +50,17 @@ public class RimHandlersProvider implements IRimHandlersProvider {
     private final IDistributionPointConnector dpConnector;
     private final String[] trustedRootHashes;
     private final boolean acceptUnsignedCorim;
+    private final MeasurementHolderCache measurementHolderCache;
 
     public RimHandlersProvider(@Value("${application.distribution-point.trusted-root-hash}") String[] trustedRootHashes,
                                @Value("${application.accept-unsigned-corim}") boolean acceptUnsignedCorim,
+                               @Value("${application.corim-cache.ttl:PT1H}") Duration corimCacheTtl,
+                               @Value("${application.corim-cache.max-entries:1000}") int corimCacheMaxEntries,
                                IDistributionPointConnector dpConnector) {
         this.dpConnector = dpConnector;
         this.trustedRootHashes = trustedRootHashes;
         this.acceptUnsignedCorim = acceptUnsignedCorim;
+        this.measurementHolderCache = new MeasurementHolderCache(corimCacheTtl, corimCacheMaxEntries);
     }
 
     @Override
@@ -62,4 +69,9 @@ public class RimHandlersProvider implements IRimHandlersProvider {
             new CoRimHandler(dpConnector, trustedRootHashes, acceptUnsignedCorim)
         );
     }
+
+    @Override
+    public Optional<MeasurementHolderCache> getMeasurementHolderCache() {
+        return Optional.of(measurementHolderCache);
+    }
 }
@@ -48,6 +48,7 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -64,6 +65,18 @@ public class AsyncConfiguration implements AsyncConfigurer, SchedulingConfigurer
     @Value("${service.async.queue-capacity}")
     private Integer queueCapacity;
 
+    @Value("${lib-spdm-params.max-sessions}")
+    private Integer spdmMaxSessions;
+
+    @Value("${service.prefetch.max-concurrency}")
+    private Integer prefetchMaxConcurrency;
+
+    @Value("${service.prefetch.queue-capacity}")
+    private Integer prefetchQueueCapacity;
+
+    @Value("${service.prefetch.dp-fetch-concurrency}")
+    private Integer dpFetchConcurrency;
+
     @Override
     @Bean(name = "taskExecutor")
     public TaskExecutor getAsyncExecutor() {
@@ -80,13 +93,37 @@ public class AsyncConfiguration implements AsyncConfigurer, SchedulingConfigurer
     public TaskExecutor getAsyncSpdmExecutor() {
         log.debug("Creating Async Spdm Task Executor");
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(corePoolSize);
-        executor.setMaxPoolSize(maxPoolSize);
+        executor.setCorePoolSize(spdmMaxSessions);
+        executor.setMaxPoolSize(spdmMaxSessions);
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("bkps-spdm-Executor-");
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    @Bean(name = "prefetchTaskExecutor")
+    public ThreadPoolTaskExecutor getPrefetchExecutor() {
+        log.debug("Creating Prefetch Task Executor");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(prefetchMaxConcurrency);
+        executor.setMaxPoolSize(prefetchMaxConcurrency);
+        executor.setQueueCapacity(prefetchQueueCapacity);
+        executor.setThreadNamePrefix("bkps-prefetch-Executor-");
+        return executor;
+    }
+
+    @Bean(name = "dpFetchTaskExecutor")
+    public ThreadPoolTaskExecutor getDpFetchExecutor() {
+        log.debug("Creating Distribution Point Fetch Task Executor");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dpFetchConcurrency);
+        executor.setMaxPoolSize(dpFetchConcurrency);
+        // no queue - when all threads are busy, the caller downloads by itself instead of waiting
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("bkps-dp-fetch-Executor-");
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -32,29 +32,40 @@
 
 package com.intel.bkp.bkps.config;
 
-import com.intel.bkp.bkps.rest.onboarding.event.PrefetchEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
-
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class AsyncSpringEventConfig {
 
+    @Value("${service.async.core-pool-size}")
+    private Integer corePoolSize;
+
+    @Value("${service.async.max-pool-size}")
+    private Integer maxPoolSize;
+
+    @Value("${service.async.queue-capacity}")
+    private Integer queueCapacity;
+
     @Bean(name = "applicationEventMulticaster")
     public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
         final var eventMulticaster = new SimpleApplicationEventMulticaster();
 
-        eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
+        eventMulticaster.setTaskExecutor(eventTaskExecutor());
         return eventMulticaster;
     }
 
-    @Bean
-    public Queue<PrefetchEvent> prefetchEventQueue() {
-        return new ConcurrentLinkedQueue<>();
+    @Bean(name = "eventTaskExecutor")
+    public ThreadPoolTaskExecutor eventTaskExecutor() {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bkps-event-Executor-");
+        return executor;
     }
 }
@@ -33,24 +33,55 @@
 package com.intel.bkp.bkps.connector;
 
 import com.intel.bkp.fpgacerts.dp.IDistributionPointConnector;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
 
 import static lombok.AccessLevel.PUBLIC;
 
 @Service
-@AllArgsConstructor(access = PUBLIC)
+@RequiredArgsConstructor(access = PUBLIC)
 @Slf4j
 public class DpConnector implements IDistributionPointConnector {
 
     private final RestTemplate distributionPointRestTemplate;
 
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    @Value("${application.distribution-point.max-connections-per-host:0}")
+    private int maxConnectionsPerHost;
+
     public Optional<byte[]> tryGetBytes(String url) {
+        final Semaphore permits = getHostPermits(url);
+        if (permits == null) {
+            return getBytes(url);
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for connection to: {}", url);
+            return Optional.empty();
+        }
+
+        try {
+            return getBytes(url);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Optional<byte[]> getBytes(String url) {
         log.info("Performing request to: {}", url);
         Optional<byte[]> responseBody = Optional.empty();
         try {
@@ -67,4 +98,22 @@ public class DpConnector implements IDistributionPointConnector {
         }
         return responseBody;
     }
+
+    private Semaphore getHostPermits(String url) {
+        if (maxConnectionsPerHost <= 0) {
+            return null;
+        }
+
+        final String host = getHost(url);
+        return hostPermits.computeIfAbsent(host, h -> new Semaphore(maxConnectionsPerHost, true));
+    }
+
+    private static String getHost(String url) {
+        try {
+            final String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
 }
@@ -36,6 +36,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
@@ -65,6 +66,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.UnrecoverableKeyException;
+import java.time.Duration;
 
 import static org.apache.hc.client5.http.ssl.HttpsSupport.getDefaultHostnameVerifier;
 
@@ -73,6 +75,7 @@ import static org.apache.hc.client5.http.ssl.HttpsSupport.getDefaultHostnameVeri
 public class RestTemplateFactory {
 
     private static final String BUNDLE_NAME = "web-server";
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
 
     private final SslBundles sslBundles;
 
@@ -85,6 +88,10 @@ public class RestTemplateFactory {
     private String proxyHost;
     @Value("${application.distribution-point.proxy.port: 0}")
     private int proxyPort;
+    @Value("${application.distribution-point.max-connections-per-host:0}")
+    private int maxConnectionsPerHost;
+    @Value("${application.distribution-point.request-timeout:PT45S}")
+    private Duration requestTimeout;
 
     @Bean(name = "distributionPointRestTemplate")
     public RestTemplate getRestTemplate() {
@@ -128,7 +135,9 @@ public class RestTemplateFactory {
 
         final HttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create()
             .setSSLSocketFactory(sslSocketFactory)
-            .setDefaultConnectionConfig(getRequestConfig())
+            .setDefaultConnectionConfig(getConnectionConfig())
+            .setMaxConnPerRoute(getMaxConnectionsPerRoute())
+            .setMaxConnTotal(getMaxConnectionsPerRoute() * 2)
             .build();
 
         final HttpClientBuilder clientBuilder = HttpClients.custom();
@@ -139,14 +148,32 @@ public class RestTemplateFactory {
 
         return clientBuilder
             .setConnectionManager(cm)
+            .setDefaultRequestConfig(getRequestConfig())
             .evictExpiredConnections()
             .build();
     }
 
-    private ConnectionConfig getRequestConfig() {
+    private ConnectionConfig getConnectionConfig() {
         final Timeout timeout = Timeout.ofSeconds(45);
         return ConnectionConfig.custom()
             .setConnectTimeout(timeout)
+            .setSocketTimeout(getRequestTimeout())
             .build();
     }
+
+    private RequestConfig getRequestConfig() {
+        return RequestConfig.custom()
+            .setConnectionRequestTimeout(getRequestTimeout())
+            .setResponseTimeout(getRequestTimeout())
+            .build();
+    }
+
+    private Timeout getRequestTimeout() {
+        return Timeout.ofMilliseconds(requestTimeout.toMillis());
+    }
+
+    private int getMaxConnectionsPerRoute() {
+        // Pool default (5 per route) would serialize parallel downloads of chain certificates and CRLs
+        return maxConnectionsPerHost > 0 ? maxConnectionsPerHost : DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    }
 }
@@ -58,6 +58,15 @@ public class AesGcmSealingKeyProviderImpl extends AesGcmProvider {
         this.sealingKey = secretKey;
     }
 
+    /**
+     * Creates separate provider bound to given key, not affected by {@link #initialize(SecretKey)} of this one.
+     */
+    public AesGcmProvider forKey(SecretKey secretKey) {
+        final AesGcmSealingKeyProviderImpl provider = new AesGcmSealingKeyProviderImpl(securityService);
+        provider.initialize(secretKey);
+        return provider;
+    }
+
     @Override
     public SecretKey getSecretKey() {
         return sealingKey;
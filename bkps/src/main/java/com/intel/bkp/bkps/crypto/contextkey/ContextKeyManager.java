@@ -40,44 +40,69 @@ import com.intel.bkp.crypto.constants.CryptoConstants;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
 import com.intel.bkp.crypto.exceptions.KeystoreGenericException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.crypto.SecretKey;
 import java.security.Provider;
-
-import static lombok.AccessLevel.PACKAGE;
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor(access = PACKAGE)
 @Slf4j
 public class ContextKeyManager {
 
     private final ContextKeyRepository contextKeyRepository;
     private final ContextKeyWrapper contextKeyWrapper;
     private final ContextKeySyncService contextKeySyncService;
+    private final TransactionTemplate serializableTransaction;
+
+    /**
+     * How long unwrapped key is used without checking its version in DB. Zero means version is checked on every call.
+     */
+    @Value("${context-management.context-key-sync-interval:PT0S}")
+    private Duration syncInterval = Duration.ZERO;
 
-    @Setter
     @Getter
-    private UnwrappedContextKey unwrappedContextKey;
+    private volatile UnwrappedContextKey unwrappedContextKey;
+    private volatile Long lastSyncCheckNanos;
+
+    ContextKeyManager(ContextKeyRepository contextKeyRepository, ContextKeyWrapper contextKeyWrapper,
+                      ContextKeySyncService contextKeySyncService, PlatformTransactionManager transactionManager) {
+        this.contextKeyRepository = contextKeyRepository;
+        this.contextKeyWrapper = contextKeyWrapper;
+        this.contextKeySyncService = contextKeySyncService;
+        this.serializableTransaction = new TransactionTemplate(transactionManager);
+        this.serializableTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+    }
 
-    @Transactional(isolation = Isolation.SERIALIZABLE)
+    /**
+     * Returns unwrapped key from memory as long as its version matches the one in DB. Serializable transaction is
+     * only started when the key has to be (re)loaded, e.g. after it was rotated by another instance.
+     */
     public SecretKey get() {
         log.debug("Get ContextKey.");
-        if (isInvalid()) {
-            unwrappedContextKey = initialize();
+        final UnwrappedContextKey cached = unwrappedContextKey;
+        if (cached != null && isUpToDate(cached)) {
+            return cached.getSecretKey();
         }
-        return unwrappedContextKey.getSecretKey();
+        return reload().getSecretKey();
     }
 
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public void rotate() {
         log.info("Rotating ContextKey.");
-        unwrappedContextKey = createNewKey();
+        setUnwrappedContextKey(createNewKey());
+    }
+
+    void setUnwrappedContextKey(UnwrappedContextKey unwrappedContextKey) {
+        this.unwrappedContextKey = unwrappedContextKey;
+        this.lastSyncCheckNanos = null;
     }
 
     public Provider getProvider() {
@@ -88,6 +113,30 @@ public class ContextKeyManager {
         return CryptoConstants.AES_CIPHER_TYPE;
     }
 
+    private boolean isUpToDate(UnwrappedContextKey cached) {
+        final long now = System.nanoTime();
+        final Long lastCheck = lastSyncCheckNanos;
+        if (lastCheck != null && now - lastCheck < syncInterval.toNanos()) {
+            return true;
+        }
+
+        final boolean inSync = contextKeySyncService.inSync(cached);
+        if (inSync) {
+            lastSyncCheckNanos = now;
+        }
+        return inSync;
+    }
+
+    private synchronized UnwrappedContextKey reload() {
+        return serializableTransaction.execute(status -> {
+            if (isInvalid()) {
+                setUnwrappedContextKey(initialize());
+                lastSyncCheckNanos = System.nanoTime();
+            }
+            return unwrappedContextKey;
+        });
+    }
+
     private boolean isInvalid() {
         return unwrappedContextKey == null || !contextKeySyncService.inSync(unwrappedContextKey);
     }
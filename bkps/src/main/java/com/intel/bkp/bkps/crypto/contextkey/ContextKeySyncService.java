@@ -36,7 +36,6 @@ import com.intel.bkp.bkps.repository.ContextKeyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static lombok.AccessLevel.PACKAGE;
@@ -48,10 +47,10 @@ public class ContextKeySyncService {
 
     private final ContextKeyRepository contextKeyRepository;
 
-    @Transactional(isolation = Isolation.SERIALIZABLE)
+    @Transactional(readOnly = true)
     public boolean inSync(UnwrappedContextKey unwrappedContextKey) {
-        return contextKeyRepository.getActualContextKey()
-            .map(key -> key.equals(unwrappedContextKey.getContextKey()))
+        return contextKeyRepository.getActualContextKeyVersion()
+            .map(version -> version.equals(unwrappedContextKey.getContextKey().getModifiedDate()))
             .orElse(false);
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.crypto.sealingkey;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory handle of the active sealing key, so that sealing operations do not query DB and security enclave on
+ * every call. Every invalidation bumps generation - value loaded before invalidation is never returned.
+ */
+@Slf4j
+@Component
+public class ActiveSealingKeyCache {
+
+    private record Entry(long generation, String guid, SecretKey secretKey) {
+    }
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Entry> entry = new AtomicReference<>();
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public Optional<SecretKey> get() {
+        return getCurrentEntry().map(Entry::secretKey);
+    }
+
+    public Optional<String> getGuid() {
+        return getCurrentEntry().map(Entry::guid);
+    }
+
+    public void put(long loadedInGeneration, String guid, SecretKey secretKey) {
+        entry.set(new Entry(loadedInGeneration, guid, secretKey));
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entry.set(null);
+        log.debug("Active sealing key cache invalidated.");
+    }
+
+    private Optional<Entry> getCurrentEntry() {
+        return Optional.ofNullable(entry.get())
+            .filter(e -> e.generation() == generation.get());
+    }
+}
@@ -39,6 +39,7 @@ import com.intel.bkp.bkps.repository.SealingKeyRepository;
 import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
 import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyResponseDTO;
 import com.intel.bkp.bkps.rest.initialization.model.mapper.SealingKeyMapper;
+import com.intel.bkp.bkps.utils.KeystoreTransactionBatch;
 import com.intel.bkp.core.exceptions.BKPBadRequestException;
 import com.intel.bkp.core.exceptions.BKPInternalServerException;
 import com.intel.bkp.core.security.ISecurityProvider;
@@ -49,11 +50,15 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.crypto.SecretKey;
 import java.util.Comparator;
@@ -75,6 +80,7 @@ public class SealingKeyManager {
     private final SealingKeyRepository sealingKeyRepository;
     private final SealingKeyMapper sealingKeyMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final ActiveSealingKeyCache activeKeyCache;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
     public void rollbackKeyInSecurityService(SealingKeyCreationEvent event) {
@@ -83,6 +89,7 @@ public class SealingKeyManager {
 
     public void createActiveKey() {
         createNewSealingKeyWithStatus(SealingKeyStatus.ENABLED);
+        invalidateActiveKeyCache();
     }
 
     public void createPendingKey() {
@@ -97,9 +104,9 @@ public class SealingKeyManager {
         createNewExportableSealingKeyWithStatusPendingAndKey(secretKey);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public SecretKey getActiveKey() {
-        Optional<SealingKey> sealingKey = getActiveSealingKeyFromDatabase();
-        return getSecretKey(sealingKey);
+        return activeKeyCache.get().orElseGet(this::loadActiveKey);
     }
 
     public SecretKey getPendingKey() {
@@ -112,6 +119,7 @@ public class SealingKeyManager {
             key.setStatus(SealingKeyStatus.DISABLED);
             sealingKeyRepository.save(key);
         });
+        invalidateActiveKeyCache();
     }
 
     public void activatePendingKey() {
@@ -119,6 +127,7 @@ public class SealingKeyManager {
             key.setStatus(SealingKeyStatus.ENABLED);
             sealingKeyRepository.save(key);
         });
+        invalidateActiveKeyCache();
     }
 
     public void disablePendingKey() {
@@ -133,6 +142,20 @@ public class SealingKeyManager {
         disablePendingKey();
     }
 
+    /**
+     * @return id of last AesKey already re-encrypted with PENDING key, empty if rotation has not saved any progress
+     */
+    public Optional<Long> getPendingKeyCheckpoint() {
+        return getPendingSealingKeyFromDatabase().map(SealingKey::getReencryptedAesKeyId);
+    }
+
+    public void updatePendingKeyCheckpoint(Long reencryptedAesKeyId) {
+        getPendingSealingKeyFromDatabase().ifPresent(key -> {
+            key.setReencryptedAesKeyId(reencryptedAesKeyId);
+            sealingKeyRepository.save(key);
+        });
+    }
+
     public List<SealingKeyResponseDTO> list() {
         log.debug("Request to get all sealing keys.");
         return sealingKeyRepository.findAll().stream()
@@ -155,6 +178,22 @@ public class SealingKeyManager {
         return getActiveSealingKeyFromDatabase().isPresent();
     }
 
+    /**
+     * Drops cached active key if it is no longer the ENABLED key in DB (e.g. rotated by another instance)
+     * or was removed from security enclave, so that next getActiveKey() reloads and reports it.
+     */
+    @Scheduled(fixedDelayString = "${service.sealing-key.active-key-revalidation-interval}",
+        initialDelayString = "${service.sealing-key.active-key-revalidation-interval}")
+    @Transactional(readOnly = true)
+    public void revalidateActiveKeyCache() {
+        activeKeyCache.getGuid()
+            .filter(guid -> !isStillActive(guid))
+            .ifPresent(guid -> {
+                log.info("Cached active sealing key {} is no longer valid.", guid);
+                activeKeyCache.invalidate();
+            });
+    }
+
     SecretKey getSecretKey(Optional<SealingKey> sealingKeyOptional) {
         if (!isKeyPresent(sealingKeyOptional)) {
             throw new BKPBadRequestException(ErrorCodeMap.SEALING_KEY_DOES_NOT_EXIST);
@@ -175,6 +214,35 @@ public class SealingKeyManager {
         }).orElse(false);
     }
 
+    private SecretKey loadActiveKey() {
+        final long generation = activeKeyCache.getGeneration();
+        final Optional<SealingKey> sealingKey = getActiveSealingKeyFromDatabase();
+        final SecretKey secretKey = getSecretKey(sealingKey);
+        sealingKey.ifPresent(key -> activeKeyCache.put(generation, key.getGuid(), secretKey));
+        return secretKey;
+    }
+
+    private boolean isStillActive(String guid) {
+        return getActiveSealingKeyFromDatabase()
+            .map(SealingKey::getGuid)
+            .filter(guid::equals)
+            .map(securityService::existsSecurityObject)
+            .orElse(false);
+    }
+
+    private void invalidateActiveKeyCache() {
+        activeKeyCache.invalidate();
+        // concurrent readers may load previous state until commit, so invalidate again once transaction completes
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    activeKeyCache.invalidate();
+                }
+            });
+        }
+    }
+
     private void createNewSealingKeyWithStatus(SealingKeyStatus status) {
         String securityObjectId = generateNewGuid();
         registerRollbackEvent(securityObjectId);
@@ -220,6 +288,7 @@ public class SealingKeyManager {
     }
 
     private void createNewSecurityObjectInSecureEnclave(String securityObjectId) {
+        KeystoreTransactionBatch.join(securityService);
         securityService.createSecurityObject(SecurityKeyType.AES, securityObjectId);
     }
 
@@ -237,6 +306,7 @@ public class SealingKeyManager {
     }
 
     private void importSecretKeyToSecurityEnclave(String securityObjectId, SecretKey secretKey) {
+        KeystoreTransactionBatch.join(securityService);
         securityService.importSecretKey(securityObjectId, secretKey);
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.crypto.sealingkey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Short transactions of Sealing Key rotation - each batch of re-encrypted AesKeys is committed together with
+ * rotation checkpoint, so that failed rotation can be resumed after the last committed batch.
+ */
+@Component
+@RequiredArgsConstructor(access = PACKAGE)
+@Slf4j
+public class SealingKeyRotationBatchWriter {
+
+    static final String UPDATE_AES_KEY_VALUE = "UPDATE aes_key SET jhi_value = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SealingKeyManager sealingKeyManager;
+
+    @Transactional
+    public void write(List<ReencryptedAesKey> batch) {
+        update(batch);
+
+        final Long lastId = batch.get(batch.size() - 1).id();
+        sealingKeyManager.updatePendingKeyCheckpoint(lastId);
+        log.debug("Re-encrypted {} AesKeys with PENDING Sealing Key, up to id {}.", batch.size(), lastId);
+    }
+
+    /**
+     * AesKeys saved concurrently with the batches (e.g. by save that checked for PENDING key just before it was
+     * created) are still encrypted with ACTIVE key - they are found and re-encrypted in the same serializable
+     * transaction that switches the keys, so none of them is left encrypted with the disabled key.
+     */
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public void activatePendingKey(Supplier<List<ReencryptedAesKey>> notReencryptedAesKeys) {
+        final List<ReencryptedAesKey> remaining = notReencryptedAesKeys.get();
+        if (!remaining.isEmpty()) {
+            log.info("Re-encrypting {} AesKeys saved during rotation with PENDING Sealing Key.", remaining.size());
+            update(remaining);
+        }
+
+        sealingKeyManager.disableActiveKey();
+        sealingKeyManager.activatePendingKey();
+    }
+
+    private void update(List<ReencryptedAesKey> reencrypted) {
+        final List<Object[]> updates = reencrypted.stream()
+            .map(key -> new Object[]{key.value(), key.id()})
+            .toList();
+        jdbcTemplate.batchUpdate(UPDATE_AES_KEY_VALUE, updates);
+    }
+}
@@ -36,6 +36,8 @@ import com.intel.bkp.bkps.crypto.importkey.ImportKeyManager;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotExistException;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotMatchException;
 import com.intel.bkp.bkps.exception.SealingKeyRotationException;
+import com.intel.bkp.bkps.exception.SealingKeyRotationInProgressException;
+import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyRotationStatusDTO;
 import com.intel.bkp.core.security.ISecurityProvider;
 import com.intel.bkp.crypto.CryptoUtils;
 import com.intel.bkp.crypto.constants.CryptoConstants;
@@ -64,8 +66,10 @@ public class SealingKeyRotationHandler {
     private final ISecurityProvider securityService;
     private final ImportKeyManager importKeyManager;
     private final SealingKeyRestoreTransaction sealingKeyRestoreTransaction;
+    private final SealingKeyRotationProgress sealingKeyRotationProgress;
 
-    public void rotate() throws SealingKeyRotationException {
+    public void rotate() throws SealingKeyRotationException, SealingKeyRotationInProgressException {
+        claimRotation();
         try {
             final SecretKey activeKey = sealingKeyManager.getActiveKey();
             sealingKeyManager.createPendingKey();
@@ -73,12 +77,41 @@ public class SealingKeyRotationHandler {
 
             sealingKeyRotationTransaction.reencryptAllAssetsAndActivatePendingKey(activeKey, pendingKey);
         } catch (Exception e) {
+            sealingKeyRotationProgress.fail();
             cleanUpPendingKey();
             throw new SealingKeyRotationException(e);
         }
     }
 
-    public String backup(byte[] rsaImportPubKey) throws SealingKeyRotationException {
+    /**
+     * Continues rotation or backup that failed, from the last AesKey re-encrypted with PENDING key.
+     * PENDING key is not disabled on failure, as part of assets may already be encrypted with it.
+     */
+    public void resume() throws SealingKeyRotationException, SealingKeyRotationInProgressException {
+        claimRotation();
+        try {
+            final SecretKey activeKey = sealingKeyManager.getActiveKey();
+            final SecretKey pendingKey = sealingKeyManager.getPendingKey();
+
+            sealingKeyRotationTransaction.reencryptAllAssetsAndActivatePendingKey(activeKey, pendingKey);
+        } catch (Exception e) {
+            sealingKeyRotationProgress.fail();
+            throw new SealingKeyRotationException(e);
+        }
+    }
+
+    public boolean isRotationInProgress() {
+        return sealingKeyRotationProgress.isInProgress();
+    }
+
+    public SealingKeyRotationStatusDTO getRotationStatus() {
+        return sealingKeyRotationProgress.toDto();
+    }
+
+    public String backup(byte[] rsaImportPubKey) throws SealingKeyRotationException,
+        SealingKeyRotationInProgressException {
+
+        claimRotation();
         try {
             final SecretKey activeKey = sealingKeyManager.getActiveKey();
             final SecretKey backupKey = sealingKeyManager.createExportablePendingKey();
@@ -91,6 +124,7 @@ public class SealingKeyRotationHandler {
 
             return toHex(encryptedBackupKey);
         } catch (Exception e) {
+            sealingKeyRotationProgress.fail();
             cleanUpPendingKey();
             throw new SealingKeyRotationException(e);
         }
@@ -125,6 +159,16 @@ public class SealingKeyRotationHandler {
         return rsaEncryptionProvider.encrypt(backupKeyBytes);
     }
 
+    /**
+     * Rotation is marked as in progress here and not in the async transaction, so that two concurrent requests
+     * cannot both pass the check before either of them is picked up by the executor.
+     */
+    private void claimRotation() throws SealingKeyRotationInProgressException {
+        if (!sealingKeyRotationProgress.tryStart()) {
+            throw new SealingKeyRotationInProgressException();
+        }
+    }
+
     private void cleanUpPendingKey() {
         sealingKeyManager.disablePendingKey();
     }
@@ -0,0 +1,121 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.crypto.sealingkey;
+
+import com.intel.bkp.bkps.domain.enumeration.SealingKeyRotationStatus;
+import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyRotationStatusDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Throughput and remaining work of Sealing Key rotation running on this instance.
+ */
+@Component
+public class SealingKeyRotationProgress {
+
+    private final Clock clock;
+
+    private SealingKeyRotationStatus status = SealingKeyRotationStatus.NOT_STARTED;
+    private long reencrypted;
+    private long remaining;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public SealingKeyRotationProgress() {
+        this(Clock.systemUTC());
+    }
+
+    SealingKeyRotationProgress(Clock clock) {
+        this.clock = clock;
+    }
+
+    public synchronized boolean isInProgress() {
+        return status == SealingKeyRotationStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Claims rotation for the caller, before the re-encryption is dispatched to the async executor.
+     *
+     * @return false if another rotation is already in progress on this instance
+     */
+    synchronized boolean tryStart() {
+        if (isInProgress()) {
+            return false;
+        }
+        status = SealingKeyRotationStatus.IN_PROGRESS;
+        reencrypted = 0;
+        remaining = 0;
+        startedAt = clock.instant();
+        finishedAt = null;
+        return true;
+    }
+
+    synchronized void setRemaining(long toReencrypt) {
+        remaining = toReencrypt;
+    }
+
+    synchronized void update(int reencryptedInBatch) {
+        reencrypted += reencryptedInBatch;
+        remaining = Math.max(0, remaining - reencryptedInBatch);
+    }
+
+    synchronized void complete() {
+        finish(SealingKeyRotationStatus.COMPLETED);
+    }
+
+    synchronized void fail() {
+        finish(SealingKeyRotationStatus.FAILED);
+    }
+
+    public synchronized SealingKeyRotationStatusDTO toDto() {
+        return new SealingKeyRotationStatusDTO(status, reencrypted, remaining, getAesKeysPerSecond(),
+            startedAt, finishedAt);
+    }
+
+    private void finish(SealingKeyRotationStatus finalStatus) {
+        status = finalStatus;
+        finishedAt = clock.instant();
+    }
+
+    private double getAesKeysPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        final Instant end = finishedAt == null ? clock.instant() : finishedAt;
+        final long elapsedMillis = Duration.between(startedAt, end).toMillis();
+        return elapsedMillis == 0 ? 0 : reencrypted * 1000.0 / elapsedMillis;
+    }
+}
@@ -33,83 +33,173 @@
 package com.intel.bkp.bkps.crypto.sealingkey;
 
 import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
-import com.intel.bkp.bkps.crypto.sealingkey.event.SealingKeyTransactionEvent;
-import com.intel.bkp.bkps.domain.AesKey;
 import com.intel.bkp.bkps.repository.AesKeyRepository;
+import com.intel.bkp.bkps.repository.AesKeyRepository.EncryptedValue;
 import com.intel.bkp.core.exceptions.BKPInternalRuntimeException;
+import com.intel.bkp.crypto.aesgcm.AesGcmProvider;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.intel.bkp.utils.HexConverter.fromHex;
 import static com.intel.bkp.utils.HexConverter.toHex;
 import static lombok.AccessLevel.PACKAGE;
 
+/**
+ * Re-encrypts all AesKeys with PENDING Sealing Key in batches and activates it afterwards.
+ * Every batch is committed separately together with checkpoint stored in PENDING key, so provisioning is not
+ * blocked for the whole rotation and rotation that failed can be resumed from the last committed batch.
+ */
 @Component
 @RequiredArgsConstructor(access = PACKAGE)
 @Slf4j
 public class SealingKeyRotationTransaction {
 
+    private static final long NO_CHECKPOINT = 0L;
+
     private final AesKeyRepository aesKeyRepository;
     private final AesGcmSealingKeyProviderImpl encryptionProvider;
     private final SealingKeyManager sealingKeyManager;
-    private final ApplicationEventPublisher eventPublisher;
+    private final SealingKeyRotationBatchWriter batchWriter;
+    private final SealingKeyRotationProgress progress;
+
+    @Value("${service.sealing-key.rotation.batch-size:500}")
+    private int batchSize;
 
+    @Value("${service.sealing-key.rotation.workers:4}")
+    private int workers;
+
+    /**
+     * Expects the caller to have claimed rotation with {@link SealingKeyRotationProgress#tryStart()},
+     * the claim is released with complete or fail status when this method finishes.
+     */
     @Async("taskExecutor")
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public void reencryptAllAssetsAndActivatePendingKey(SecretKey activeKey, SecretKey pendingKey) {
-        log.debug("Starting reencryption of all assets with new sealing key.");
-        registerRollbackEvent();
-
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
         try {
-            reencryptAllAesKey(activeKey, pendingKey);
-            sealingKeyManager.disableActiveKey();
-            sealingKeyManager.activatePendingKey();
+            final long checkpoint = sealingKeyManager.getPendingKeyCheckpoint().orElse(NO_CHECKPOINT);
+            log.debug("Starting reencryption of all assets with new sealing key after AesKey with id {}.",
+                checkpoint);
+            progress.setRemaining(aesKeyRepository.countByIdGreaterThan(checkpoint));
+
+            final AesGcmProvider activeProvider = encryptionProvider.forKey(activeKey);
+            final AesGcmProvider pendingProvider = encryptionProvider.forKey(pendingKey);
+            reencryptAllAesKey(activeProvider, pendingProvider, checkpoint, executor);
+            batchWriter.activatePendingKey(() -> findNotReencryptedAesKeys(activeProvider, pendingProvider, executor));
+            progress.complete();
+            log.info("Finished to reencrypt all ServiceConfigurations.");
         } catch (Exception e) {
+            progress.fail();
+            handleFailure();
             throw new BKPInternalRuntimeException("Exception occurred during Sealing Key rotation.", e);
+        } finally {
+            executor.shutdownNow();
         }
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
-    public void rollbackPendingKey(SealingKeyTransactionEvent event) {
-        log.error("Reencryption of ServiceConfigurations failed. Disabling PENDING Sealing Key.");
-        sealingKeyManager.disablePendingKeyAsync();
+    private void handleFailure() {
+        if (sealingKeyManager.getPendingKeyCheckpoint().isPresent()) {
+            log.error("Reencryption of ServiceConfigurations failed. Part of them is already encrypted with "
+                + "PENDING Sealing Key - rotation must be resumed.");
+        } else {
+            log.error("Reencryption of ServiceConfigurations failed. Disabling PENDING Sealing Key.");
+            sealingKeyManager.disablePendingKey();
+        }
+    }
+
+    private void reencryptAllAesKey(AesGcmProvider activeProvider, AesGcmProvider pendingProvider, long checkpoint,
+                                    ExecutorService executor) throws InterruptedException, ExecutionException {
+        List<EncryptedValue> batch = findBatchAfter(checkpoint);
+        while (!batch.isEmpty()) {
+            batchWriter.write(reencrypt(activeProvider, pendingProvider, batch, executor));
+            progress.update(batch.size());
+            batch = findBatchAfter(batch.get(batch.size() - 1).getId());
+        }
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void logProcessCompleted(SealingKeyTransactionEvent event) {
-        log.info("Finished to reencrypt all ServiceConfigurations.");
+    /**
+     * Checks all AesKeys, not only those after checkpoint - AesKey saved concurrently with rotation may be committed
+     * with id lower than the last re-encrypted one.
+     */
+    private List<ReencryptedAesKey> findNotReencryptedAesKeys(AesGcmProvider activeProvider,
+                                                              AesGcmProvider pendingProvider,
+                                                              ExecutorService executor) {
+        final List<ReencryptedAesKey> notReencrypted = new ArrayList<>();
+        try {
+            List<EncryptedValue> batch = findBatchAfter(NO_CHECKPOINT);
+            while (!batch.isEmpty()) {
+                final List<Callable<Optional<ReencryptedAesKey>>> tasks = batch.stream()
+                    .<Callable<Optional<ReencryptedAesKey>>>map(key -> () ->
+                        reencryptIfNotEncryptedWithPendingKey(activeProvider, pendingProvider, key))
+                    .toList();
+                invokeAll(tasks, executor).forEach(key -> key.ifPresent(notReencrypted::add));
+                batch = findBatchAfter(batch.get(batch.size() - 1).getId());
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new BKPInternalRuntimeException("Failed to verify AesKeys re-encrypted with PENDING Sealing Key.", e);
+        }
+        return notReencrypted;
     }
 
-    private void registerRollbackEvent() {
-        eventPublisher.publishEvent(new SealingKeyTransactionEvent());
+    private List<EncryptedValue> findBatchAfter(long lastId) {
+        return aesKeyRepository.findEncryptedValuesAfter(lastId, PageRequest.ofSize(batchSize));
     }
 
-    private void reencryptAllAesKey(SecretKey activeKey, SecretKey pendingKey) throws EncryptionProviderException {
-        for (AesKey key : aesKeyRepository.findAll()) {
-            String encodedKey = reencrypt(activeKey, pendingKey, key.getValue());
-            key.setValue(encodedKey);
-            aesKeyRepository.save(key);
+    private List<ReencryptedAesKey> reencrypt(AesGcmProvider activeProvider, AesGcmProvider pendingProvider,
+                                              List<EncryptedValue> batch, ExecutorService executor)
+        throws InterruptedException, ExecutionException {
+
+        final List<Callable<ReencryptedAesKey>> tasks = batch.stream()
+            .<Callable<ReencryptedAesKey>>map(key -> () -> new ReencryptedAesKey(key.getId(),
+                reencrypt(activeProvider, pendingProvider, key.getValue())))
+            .toList();
+
+        return invokeAll(tasks, executor);
+    }
+
+    private Optional<ReencryptedAesKey> reencryptIfNotEncryptedWithPendingKey(AesGcmProvider activeProvider,
+                                                                              AesGcmProvider pendingProvider,
+                                                                              EncryptedValue key)
+        throws EncryptionProviderException {
+
+        try {
+            pendingProvider.decrypt(fromHex(key.getValue()));
+            return Optional.empty();
+        } catch (EncryptionProviderException e) {
+            return Optional.of(new ReencryptedAesKey(key.getId(),
+                reencrypt(activeProvider, pendingProvider, key.getValue())));
+        }
+    }
+
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks, ExecutorService executor)
+        throws InterruptedException, ExecutionException {
+
+        final List<T> results = new ArrayList<>(tasks.size());
+        for (Future<T> result : executor.invokeAll(tasks)) {
+            results.add(result.get());
         }
+        return results;
     }
 
-    private String reencrypt(SecretKey activeKey, SecretKey pendingKey, String value)
+    private String reencrypt(AesGcmProvider activeProvider, AesGcmProvider pendingProvider, String value)
         throws EncryptionProviderException {
 
-        byte[] decodedKey = fromHex(value);
-        encryptionProvider.initialize(activeKey);
-        byte[] decrypted = encryptionProvider.decrypt(decodedKey);
-        encryptionProvider.initialize(pendingKey);
-        byte[] encrypted = encryptionProvider.encrypt(decrypted);
+        byte[] decrypted = activeProvider.decrypt(fromHex(value));
+        byte[] encrypted = pendingProvider.encrypt(decrypted);
         return toHex(encrypted);
     }
 }
@@ -51,6 +51,7 @@ import lombok.Setter;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 
 @Entity
@@ -86,7 +87,8 @@ public class ContextKey implements Serializable {
     @PrePersist
     @PreUpdate
     protected void onSave() {
-        modifiedDate = Instant.now();
+        // truncated so that in-memory value matches the one read back from DB, which is used as key version
+        modifiedDate = Instant.now().truncatedTo(ChronoUnit.MILLIS);
     }
 
     public static ContextKey from(byte[] secretKeyBytes, WrappingKey wrappingKey) {
@@ -41,7 +41,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -55,7 +54,6 @@ import lombok.ToString;
 @EqualsAndHashCode(of = {"path"})
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
 public class PrefetchEntity {
 
     private static final long serialVersionUID = 1L;
@@ -75,4 +73,13 @@ public class PrefetchEntity {
     @Column(name = "cert_type", nullable = false)
     private PrefetchEntityType type;
 
+    @Column(name = "lookup_key")
+    private String lookupKey;
+
+    public PrefetchEntity(String path, String content, PrefetchEntityType type) {
+        this.path = path;
+        this.content = content;
+        this.type = type;
+        this.lookupKey = PrefetchLookupKey.fromPath(path);
+    }
 }
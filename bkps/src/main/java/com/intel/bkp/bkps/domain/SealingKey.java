@@ -74,6 +74,12 @@ public class SealingKey {
     @Column
     private Instant processedDate;
 
+    /**
+     * Id of last AesKey already re-encrypted with this key while it is PENDING - rotation resumes after it.
+     */
+    @Column
+    private Long reencryptedAesKeyId;
+
     @PrePersist
     @PreUpdate
     protected void onSave() {
@@ -107,6 +107,20 @@ public class MessagesForSigmaEncPayload {
         aesGcmSealingKeyProvider.initialize(sealingKeyManager.getActiveKey());
         try {
             return aesGcmSealingKeyProvider.decrypt(encryptedData);
+        } catch (EncryptionProviderException e) {
+            return decryptConfidentialDataWithPendingKey(encryptedData, e);
+        }
+    }
+
+    /**
+     * During Sealing Key rotation data is re-encrypted in batches, so it may be already encrypted with PENDING key.
+     */
+    private byte[] decryptConfidentialDataWithPendingKey(byte[] encryptedData, EncryptionProviderException cause) {
+        if (!sealingKeyManager.isPendingSealingKey()) {
+            throw new ProvisioningGenericException("Failed to decrypt sensitive data with sealing key.", cause);
+        }
+        try {
+            return aesGcmSealingKeyProvider.forKey(sealingKeyManager.getPendingKey()).decrypt(encryptedData);
         } catch (EncryptionProviderException e) {
             throw new ProvisioningGenericException("Failed to decrypt sensitive data with sealing key.", e);
         }
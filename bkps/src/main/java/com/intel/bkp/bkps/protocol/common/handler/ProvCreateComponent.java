@@ -44,7 +44,6 @@ import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningTransferObject
 import com.intel.bkp.bkps.spdm.model.UnrecoverableMessageFromQueueEmpty;
 import com.intel.bkp.bkps.spdm.service.SpdmBackgroundService;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
-import dev.failsafe.Failsafe;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -74,16 +73,15 @@ public class ProvCreateComponent extends ProvisioningHandler {
     private ProvisioningResponseDTO perform() {
         log.info(prepareLogEntry("create session."));
 
-        Failsafe.with(retryPolicyLong).run(spdmBackgroundService::ensureProcessIsNotRunning);
-
-        spdmBackgroundService.startVcaForProvisioningThread();
+        final String spdmSessionId = spdmBackgroundService.startVcaForProvisioningThread();
 
         try {
-            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue();
+            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue(spdmSessionId);
 
             return new ProvisioningResponseDTOBuilder()
                 .withMessages(List.of(ProgrammerMessage.from(SEND_PACKET, messageFromQueue.getMessage())))
                 .flowStage(FlowStage.PROTOCOL_DECISION)
+                .spdmSessionId(spdmSessionId)
                 .encryptionProvider(contextEncryptionProvider)
                 .build();
         } catch (EncryptionProviderException e) {
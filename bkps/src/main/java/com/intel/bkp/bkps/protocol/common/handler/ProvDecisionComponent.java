@@ -96,9 +96,10 @@ public class ProvDecisionComponent extends ProvisioningHandler {
             throw new ProvisioningGenericException(e.getMessage());
         }
 
+        final String spdmSessionId = dtoReader.getSpdmSessionId();
         try {
-            return spdmBackgroundService.tryGetMessageFromQueue()
-                .map(this::buildResponse)
+            return spdmBackgroundService.tryGetMessageFromQueue(spdmSessionId)
+                .map(messageDTO -> buildResponse(messageDTO, spdmSessionId))
                 .orElseGet(() -> passToSuccessor(transferObject));
         } catch (MessageFromQueueEmpty e) {
             throw new ProvisioningGenericException("SPDM Service failed to complete gracefully.");
@@ -112,18 +113,20 @@ public class ProvDecisionComponent extends ProvisioningHandler {
 
         final var adapter = new ProgrammerResponseToDataAdapter(jtagResponses);
 
-        if (!spdmBackgroundService.isProcessing()) {
+        final String spdmSessionId = dtoReader.getSpdmSessionId();
+        if (!spdmBackgroundService.isProcessing(spdmSessionId)) {
             throw new ProvisioningGenericException("SPDM Service is not working.");
         }
 
-        spdmBackgroundService.pushResponseToQueue(new SpdmMessageDTO(adapter.getNext()));
+        spdmBackgroundService.pushResponseToQueue(spdmSessionId, new SpdmMessageDTO(adapter.getNext()));
     }
 
-    private ProvisioningResponseDTO buildResponse(SpdmMessageDTO spdmMessageDTO) {
+    private ProvisioningResponseDTO buildResponse(SpdmMessageDTO spdmMessageDTO, String spdmSessionId) {
         try {
             return new ProvisioningResponseDTOBuilder()
                 .withMessages(List.of(ProgrammerMessage.from(SEND_PACKET, spdmMessageDTO.getMessage())))
                 .flowStage(FlowStage.PROTOCOL_DECISION)
+                .spdmSessionId(spdmSessionId)
                 .encryptionProvider(contextEncryptionProvider)
                 .build();
         } catch (EncryptionProviderException e) {
@@ -134,7 +137,8 @@ public class ProvDecisionComponent extends ProvisioningHandler {
     }
 
     private ProvisioningResponseDTO passToSuccessor(ProvisioningTransferObject transferObject) {
-        final SpdmThreadError processResult = spdmBackgroundService.getProcessResult()
+        final SpdmThreadError processResult = spdmBackgroundService
+            .getProcessResult(transferObject.getDtoReader().getSpdmSessionId())
             .orElse(SpdmThreadError.FAILURE);
 
         log.debug("SPDM Service - process result: {}", processResult);
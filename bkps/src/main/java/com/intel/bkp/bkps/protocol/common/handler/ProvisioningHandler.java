@@ -32,33 +32,17 @@
 
 package com.intel.bkp.bkps.protocol.common.handler;
 
-import com.intel.bkp.bkps.exception.SpdmProcessIsStillRunning;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningResponseDTO;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ProvisioningTransferObject;
-import dev.failsafe.RetryPolicy;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.time.Duration;
-
 @Setter
 @Getter
 public abstract class ProvisioningHandler {
 
     protected ProvisioningHandler successor;
 
-    protected final RetryPolicy<Object> retryPolicy = RetryPolicy.builder()
-        .handle(SpdmProcessIsStillRunning.class)
-        .withDelay(Duration.ofSeconds(1))
-        .withMaxRetries(3)
-        .build();
-
-    protected final RetryPolicy<Object> retryPolicyLong = RetryPolicy.builder()
-        .handle(SpdmProcessIsStillRunning.class)
-        .withDelay(Duration.ofSeconds(1))
-        .withMaxRetries(5)
-        .build();
-
     public ProvisioningResponseDTO handle(ProvisioningTransferObject transferObject) {
         return successor.handle(transferObject);
     }
@@ -49,4 +49,5 @@ public class ProvContextWithFlow {
     private FlowStage flowStage;
     private ProtocolType protocolType;
     private byte[] contextData;
+    private String spdmSessionId;
 }
@@ -87,7 +87,8 @@ public class ProvSpdmCommunicationComponent extends ProvisioningHandler {
                                             ProvisioningTransferObject transferObject) {
         log.info(prepareLogEntry("SPDM communication."));
 
-        if (!spdmBackgroundService.isProcessing()) {
+        final String spdmSessionId = dtoReader.getSpdmSessionId();
+        if (!spdmBackgroundService.isProcessing(spdmSessionId)) {
             throw new ProvisioningGenericException("SPDM Service is not working.");
         }
 
@@ -105,11 +106,11 @@ public class ProvSpdmCommunicationComponent extends ProvisioningHandler {
 
         final var adapter = new ProgrammerResponseToDataAdapter(jtagResponses);
 
-        spdmBackgroundService.pushResponseToQueue(new SpdmMessageDTO(adapter.getNext()));
+        spdmBackgroundService.pushResponseToQueue(spdmSessionId, new SpdmMessageDTO(adapter.getNext()));
 
         try {
-            return spdmBackgroundService.tryGetMessageFromQueue()
-                .map(messageDTO -> buildResponse(messageDTO, context, transferObject))
+            return spdmBackgroundService.tryGetMessageFromQueue(spdmSessionId)
+                .map(messageDTO -> buildResponse(messageDTO, context, spdmSessionId, transferObject))
                 .orElseGet(() -> passToSuccessor(transferObject));
         } catch (MessageFromQueueEmpty e) {
             throw new ProvisioningGenericException("SPDM Service failed to complete gracefully.");
@@ -117,6 +118,7 @@ public class ProvSpdmCommunicationComponent extends ProvisioningHandler {
     }
 
     private ProvisioningResponseDTO buildResponse(SpdmMessageDTO spdmMessageDTO, ProvContext context,
+                                                  String spdmSessionId,
                                                   ProvisioningTransferObject transferObject) {
         try {
             return new ProvisioningResponseDTOBuilder()
@@ -124,6 +126,7 @@ public class ProvSpdmCommunicationComponent extends ProvisioningHandler {
                 .withMessages(List.of(ProgrammerMessage.from(SEND_PACKET, spdmMessageDTO.getMessage())))
                 .flowStage(FlowStage.SPDM_SESSION)
                 .protocolType(transferObject.getProtocolType())
+                .spdmSessionId(spdmSessionId)
                 .encryptionProvider(contextEncryptionProvider)
                 .build();
         } catch (EncryptionProviderException e) {
@@ -134,7 +137,8 @@ public class ProvSpdmCommunicationComponent extends ProvisioningHandler {
     }
 
     private ProvisioningResponseDTO passToSuccessor(ProvisioningTransferObject transferObject) {
-        final SpdmThreadError processResult = spdmBackgroundService.getProcessResult()
+        final SpdmThreadError processResult = spdmBackgroundService
+            .getProcessResult(transferObject.getDtoReader().getSpdmSessionId())
             .orElse(SpdmThreadError.FAILURE);
 
         log.debug("SPDM Service - process result: {}", processResult);
@@ -55,7 +55,6 @@ import com.intel.bkp.bkps.rest.provisioning.service.OverbuildCounterManager;
 import com.intel.bkp.bkps.spdm.model.UnrecoverableMessageFromQueueEmpty;
 import com.intel.bkp.bkps.spdm.service.SpdmBackgroundService;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
-import dev.failsafe.Failsafe;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -94,7 +93,8 @@ public class ProvSpdmCreateComponent extends ProvisioningHandler {
                                             ProvisioningTransferObject transferObject) {
         log.info(prepareLogEntry("create SPDM protocol."));
 
-        Failsafe.with(retryPolicy).run(spdmBackgroundService::ensureProcessIsNotRunning);
+        final String spdmSessionId = dtoReader.getSpdmSessionId();
+        spdmBackgroundService.ensureProcessIsNotRunning(spdmSessionId);
 
         log.info(prepareLogEntry("parsing quartus responses..."));
 
@@ -118,16 +118,17 @@ public class ProvSpdmCreateComponent extends ProvisioningHandler {
         ensureOverbuildCounterNotExceeded(deviceIdHex, configuration);
         ensureCorimUrlProvided(configuration);
 
-        spdmBackgroundService.startSecureSessionThread(deviceIdHex, cfgId, configurationCallback);
+        spdmBackgroundService.startSecureSessionThread(spdmSessionId, deviceIdHex, cfgId, configurationCallback);
 
         try {
-            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue();
+            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue(spdmSessionId);
 
             return new ProvisioningResponseDTOBuilder()
                 .context(new ProvSpdmContext(deviceIdHex, cfgId))
                 .withMessages(List.of(ProgrammerMessage.from(SEND_PACKET, messageFromQueue.getMessage())))
                 .flowStage(FlowStage.SPDM_SESSION)
                 .protocolType(transferObject.getProtocolType())
+                .spdmSessionId(spdmSessionId)
                 .encryptionProvider(contextEncryptionProvider)
                 .build();
         } catch (EncryptionProviderException e) {
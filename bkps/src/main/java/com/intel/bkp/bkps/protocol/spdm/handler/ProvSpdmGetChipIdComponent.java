@@ -65,13 +65,14 @@ public class ProvSpdmGetChipIdComponent extends ProvisioningHandler {
         final ProvisioningRequestDTOReader dtoReader = transferObject.getDtoReader();
         final FlowStage flowStage = dtoReader.getFlowStage();
         if (FlowStage.PROTOCOL_DECISION.equals(flowStage)) {
-            return perform(transferObject);
+            return perform(dtoReader, transferObject);
         }
 
         return successor.handle(transferObject);
     }
 
-    private ProvisioningResponseDTO perform(ProvisioningTransferObject transferObject) {
+    private ProvisioningResponseDTO perform(ProvisioningRequestDTOReader dtoReader,
+                                            ProvisioningTransferObject transferObject) {
         log.info(prepareLogEntry("send GET_CHIPID."));
 
         final List<ProgrammerMessage> programmerMessages = new ArrayList<>();
@@ -82,6 +83,7 @@ public class ProvSpdmGetChipIdComponent extends ProvisioningHandler {
                 .withMessages(programmerMessages)
                 .flowStage(FlowStage.SPDM_GET_CHIPID)
                 .protocolType(transferObject.getProtocolType())
+                .spdmSessionId(dtoReader.getSpdmSessionId())
                 .encryptionProvider(contextEncryptionProvider)
                 .build();
         } catch (EncryptionProviderException e) {
@@ -33,9 +33,14 @@
 package com.intel.bkp.bkps.repository;
 
 import com.intel.bkp.bkps.domain.AesKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 
 /**
  * Spring Data  repository for the AesKey entity.
@@ -44,4 +49,19 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AesKeyRepository extends JpaRepository<AesKey, Long> {
 
+    @Query("SELECT entity.id AS id, entity.value AS value FROM AesKey entity "
+        + "WHERE entity.id > :afterId ORDER BY entity.id")
+    List<EncryptedValue> findEncryptedValuesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    long countByIdGreaterThan(Long id);
+
+    /**
+     * Only encrypted value of AesKey, without loading the entity and its relations.
+     */
+    interface EncryptedValue {
+
+        Long getId();
+
+        String getValue();
+    }
 }
@@ -38,9 +38,12 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
@@ -53,4 +56,14 @@ public interface ContextKeyRepository extends JpaRepository<ContextKey, String>
     default Optional<ContextKey> getActualContextKey() {
         return findFirstByKeyTypeEquals(ContextKeyType.ACTUAL.name());
     }
+
+    @Query("SELECT entity.modifiedDate FROM ContextKey entity WHERE entity.keyType = :keyType")
+    Optional<Instant> findModifiedDateByKeyType(@Param("keyType") String keyType);
+
+    /**
+     * Lightweight version check - modifiedDate changes on every save of the key, no row lock is taken.
+     */
+    default Optional<Instant> getActualContextKeyVersion() {
+        return findModifiedDateByKeyType(ContextKeyType.ACTUAL.name());
+    }
 }
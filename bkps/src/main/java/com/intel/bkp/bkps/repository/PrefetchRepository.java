@@ -47,7 +47,7 @@ public interface PrefetchRepository extends JpaRepository<PrefetchEntity, UUID>,
 
     Optional<PrefetchEntity> findByPathAndType(String path, PrefetchEntityType type);
 
-    boolean existsByPathContainingIgnoreCaseAndType(String pathPart, PrefetchEntityType type);
+    boolean existsByLookupKeyAndType(String lookupKey, PrefetchEntityType type);
 
-    Optional<PrefetchEntity> findByPathContainingIgnoreCaseAndType(String pathPart, PrefetchEntityType type);
+    Optional<PrefetchEntity> findFirstByLookupKeyAndType(String lookupKey, PrefetchEntityType type);
 }
@@ -49,4 +49,14 @@ public interface ServiceConfigurationRepository extends JpaRepository<ServiceCon
     @Query(value = "UPDATE service_configuration SET overbuild_current = overbuild_current + 1 "
         + "WHERE id = ? AND  (overbuild_current < overbuild_max OR overbuild_max = -1)", nativeQuery = true)
     int updateServiceConfigurationSetOverbuildCurrent(Long cfgId);
+
+    @Modifying
+    @Query(value = "UPDATE service_configuration SET overbuild_current = overbuild_current + ?2 "
+        + "WHERE id = ?1 AND (overbuild_current + ?2 <= overbuild_max OR overbuild_max = -1)", nativeQuery = true)
+    int updateServiceConfigurationAddOverbuildCurrent(Long cfgId, int amount);
+
+    @Modifying
+    @Query(value = "UPDATE service_configuration SET overbuild_current = overbuild_current - ?2 "
+        + "WHERE id = ?1 AND overbuild_current >= ?2", nativeQuery = true)
+    int updateServiceConfigurationSubtractOverbuildCurrent(Long cfgId, int amount);
 }
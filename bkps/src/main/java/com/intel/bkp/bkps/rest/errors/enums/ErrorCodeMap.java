@@ -98,6 +98,7 @@ public enum ErrorCodeMap implements IErrorCode {
     CERTIFICATE_IN_TRUSTSTORE_CHECK_FAILED(2175, "Failed to check if certificate is saved in truststore."),
     CERTIFICATE_FAILED_TO_REMOVE(2176, "Failed to remove certificate: specified alias '%s' not found"),
     SPDM_PROCESS_RUNNING(2177, "SPDM Process is still running. Please try again in a few seconds."),
+    SPDM_SESSION_NOT_FOUND(2178, "SPDM session not found or expired. Please restart the operation."),
 
     /* =========== Onboarding =========== */
     PREFETCHING_GENERIC_EXCEPTION(2300, "Prefetching failed."),
@@ -136,6 +137,7 @@ public enum ErrorCodeMap implements IErrorCode {
         + "call Backup API first."),
     PUBLIC_KEY_IN_CERTIFICATE_DOES_NOT_MATCH(2369, "Public Key in certificate does not match "
         + "the created Signing Public Key."),
+    SEALING_KEY_ROTATION_NOT_PENDING(2370, "There is no interrupted Sealing Key rotation to resume."),
 
     /* =========== Configuration Endpoint Group =========== */
     CREATE_ID_EXISTS_RESTRICTION(2400, "New configuration cannot have ID."),
@@ -53,6 +53,7 @@ public final class InitializationResource {
     private static final String SEALING_KEY = "/sealing-key";
     public static final String SEALING_KEY_BASE = INIT_NODE + SEALING_KEY;
     public static final String SEALING_KEY_ROTATE = "/rotate";
+    public static final String SEALING_KEY_ROTATE_RESUME = SEALING_KEY_ROTATE + "/resume";
     public static final String SEALING_KEY_BACKUP = "/backup";
     public static final String SEALING_KEY_RESTORE = "/restore";
 
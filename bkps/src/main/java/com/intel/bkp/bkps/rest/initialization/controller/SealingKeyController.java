@@ -35,6 +35,7 @@ package com.intel.bkp.bkps.rest.initialization.controller;
 import com.intel.bkp.bkps.rest.initialization.InitializationResource;
 import com.intel.bkp.bkps.rest.initialization.model.dto.EncryptedSealingKeyDTO;
 import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyResponseDTO;
+import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyRotationStatusDTO;
 import com.intel.bkp.bkps.rest.initialization.service.SealingKeyService;
 import com.intel.bkp.core.exceptions.ApplicationError;
 import io.swagger.v3.oas.annotations.Operation;
@@ -98,6 +99,34 @@ public class SealingKeyController {
         sealingKeyService.rotateSealingKey();
     }
 
+    @Operation(
+        summary = "Resume BKP Service Sealing Key rotation",
+        description = "This request resumes Sealing Key rotation or backup that failed. Configurations that were "
+            + "not re-encrypted yet are re-encrypted with the pending key, which is activated afterwards.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Operation successful."),
+            @ApiResponse(responseCode = "400", description = "Client error. See response body for details.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class))),
+            @ApiResponse(responseCode = "500", description = "Internal error occurred.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class)))})
+    @PostMapping(InitializationResource.SEALING_KEY_ROTATE_RESUME)
+    public synchronized void resumeSealingKeyRotation() {
+        sealingKeyService.resumeSealingKeyRotation();
+    }
+
+    @Operation(
+        summary = "Get BKP Service Sealing Key rotation status",
+        description = "This is the request to get progress of the last Sealing Key rotation started on this "
+            + "service instance - number of re-encrypted and remaining configurations and throughput.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Operation successful."),
+            @ApiResponse(responseCode = "500", description = "Internal error occurred.",
+                         content = @Content(schema = @Schema(implementation = ApplicationError.class)))})
+    @GetMapping(InitializationResource.SEALING_KEY_ROTATE)
+    public SealingKeyRotationStatusDTO getSealingKeyRotationStatus() {
+        return sealingKeyService.getSealingKeyRotationStatus();
+    }
+
     @Operation(
         summary = "List BKP Service Sealing Keys",
         description = "This is the request to list all BKP Service Sealing Keys.",
@@ -36,9 +36,11 @@ import com.intel.bkp.bkps.crypto.sealingkey.SealingKeyManager;
 import com.intel.bkp.bkps.crypto.sealingkey.SealingKeyRotationHandler;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotExistException;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotMatchException;
+import com.intel.bkp.bkps.exception.SealingKeyRotationInProgressException;
 import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
 import com.intel.bkp.bkps.rest.initialization.model.dto.EncryptedSealingKeyDTO;
 import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyResponseDTO;
+import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyRotationStatusDTO;
 import com.intel.bkp.core.exceptions.BKPBadRequestException;
 import com.intel.bkp.core.exceptions.BKPInternalServerException;
 import com.intel.bkp.crypto.CertificateEncoder;
@@ -75,11 +77,33 @@ public class SealingKeyService {
 
         try {
             sealingKeyRotationHandler.rotate();
+        } catch (SealingKeyRotationInProgressException e) {
+            throw new BKPBadRequestException(ErrorCodeMap.SEALING_KEY_ROTATION_PENDING, e);
         } catch (Exception e) {
             throw new BKPInternalServerException(ErrorCodeMap.SEALING_KEY_ROTATION_FAILED, e);
         }
     }
 
+    public void resumeSealingKeyRotation() {
+        throwIfSealingKeyRotationRunning();
+        throwIfNoSealingKeyRotationPending();
+        throwIfNoActiveSealingKey();
+
+        log.info("Resuming Sealing Key rotation...");
+
+        try {
+            sealingKeyRotationHandler.resume();
+        } catch (SealingKeyRotationInProgressException e) {
+            throw new BKPBadRequestException(ErrorCodeMap.SEALING_KEY_ROTATION_PENDING, e);
+        } catch (Exception e) {
+            throw new BKPInternalServerException(ErrorCodeMap.SEALING_KEY_ROTATION_FAILED, e);
+        }
+    }
+
+    public SealingKeyRotationStatusDTO getSealingKeyRotationStatus() {
+        return sealingKeyRotationHandler.getRotationStatus();
+    }
+
     public EncryptedSealingKeyDTO backup(String rsaImportPubKeyPem) {
         throwIfSealingKeyRotationPending();
         throwIfNoActiveSealingKey();
@@ -90,6 +114,8 @@ public class SealingKeyService {
             byte[] rsaImportPubKey = getRsaImportPubKeyBytesFromPem(rsaImportPubKeyPem);
             String base64EncodedSealingKey = sealingKeyRotationHandler.backup(rsaImportPubKey);
             return new EncryptedSealingKeyDTO(base64EncodedSealingKey);
+        } catch (SealingKeyRotationInProgressException e) {
+            throw new BKPBadRequestException(ErrorCodeMap.SEALING_KEY_ROTATION_PENDING, e);
         } catch (Exception e) {
             throw new BKPInternalServerException(ErrorCodeMap.SEALING_KEY_BACKUP_FAILED, e);
         }
@@ -140,6 +166,18 @@ public class SealingKeyService {
         }
     }
 
+    private void throwIfNoSealingKeyRotationPending() {
+        if (!sealingKeyManager.isPendingSealingKey()) {
+            throw new BKPBadRequestException(ErrorCodeMap.SEALING_KEY_ROTATION_NOT_PENDING);
+        }
+    }
+
+    private void throwIfSealingKeyRotationRunning() {
+        if (sealingKeyRotationHandler.isRotationInProgress()) {
+            throw new BKPBadRequestException(ErrorCodeMap.SEALING_KEY_ROTATION_PENDING);
+        }
+    }
+
     private byte[] getRsaImportPubKeyBytesFromPem(String rsaImportPubKeyPem) {
         return CertificateEncoder.sanitizeChainPayloadBase64(rsaImportPubKeyPem);
     }
@@ -32,11 +32,14 @@
 
 package com.intel.bkp.bkps.rest.onboarding.event;
 
+import com.intel.bkp.bkps.domain.enumeration.PrefetchType;
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
 import com.intel.bkp.bkps.rest.onboarding.service.ZipDataProvider;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -45,27 +48,56 @@ import static com.intel.bkp.bkps.domain.enumeration.PrefetchType.getPrefetchType
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PrefetchEventListener {
 
     private final ZipDataProvider zipDataProvider;
     private final PrefetchEventQueueService prefetchEventQueueService;
+    private final TaskExecutor prefetchTaskExecutor;
+
+    public PrefetchEventListener(ZipDataProvider zipDataProvider,
+                                 PrefetchEventQueueService prefetchEventQueueService,
+                                 @Qualifier("prefetchTaskExecutor") TaskExecutor prefetchTaskExecutor) {
+        this.zipDataProvider = zipDataProvider;
+        this.prefetchEventQueueService = prefetchEventQueueService;
+        this.prefetchTaskExecutor = prefetchTaskExecutor;
+    }
 
     @EventListener
     public void onApplicationEvent(@NonNull PrefetchEvent event) {
         log.info("Received prefetching event: {}", event);
 
-        prefetchEventQueueService.add(event);
+        final PrefetchType prefetchType = getPrefetchType(event.getDeviceId());
+        if (PrefetchType.NONE == prefetchType) {
+            throw new IllegalArgumentException(
+                "Prefetching is only supported for platforms: " + FAMILIES_WITH_PREFETCH_SUPPORTED);
+        }
+
+        if (!prefetchEventQueueService.add(event)) {
+            log.info("Prefetching already scheduled for device, skipping: {}", event.getDeviceId());
+            return;
+        }
+
+        try {
+            prefetchTaskExecutor.execute(() -> prefetch(event, prefetchType));
+        } catch (TaskRejectedException e) {
+            prefetchEventQueueService.reject(event);
+            log.error("Prefetching queue is full, event dropped: {}", event);
+        }
+
+        log.debug("Prefetching queue: {}", prefetchEventQueueService.getMetrics());
+    }
 
+    private void prefetch(PrefetchEvent event, PrefetchType prefetchType) {
         final DeviceId deviceId = event.getDeviceId();
         try {
-            switch (getPrefetchType(deviceId)) {
+            switch (prefetchType) {
                 case S10 -> zipDataProvider.fetchS10(deviceId.getDpUid());
                 case ZIP_WITH_SKI, ZIP_WITH_PDI -> zipDataProvider.fetchDice(deviceId.getDpUid(),
                     deviceId.getFamily(), deviceId.getId());
-                case NONE -> throw new IllegalArgumentException(
-                    "Prefetching is only supported for platforms: " + FAMILIES_WITH_PREFETCH_SUPPORTED);
+                default -> throw new IllegalStateException("Unexpected prefetch type: " + prefetchType);
             }
+        } catch (Exception e) {
+            log.error("Prefetching failed for event: {}", event, e);
         } finally {
             prefetchEventQueueService.remove(event);
         }
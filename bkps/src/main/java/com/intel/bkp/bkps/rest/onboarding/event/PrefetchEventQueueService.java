@@ -33,38 +33,81 @@
 package com.intel.bkp.bkps.rest.onboarding.event;
 
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
-import lombok.RequiredArgsConstructor;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchQueueMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Queue;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Tracks prefetch events that are scheduled or running, keyed by device family and distribution point UID,
+ * so that duplicate requests for the same device are dropped and in-progress lookups are O(1).
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PrefetchEventQueueService {
 
-    private final Queue<PrefetchEvent> prefetchEventQueue;
+    private final ConcurrentMap<String, PrefetchEvent> prefetchEventQueue = new ConcurrentHashMap<>();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
 
     public boolean isEmpty() {
         log.debug("Prefetching event queue size: {}", prefetchEventQueue.size());
-        log.debug("Prefetching event queue content: {}", prefetchEventQueue);
         return prefetchEventQueue.isEmpty();
     }
 
-    public void add(PrefetchEvent event) {
-        log.debug("Adding prefetch event to queue: {}", event);
-        prefetchEventQueue.add(event);
+    public int size() {
+        return prefetchEventQueue.size();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public PrefetchQueueMetrics getMetrics() {
+        return new PrefetchQueueMetrics(size(), getDeduplicatedCount(), getRejectedCount());
+    }
+
+    /**
+     * @return false if prefetching for the same device is already scheduled or running
+     */
+    public boolean add(PrefetchEvent event) {
+        final PrefetchEvent existing = prefetchEventQueue.putIfAbsent(toKey(event.getDeviceId()), event);
+        if (existing != null) {
+            deduplicated.incrementAndGet();
+            log.debug("Prefetch event for the same device already in queue: {}", existing);
+            return false;
+        }
+
+        log.debug("Added prefetch event to queue: {}", event);
+        return true;
     }
 
     public void remove(PrefetchEvent event) {
         log.debug("Removing prefetch event from queue: {}", event);
-        prefetchEventQueue.remove(event);
+        prefetchEventQueue.remove(toKey(event.getDeviceId()), event);
+    }
+
+    /**
+     * Removes event that was added but could not be scheduled, e.g. because prefetch executor queue is full.
+     */
+    public void reject(PrefetchEvent event) {
+        remove(event);
+        rejected.incrementAndGet();
     }
 
     public boolean isInProgress(DeviceId deviceId) {
-        return prefetchEventQueue.stream()
-            .anyMatch(event -> event.getDeviceId().getFamily() == deviceId.getFamily()
-                && event.getDeviceId().getDpUid().equalsIgnoreCase(deviceId.getDpUid()));
+        return prefetchEventQueue.containsKey(toKey(deviceId));
+    }
+
+    private static String toKey(DeviceId deviceId) {
+        return deviceId.getFamily() + ":" + deviceId.getDpUid().toUpperCase(Locale.ROOT);
     }
 }
@@ -48,7 +48,6 @@ import com.intel.bkp.bkps.spdm.model.UnrecoverableMessageFromQueueEmpty;
 import com.intel.bkp.bkps.spdm.service.SpdmBackgroundService;
 import com.intel.bkp.core.manufacturing.model.PufType;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
-import dev.failsafe.Failsafe;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -82,9 +81,7 @@ public class SetAuthorityCreateComponent extends SetAuthorityHandler {
     private SetAuthorityResponseDTO perform(SetAuthorityRequestDTO dto) {
         log.info(prepareLogEntry("create session."));
 
-        Failsafe.with(retryPolicy).run(spdmBackgroundService::ensureProcessIsNotRunning);
-
-        spdmBackgroundService.startGetVersion();
+        final String spdmSessionId = spdmBackgroundService.startGetVersion();
 
         final List<ProgrammerMessage> programmerMessages = new ArrayList<>();
 
@@ -93,7 +90,7 @@ public class SetAuthorityCreateComponent extends SetAuthorityHandler {
         programmerMessages.add(getAttestationCertificateMessageSender.create());
 
         try {
-            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue();
+            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue(spdmSessionId);
 
             programmerMessages.add(ProgrammerMessage.from(SEND_PACKET, messageFromQueue.getMessage()));
 
@@ -101,6 +98,7 @@ public class SetAuthorityCreateComponent extends SetAuthorityHandler {
             context.setPufType(PufType.fromOrdinal(dto.getPufType()));
             context.setSlotId(dto.getSlotId());
             context.setForceEnrollment(dto.isForceEnrollment());
+            context.setSpdmSessionId(spdmSessionId);
 
             return new SetAuthorityResponseDTOBuilder()
                 .context(context)
@@ -32,27 +32,17 @@
 
 package com.intel.bkp.bkps.rest.onboarding.handler;
 
-import com.intel.bkp.bkps.exception.SpdmProcessIsStillRunning;
 import com.intel.bkp.bkps.rest.onboarding.model.SetAuthorityResponseDTO;
 import com.intel.bkp.bkps.rest.onboarding.model.SetAuthorityTransferObject;
-import dev.failsafe.RetryPolicy;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.time.Duration;
-
 @Setter
 @Getter
 public abstract class SetAuthorityHandler {
 
     protected SetAuthorityHandler successor;
 
-    protected final RetryPolicy<Object> retryPolicy = RetryPolicy.builder()
-        .handle(SpdmProcessIsStillRunning.class)
-        .withDelay(Duration.ofSeconds(1))
-        .withMaxRetries(3)
-        .build();
-
     public SetAuthorityResponseDTO handle(SetAuthorityTransferObject transferObject) {
         return successor.handle(transferObject);
     }
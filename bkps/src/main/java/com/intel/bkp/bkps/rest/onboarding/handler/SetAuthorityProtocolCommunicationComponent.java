@@ -78,12 +78,13 @@ public class SetAuthorityProtocolCommunicationComponent extends SetAuthorityHand
 
     private SetAuthorityResponseDTO perform(SetAuthorityTransferObject transferObject,
                                             SetAuthorityRequestDTOReader dtoReader) {
-        if (!spdmBackgroundService.isProcessing()) {
+        final SetAuthorityContext context = dtoReader.getContext();
+        final String spdmSessionId = context.getSpdmSessionId();
+
+        if (!spdmBackgroundService.isProcessing(spdmSessionId)) {
             throw new SetAuthorityGenericException("SPDM Service is not working.");
         }
 
-        final SetAuthorityContext context = dtoReader.getContext();
-
         log.info(prepareLogEntry("parsing quartus responses..."));
 
         final List<ProgrammerResponse> jtagResponses = dtoReader.getJtagResponses();
@@ -96,12 +97,12 @@ public class SetAuthorityProtocolCommunicationComponent extends SetAuthorityHand
 
         final var adapter = new ProgrammerResponseToDataAdapter(jtagResponses);
 
-        spdmBackgroundService.pushResponseToQueue(new SpdmMessageDTO(adapter.getNext()));
+        spdmBackgroundService.pushResponseToQueue(spdmSessionId, new SpdmMessageDTO(adapter.getNext()));
 
         try {
-            return spdmBackgroundService.tryGetMessageFromQueue()
+            return spdmBackgroundService.tryGetMessageFromQueue(spdmSessionId)
                 .map(messageDTO -> buildResponse(messageDTO, context))
-                .orElseGet(() -> passToSuccessor(transferObject));
+                .orElseGet(() -> passToSuccessor(transferObject, spdmSessionId));
         } catch (MessageFromQueueEmpty e) {
             throw new SetAuthorityGenericException("SPDM Service failed to complete gracefully.");
         }
@@ -119,8 +120,9 @@ public class SetAuthorityProtocolCommunicationComponent extends SetAuthorityHand
         }
     }
 
-    private SetAuthorityResponseDTO passToSuccessor(SetAuthorityTransferObject transferObject) {
-        final SpdmThreadError processResult = spdmBackgroundService.getProcessResult()
+    private SetAuthorityResponseDTO passToSuccessor(SetAuthorityTransferObject transferObject,
+                                                    String spdmSessionId) {
+        final SpdmThreadError processResult = spdmBackgroundService.getProcessResult(spdmSessionId)
             .orElse(SpdmThreadError.FAILURE);
 
         log.debug("SPDM Service - process result: {}", processResult);
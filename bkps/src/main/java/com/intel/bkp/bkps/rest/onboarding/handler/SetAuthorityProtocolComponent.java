@@ -99,12 +99,13 @@ public class SetAuthorityProtocolComponent extends SetAuthorityHandler {
     }
 
     private SetAuthorityResponseDTO perform(SetAuthorityRequestDTOReader dtoReader) {
-        if (!spdmBackgroundService.isProcessing()) {
+        final SetAuthorityContext context = dtoReader.getContext();
+        final String spdmSessionId = context.getSpdmSessionId();
+
+        if (!spdmBackgroundService.isProcessing(spdmSessionId)) {
             throw new SetAuthorityGenericException("SPDM Service is not working.");
         }
 
-        final SetAuthorityContext context = dtoReader.getContext();
-
         log.info(prepareLogEntry("parsing quartus responses..."));
 
         final List<ProgrammerResponse> jtagResponses = dtoReader.getJtagResponses();
@@ -144,18 +145,18 @@ public class SetAuthorityProtocolComponent extends SetAuthorityHandler {
 
         log.info(prepareLogEntry("svn: " + svn));
 
-        spdmBackgroundService.pushResponseToQueue(new SpdmMessageDTO(adapter.getNext()));
+        spdmBackgroundService.pushResponseToQueue(spdmSessionId, new SpdmMessageDTO(adapter.getNext()));
 
-        ensureLibspdmFinishedSuccessfully();
+        ensureLibspdmFinishedSuccessfully(spdmSessionId);
 
         final List<byte[]> certificateChain =
             certificateChainProvider.get(deviceId, pufType, svn, enrollmentDeviceIdCert, forceEnrollment)
                 .orElseThrow(() -> new SetAuthorityGenericException(ZIP_NOT_FOUND_IN_CACHE));
 
-        spdmBackgroundService.startSetAuthority(certificateChain, slotId);
+        spdmBackgroundService.startSetAuthority(spdmSessionId, certificateChain, slotId);
 
         try {
-            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue();
+            final SpdmMessageDTO messageFromQueue = spdmBackgroundService.getMessageFromQueue(spdmSessionId);
 
             final List<ProgrammerMessage> programmerMessages = new ArrayList<>();
             programmerMessages.add(ProgrammerMessage.from(SEND_PACKET, messageFromQueue.getMessage()));
@@ -175,15 +176,16 @@ public class SetAuthorityProtocolComponent extends SetAuthorityHandler {
         }
     }
 
-    private void ensureLibspdmFinishedSuccessfully() {
+    private void ensureLibspdmFinishedSuccessfully(String spdmSessionId) {
         try {
-            final Optional<SpdmMessageDTO> messageFromQueue = spdmBackgroundService.tryGetMessageFromQueue();
+            final Optional<SpdmMessageDTO> messageFromQueue =
+                spdmBackgroundService.tryGetMessageFromQueue(spdmSessionId);
 
             if (messageFromQueue.isPresent()) {
                 throw new SetAuthorityGenericException("More messages from libspdm than expected: " + messageFromQueue);
             }
 
-            final SpdmThreadError processResult = spdmBackgroundService.getProcessResult()
+            final SpdmThreadError processResult = spdmBackgroundService.getProcessResult(spdmSessionId)
                 .orElse(SpdmThreadError.FAILURE);
 
             log.debug("SPDM Service - process result: {}", processResult);
@@ -53,4 +53,5 @@ public class SetAuthorityContext {
     private DeviceId deviceId;
     private String svn;
     private boolean forceEnrollment;
+    private String spdmSessionId;
 }
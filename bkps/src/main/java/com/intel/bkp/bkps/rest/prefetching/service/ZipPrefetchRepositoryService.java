@@ -34,6 +34,7 @@ package com.intel.bkp.bkps.rest.prefetching.service;
 
 import com.intel.bkp.bkps.attestation.mapping.CacheBytesMapper;
 import com.intel.bkp.bkps.domain.PrefetchEntity;
+import com.intel.bkp.bkps.domain.PrefetchLookupKey;
 import com.intel.bkp.bkps.repository.PrefetchRepository;
 import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
 import lombok.extern.slf4j.Slf4j;
@@ -53,32 +54,32 @@ public class ZipPrefetchRepositoryService extends PrefetchRepositoryServiceBase<
     }
 
     public boolean isZipPrefetched(DeviceId deviceId) {
-        final String pathPattern = getZipPattern(deviceId);
-        log.debug("Checking existence of ZIP in DB using path: {}", pathPattern);
+        final String lookupKey = getZipLookupKey(deviceId);
+        log.debug("Checking existence of ZIP in DB using key: {}", lookupKey);
         return getPrefetchRepository()
-            .existsByPathContainingIgnoreCaseAndType(pathPattern, getType());
+            .existsByLookupKeyAndType(lookupKey, getType());
     }
 
     public boolean isS10Prefetched(DeviceId deviceId) {
         log.debug("Checking existence of S10 certificate in DB: {}", deviceId);
         return getPrefetchRepository()
-            .existsByPathContainingIgnoreCaseAndType(getS10CertPattern(deviceId), CERT);
+            .existsByLookupKeyAndType(getS10CertLookupKey(deviceId), CERT);
     }
 
     public Optional<byte[]> find(DeviceId deviceId) {
-        final String pathPattern = getZipPattern(deviceId);
-        log.debug("Looking for ZIP in DB using path: {}", pathPattern);
+        final String lookupKey = getZipLookupKey(deviceId);
+        log.debug("Looking for ZIP in DB using key: {}", lookupKey);
         return getPrefetchRepository()
-            .findByPathContainingIgnoreCaseAndType(pathPattern, getType())
+            .findFirstByLookupKeyAndType(lookupKey, getType())
             .map(PrefetchEntity::getContent)
             .map(getMapper()::decode);
     }
 
-    private static String getZipPattern(DeviceId deviceId) {
-        return "%s_%s".formatted(deviceId.getFamily().getAsHex(), deviceId.getDpUid());
+    private static String getZipLookupKey(DeviceId deviceId) {
+        return PrefetchLookupKey.of(deviceId.getFamily().getAsHex(), deviceId.getDpUid());
     }
 
-    private static String getS10CertPattern(DeviceId deviceId) {
-        return "attestation_%s".formatted(deviceId.getDpUid());
+    private static String getS10CertLookupKey(DeviceId deviceId) {
+        return PrefetchLookupKey.of("attestation", deviceId.getDpUid());
     }
 }
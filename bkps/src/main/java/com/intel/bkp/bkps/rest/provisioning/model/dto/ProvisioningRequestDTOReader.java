@@ -56,6 +56,7 @@ public class ProvisioningRequestDTOReader {
     private final FlowStage flowStage;
     private final ProtocolType protocolType;
     private final byte[] contextData;
+    private final String spdmSessionId;
     private final ProvisioningRequestDTO dto;
     private final List<ProgrammerResponse> jtagResponses;
 
@@ -68,6 +69,7 @@ public class ProvisioningRequestDTOReader {
         this.flowStage = provContextWithFlow.getFlowStage();
         this.protocolType = provContextWithFlow.getProtocolType();
         this.contextData = provContextWithFlow.getContextData();
+        this.spdmSessionId = provContextWithFlow.getSpdmSessionId();
         this.jtagResponses = ProvisioningContextConverter.decodeResponses(dto.getJtagResponses());
 
         log.info("FLOW STAGE: " + flowStage.name());
@@ -58,6 +58,7 @@ public class ProvisioningResponseDTOBuilder {
     private AesGcmProvider encryptionProvider;
     private FlowStage flowStage;
     private ProtocolType protocolType;
+    private String spdmSessionId;
 
     public ProvisioningResponseDTOBuilder context(ProvContext provContext) {
         this.provContext = provContext;
@@ -84,13 +85,19 @@ public class ProvisioningResponseDTOBuilder {
         return this;
     }
 
+    public ProvisioningResponseDTOBuilder spdmSessionId(String spdmSessionId) {
+        this.spdmSessionId = spdmSessionId;
+        return this;
+    }
+
     public ProvisioningResponseDTO build() throws ProvisioningConverterException, EncryptionProviderException {
         throwIfEncryptionProviderIsNotSet();
 
         ProvContextWithFlow.ProvContextWithFlowBuilder provContextWithFlowBuilder = ProvContextWithFlow
             .builder()
             .flowStage(flowStage)
-            .protocolType(protocolType);
+            .protocolType(protocolType)
+            .spdmSessionId(spdmSessionId);
 
         if (provContext != null) {
             provContextWithFlowBuilder.contextData(ProvisioningContextConverter.serialize(provContext));
@@ -48,8 +48,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class OverbuildCounterManager {
 
     private final ProvisioningHistoryService provisioningHistoryService;
+    private final OverbuildQuotaLeasePool overbuildQuotaLeasePool;
 
     public void increment(IServiceConfiguration configurationCallback, Long cfgId) throws ExceededOvebuildException {
+        if (overbuildQuotaLeasePool.isEnabled()) {
+            log.info("Consuming leased overbuild quota ...");
+            if (!overbuildQuotaLeasePool.tryConsume(cfgId)) {
+                throw new ExceededOvebuildException();
+            }
+            return;
+        }
+
         log.info("Updating overbuild counter ...");
 
         if (configurationCallback.getConfigurationAndUpdate(cfgId) != 1) {
@@ -65,6 +74,7 @@ public class OverbuildCounterManager {
 
         if (overbuildMax != ServiceConfiguration.OVERBUILD_MAX_INFINITE
             && overbuildCurrent >= overbuildMax
+            && !overbuildQuotaLeasePool.hasQuota(configuration.getId())
             && !provisioningHistoryService.isProvisioned(deviceIdHex, configuration.getPufType())) {
             throw new ExceededOvebuildException(overbuildMax, overbuildCurrent);
         }
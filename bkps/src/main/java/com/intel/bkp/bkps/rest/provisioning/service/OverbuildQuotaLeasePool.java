@@ -0,0 +1,185 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps blocks of overbuild quota leased by this instance, so that provisioning of consecutive devices does not
+ * update the same service configuration row every time.
+ * Leased quota is already counted in overbuild_current, hence overbuild_max is never exceeded across the cluster.
+ * Unused quota is returned when lease expires and on shutdown. Quota held by an instance that did not shut down
+ * gracefully stays counted as used.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverbuildQuotaLeasePool {
+
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<Long, Object> acquireLocks = new ConcurrentHashMap<>();
+
+    private final OverbuildQuotaLeaseService leaseService;
+
+    @Value("${service.overbuild.lease.enabled:false}")
+    private boolean enabled;
+
+    @Value("${service.overbuild.lease.block-size:16}")
+    private int blockSize;
+
+    @Value("${service.overbuild.lease.ttl:PT5M}")
+    private Duration ttl;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Consumes single unit of overbuild quota, leasing new block from database if local one is used up or expired.
+     *
+     * @return false if overbuild limit is reached
+     */
+    public boolean tryConsume(Long cfgId) {
+        if (tryConsumeLocal(cfgId)) {
+            return true;
+        }
+
+        synchronized (acquireLocks.computeIfAbsent(cfgId, id -> new Object())) {
+            if (tryConsumeLocal(cfgId)) {
+                return true;
+            }
+
+            Optional.ofNullable(leases.remove(cfgId)).ifPresent(lease -> release(cfgId, lease));
+
+            final int amount = leaseService.acquire(cfgId, blockSize);
+            if (amount <= 0) {
+                return false;
+            }
+
+            leases.put(cfgId, new Lease(amount - 1, Instant.now().plus(ttl)));
+            return true;
+        }
+    }
+
+    /**
+     * Checks if this instance still holds unused quota, even if configuration row indicates that limit is reached.
+     */
+    public boolean hasQuota(Long cfgId) {
+        return Optional.ofNullable(leases.get(cfgId))
+            .filter(lease -> !lease.isExpired(Instant.now()))
+            .map(Lease::getRemaining)
+            .orElse(0) > 0;
+    }
+
+    @Scheduled(fixedDelayString = "${service.overbuild.lease.ttl:PT5M}",
+        initialDelayString = "${service.overbuild.lease.ttl:PT5M}")
+    public void releaseExpired() {
+        final Instant now = Instant.now();
+        leases.forEach((cfgId, lease) -> {
+            if (lease.isExpired(now) && leases.remove(cfgId, lease)) {
+                release(cfgId, lease);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        leases.forEach((cfgId, lease) -> {
+            if (leases.remove(cfgId, lease)) {
+                release(cfgId, lease);
+            }
+        });
+    }
+
+    private boolean tryConsumeLocal(Long cfgId) {
+        final Lease lease = leases.get(cfgId);
+        return lease != null && !lease.isExpired(Instant.now()) && lease.tryConsume();
+    }
+
+    private void release(Long cfgId, Lease lease) {
+        final int unused = lease.drain();
+        try {
+            leaseService.release(cfgId, unused);
+        } catch (Exception e) {
+            log.error("Failed to return {} units of overbuild quota for configuration {}: {}", unused, cfgId,
+                e.getMessage());
+            log.debug("Stacktrace: ", e);
+        }
+    }
+
+    private static final class Lease {
+
+        private final AtomicInteger remaining;
+        private final Instant expiresAt;
+
+        private Lease(int remaining, Instant expiresAt) {
+            this.remaining = new AtomicInteger(remaining);
+            this.expiresAt = expiresAt;
+        }
+
+        boolean tryConsume() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        int getRemaining() {
+            return remaining.get();
+        }
+
+        int drain() {
+            return remaining.getAndSet(0);
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.service;
+
+import com.intel.bkp.bkps.domain.ServiceConfiguration;
+import com.intel.bkp.bkps.exception.ServiceConfigurationNotFound;
+import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves overbuild quota between service configuration row and local leases.
+ * Runs in separate transactions, so that reserved quota is committed regardless of outcome of provisioning
+ * transaction in which it is consumed - otherwise the row could be rolled back while local lease is still used.
+ */
+@Service
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Slf4j
+@Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRES_NEW)
+public class OverbuildQuotaLeaseService {
+
+    private final ServiceConfigurationRepository serviceConfigurationRepository;
+
+    /**
+     * Reserves up to blockSize units of overbuild quota.
+     *
+     * @return number of reserved units, 0 if overbuild limit is already reached
+     */
+    public int acquire(Long cfgId, int blockSize) {
+        final ServiceConfiguration configuration = serviceConfigurationRepository.findById(cfgId)
+            .orElseThrow(ServiceConfigurationNotFound::new);
+
+        final int overbuildMax = configuration.getOverbuildMax();
+        final int amount = overbuildMax == ServiceConfiguration.OVERBUILD_MAX_INFINITE
+                           ? blockSize
+                           : Math.min(blockSize, overbuildMax - configuration.getOverbuildCurrent());
+        if (amount <= 0) {
+            return 0;
+        }
+
+        if (serviceConfigurationRepository.updateServiceConfigurationAddOverbuildCurrent(cfgId, amount) != 1) {
+            return 0;
+        }
+
+        log.debug("Leased {} units of overbuild quota for configuration {}.", amount, cfgId);
+        return amount;
+    }
+
+    /**
+     * Returns unused units of leased overbuild quota.
+     */
+    public void release(Long cfgId, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+
+        if (serviceConfigurationRepository.updateServiceConfigurationSubtractOverbuildCurrent(cfgId, amount) != 1) {
+            log.warn("Failed to return {} units of overbuild quota for configuration {}.", amount, cfgId);
+            return;
+        }
+
+        log.debug("Returned {} units of overbuild quota for configuration {}.", amount, cfgId);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.utils;
+
+import com.intel.bkp.utils.ByteBufferSafe;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.intel.bkp.bkps.rest.provisioning.utils.BinaryContextWriter.NULL_BYTES_LENGTH;
+import static com.intel.bkp.bkps.rest.provisioning.utils.BinaryContextWriter.NULL_STRING_LENGTH;
+import static com.intel.bkp.bkps.rest.provisioning.utils.BinaryContextWriter.VALUE_ABSENT;
+
+/**
+ * Reads fields written by {@link BinaryContextWriter}.
+ * Truncated data results in {@link com.intel.bkp.utils.exceptions.ByteBufferSafeException}.
+ */
+class BinaryContextReader {
+
+    private final ByteBufferSafe buffer;
+
+    BinaryContextReader(byte[] data) {
+        this.buffer = ByteBufferSafe.wrap(data);
+    }
+
+    byte readByte() {
+        return buffer.getByte();
+    }
+
+    Long readNullableLong() {
+        return readByte() == VALUE_ABSENT ? null : buffer.getLong();
+    }
+
+    String readString() {
+        final int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_STRING_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = buffer.arrayFromInt(length);
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    <E extends Enum<E>> E readEnum(Class<E> type) {
+        final String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    byte[] readBytes() {
+        final int length = buffer.getInt();
+        if (length == NULL_BYTES_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = buffer.arrayFromInt(length);
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    int remaining() {
+        return buffer.remaining();
+    }
+}
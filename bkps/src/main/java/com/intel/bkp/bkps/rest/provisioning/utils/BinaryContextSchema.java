@@ -0,0 +1,96 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.utils;
+
+import com.intel.bkp.bkps.protocol.common.model.FlowStage;
+import com.intel.bkp.bkps.protocol.common.model.ProtocolType;
+import com.intel.bkp.bkps.protocol.common.model.ProvContextWithFlow;
+import com.intel.bkp.bkps.protocol.spdm.model.ProvSpdmContext;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Field layout of provisioning context type in binary format.
+ * Enum constants are stored by name, so that adding or reordering constants does not break contexts issued
+ * before upgrade. Appending fields requires new format version in {@link ProvisioningContextConverter}.
+ */
+interface BinaryContextSchema<T> {
+
+    BinaryContextSchema<ProvContextWithFlow> PROV_CONTEXT_WITH_FLOW = new BinaryContextSchema<>() {
+        @Override
+        public void write(ProvContextWithFlow context, BinaryContextWriter writer) {
+            writer.writeEnum(context.getFlowStage())
+                .writeEnum(context.getProtocolType())
+                .writeString(context.getSpdmSessionId())
+                .writeBytes(context.getContextData());
+        }
+
+        @Override
+        public ProvContextWithFlow read(BinaryContextReader reader) {
+            return ProvContextWithFlow.builder()
+                .flowStage(reader.readEnum(FlowStage.class))
+                .protocolType(reader.readEnum(ProtocolType.class))
+                .spdmSessionId(reader.readString())
+                .contextData(reader.readBytes())
+                .build();
+        }
+    };
+
+    BinaryContextSchema<ProvSpdmContext> PROV_SPDM_CONTEXT = new BinaryContextSchema<>() {
+        @Override
+        public void write(ProvSpdmContext context, BinaryContextWriter writer) {
+            writer.writeString(context.getChipId())
+                .writeNullableLong(context.getCfgId());
+        }
+
+        @Override
+        public ProvSpdmContext read(BinaryContextReader reader) {
+            return new ProvSpdmContext(reader.readString(), reader.readNullableLong());
+        }
+    };
+
+    Map<Class<?>, BinaryContextSchema<?>> SCHEMAS = Map.of(
+        ProvContextWithFlow.class, PROV_CONTEXT_WITH_FLOW,
+        ProvSpdmContext.class, PROV_SPDM_CONTEXT
+    );
+
+    void write(T context, BinaryContextWriter writer);
+
+    T read(BinaryContextReader reader);
+
+    @SuppressWarnings("unchecked")
+    static Optional<BinaryContextSchema<Object>> find(Class<?> type) {
+        return Optional.ofNullable((BinaryContextSchema<Object>) SCHEMAS.get(type));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes fields of binary provisioning context. All values are big endian.
+ * Strings are prefixed with unsigned 16-bit length and byte arrays with 32-bit length,
+ * where maximal value (0xFFFF / -1) denotes null.
+ */
+class BinaryContextWriter {
+
+    static final int NULL_STRING_LENGTH = 0xFFFF;
+    static final int NULL_BYTES_LENGTH = -1;
+    static final byte VALUE_ABSENT = 0;
+    static final byte VALUE_PRESENT = 1;
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    BinaryContextWriter writeByte(byte value) {
+        ensureCapacity(Byte.BYTES);
+        buffer.put(value);
+        return this;
+    }
+
+    BinaryContextWriter writeNullableLong(Long value) {
+        if (value == null) {
+            return writeByte(VALUE_ABSENT);
+        }
+        writeByte(VALUE_PRESENT);
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+        return this;
+    }
+
+    BinaryContextWriter writeString(String value) {
+        if (value == null) {
+            return writeShortLength(NULL_STRING_LENGTH);
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING_LENGTH) {
+            throw new IllegalArgumentException("String too long for binary context: " + bytes.length);
+        }
+        writeShortLength(bytes.length);
+        return put(bytes);
+    }
+
+    BinaryContextWriter writeEnum(Enum<?> value) {
+        return writeString(value == null ? null : value.name());
+    }
+
+    BinaryContextWriter writeBytes(byte[] value) {
+        ensureCapacity(Integer.BYTES);
+        if (value == null) {
+            buffer.putInt(NULL_BYTES_LENGTH);
+            return this;
+        }
+        buffer.putInt(value.length);
+        return put(value);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private BinaryContextWriter writeShortLength(int length) {
+        ensureCapacity(Short.BYTES);
+        buffer.putShort((short) length);
+        return this;
+    }
+
+    private BinaryContextWriter put(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.remaining() < length) {
+            final int newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+            buffer = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), newCapacity)).position(buffer.position());
+        }
+    }
+}
@@ -56,8 +56,15 @@ public class ProvisioningContextConverter {
         "Failed to deserialize Provisioning Context.";
     private static final String FAILED_TO_SERIALIZE_CONTEXT =
         "Failed to serialize Provisioning Context.";
+    private static final String UNSUPPORTED_BINARY_CONTEXT =
+        "Binary format is not supported for Provisioning Context type: %s";
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    /**
+     * First byte of binary context. JSON context written by previous versions always starts with '{'.
+     */
+    static final byte BINARY_FORMAT_V1 = 0x01;
+
     public static List<MessageDTO> encodeMessages(List<ProgrammerMessage> programmerMessages) {
         return programmerMessages.stream().map(MessageDTO::from).collect(Collectors.toList());
     }
@@ -66,7 +73,16 @@ public class ProvisioningContextConverter {
         return encodedResponses.stream().map(ProgrammerResponse::from).collect(Collectors.toList());
     }
 
+    /**
+     * Serializes context types with binary schema to compact binary format, others to JSON.
+     */
     public static byte[] serialize(Object object) throws ProvisioningConverterException {
+        final Optional<BinaryContextSchema<Object>> schema = Optional.ofNullable(object)
+            .flatMap(value -> BinaryContextSchema.find(value.getClass()));
+        if (schema.isPresent()) {
+            return serializeBinary(object, schema.get());
+        }
+
         try {
             return MAPPER.writeValueAsBytes(object);
         } catch (JsonProcessingException e) {
@@ -84,6 +100,10 @@ public class ProvisioningContextConverter {
     }
 
     private static Object deserializeInternal(byte[] context, Class<?> type) throws ProvisioningConverterException {
+        if (isBinary(context)) {
+            return deserializeBinary(context, type);
+        }
+
         try {
             return Optional.ofNullable(MAPPER.readValue(context, type))
                 .orElseThrow(() -> new ProvisioningConverterException(FAILED_TO_DESERIALIZE_CONTEXT));
@@ -91,4 +111,37 @@ public class ProvisioningContextConverter {
             throw new ProvisioningConverterException(FAILED_TO_DESERIALIZE_CONTEXT, e);
         }
     }
+
+    static boolean isBinary(byte[] context) {
+        return context != null && context.length > 0 && context[0] == BINARY_FORMAT_V1;
+    }
+
+    private static byte[] serializeBinary(Object object, BinaryContextSchema<Object> schema)
+        throws ProvisioningConverterException {
+        try {
+            final BinaryContextWriter writer = new BinaryContextWriter().writeByte(BINARY_FORMAT_V1);
+            schema.write(object, writer);
+            return writer.toByteArray();
+        } catch (RuntimeException e) {
+            throw new ProvisioningConverterException(FAILED_TO_SERIALIZE_CONTEXT, e);
+        }
+    }
+
+    private static Object deserializeBinary(byte[] context, Class<?> type) throws ProvisioningConverterException {
+        final BinaryContextSchema<Object> schema = BinaryContextSchema.find(type)
+            .orElseThrow(() -> new ProvisioningConverterException(
+                UNSUPPORTED_BINARY_CONTEXT.formatted(type.getSimpleName())));
+
+        try {
+            final BinaryContextReader reader = new BinaryContextReader(context);
+            reader.readByte();
+            final Object result = schema.read(reader);
+            if (reader.remaining() != 0) {
+                throw new ProvisioningConverterException(FAILED_TO_DESERIALIZE_CONTEXT);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            throw new ProvisioningConverterException(FAILED_TO_DESERIALIZE_CONTEXT, e);
+        }
+    }
 }
@@ -33,15 +33,35 @@
 package com.intel.bkp.bkps.spdm.jna;
 
 import com.intel.bkp.protocol.spdm.jna.model.LibSpdmLibraryWrapper;
-import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
-@AllArgsConstructor
+@Slf4j
+@Component
 public class LibSpdmLibraryWrapperImpl {
 
     private final String wrapperLibraryPath;
 
+    private volatile LibSpdmLibraryWrapper instance;
+
+    public LibSpdmLibraryWrapperImpl(@Value("${lib-spdm-params.wrapper-library-path}") String wrapperLibraryPath) {
+        this.wrapperLibraryPath = wrapperLibraryPath;
+    }
+
     public LibSpdmLibraryWrapper getInstance() {
-        return LibSpdmLibraryWrapper.getInstance(wrapperLibraryPath);
+        LibSpdmLibraryWrapper result = instance;
+        if (result == null) {
+            synchronized (this) {
+                result = instance;
+                if (result == null) {
+                    log.debug("Loading SPDM Wrapper library.");
+                    result = LibSpdmLibraryWrapper.getInstance(wrapperLibraryPath);
+                    instance = result;
+                }
+            }
+        }
+        return result;
     }
 
 }
@@ -46,8 +46,8 @@ import com.intel.bkp.bkps.protocol.common.service.BkpsDHCertBuilder;
 import com.intel.bkp.bkps.rest.provisioning.service.IServiceConfiguration;
 import com.intel.bkp.bkps.rest.provisioning.service.OverbuildCounterManager;
 import com.intel.bkp.bkps.rest.provisioning.service.ProvisioningHistoryService;
+import com.intel.bkp.bkps.spdm.jna.LibSpdmLibraryWrapperImpl;
 import com.intel.bkp.bkps.spdm.jna.SpdmParametersProviderImpl;
-import com.intel.bkp.bkps.spdm.model.SpdmThreadError;
 import com.intel.bkp.bkps.utils.MdcHelper;
 import com.intel.bkp.command.logger.CommandLogger;
 import com.intel.bkp.command.messages.common.VolatileAesErase;
@@ -64,6 +64,7 @@ import com.intel.bkp.protocol.spdm.exceptions.SpdmNotSupportedException;
 import com.intel.bkp.protocol.spdm.exceptions.UnsupportedCapabilityException;
 import com.intel.bkp.protocol.spdm.exceptions.UnsupportedSpdmVersionException;
 import com.intel.bkp.protocol.spdm.exceptions.ValidChainNotFoundException;
+import com.intel.bkp.protocol.spdm.jna.SpdmContextPool;
 import com.intel.bkp.protocol.spdm.jna.model.MctpEncapsulationTypeCallback;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmParametersProvider;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
@@ -73,10 +74,8 @@ import com.intel.bkp.protocol.spdm.service.SpdmSecureSessionMessageSender;
 import com.intel.bkp.protocol.spdm.service.SpdmSetAuthorityMessageSender;
 import com.intel.bkp.protocol.spdm.service.SpdmVcaMessageSender;
 import com.intel.bkp.protocol.spdm.service.SpdmVersionVerifier;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -99,10 +98,6 @@ public class AsyncSpdmActions {
 
     private final SpdmVersionVerifier spdmVersionVerifier = new SpdmVersionVerifier(SPDM_SUPPORTED_VERSION);
     private final SpdmParametersProvider spdmParametersProvider = new SpdmParametersProviderImpl();
-    private final SpdmErrorProcessResultHolder processResult = new SpdmErrorProcessResultHolder();
-
-    @Value("${lib-spdm-params.wrapper-library-path}")
-    private String wrapperLibraryPath;
 
     private final BkpsDHCertBuilder bkpsDHCertBuilder;
     private final FinishMessageSigner finishMessageSigner;
@@ -112,111 +107,96 @@ public class AsyncSpdmActions {
     private final CommandLayer commandLayer;
     private final SpdmDiceAttestationService attestationService;
     private final SpdmMessageSenderService spdmMessageSenderService;
+    private final LibSpdmLibraryWrapperImpl libSpdmLibraryWrapper;
+    private final SpdmContextPool spdmContextPool;
 
-    @Getter
-    private boolean processing = false;
-
-    private SpdmProtocol12Impl initializeLibrary() {
-        return new SpdmProtocol12Impl(wrapperLibraryPath, () -> bkpsDHCertBuilder.getChain(RootChainType.MULTI),
-            spdmMessageSenderService, spdmParametersProvider, finishMessageSigner);
-    }
-
-    public boolean isProcessResult() {
-        return processResult.ready();
-    }
-
-    public Optional<SpdmThreadError> getProcessResult() {
-        return Optional.ofNullable(processResult.consume());
+    private SpdmProtocol12Impl initializeLibrary(SpdmSession session) {
+        return new SpdmProtocol12Impl(libSpdmLibraryWrapper, spdmContextPool,
+            () -> bkpsDHCertBuilder.getChain(RootChainType.MULTI),
+            spdmMessageSenderService.forSession(session), spdmParametersProvider, finishMessageSigner);
     }
 
     @Async("spdmTaskExecutor")
-    public void getVersionThread(String mainThreadTxId) {
+    public void getVersionThread(String mainThreadTxId, SpdmSession session) {
         MdcHelper.add(mainThreadTxId);
 
-        try (final SpdmProtocol spdmProtocol = initializeLibrary()) {
-            processing = true;
-
+        try (final SpdmProtocol spdmProtocol = initializeLibrary(session)) {
             final String responderVersion = new SpdmGetVersionMessageSender(spdmProtocol).send();
             log.debug("SPDM Responder version: {}", responderVersion);
 
             spdmVersionVerifier.ensureVersionIsSupported(responderVersion);
-            processResult.success();
+            session.getProcessResult().success();
         } catch (SpdmNotSupportedException e) {
             log.debug("SPDM not supported: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (UnsupportedSpdmVersionException e) {
             log.debug("Unsupported SPDM version: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (Exception e) {
             log.debug("Processing failed.", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } finally {
-            processing = false;
+            session.finishProcessing();
         }
     }
 
     @Async("spdmTaskExecutor")
-    public void setAuthorityThread(String mainThreadTxId, List<byte[]> certificateChain, int slotId) {
+    public void setAuthorityThread(String mainThreadTxId, SpdmSession session, List<byte[]> certificateChain,
+                                   int slotId) {
         MdcHelper.add(mainThreadTxId);
 
-        try (final SpdmProtocol spdmProtocol = initializeLibrary()) {
-            processing = true;
-
+        try (final SpdmProtocol spdmProtocol = initializeLibrary(session)) {
             initializeConnectionAndEnsureVersionSupported(spdmProtocol);
 
             log.info("SPDM Responder initialized for Set Authority.");
 
             new SpdmSetAuthorityMessageSender(spdmProtocol).send(certificateChain, slotId);
-            processResult.success();
+            session.getProcessResult().success();
         } catch (SpdmNotSupportedException e) {
             log.debug("SPDM not supported: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (UnsupportedSpdmVersionException e) {
             log.debug("Unsupported SPDM version: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (Exception e) {
             log.debug("Processing failed.", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } finally {
-            processing = false;
+            session.finishProcessing();
         }
     }
 
     @Async("spdmTaskExecutor")
-    public void vcaForSecureSessionThread(String mainThreadTxId) {
+    public void vcaForSecureSessionThread(String mainThreadTxId, SpdmSession session) {
         MdcHelper.add(mainThreadTxId);
 
-        try (final SpdmProtocol spdmProtocol = initializeLibrary()) {
-            processing = true;
-
+        try (final SpdmProtocol spdmProtocol = initializeLibrary(session)) {
             initializeConnectionAndEnsureVersionSupported(spdmProtocol);
             checkCapability(spdmProtocol, SPDM_GET_CAPABILITIES_RESPONSE_FLAGS_KEY_EX_CAP, "KEY_EX_CAP");
-            processResult.success();
+            session.getProcessResult().success();
         } catch (SpdmNotSupportedException e) {
             log.debug("SPDM not supported: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (UnsupportedSpdmVersionException e) {
             log.debug("Unsupported SPDM version: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (UnsupportedCapabilityException e) {
             log.debug("SPDM capability not supported: ", e);
-            processResult.unsupportedCap();
+            session.getProcessResult().unsupportedCap();
         } catch (Exception e) {
             log.debug("Processing failed.", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } finally {
-            processing = false;
+            session.finishProcessing();
         }
     }
 
     @Async("spdmTaskExecutor")
-    public void secureSessionThread(String mainThreadTxId, String uid, long cfgId,
+    public void secureSessionThread(String mainThreadTxId, SpdmSession session, String uid, long cfgId,
                                     IServiceConfiguration configurationCallback) {
         MdcHelper.add(mainThreadTxId);
 
-        try (final SpdmProtocol spdmProtocol = initializeLibrary()) {
-            processing = true;
-
+        try (final SpdmProtocol spdmProtocol = initializeLibrary(session)) {
             initializeConnectionAndEnsureVersionSupported(spdmProtocol, () -> MCTP_ENCAPSULATION_FOR_SECURE_SESSION);
             log.info("SPDM Responder initialized for Secure Session.");
 
@@ -254,21 +234,21 @@ public class AsyncSpdmActions {
 
             spdmSecureSessionMessageSender.endSession();
 
-            processResult.success();
+            session.getProcessResult().success();
         } catch (ValidChainNotFoundException e) {
             log.error("Valid chain not found.", e);
-            processResult.attestationFailed();
+            session.getProcessResult().attestationFailed();
         } catch (SpdmAttestationException e) {
             log.error("Attestation failed.", e);
-            processResult.attestationFailed();
+            session.getProcessResult().attestationFailed();
         } catch (UnsupportedSpdmVersionException e) {
             log.debug("Unsupported SPDM version: ", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } catch (Exception e) {
             log.debug("Processing failed.", e);
-            processResult.failure();
+            session.getProcessResult().failure();
         } finally {
-            processing = false;
+            session.finishProcessing();
         }
     }
 
@@ -353,42 +333,4 @@ public class AsyncSpdmActions {
     private boolean markDeviceProvisioned(String deviceIdHex, PufType pufType) {
         return provisioningHistoryService.getCurrentProvisionedStatusAndUpdate(deviceIdHex, pufType);
     }
-
-    static class ProcessResultHolder<T> {
-
-        private T processResult;
-
-        synchronized boolean ready() {
-            return processResult != null;
-        }
-
-        synchronized void produce(T item) {
-            processResult = item;
-        }
-
-        synchronized T consume() {
-            T result = processResult;
-            processResult = null;
-            return result;
-        }
-    }
-
-    static class SpdmErrorProcessResultHolder extends ProcessResultHolder<SpdmThreadError> {
-
-        synchronized void success() {
-            produce(SpdmThreadError.SUCCESS);
-        }
-
-        synchronized void failure() {
-            produce(SpdmThreadError.FAILURE);
-        }
-
-        synchronized void attestationFailed() {
-            produce(SpdmThreadError.ATTESTATION_FAILED);
-        }
-
-        synchronized void unsupportedCap() {
-            produce(SpdmThreadError.UNSUPPORTED_CAP);
-        }
-    }
 }
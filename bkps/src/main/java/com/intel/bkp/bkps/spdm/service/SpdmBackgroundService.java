@@ -39,13 +39,10 @@ import com.intel.bkp.bkps.spdm.model.MessageFromQueueEmpty;
 import com.intel.bkp.bkps.spdm.model.SpdmThreadError;
 import com.intel.bkp.bkps.spdm.model.UnrecoverableMessageFromQueueEmpty;
 import com.intel.bkp.bkps.utils.MdcHelper;
-import dev.failsafe.Failsafe;
-import dev.failsafe.RetryPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,81 +52,100 @@ import java.util.Optional;
 public class SpdmBackgroundService {
 
     private final SpdmMessageSenderService spdmMessageSenderService;
+    private final SpdmSessionRegistry spdmSessionRegistry;
     private final AsyncSpdmActions asyncSpdmActions;
 
-    private final RetryPolicy<Object> retryPolicy = RetryPolicy.builder()
-        .handle(MessageFromQueueEmpty.class)
-        .withDelay(Duration.ofSeconds(1))
-        .withMaxRetries(3)
-        .onRetry(e -> log.debug("Waiting for SPDM process ..."))
-        .abortOn(UnrecoverableMessageFromQueueEmpty.class)
-        .build();
-
-    public SpdmMessageDTO getMessageFromQueue() throws UnrecoverableMessageFromQueueEmpty {
+    public SpdmMessageDTO getMessageFromQueue(String sessionId) throws UnrecoverableMessageFromQueueEmpty {
         try {
-            return tryGetMessageFromQueue()
+            return tryGetMessageFromQueue(sessionId)
                 .orElseThrow(UnrecoverableMessageFromQueueEmpty::new);
         } catch (MessageFromQueueEmpty e) {
             throw new UnrecoverableMessageFromQueueEmpty();
         }
     }
 
-    public Optional<SpdmMessageDTO> tryGetMessageFromQueue() throws MessageFromQueueEmpty {
-        return Failsafe.with(retryPolicy).get(() -> {
+    public Optional<SpdmMessageDTO> tryGetMessageFromQueue(String sessionId) throws MessageFromQueueEmpty {
+        final SpdmSession session = spdmSessionRegistry.get(sessionId);
+        try {
             final Optional<SpdmMessageDTO> messageFromQueue = Optional.ofNullable(
-                spdmMessageSenderService.getMessageFromQueue());
-
-            if (messageFromQueue.isEmpty()) {
-                if (asyncSpdmActions.isProcessing()) {
-                    throw new MessageFromQueueEmpty();
-                } else {
-                    return messageFromQueue;
-                }
+                spdmMessageSenderService.getMessageFromQueue(session));
+
+            if (messageFromQueue.isEmpty() && session.isProcessing()) {
+                log.debug("SPDM process did not publish a message before long-poll timeout.");
+                throw new MessageFromQueueEmpty();
             }
 
             return messageFromQueue;
-        });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessageFromQueueEmpty();
+        }
     }
 
-    public void ensureProcessIsNotRunning() {
-        if (asyncSpdmActions.isProcessing()) {
+    public void ensureProcessIsNotRunning(String sessionId) {
+        final Optional<SpdmSession> session = spdmSessionRegistry.find(sessionId);
+        if (session.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!spdmMessageSenderService.awaitProcessFinished(session.get())) {
+                throw new SpdmProcessIsStillRunning();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new SpdmProcessIsStillRunning();
         }
     }
 
-    public void startGetVersion() {
-        spdmMessageSenderService.clear();
-        asyncSpdmActions.getVersionThread(MdcHelper.get());
+    public String startGetVersion() {
+        final SpdmSession session = startSession(spdmSessionRegistry.open());
+        asyncSpdmActions.getVersionThread(MdcHelper.get(), session);
+        return session.getSessionId();
+    }
+
+    public void startSetAuthority(String sessionId, List<byte[]> certificateChain, int slotId) {
+        final SpdmSession session = startSession(spdmSessionRegistry.open(sessionId));
+        asyncSpdmActions.setAuthorityThread(MdcHelper.get(), session, certificateChain, slotId);
     }
 
-    public void startSetAuthority(List<byte[]> certificateChain, int slotId) {
-        spdmMessageSenderService.clear();
-        asyncSpdmActions.setAuthorityThread(MdcHelper.get(), certificateChain, slotId);
+    public String startVcaForProvisioningThread() {
+        final SpdmSession session = startSession(spdmSessionRegistry.open());
+        asyncSpdmActions.vcaForSecureSessionThread(MdcHelper.get(), session);
+        return session.getSessionId();
     }
 
-    public void startVcaForProvisioningThread() {
-        spdmMessageSenderService.clear();
-        asyncSpdmActions.vcaForSecureSessionThread(MdcHelper.get());
+    public void startSecureSessionThread(String sessionId, String uid, Long cfgId,
+                                         IServiceConfiguration configurationCallback) {
+        final SpdmSession session = startSession(spdmSessionRegistry.open(sessionId));
+        asyncSpdmActions.secureSessionThread(MdcHelper.get(), session, uid, cfgId, configurationCallback);
     }
 
-    public void startSecureSessionThread(String uid, Long cfgId, IServiceConfiguration configurationCallback) {
-        spdmMessageSenderService.clear();
-        asyncSpdmActions.secureSessionThread(MdcHelper.get(), uid, cfgId, configurationCallback);
+    public void pushResponseToQueue(String sessionId, SpdmMessageDTO spdmMessageDto) {
+        spdmMessageSenderService.pushResponseToQueue(spdmSessionRegistry.get(sessionId), spdmMessageDto);
     }
 
-    public void pushResponseToQueue(SpdmMessageDTO spdmMessageDto) {
-        spdmMessageSenderService.pushResponseToQueue(spdmMessageDto);
+    public boolean isProcessResult(String sessionId) {
+        return spdmSessionRegistry.find(sessionId)
+            .map(session -> session.getProcessResult().ready())
+            .orElse(false);
     }
 
-    public boolean isProcessResult() {
-        return asyncSpdmActions.isProcessResult();
+    public Optional<SpdmThreadError> getProcessResult(String sessionId) {
+        final Optional<SpdmThreadError> processResult = spdmSessionRegistry.find(sessionId)
+            .map(session -> session.getProcessResult().consume());
+        spdmSessionRegistry.closeIfFinished(sessionId);
+        return processResult;
     }
 
-    public Optional<SpdmThreadError> getProcessResult() {
-        return asyncSpdmActions.getProcessResult();
+    public boolean isProcessing(String sessionId) {
+        return spdmSessionRegistry.find(sessionId)
+            .map(SpdmSession::isProcessing)
+            .orElse(false);
     }
 
-    public boolean isProcessing() {
-        return asyncSpdmActions.isProcessing();
+    private static SpdmSession startSession(SpdmSession session) {
+        session.startProcessing();
+        return session;
     }
 }
@@ -50,49 +50,57 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
-public class SpdmMessageSenderService implements MessageSender {
+public class SpdmMessageSenderService {
 
     @Value("${lib-spdm-params.network-communication-timeout}")
     private int communicationTimeout;
 
-    @Value("${lib-spdm-params.library-communication-timeout}")
-    private int libspdmProtocolTimeout;
+    @Value("${lib-spdm-params.message-long-poll-timeout}")
+    private Duration messageLongPollTimeout;
 
     private final CommandLayerService commandLayer;
-    private final BlockingQueue<SpdmMessageDTO> messageQueue;
-    private final BlockingQueue<byte[]> responseQueue;
     private final MessageLogger messageLogger;
     private final MctpMessageParser mctpMessageParser;
 
     @Autowired
     public SpdmMessageSenderService(CommandLayerService commandLayer) {
-        this(commandLayer, new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>(), new SpdmMessageResponseHandler(),
-            new MctpMessageParser());
+        this(commandLayer, new SpdmMessageResponseHandler(), new MctpMessageParser());
     }
 
-    @Override
-    public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) {
+    public MessageSender forSession(SpdmSession session) {
+        return new MessageSender() {
+            @Override
+            public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) {
+                SpdmMessageSenderService.this.sendMessage(session, buffer);
+            }
+
+            @Override
+            public Optional<byte[]> receiveResponse() {
+                return SpdmMessageSenderService.this.receiveResponse(session);
+            }
+        };
+    }
+
+    void sendMessage(SpdmSession session, ByteBuffer buffer) {
         messageLogger.logMessage(buffer);
         final MctpMessage mctpMessage = mctpMessageParser.parse(buffer);
         final byte[] command = commandLayer.create(mctpMessage, CommandIdentifier.MCTP);
 
-        if (!messageQueue.offer(new SpdmMessageDTO(command))) {
+        if (!session.offerMessage(new SpdmMessageDTO(command))) {
             log.error("Pushing message to queue failed, thread: {}", Thread.currentThread().getName());
         }
     }
 
-    @Override
-    public Optional<byte[]> receiveResponse() throws SpdmRuntimeException {
+    Optional<byte[]> receiveResponse(SpdmSession session) throws SpdmRuntimeException {
         try {
-            return Optional.ofNullable(responseQueue.poll(communicationTimeout, TimeUnit.SECONDS))
+            return Optional.ofNullable(session.getResponseQueue().poll(communicationTimeout, TimeUnit.SECONDS))
                 .map(response -> commandLayer.retrieve(response, CommandIdentifier.MCTP))
                 .map(rsp -> {
                     messageLogger.logResponse(ByteBuffer.wrap(rsp));
@@ -108,18 +116,17 @@ public class SpdmMessageSenderService implements MessageSender {
         }
     }
 
-    public SpdmMessageDTO getMessageFromQueue() throws InterruptedException {
-        return messageQueue.poll(libspdmProtocolTimeout, TimeUnit.SECONDS);
+    public SpdmMessageDTO getMessageFromQueue(SpdmSession session) throws InterruptedException {
+        return session.awaitMessage(messageLongPollTimeout);
     }
 
-    public void pushResponseToQueue(SpdmMessageDTO spdmMessageDto) {
-        if (!responseQueue.offer(spdmMessageDto.getMessage())) {
-            log.error("Pushing response to queue failed, thread: {}", Thread.currentThread().getName());
-        }
+    public boolean awaitProcessFinished(SpdmSession session) throws InterruptedException {
+        return session.awaitFinished(messageLongPollTimeout);
     }
 
-    public void clear() {
-        messageQueue.clear();
-        responseQueue.clear();
+    public void pushResponseToQueue(SpdmSession session, SpdmMessageDTO spdmMessageDto) {
+        if (!session.getResponseQueue().offer(spdmMessageDto.getMessage())) {
+            log.error("Pushing response to queue failed, thread: {}", Thread.currentThread().getName());
+        }
     }
 }
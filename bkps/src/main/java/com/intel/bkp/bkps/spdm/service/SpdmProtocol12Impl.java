@@ -35,6 +35,7 @@ package com.intel.bkp.bkps.spdm.service;
 import com.intel.bkp.bkps.spdm.jna.LibSpdmLibraryWrapperImpl;
 import com.intel.bkp.core.exceptions.BKPInternalRuntimeException;
 import com.intel.bkp.protocol.spdm.jna.SignatureProvider;
+import com.intel.bkp.protocol.spdm.jna.SpdmContextPool;
 import com.intel.bkp.protocol.spdm.jna.SpdmProtocol12;
 import com.intel.bkp.protocol.spdm.jna.model.MessageSender;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmParametersProvider;
@@ -47,14 +48,15 @@ import lombok.extern.slf4j.Slf4j;
 public class SpdmProtocol12Impl extends SpdmProtocol12 {
 
     private final QkyChainProvider qkyChainProvider;
-    private final String wrapperLibraryPath;
+    private final LibSpdmLibraryWrapperImpl libraryWrapper;
 
-    public SpdmProtocol12Impl(String wrapperLibraryPath, QkyChainProvider qkyChainProvider,
-                              MessageSender messageSender, SpdmParametersProvider parametersProvider,
-                              SignatureProvider signatureProvider) {
+    public SpdmProtocol12Impl(LibSpdmLibraryWrapperImpl libraryWrapper, SpdmContextPool contextPool,
+                              QkyChainProvider qkyChainProvider, MessageSender messageSender,
+                              SpdmParametersProvider parametersProvider, SignatureProvider signatureProvider) {
         super(messageSender, parametersProvider, signatureProvider);
         this.qkyChainProvider = qkyChainProvider;
-        this.wrapperLibraryPath = wrapperLibraryPath;
+        this.libraryWrapper = libraryWrapper;
+        this.contextPool = contextPool;
     }
 
     @Override
@@ -64,10 +66,8 @@ public class SpdmProtocol12Impl extends SpdmProtocol12 {
             return;
         }
 
-        log.debug("Loading SPDM Wrapper library.");
-
         try {
-            jnaInterface = new LibSpdmLibraryWrapperImpl(wrapperLibraryPath).getInstance();
+            jnaInterface = libraryWrapper.getInstance();
         } catch (Exception e) {
             throw new BKPInternalRuntimeException("Failed to link SPDM Wrapper library.", e);
         }
@@ -0,0 +1,186 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.spdm.service;
+
+import com.intel.bkp.bkps.rest.onboarding.model.SpdmMessageDTO;
+import com.intel.bkp.bkps.spdm.model.SpdmThreadError;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class SpdmSession {
+
+    @Getter
+    private final String sessionId;
+    private final BlockingQueue<SpdmMessageDTO> messageQueue;
+    private final BlockingQueue<byte[]> responseQueue;
+    private final SpdmErrorProcessResultHolder processResult = new SpdmErrorProcessResultHolder();
+
+    @Getter(AccessLevel.NONE)
+    private final Object stateChanged = new Object();
+
+    @Getter(AccessLevel.NONE)
+    private volatile boolean processing = false;
+
+    @Getter(AccessLevel.NONE)
+    private volatile Instant lastAccessed = Instant.now();
+
+    SpdmSession(String sessionId) {
+        this(sessionId, new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+    }
+
+    public boolean isProcessing() {
+        return processing;
+    }
+
+    void startProcessing() {
+        touch();
+        processing = true;
+    }
+
+    void finishProcessing() {
+        touch();
+        processing = false;
+        signalStateChanged();
+    }
+
+    boolean offerMessage(SpdmMessageDTO message) {
+        final boolean added = messageQueue.offer(message);
+        signalStateChanged();
+        return added;
+    }
+
+    /**
+     * Waits until the SPDM worker publishes the next message or finishes processing.
+     *
+     * @return next message, or null if the worker finished without one or the timeout elapsed
+     */
+    SpdmMessageDTO awaitMessage(Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (stateChanged) {
+            while (true) {
+                // read the flag before polling, the worker publishes its last message before finishing
+                final boolean finished = !processing;
+                final SpdmMessageDTO message = messageQueue.poll();
+                if (message != null || finished) {
+                    return message;
+                }
+
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                TimeUnit.NANOSECONDS.timedWait(stateChanged, remaining);
+            }
+        }
+    }
+
+    /**
+     * Waits until the SPDM worker finishes processing.
+     *
+     * @return true if the worker finished before the timeout elapsed
+     */
+    boolean awaitFinished(Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (stateChanged) {
+            while (processing) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(stateChanged, remaining);
+            }
+            return true;
+        }
+    }
+
+    private void signalStateChanged() {
+        synchronized (stateChanged) {
+            stateChanged.notifyAll();
+        }
+    }
+
+    void touch() {
+        lastAccessed = Instant.now();
+    }
+
+    boolean isIdleSince(Instant threshold) {
+        return lastAccessed.isBefore(threshold);
+    }
+
+    static class ProcessResultHolder<T> {
+
+        private T processResult;
+
+        synchronized boolean ready() {
+            return processResult != null;
+        }
+
+        synchronized void produce(T item) {
+            processResult = item;
+        }
+
+        synchronized T consume() {
+            T result = processResult;
+            processResult = null;
+            return result;
+        }
+    }
+
+    static class SpdmErrorProcessResultHolder extends ProcessResultHolder<SpdmThreadError> {
+
+        synchronized void success() {
+            produce(SpdmThreadError.SUCCESS);
+        }
+
+        synchronized void failure() {
+            produce(SpdmThreadError.FAILURE);
+        }
+
+        synchronized void attestationFailed() {
+            produce(SpdmThreadError.ATTESTATION_FAILED);
+        }
+
+        synchronized void unsupportedCap() {
+            produce(SpdmThreadError.UNSUPPORTED_CAP);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.spdm.service;
+
+import com.intel.bkp.bkps.exception.SpdmProcessIsStillRunning;
+import com.intel.bkp.bkps.exception.SpdmSessionNotFound;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class SpdmSessionRegistry {
+
+    private final Map<String, SpdmSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${lib-spdm-params.max-sessions}")
+    private int maxSessions;
+
+    @Value("${lib-spdm-params.session-expiry}")
+    private Duration sessionExpiry;
+
+    public SpdmSession open() {
+        return open(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Synchronized so that the max-sessions check and the insert cannot interleave between concurrent callers.
+     */
+    public synchronized SpdmSession open(String sessionId) {
+        evictExpired();
+
+        if (!sessions.containsKey(sessionId) && sessions.size() >= maxSessions) {
+            log.warn("Maximum number of concurrent SPDM sessions reached: {}", maxSessions);
+            throw new SpdmProcessIsStillRunning();
+        }
+
+        final SpdmSession session = new SpdmSession(sessionId);
+        sessions.put(sessionId, session);
+        log.debug("Opened SPDM session: {}", sessionId);
+        return session;
+    }
+
+    public Optional<SpdmSession> find(String sessionId) {
+        return Optional.ofNullable(sessionId)
+            .map(sessions::get);
+    }
+
+    public SpdmSession get(String sessionId) {
+        final SpdmSession session = find(sessionId).orElseThrow(() -> {
+            log.error("SPDM session not found: {}", sessionId);
+            return new SpdmSessionNotFound();
+        });
+        session.touch();
+        return session;
+    }
+
+    public void closeIfFinished(String sessionId) {
+        find(sessionId)
+            .filter(session -> !session.isProcessing())
+            .ifPresent(session -> close(session.getSessionId()));
+    }
+
+    public void close(String sessionId) {
+        if (sessions.remove(sessionId) != null) {
+            log.debug("Closed SPDM session: {}", sessionId);
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private void evictExpired() {
+        final Instant threshold = Instant.now().minus(sessionExpiry);
+        sessions.values().removeIf(session -> {
+            final boolean expired = session.isIdleSince(threshold) && !session.isProcessing();
+            if (expired) {
+                log.info("Evicting expired SPDM session: {}", session.getSessionId());
+            }
+            return expired;
+        });
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.utils;
+
+import com.intel.bkp.core.security.ISecurityProvider;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeystoreTransactionBatch {
+
+    /**
+     * Coalesces keystore writes made in current transaction. Keystore is persisted once, before commit, so failure
+     * to persist it rolls the transaction back. Without active transaction does nothing and every write is
+     * persisted immediately.
+     */
+    public static void join(ISecurityProvider securityService) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(securityService)) {
+            return;
+        }
+
+        securityService.beginBatch();
+        TransactionSynchronizationManager.bindResource(securityService, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new BatchSynchronization(securityService));
+    }
+
+    @RequiredArgsConstructor
+    private static class BatchSynchronization implements TransactionSynchronization {
+
+        private final ISecurityProvider securityService;
+        private boolean ended;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(securityService);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(securityService, Boolean.TRUE);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            ended = true;
+            securityService.endBatch();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(securityService);
+            if (ended) {
+                return;
+            }
+
+            try {
+                securityService.endBatch();
+            } catch (Exception e) {
+                log.error("Failed to save secure enclave after transaction completion.", e);
+            }
+        }
+    }
+}
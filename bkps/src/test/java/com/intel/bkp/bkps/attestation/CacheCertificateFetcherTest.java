@@ -73,7 +73,8 @@ class CacheCertificateFetcherTest {
     @BeforeEach
     void prepareSut() {
         when(certPrefetchRepositoryService.getMapper()).thenReturn(new CacheCertificateMapper());
-        sut = new CacheCertificateFetcher(certPrefetchRepositoryService, dpConnector);
+        sut = new CacheCertificateFetcher(certPrefetchRepositoryService, dpConnector,
+            new DecodedObjectCacheFactory());
     }
 
     @Test
@@ -66,7 +66,7 @@ class CacheCrlFetcherTest {
     @BeforeEach
     void prepareSut() {
         when(crlPrefetchRepositoryService.getMapper()).thenReturn(new CacheCrlMapper());
-        sut = new CacheCrlFetcher(crlPrefetchRepositoryService, dpConnector);
+        sut = new CacheCrlFetcher(crlPrefetchRepositoryService, dpConnector, new DecodedObjectCacheFactory());
     }
 
     @Test
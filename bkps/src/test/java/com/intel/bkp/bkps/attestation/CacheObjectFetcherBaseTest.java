@@ -41,6 +41,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -48,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -64,8 +66,8 @@ class CacheObjectFetcherBaseTest {
     private static class CacheObjectFetcherBaseTestImpl extends CacheObjectFetcherBase<Integer> {
 
         CacheObjectFetcherBaseTestImpl(IPrefetchRepositoryService<Integer> repositoryService,
-                                       DpConnector connector) {
-            super(repositoryService, connector);
+                                       DpConnector connector, DecodedObjectCache<Integer> l1Cache) {
+            super(repositoryService, connector, l1Cache);
         }
 
         @Override
@@ -83,12 +85,14 @@ class CacheObjectFetcherBaseTest {
     @Mock
     private DpConnector dpConnector;
 
+    private final DecodedObjectCache<Integer> l1Cache = new DecodedObjectCache<>("test", 10, Duration.ofMinutes(1));
+
     private CacheObjectFetcherBaseTestImpl sut;
 
     @BeforeEach
     void prepareSut() {
         when(prefetchRepositoryService.getMapper()).thenReturn(mapper);
-        sut = new CacheObjectFetcherBaseTestImpl(prefetchRepositoryService, dpConnector);
+        sut = new CacheObjectFetcherBaseTestImpl(prefetchRepositoryService, dpConnector, l1Cache);
     }
 
     @Test
@@ -157,4 +161,48 @@ class CacheObjectFetcherBaseTest {
         verify(prefetchRepositoryService).save(PATH, VALID_OBJ_2);
     }
 
+    @Test
+    void fetch_WhenObjFoundInDatabase_ServesNextFetchFromMemory() {
+        // given
+        when(prefetchRepositoryService.find(PATH)).thenReturn(Optional.of(VALID_OBJ));
+
+        // when
+        sut.fetch(PATH);
+        final var result = sut.fetch(PATH);
+
+        // then
+        assertEquals(Optional.of(VALID_OBJ), result);
+        verify(prefetchRepositoryService, times(1)).find(PATH);
+        assertEquals(1, l1Cache.getHitCount());
+    }
+
+    @Test
+    void fetch_WhenObjDownloaded_ServesNextFetchFromMemory() {
+        // given
+        when(prefetchRepositoryService.find(PATH)).thenReturn(Optional.empty());
+        when(dpConnector.tryGetBytes(PATH)).thenReturn(Optional.of(OBJ_BYTES));
+        when(mapper.parse(OBJ_BYTES)).thenReturn(Optional.of(VALID_OBJ));
+
+        // when
+        sut.fetch(PATH);
+        final var result = sut.fetch(PATH);
+
+        // then
+        assertEquals(Optional.of(VALID_OBJ), result);
+        verify(dpConnector, times(1)).tryGetBytes(PATH);
+    }
+
+    @Test
+    void fetch_WhenObjInMemoryNotValid_FallsBackToDatabase() {
+        // given
+        l1Cache.put(PATH, INVALID_OBJ);
+        when(prefetchRepositoryService.find(PATH)).thenReturn(Optional.of(VALID_OBJ));
+
+        // when
+        final var result = sut.fetch(PATH);
+
+        // then
+        assertEquals(Optional.of(VALID_OBJ), result);
+        verifyNoInteractions(dpConnector);
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.attestation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecodedObjectCacheTest {
+
+    private static final String KEY = "key";
+    private static final String KEY_2 = "key2";
+    private static final String KEY_3 = "key3";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void get_WhenPut_ReturnsValueAndCountsHit() {
+        // given
+        final var sut = new DecodedObjectCache<Integer>("test", 2, Duration.ofMinutes(1), nanoTime::get);
+        sut.put(KEY, 1);
+
+        // when
+        final var result = sut.get(KEY);
+
+        // then
+        assertEquals(Optional.of(1), result);
+        assertEquals(1, sut.getHitCount());
+        assertEquals(0, sut.getMissCount());
+    }
+
+    @Test
+    void get_WhenTtlElapsed_ReturnsEmptyAndCountsMiss() {
+        // given
+        final var sut = new DecodedObjectCache<Integer>("test", 2, Duration.ofSeconds(1), nanoTime::get);
+        sut.put(KEY, 1);
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // when
+        final var result = sut.get(KEY);
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(1, sut.getMissCount());
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void put_WhenFull_EvictsLeastRecentlyUsed() {
+        // given
+        final var sut = new DecodedObjectCache<Integer>("test", 2, Duration.ofMinutes(1), nanoTime::get);
+        sut.put(KEY, 1);
+        sut.put(KEY_2, 2);
+        sut.get(KEY);
+
+        // when
+        sut.put(KEY_3, 3);
+
+        // then
+        assertEquals(2, sut.size());
+        assertEquals(Optional.of(1), sut.get(KEY));
+        assertTrue(sut.get(KEY_2).isEmpty());
+    }
+
+    @Test
+    void invalidate_RemovesEntry() {
+        // given
+        final var sut = new DecodedObjectCache<Integer>("test", 2, Duration.ofMinutes(1), nanoTime::get);
+        sut.put(KEY, 1);
+
+        // when
+        sut.invalidate(KEY);
+
+        // then
+        assertTrue(sut.get(KEY).isEmpty());
+    }
+
+    @Test
+    void disabled_NeverStoresValues() {
+        // given
+        final DecodedObjectCache<Integer> sut = DecodedObjectCache.disabled();
+
+        // when
+        sut.put(KEY, 1);
+
+        // then
+        assertTrue(sut.get(KEY).isEmpty());
+        assertEquals(0, sut.size());
+    }
+}
@@ -34,6 +34,7 @@ package com.intel.bkp.bkps.attestation;
 
 import com.intel.bkp.bkps.config.ApplicationProperties;
 import com.intel.bkp.bkps.exception.PrefetchingFailedToDownloadException;
+import com.intel.bkp.bkps.exception.PrefetchingGenericException;
 import com.intel.bkp.bkps.rest.prefetching.model.PrefetchChainDataDTO;
 import com.intel.bkp.core.properties.DistributionPoint;
 import com.intel.bkp.fpgacerts.dice.iidutils.IidFlowDetector;
@@ -52,6 +53,9 @@ import java.security.cert.X509Certificate;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.intel.bkp.crypto.x509.parsing.X509CertificateParser.toX509Certificate;
 import static com.intel.bkp.crypto.x509.parsing.X509CrlParser.toX509Crl;
@@ -211,6 +215,43 @@ class DiceDpFetchServiceTest {
         assertIterableEquals(expectedIidCerts, getX509Certificates(result.getCertificatesIID()));
     }
 
+    @Test
+    void fetch_WithParallelExecutor_MergesResultsInChainOrder() {
+        // given
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        sut = prepareSut(executor);
+        mockCertificates(false, true);
+        mockCrls();
+
+        final var expectedCerts = List.of(deviceIdCert, productFamilyCert, rootCert);
+        final var expectedCrls = List.of(productFamilyCrl, diceCrl, productFamilyL1Crl);
+        final var expectedIidCerts = List.of(iidDeviceCert, productFamilyCert, rootCert);
+
+        // when
+        final PrefetchChainDataDTO result;
+        try {
+            result = sut.fetch(enrollmentDeviceIdCert);
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        verifyResult(expectedCerts, expectedCrls, expectedIidCerts, false, result);
+    }
+
+    @Test
+    void fetch_WithCrlNotDownloaded_Throws() {
+        // given
+        sut = prepareSut();
+        mockCertificates(false, false);
+        mockCrlExistence("IPCS/crls/IPCS_agilex.crl", productFamilyCrl);
+        mockCrlExistence("DICE/crls/DICE.crl", null);
+        mockCrlExistence("IPCS/crls/IPCS_agilex_L1.crl", productFamilyL1Crl);
+
+        // when-then
+        assertThrows(PrefetchingGenericException.class, () -> sut.fetch(enrollmentDeviceIdCert));
+    }
+
     @Test
     void fetch_WithNoChainFetched_Throws() {
         // given
@@ -265,12 +306,16 @@ class DiceDpFetchServiceTest {
     }
 
     private DiceDpFetchService prepareSut() {
+        return prepareSut(Runnable::run);
+    }
+
+    private DiceDpFetchService prepareSut(Executor executor) {
         when(applicationProperties.getDistributionPoint()).thenReturn(distributionPoint);
         when(distributionPoint.getMainPath()).thenReturn(DP_BASE_URL);
         when(distributionPoint.getAttestationCertBasePath()).thenReturn(DP_CERT_PATH);
 
         return new DiceDpFetchService(applicationProperties, new CacheChainFetcher(certFetcher), certFetcher,
-            new CacheCrlMapFetcher(crlFetcher), iidFlowDetector);
+            new CacheCrlMapFetcher(crlFetcher), iidFlowDetector, executor);
     }
 
     private void mockCertificates(boolean isEnrollment, boolean isIid) {
@@ -43,6 +43,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
@@ -52,6 +53,7 @@ import static com.intel.bkp.utils.HexConverter.toHex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -119,4 +121,25 @@ class DpConnectorTest {
         verify(restTemplate).getForEntity(TEST_URL, RESPONSE_TYPE);
         assertFalse(response.isPresent());
     }
+
+    @Test
+    void tryGetBytes_WithConnectionLimitPerHost_ReleasesPermitAfterEachRequest() {
+        // given
+        ReflectionTestUtils.setField(sut, "maxConnectionsPerHost", 1);
+        when(restTemplate.getForEntity(TEST_URL, RESPONSE_TYPE))
+            .thenReturn(ResponseEntity.of(Optional.of(EXAMPLE_CERT_CONTENT)))
+            .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "test", new HttpHeaders(), null, null))
+            .thenReturn(ResponseEntity.of(Optional.of(EXAMPLE_CERT_CONTENT)));
+
+        // when
+        final Optional<byte[]> first = sut.tryGetBytes(TEST_URL);
+        final Optional<byte[]> second = sut.tryGetBytes(TEST_URL);
+        final Optional<byte[]> third = sut.tryGetBytes(TEST_URL);
+
+        // then
+        verify(restTemplate, times(3)).getForEntity(TEST_URL, RESPONSE_TYPE);
+        assertTrue(first.isPresent());
+        assertFalse(second.isPresent());
+        assertTrue(third.isPresent());
+    }
 }
@@ -34,6 +34,7 @@ package com.intel.bkp.bkps.crypto.aesgcm;
 
 import com.intel.bkp.core.security.IKeystoreManager;
 import com.intel.bkp.core.security.ISecurityProvider;
+import com.intel.bkp.crypto.aesgcm.AesGcmProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,6 +80,20 @@ public class AesGcmSealingKeyProviderImplTest {
         assertEquals(secretKey, output);
     }
 
+    @Test
+    void forKey_ReturnsProviderBoundToGivenKey() {
+        // given
+        final SecretKey otherKey = Mockito.mock(SecretKey.class);
+
+        // when
+        final AesGcmProvider output = sut.forKey(otherKey);
+        sut.initialize(secretKey);
+
+        // then
+        assertEquals(otherKey, output.getSecretKey());
+        assertEquals(secretKey, sut.getSecretKey());
+    }
+
     @Test
     void getProvider_returnsProvider() {
         // given
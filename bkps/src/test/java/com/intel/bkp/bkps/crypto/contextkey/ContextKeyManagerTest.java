@@ -45,9 +45,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.crypto.SecretKey;
 import java.security.Provider;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -55,7 +58,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +79,9 @@ public class ContextKeyManagerTest {
     @Mock
     private ContextKeySyncService contextKeySyncService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @Mock
     private SecretKey secretKey;
 
@@ -157,6 +166,33 @@ public class ContextKeyManagerTest {
         verify(contextKeyWrapper).unwrap(contextKey);
     }
 
+    @Test
+    void get_ContextKeyInSync_DoesNotStartTransaction() {
+        // given
+        mockContextKeyNotNull();
+
+        // when
+        sut.get();
+
+        // then
+        verifyNoInteractions(transactionManager);
+        verify(contextKeyRepository, never()).getActualContextKey();
+    }
+
+    @Test
+    void get_WithinSyncInterval_ChecksVersionOnlyOnce() {
+        // given
+        ReflectionTestUtils.setField(sut, "syncInterval", Duration.ofMinutes(1));
+        mockContextKeyNotNull();
+
+        // when
+        sut.get();
+        sut.get();
+
+        // then
+        verify(contextKeySyncService, times(1)).inSync(unwrappedContextKey);
+    }
+
     @Test
     void getProvider_Success() {
         // when
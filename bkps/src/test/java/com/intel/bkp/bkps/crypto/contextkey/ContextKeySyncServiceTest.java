@@ -40,6 +40,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -50,6 +51,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class ContextKeySyncServiceTest {
 
+    private static final Instant VERSION = Instant.parse("2024-01-01T10:00:00.123Z");
+
     @Mock
     private ContextKeyRepository contextKeyRepository;
 
@@ -68,7 +71,7 @@ public class ContextKeySyncServiceTest {
         sut.inSync(unwrappedContextKey);
 
         // then
-        verify(contextKeyRepository).getActualContextKey();
+        verify(contextKeyRepository).getActualContextKeyVersion();
     }
 
     @Test
@@ -87,7 +90,8 @@ public class ContextKeySyncServiceTest {
     void inSync_KeysAreNotEqual_ReturnsFalse() {
         // given
         mockKeyPresent();
-        when(unwrappedContextKey.getContextKey()).thenReturn(new ContextKey());
+        when(unwrappedContextKey.getContextKey()).thenReturn(contextKey);
+        when(contextKey.getModifiedDate()).thenReturn(VERSION.minusSeconds(1));
 
         // when
         boolean result = sut.inSync(unwrappedContextKey);
@@ -101,6 +105,7 @@ public class ContextKeySyncServiceTest {
         // given
         mockKeyPresent();
         when(unwrappedContextKey.getContextKey()).thenReturn(contextKey);
+        when(contextKey.getModifiedDate()).thenReturn(VERSION);
 
         // when
         boolean result = sut.inSync(unwrappedContextKey);
@@ -110,11 +115,11 @@ public class ContextKeySyncServiceTest {
     }
 
     private void mockKeyPresent() {
-        when(contextKeyRepository.getActualContextKey()).thenReturn(Optional.of(contextKey));
+        when(contextKeyRepository.getActualContextKeyVersion()).thenReturn(Optional.of(VERSION));
     }
 
     private void mockKeyNotPresent() {
-        when(contextKeyRepository.getActualContextKey()).thenReturn(Optional.empty());
+        when(contextKeyRepository.getActualContextKeyVersion()).thenReturn(Optional.empty());
     }
 
 }
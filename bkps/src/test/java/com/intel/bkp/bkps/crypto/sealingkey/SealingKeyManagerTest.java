@@ -73,6 +73,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -110,6 +111,9 @@ public class SealingKeyManagerTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    private ActiveSealingKeyCache activeKeyCache = new ActiveSealingKeyCache();
+
     @InjectMocks
     private SealingKeyManager sut;
 
@@ -218,6 +222,66 @@ public class SealingKeyManagerTest {
         assertNotNull(result);
     }
 
+    @Test
+    void getActiveKey_CalledTwice_ReadsDbAndEnclaveOnce() {
+        // given
+        mockActiveSealingKeyExistsInDb();
+        mockActiveSealingKeyExistsInSecurityEnclave();
+
+        // when
+        sut.getActiveKey();
+        SecretKey result = sut.getActiveKey();
+
+        // then
+        assertEquals(mockSecretKey, result);
+        verify(sealingKeyRepository, times(1)).findOne(specSealingKeyActive);
+        verify(securityService, times(1)).getKeyFromSecurityObject(SEALING_KEY_GUID_ACTIVE);
+    }
+
+    @Test
+    void getActiveKey_AfterActivatePendingKey_ReloadsKey() {
+        // given
+        mockActiveSealingKeyExistsInDb();
+        mockActiveSealingKeyExistsInSecurityEnclave();
+        sut.getActiveKey();
+
+        // when
+        sut.activatePendingKey();
+        sut.getActiveKey();
+
+        // then
+        verify(securityService, times(2)).getKeyFromSecurityObject(SEALING_KEY_GUID_ACTIVE);
+    }
+
+    @Test
+    void revalidateActiveKeyCache_KeyNoLongerActive_InvalidatesCache() {
+        // given
+        mockActiveSealingKeyExistsInDb();
+        mockActiveSealingKeyExistsInSecurityEnclave();
+        sut.getActiveKey();
+        when(sealingKeyRepository.findOne(specSealingKeyActive)).thenReturn(Optional.of(sealingKeyPending));
+
+        // when
+        sut.revalidateActiveKeyCache();
+
+        // then
+        assertTrue(activeKeyCache.get().isEmpty());
+    }
+
+    @Test
+    void revalidateActiveKeyCache_KeyStillActive_KeepsCache() {
+        // given
+        mockActiveSealingKeyExistsInDb();
+        mockActiveSealingKeyExistsInSecurityEnclave();
+        sut.getActiveKey();
+
+        // when
+        sut.revalidateActiveKeyCache();
+
+        // then
+        assertEquals(Optional.of(mockSecretKey), activeKeyCache.get());
+    }
+
     @Test
     void getPendingKey_Success() {
         // given
@@ -270,6 +334,32 @@ public class SealingKeyManagerTest {
         verify(sealingKeyRepository).save(sealingKeyPending);
     }
 
+    @Test
+    void getPendingKeyCheckpoint_ReturnsReencryptedAesKeyId() {
+        // given
+        mockPendingSealingKeyExistsInDb();
+        when(sealingKeyPending.getReencryptedAesKeyId()).thenReturn(7L);
+
+        // when
+        final Optional<Long> result = sut.getPendingKeyCheckpoint();
+
+        // then
+        assertEquals(Optional.of(7L), result);
+    }
+
+    @Test
+    void updatePendingKeyCheckpoint_Success() {
+        // given
+        mockPendingSealingKeyExistsInDb();
+
+        // when
+        sut.updatePendingKeyCheckpoint(7L);
+
+        // then
+        verify(sealingKeyPending).setReencryptedAesKeyId(7L);
+        verify(sealingKeyRepository).save(sealingKeyPending);
+    }
+
     @Test
     void disablePendingKeyAsync_Success() {
         // given
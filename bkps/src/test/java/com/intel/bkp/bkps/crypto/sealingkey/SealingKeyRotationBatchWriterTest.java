@@ -0,0 +1,116 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.crypto.sealingkey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.intel.bkp.bkps.crypto.sealingkey.SealingKeyRotationBatchWriter.UPDATE_AES_KEY_VALUE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SealingKeyRotationBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SealingKeyManager sealingKeyManager;
+
+    @InjectMocks
+    private SealingKeyRotationBatchWriter sut;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_UpdatesAllValuesInBatchAndSavesCheckpoint() {
+        // given
+        final List<ReencryptedAesKey> batch = List.of(new ReencryptedAesKey(3L, "0102"),
+            new ReencryptedAesKey(5L, "0304"));
+        final ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+
+        // when
+        sut.write(batch);
+
+        // then
+        verify(jdbcTemplate).batchUpdate(eq(UPDATE_AES_KEY_VALUE), updates.capture());
+        assertEquals(2, updates.getValue().size());
+        assertArrayEquals(new Object[]{"0102", 3L}, updates.getValue().get(0));
+        assertArrayEquals(new Object[]{"0304", 5L}, updates.getValue().get(1));
+        verify(sealingKeyManager).updatePendingKeyCheckpoint(5L);
+    }
+
+    @Test
+    void activatePendingKey_DisablesActiveAndActivatesPending() {
+        // when
+        sut.activatePendingKey(List::of);
+
+        // then
+        final InOrder inOrder = inOrder(sealingKeyManager);
+        inOrder.verify(sealingKeyManager).disableActiveKey();
+        inOrder.verify(sealingKeyManager).activatePendingKey();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void activatePendingKey_WithNotReencryptedAesKeys_UpdatesThemBeforeSwitchingKeys() {
+        // given
+        final ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+
+        // when
+        sut.activatePendingKey(() -> List.of(new ReencryptedAesKey(7L, "0506")));
+
+        // then
+        final InOrder inOrder = inOrder(jdbcTemplate, sealingKeyManager);
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(UPDATE_AES_KEY_VALUE), updates.capture());
+        inOrder.verify(sealingKeyManager).disableActiveKey();
+        inOrder.verify(sealingKeyManager).activatePendingKey();
+        assertArrayEquals(new Object[]{"0506", 7L}, updates.getValue().get(0));
+        verify(sealingKeyManager, never()).updatePendingKeyCheckpoint(any());
+    }
+}
@@ -36,6 +36,7 @@ import com.intel.bkp.bkps.crypto.importkey.ImportKeyManager;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotExistException;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotMatchException;
 import com.intel.bkp.bkps.exception.SealingKeyRotationException;
+import com.intel.bkp.bkps.exception.SealingKeyRotationInProgressException;
 import com.intel.bkp.core.security.ISecurityProvider;
 import com.intel.bkp.crypto.CryptoUtils;
 import com.intel.bkp.crypto.exceptions.KeystoreGenericException;
@@ -54,9 +55,11 @@ import java.security.Provider;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,6 +94,9 @@ public class SealingKeyRotationHandlerTest {
     @Mock
     private SealingKeyRestoreTransaction sealingKeyRestoreTransaction;
 
+    @Mock
+    private SealingKeyRotationProgress sealingKeyRotationProgress;
+
     @InjectMocks
     private SealingKeyRotationHandler sut;
 
@@ -103,6 +109,7 @@ public class SealingKeyRotationHandlerTest {
         when(secretKeyBackup.getEncoded()).thenReturn(new byte[32]);
         when(importKeyManager.getImportKeyAlias()).thenReturn(IMPORT_KEY_ALIAS);
         when(securityService.decryptRSA(eq(IMPORT_KEY_ALIAS), any())).thenReturn(new byte[32]);
+        when(sealingKeyRotationProgress.tryStart()).thenReturn(true);
     }
 
     @Test
@@ -136,9 +143,85 @@ public class SealingKeyRotationHandlerTest {
         );
 
         // then
+        verify(sealingKeyRotationProgress).fail();
         verify(sealingKeyManager).disablePendingKey();
     }
 
+    @Test
+    void rotate_RotationAlreadyInProgress_ThrowsWithoutTouchingKeys() {
+        // given
+        when(sealingKeyRotationProgress.tryStart()).thenReturn(false);
+
+        // when
+        assertThrows(SealingKeyRotationInProgressException.class,
+            () -> sut.rotate()
+        );
+
+        // then
+        verify(sealingKeyManager, never()).createPendingKey();
+        verify(sealingKeyManager, never()).disablePendingKey();
+        verify(sealingKeyRotationProgress, never()).fail();
+        verify(sealingKeyRotationTransaction, never()).reencryptAllAssetsAndActivatePendingKey(any(), any());
+    }
+
+    @Test
+    void resume_Success() throws Exception {
+        // given
+        mockActiveKey();
+        mockPendingKey();
+
+        // when
+        sut.resume();
+
+        // then
+        verify(sealingKeyManager, never()).createPendingKey();
+        verify(sealingKeyRotationTransaction).reencryptAllAssetsAndActivatePendingKey(secretKeyActive,
+            secretKeyPending);
+    }
+
+    @Test
+    void resume_ThrowsException_KeepsPendingAndThrows() {
+        // given
+        mockActiveKey();
+        mockPendingKey();
+
+        doThrow(new RuntimeException())
+            .when(sealingKeyRotationTransaction)
+            .reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending);
+
+        // when
+        assertThrows(SealingKeyRotationException.class,
+            () -> sut.resume()
+        );
+
+        // then
+        verify(sealingKeyRotationProgress).fail();
+        verify(sealingKeyManager, never()).disablePendingKey();
+    }
+
+    @Test
+    void resume_RotationAlreadyInProgress_Throws() {
+        // given
+        when(sealingKeyRotationProgress.tryStart()).thenReturn(false);
+
+        // when
+        assertThrows(SealingKeyRotationInProgressException.class,
+            () -> sut.resume()
+        );
+
+        // then
+        verify(sealingKeyRotationTransaction, never()).reencryptAllAssetsAndActivatePendingKey(any(), any());
+    }
+
+    @Test
+    void isRotationInProgress_ReturnsProgressState() {
+        // given
+        when(sealingKeyRotationProgress.isInProgress()).thenReturn(true);
+
+        // when-then
+        assertTrue(sut.isRotationInProgress());
+    }
+
     @Test
     void backup_Success() throws Exception {
         // given
@@ -176,6 +259,7 @@ public class SealingKeyRotationHandlerTest {
         );
 
         // then
+        verify(sealingKeyRotationProgress).fail();
         verify(sealingKeyManager).disablePendingKey();
     }
 
@@ -0,0 +1,164 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.crypto.sealingkey;
+
+import com.intel.bkp.bkps.domain.enumeration.SealingKeyRotationStatus;
+import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyRotationStatusDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SealingKeyRotationProgressTest {
+
+    private static final Instant START = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    void toDto_NotStarted() {
+        // given
+        final SealingKeyRotationProgress sut = new SealingKeyRotationProgress(clock);
+
+        // when
+        final SealingKeyRotationStatusDTO result = sut.toDto();
+
+        // then
+        assertEquals(SealingKeyRotationStatus.NOT_STARTED, result.getStatus());
+        assertEquals(0, result.getAesKeysPerSecond());
+        assertNull(result.getStartedAt());
+        assertFalse(sut.isInProgress());
+    }
+
+    @Test
+    void toDto_InProgress_ReturnsThroughputAndRemaining() {
+        // given
+        final SealingKeyRotationProgress sut = new SealingKeyRotationProgress(clock);
+        when(clock.instant()).thenReturn(START, START.plusSeconds(2));
+        sut.tryStart();
+        sut.setRemaining(1000);
+        sut.update(300);
+        sut.update(100);
+
+        // when
+        final SealingKeyRotationStatusDTO result = sut.toDto();
+
+        // then
+        assertTrue(sut.isInProgress());
+        assertEquals(SealingKeyRotationStatus.IN_PROGRESS, result.getStatus());
+        assertEquals(400, result.getReencryptedAesKeys());
+        assertEquals(600, result.getRemainingAesKeys());
+        assertEquals(200.0, result.getAesKeysPerSecond());
+        assertEquals(START, result.getStartedAt());
+        assertNull(result.getFinishedAt());
+    }
+
+    @Test
+    void toDto_Completed_ReturnsThroughputUntilFinished() {
+        // given
+        final SealingKeyRotationProgress sut = new SealingKeyRotationProgress(clock);
+        when(clock.instant()).thenReturn(START, START.plusSeconds(4));
+        sut.tryStart();
+        sut.setRemaining(400);
+        sut.update(400);
+        sut.complete();
+
+        // when
+        final SealingKeyRotationStatusDTO result = sut.toDto();
+
+        // then
+        assertFalse(sut.isInProgress());
+        assertEquals(SealingKeyRotationStatus.COMPLETED, result.getStatus());
+        assertEquals(0, result.getRemainingAesKeys());
+        assertEquals(100.0, result.getAesKeysPerSecond());
+        assertEquals(START.plusSeconds(4), result.getFinishedAt());
+    }
+
+    @Test
+    void fail_SetsFailedStatus() {
+        // given
+        final SealingKeyRotationProgress sut = new SealingKeyRotationProgress(clock);
+        when(clock.instant()).thenReturn(START);
+        sut.tryStart();
+        sut.setRemaining(10);
+
+        // when
+        sut.fail();
+
+        // then
+        assertEquals(SealingKeyRotationStatus.FAILED, sut.toDto().getStatus());
+    }
+
+    @Test
+    void tryStart_AlreadyInProgress_ReturnsFalse() {
+        // given
+        final SealingKeyRotationProgress sut = new SealingKeyRotationProgress(clock);
+        when(clock.instant()).thenReturn(START);
+        sut.tryStart();
+
+        // when
+        final boolean result = sut.tryStart();
+
+        // then
+        assertFalse(result);
+        assertTrue(sut.isInProgress());
+    }
+
+    @Test
+    void tryStart_AfterFailure_ClaimsAgain() {
+        // given
+        final SealingKeyRotationProgress sut = new SealingKeyRotationProgress(clock);
+        when(clock.instant()).thenReturn(START);
+        sut.tryStart();
+        sut.fail();
+
+        // when
+        final boolean result = sut.tryStart();
+
+        // then
+        assertTrue(result);
+        assertEquals(SealingKeyRotationStatus.IN_PROGRESS, sut.toDto().getStatus());
+        assertNull(sut.toDto().getFinishedAt());
+    }
+}
@@ -33,9 +33,10 @@
 package com.intel.bkp.bkps.crypto.sealingkey;
 
 import com.intel.bkp.bkps.crypto.aesgcm.AesGcmSealingKeyProviderImpl;
-import com.intel.bkp.bkps.crypto.sealingkey.event.SealingKeyTransactionEvent;
-import com.intel.bkp.bkps.domain.AesKey;
 import com.intel.bkp.bkps.repository.AesKeyRepository;
+import com.intel.bkp.bkps.repository.AesKeyRepository.EncryptedValue;
+import com.intel.bkp.core.exceptions.BKPInternalRuntimeException;
+import com.intel.bkp.crypto.aesgcm.AesGcmProvider;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,15 +46,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.SecretKey;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +68,8 @@ import static org.mockito.Mockito.when;
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class SealingKeyRotationTransactionTest {
 
+    private static final int BATCH_SIZE = 1;
+
     @Mock
     private SecretKey secretKeyActive;
 
@@ -71,88 +80,188 @@ public class SealingKeyRotationTransactionTest {
     private AesKeyRepository aesKeyRepository;
 
     @Mock
-    private AesKey aesKey;
+    private EncryptedValue aesKey1;
+
+    @Mock
+    private EncryptedValue aesKey2;
+
+    @Mock
+    private EncryptedValue aesKey1Reencrypted;
 
     @Mock
     private AesGcmSealingKeyProviderImpl encryptionProvider;
 
+    @Mock
+    private AesGcmProvider activeKeyProvider;
+
+    @Mock
+    private AesGcmProvider pendingKeyProvider;
+
     @Mock
     private SealingKeyManager sealingKeyManager;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private SealingKeyRotationBatchWriter batchWriter;
+
+    @Mock
+    private SealingKeyRotationProgress progress;
 
     @InjectMocks
     private SealingKeyRotationTransaction sut;
 
-    private final ArrayList<AesKey> aesKeys = new ArrayList<>();
-
     private final byte[] aesEncrypted1 = {1, 0, 1, 1};
     private final byte[] aesEncrypted2 = {1, 1, 1, 1};
-    private final byte[] aesDecrypted = {0, 0, 0, 1};
-    private final String aesEncrypted1Hex = toHex(aesEncrypted1);
-    private final String aesEncrypted2Hex = toHex(aesEncrypted2);
-
-    private final byte[] efusesEncrypted1 = {1, 0, 1, 1, 1, 1};
-    private final byte[] efusesEncrypted2 = {1, 1, 1, 1, 0, 0};
-    private final byte[] efusesDecrypted = {0, 0, 0, 1, 0, 1};
+    private final byte[] aesDecrypted1 = {0, 0, 0, 1};
+    private final byte[] aesReencrypted1 = {2, 0, 0, 1};
+    private final byte[] aesDecrypted2 = {0, 0, 0, 2};
+    private final byte[] aesReencrypted2 = {2, 0, 0, 2};
 
     @BeforeEach
-    void setUp() {
-        when(aesKey.getValue()).thenReturn(aesEncrypted1Hex);
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(sut, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(sut, "workers", 2);
+
+        when(encryptionProvider.forKey(secretKeyActive)).thenReturn(activeKeyProvider);
+        when(encryptionProvider.forKey(secretKeyPending)).thenReturn(pendingKeyProvider);
+
+        when(aesKey1.getId()).thenReturn(1L);
+        when(aesKey1.getValue()).thenReturn(toHex(aesEncrypted1));
+        when(aesKey2.getId()).thenReturn(2L);
+        when(aesKey2.getValue()).thenReturn(toHex(aesEncrypted2));
+
+        when(activeKeyProvider.decrypt(aesEncrypted1)).thenReturn(aesDecrypted1);
+        when(activeKeyProvider.decrypt(aesEncrypted2)).thenReturn(aesDecrypted2);
+        when(pendingKeyProvider.encrypt(aesDecrypted1)).thenReturn(aesReencrypted1);
+        when(pendingKeyProvider.encrypt(aesDecrypted2)).thenReturn(aesReencrypted2);
     }
 
     @Test
-    void rollbackPendingKey_Success() {
+    void reencryptAllAssetsAndActivatePendingKey_Success() {
+        // given
+        when(sealingKeyManager.getPendingKeyCheckpoint()).thenReturn(Optional.empty());
+        when(aesKeyRepository.countByIdGreaterThan(0L)).thenReturn(2L);
+        mockAesKeysAfter(0L, aesKey1);
+        mockAesKeysAfter(1L, aesKey2);
+        mockAesKeysAfter(2L);
+
         // when
-        sut.rollbackPendingKey(new SealingKeyTransactionEvent());
+        sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending);
 
         // then
-        verify(sealingKeyManager).disablePendingKeyAsync();
+        verify(progress).setRemaining(2L);
+        verify(batchWriter).write(List.of(new ReencryptedAesKey(1L, toHex(aesReencrypted1))));
+        verify(batchWriter).write(List.of(new ReencryptedAesKey(2L, toHex(aesReencrypted2))));
+        verify(batchWriter).activatePendingKey(any());
+        verify(progress).complete();
     }
 
     @Test
-    void logProcessCompleted_Success() {
+    void reencryptAllAssetsAndActivatePendingKey_WithCheckpoint_ResumesAfterCheckpoint() {
+        // given
+        when(sealingKeyManager.getPendingKeyCheckpoint()).thenReturn(Optional.of(1L));
+        when(aesKeyRepository.countByIdGreaterThan(1L)).thenReturn(1L);
+        mockAesKeysAfter(1L, aesKey2);
+        mockAesKeysAfter(2L);
+
         // when
-        assertDoesNotThrow(() -> sut.logProcessCompleted(new SealingKeyTransactionEvent()));
+        sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending);
+
+        // then
+        verify(progress).setRemaining(1L);
+        verify(aesKeyRepository, never()).findEncryptedValuesAfter(0L, PageRequest.ofSize(BATCH_SIZE));
+        verify(batchWriter).write(List.of(new ReencryptedAesKey(2L, toHex(aesReencrypted2))));
+        verify(batchWriter).activatePendingKey(any());
     }
 
     @Test
-    void reencryptAllAssetsAndActivatePendingKey_Success() throws Exception {
+    void reencryptAllAssetsAndActivatePendingKey_FailsBeforeFirstBatch_DisablesPendingKey() throws Exception {
         // given
-        mockConfigurations();
-        mockEncryptionDecryptionResults();
+        when(sealingKeyManager.getPendingKeyCheckpoint()).thenReturn(Optional.empty());
+        mockAesKeysAfter(0L, aesKey1);
+        when(activeKeyProvider.decrypt(aesEncrypted1)).thenThrow(EncryptionProviderException.class);
 
         // when
-        sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending);
+        assertThrows(BKPInternalRuntimeException.class,
+            () -> sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending));
 
         // then
+        verify(batchWriter, never()).write(any());
+        verify(batchWriter, never()).activatePendingKey(any());
+        verify(progress).fail();
+        verify(sealingKeyManager).disablePendingKey();
+    }
 
-        verifyAssetsReencrypted();
+    @Test
+    void reencryptAllAssetsAndActivatePendingKey_FailsAfterCommittedBatch_KeepsPendingKey() throws Exception {
+        // given
+        when(sealingKeyManager.getPendingKeyCheckpoint()).thenReturn(Optional.empty(), Optional.of(1L));
+        mockAesKeysAfter(0L, aesKey1);
+        mockAesKeysAfter(1L, aesKey2);
+        when(activeKeyProvider.decrypt(aesEncrypted2)).thenThrow(EncryptionProviderException.class);
 
-        verify(eventPublisher).publishEvent(any(SealingKeyTransactionEvent.class));
-        verify(sealingKeyManager).disableActiveKey();
-        verify(sealingKeyManager).activatePendingKey();
-    }
+        // when
+        assertThrows(BKPInternalRuntimeException.class,
+            () -> sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending));
 
-    private void mockConfigurations() {
-        aesKeys.add(aesKey);
-        when(aesKeyRepository.findAll()).thenReturn(aesKeys);
+        // then
+        verify(batchWriter).write(List.of(new ReencryptedAesKey(1L, toHex(aesReencrypted1))));
+        verify(batchWriter, never()).activatePendingKey(any());
+        verify(progress).fail();
+        verify(sealingKeyManager, never()).disablePendingKey();
     }
 
-    private void mockEncryptionDecryptionResults() throws EncryptionProviderException {
-        when(encryptionProvider.decrypt(aesEncrypted1)).thenReturn(aesDecrypted);
-        when(encryptionProvider.encrypt(aesDecrypted)).thenReturn(aesEncrypted2);
+    @Test
+    void reencryptAllAssetsAndActivatePendingKey_AesKeySavedDuringRotation_ReencryptsItBeforeActivation()
+        throws Exception {
+        // given
+        when(sealingKeyManager.getPendingKeyCheckpoint()).thenReturn(Optional.empty());
+        when(aesKey1Reencrypted.getId()).thenReturn(1L);
+        when(aesKey1Reencrypted.getValue()).thenReturn(toHex(aesReencrypted1));
+        // AesKey 2 is saved with ACTIVE key by a concurrent save and committed only after the batches were read
+        when(aesKeyRepository.findEncryptedValuesAfter(0L, PageRequest.ofSize(BATCH_SIZE)))
+            .thenReturn(List.of(aesKey1), List.of(aesKey1Reencrypted));
+        when(aesKeyRepository.findEncryptedValuesAfter(1L, PageRequest.ofSize(BATCH_SIZE)))
+            .thenReturn(List.of(), List.of(aesKey2));
+        mockAesKeysAfter(2L);
+        when(pendingKeyProvider.decrypt(aesReencrypted1)).thenReturn(aesDecrypted1);
+        when(pendingKeyProvider.decrypt(aesEncrypted2)).thenThrow(EncryptionProviderException.class);
+        final List<List<ReencryptedAesKey>> notReencrypted = new ArrayList<>();
+        doAnswer(invocation -> notReencrypted.add(invocation.<Supplier<List<ReencryptedAesKey>>>getArgument(0).get()))
+            .when(batchWriter).activatePendingKey(any());
+
+        // when
+        sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending);
 
-        when(encryptionProvider.decrypt(efusesEncrypted1)).thenReturn(efusesDecrypted);
-        when(encryptionProvider.encrypt(efusesDecrypted)).thenReturn(efusesEncrypted2);
+        // then
+        verify(batchWriter).write(List.of(new ReencryptedAesKey(1L, toHex(aesReencrypted1))));
+        assertEquals(List.of(List.of(new ReencryptedAesKey(2L, toHex(aesReencrypted2)))), notReencrypted);
+        verify(progress).complete();
     }
 
-    private void verifyAssetsReencrypted() {
-        verify(encryptionProvider, times(1)).initialize(secretKeyActive);
-        verify(encryptionProvider, times(1)).initialize(secretKeyPending);
+    @Test
+    void reencryptAllAssetsAndActivatePendingKey_AesKeyNotDecryptableWithAnyKey_FailsActivation() throws Exception {
+        // given
+        when(sealingKeyManager.getPendingKeyCheckpoint()).thenReturn(Optional.empty(), Optional.of(1L));
+        when(aesKeyRepository.findEncryptedValuesAfter(0L, PageRequest.ofSize(BATCH_SIZE)))
+            .thenReturn(List.of(aesKey1), List.of(aesKey2));
+        mockAesKeysAfter(1L);
+        mockAesKeysAfter(2L);
+        when(pendingKeyProvider.decrypt(aesEncrypted2)).thenThrow(EncryptionProviderException.class);
+        when(activeKeyProvider.decrypt(aesEncrypted2)).thenThrow(EncryptionProviderException.class);
+        doAnswer(invocation -> invocation.<Supplier<List<ReencryptedAesKey>>>getArgument(0).get())
+            .when(batchWriter).activatePendingKey(any());
+
+        // when
+        assertThrows(BKPInternalRuntimeException.class,
+            () -> sut.reencryptAllAssetsAndActivatePendingKey(secretKeyActive, secretKeyPending));
+
+        // then
+        verify(progress).fail();
+        verify(sealingKeyManager, never()).disablePendingKey();
+    }
 
-        verify(aesKey).setValue(aesEncrypted2Hex);
-        verify(aesKeyRepository).save(aesKey);
+    private void mockAesKeysAfter(long id, EncryptedValue... aesKeys) {
+        when(aesKeyRepository.findEncryptedValuesAfter(id, PageRequest.ofSize(BATCH_SIZE)))
+            .thenReturn(List.of(aesKeys));
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PrefetchLookupKeyTest {
+
+    @Test
+    void fromPath_WithZipPath_ReturnsFamilyAndUid() {
+        // when
+        final String result = PrefetchLookupKey.fromPath("https://dp.example.com/content/IPCS/34_0807060504030201_ABCD.zip");
+
+        // then
+        assertEquals("34_0807060504030201", result);
+    }
+
+    @Test
+    void fromPath_WithS10CertPath_ReturnsAttestationAndUid() {
+        // when
+        final String result = PrefetchLookupKey.fromPath("https://dp.example.com/certs/attestation_0807060504030201_0.cer");
+
+        // then
+        assertEquals("attestation_0807060504030201", result);
+    }
+
+    @Test
+    void fromPath_WithoutUnderscores_ReturnsNull() {
+        // when
+        final String result = PrefetchLookupKey.fromPath("https://dp.example.com/certs/root.cer");
+
+        // then
+        assertNull(result);
+    }
+
+    @Test
+    void of_ReturnsLowerCasedKey() {
+        // when
+        final String result = PrefetchLookupKey.of("34", "0807060504030201ABCD");
+
+        // then
+        assertEquals("34_0807060504030201abcd", result);
+    }
+}
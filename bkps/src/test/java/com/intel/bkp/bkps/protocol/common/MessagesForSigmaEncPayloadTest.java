@@ -51,6 +51,7 @@ import com.intel.bkp.core.manufacturing.model.PufType;
 import com.intel.bkp.core.psgcertificate.PsgAesKeyBuilderSDM12;
 import com.intel.bkp.core.psgcertificate.PsgQekBuilderHSM;
 import com.intel.bkp.core.psgcertificate.enumerations.StorageType;
+import com.intel.bkp.crypto.aesgcm.AesGcmProvider;
 import com.intel.bkp.crypto.exceptions.EncryptionProviderException;
 import com.intel.bkp.test.FileUtils;
 import com.intel.bkp.test.enumeration.ResourceDir;
@@ -102,6 +103,12 @@ public class MessagesForSigmaEncPayloadTest {
     @Mock
     SecretKey secretKey;
 
+    @Mock
+    SecretKey pendingSecretKey;
+
+    @Mock
+    private AesGcmProvider pendingKeyProvider;
+
     @Mock
     private CommandLayerService commandLayer;
 
@@ -218,6 +225,26 @@ public class MessagesForSigmaEncPayloadTest {
         assertThrows(ProvisioningGenericException.class, () -> sut.prepareFrom(serviceConfiguration));
     }
 
+    @Test
+    void prepareFrom_DataEncryptedWithPendingSealingKey_Success() throws Exception {
+        // given
+        ServiceConfiguration serviceConfiguration = prepareServiceConfigurationProduction(StorageType.BBRAM);
+        when(sealingKeyManager.getActiveKey()).thenReturn(secretKey);
+        when(aesGcmSealingKeyProvider.decrypt(any())).thenThrow(EncryptionProviderException.class);
+        when(sealingKeyManager.isPendingSealingKey()).thenReturn(true);
+        when(sealingKeyManager.getPendingKey()).thenReturn(pendingSecretKey);
+        when(aesGcmSealingKeyProvider.forKey(pendingSecretKey)).thenReturn(pendingKeyProvider);
+        when(pendingKeyProvider.decrypt(any())).thenReturn(aesKeyBytes);
+
+        // when
+        final byte[] baseMessage = sut.prepareFrom(serviceConfiguration);
+
+        // then
+        assertTrue(
+            toHex(baseMessage).contains(toHex(aesKeyBuilder.build().array()))
+        );
+    }
+
     private ServiceConfiguration prepareServiceConfigurationWithTestProgram(StorageType aesKeyStorage) {
         return prepareServiceConfiguration(aesKeyStorage, true, null);
     }
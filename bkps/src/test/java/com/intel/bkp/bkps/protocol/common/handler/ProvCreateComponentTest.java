@@ -56,6 +56,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class ProvCreateComponentTest {
 
+    private static final String SPDM_SESSION_ID = "session";
+
     private final SpdmMessageDTO messageDTO = new SpdmMessageDTO(new byte[0]);
 
     @Mock
@@ -87,7 +89,8 @@ class ProvCreateComponentTest {
         // given
         when(transferObject.getDto()).thenReturn(dto);
         when(dto.isContextEmpty()).thenReturn(true);
-        when(spdmBackgroundService.getMessageFromQueue()).thenReturn(messageDTO);
+        when(spdmBackgroundService.startVcaForProvisioningThread()).thenReturn(SPDM_SESSION_ID);
+        when(spdmBackgroundService.getMessageFromQueue(SPDM_SESSION_ID)).thenReturn(messageDTO);
         mockContextEncrypt();
 
         // when
@@ -104,7 +107,9 @@ class ProvCreateComponentTest {
         // given
         when(transferObject.getDto()).thenReturn(dto);
         when(dto.isContextEmpty()).thenReturn(true);
-        when(spdmBackgroundService.getMessageFromQueue()).thenThrow(new UnrecoverableMessageFromQueueEmpty());
+        when(spdmBackgroundService.startVcaForProvisioningThread()).thenReturn(SPDM_SESSION_ID);
+        when(spdmBackgroundService.getMessageFromQueue(SPDM_SESSION_ID))
+            .thenThrow(new UnrecoverableMessageFromQueueEmpty());
 
         // when-then
         ProvHandlerTestUtil.runAndVerifyException(sut, transferObject, ProvisioningGenericException.class);
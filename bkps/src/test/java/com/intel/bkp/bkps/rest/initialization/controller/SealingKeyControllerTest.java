@@ -90,6 +90,28 @@ public class SealingKeyControllerTest {
         verify(sealingKeyService).rotateSealingKey();
     }
 
+    @Test
+    void resumeSealingKeyRotation_CallsResumeSealingKeyRotation() throws Exception {
+        //when
+        mockMvc.perform(
+            post(InitializationResource.SEALING_KEY_BASE + InitializationResource.SEALING_KEY_ROTATE_RESUME))
+            .andExpect(status().isOk());
+
+        //then
+        verify(sealingKeyService).resumeSealingKeyRotation();
+    }
+
+    @Test
+    void getSealingKeyRotationStatus_CallsGetSealingKeyRotationStatus() throws Exception {
+        //when
+        mockMvc.perform(
+            get(InitializationResource.SEALING_KEY_BASE + InitializationResource.SEALING_KEY_ROTATE))
+            .andExpect(status().isOk());
+
+        //then
+        verify(sealingKeyService).getSealingKeyRotationStatus();
+    }
+
     @Test
     void getAllSealingKeys_CallsGetAllSealingKeys() throws Exception {
         //when
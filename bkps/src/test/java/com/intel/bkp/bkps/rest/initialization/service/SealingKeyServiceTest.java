@@ -37,8 +37,10 @@ import com.intel.bkp.bkps.crypto.sealingkey.SealingKeyRotationHandler;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotExistException;
 import com.intel.bkp.bkps.exception.SealingKeyBackupHashDoesNotMatchException;
 import com.intel.bkp.bkps.exception.SealingKeyRotationException;
+import com.intel.bkp.bkps.exception.SealingKeyRotationInProgressException;
 import com.intel.bkp.bkps.rest.errors.enums.ErrorCodeMap;
 import com.intel.bkp.bkps.rest.initialization.model.dto.EncryptedSealingKeyDTO;
+import com.intel.bkp.bkps.rest.initialization.model.dto.SealingKeyRotationStatusDTO;
 import com.intel.bkp.core.exceptions.BKPBadRequestException;
 import com.intel.bkp.core.exceptions.BKPInternalServerException;
 import org.junit.jupiter.api.Test;
@@ -173,6 +175,77 @@ public class SealingKeyServiceTest {
         verifyExpectedErrorCode(exception, ErrorCodeMap.SEALING_KEY_ROTATION_FAILED);
     }
 
+    @Test
+    void rotateSealingKey_RotationClaimedConcurrently_Throws() throws Exception {
+        // given
+        mockPendingSealingKeyDoesNotExist();
+        mockActiveSealingKeyExists();
+
+        doThrow(new SealingKeyRotationInProgressException()).when(sealingKeyRotationHandler).rotate();
+
+        // when-then
+        final BKPBadRequestException exception = assertThrows(BKPBadRequestException.class,
+            () -> sut.rotateSealingKey()
+        );
+
+        // then
+        verifyExpectedErrorCode(exception, ErrorCodeMap.SEALING_KEY_ROTATION_PENDING);
+    }
+
+    @Test
+    void resumeSealingKeyRotation_Success() throws Exception {
+        // given
+        mockPendingSealingKeyExists();
+        mockActiveSealingKeyExists();
+
+        // when
+        sut.resumeSealingKeyRotation();
+
+        // then
+        verify(sealingKeyRotationHandler).resume();
+    }
+
+    @Test
+    void resumeSealingKeyRotation_RotationRunning_Throws() {
+        // given
+        when(sealingKeyRotationHandler.isRotationInProgress()).thenReturn(true);
+
+        // when-then
+        final BKPBadRequestException exception = assertThrows(BKPBadRequestException.class,
+            () -> sut.resumeSealingKeyRotation()
+        );
+
+        // then
+        verifyExpectedErrorCode(exception, ErrorCodeMap.SEALING_KEY_ROTATION_PENDING);
+    }
+
+    @Test
+    void resumeSealingKeyRotation_PendingDoesNotExist_Throws() {
+        // given
+        mockPendingSealingKeyDoesNotExist();
+
+        // when-then
+        final BKPBadRequestException exception = assertThrows(BKPBadRequestException.class,
+            () -> sut.resumeSealingKeyRotation()
+        );
+
+        // then
+        verifyExpectedErrorCode(exception, ErrorCodeMap.SEALING_KEY_ROTATION_NOT_PENDING);
+    }
+
+    @Test
+    void getSealingKeyRotationStatus_ReturnsStatusFromHandler() {
+        // given
+        final SealingKeyRotationStatusDTO status = new SealingKeyRotationStatusDTO();
+        when(sealingKeyRotationHandler.getRotationStatus()).thenReturn(status);
+
+        // when
+        final SealingKeyRotationStatusDTO result = sut.getSealingKeyRotationStatus();
+
+        // then
+        assertEquals(status, result);
+    }
+
     @Test
     void backup_Success() throws Exception {
         // given
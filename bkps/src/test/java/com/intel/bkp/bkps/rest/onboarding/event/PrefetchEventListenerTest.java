@@ -36,17 +36,26 @@ import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
 import com.intel.bkp.bkps.rest.onboarding.service.ZipDataProvider;
 import com.intel.bkp.fpgacerts.model.Family;
 import com.intel.bkp.test.RandomUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PrefetchEventListenerTest {
@@ -61,14 +70,19 @@ class PrefetchEventListenerTest {
     @Mock
     private PrefetchEventQueueService prefetchEventQueueService;
 
-    @InjectMocks
     private PrefetchEventListener sut;
 
+    @BeforeEach
+    void setUp() {
+        sut = new PrefetchEventListener(zipDataProvider, prefetchEventQueueService, new SyncTaskExecutor());
+    }
+
     @Test
     void onApplicationEvent_WithS10_InvokesS10Prefetching() {
         // given
         final DeviceId deviceId = DeviceId.instance(Family.S10, UID, ID);
         final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, deviceId);
+        when(prefetchEventQueueService.add(event)).thenReturn(true);
 
         // when
         sut.onApplicationEvent(event);
@@ -79,12 +93,61 @@ class PrefetchEventListenerTest {
         verify(zipDataProvider).fetchS10(UID);
     }
 
+    @Test
+    void onApplicationEvent_AlreadyInProgress_SkipsPrefetching() {
+        // given
+        final DeviceId deviceId = DeviceId.instance(Family.S10, UID, ID);
+        final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, deviceId);
+        when(prefetchEventQueueService.add(event)).thenReturn(false);
+
+        // when
+        sut.onApplicationEvent(event);
+
+        // then
+        verify(prefetchEventQueueService, never()).remove(event);
+        verifyNoInteractions(zipDataProvider);
+    }
+
+    @Test
+    void onApplicationEvent_PrefetchingFails_RemovesEvent() {
+        // given
+        final DeviceId deviceId = DeviceId.instance(Family.S10, UID, ID);
+        final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, deviceId);
+        when(prefetchEventQueueService.add(event)).thenReturn(true);
+        when(zipDataProvider.fetchS10(UID)).thenThrow(new RuntimeException("test"));
+
+        // when
+        sut.onApplicationEvent(event);
+
+        // then
+        verify(prefetchEventQueueService).remove(event);
+    }
+
+    @Test
+    void onApplicationEvent_ExecutorRejectsTask_RejectsEvent() {
+        // given
+        final TaskExecutor executor = mock(TaskExecutor.class);
+        doThrow(new TaskRejectedException("full")).when(executor).execute(any());
+        sut = new PrefetchEventListener(zipDataProvider, prefetchEventQueueService, executor);
+        final DeviceId deviceId = DeviceId.instance(Family.S10, UID, ID);
+        final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, deviceId);
+        when(prefetchEventQueueService.add(event)).thenReturn(true);
+
+        // when
+        sut.onApplicationEvent(event);
+
+        // then
+        verify(prefetchEventQueueService).reject(event);
+        verifyNoInteractions(zipDataProvider);
+    }
+
     @ParameterizedTest
     @EnumSource(value = Family.class, names = {"AGILEX", "AGILEX_B", "EASIC_N5X"})
     void onApplicationEvent_WithSupportedPlatforms_InvokesDicePrefetching(Family family) {
         // given
         final DeviceId deviceId = DeviceId.instance(family, UID, ID);
         final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, deviceId);
+        when(prefetchEventQueueService.add(event)).thenReturn(true);
 
         // when
         sut.onApplicationEvent(event);
@@ -109,7 +172,6 @@ class PrefetchEventListenerTest {
         assertEquals("Prefetching is only supported for platforms: [S10, AGILEX, EASIC_N5X, AGILEX_B]",
             ex.getMessage());
 
-        verify(prefetchEventQueueService).add(event);
-        verify(prefetchEventQueueService).remove(event);
+        verifyNoInteractions(prefetchEventQueueService);
     }
 }
@@ -32,52 +32,111 @@
 
 package com.intel.bkp.bkps.rest.onboarding.event;
 
+import com.intel.bkp.bkps.rest.onboarding.model.DeviceId;
+import com.intel.bkp.bkps.rest.onboarding.model.PrefetchQueueMetrics;
+import com.intel.bkp.fpgacerts.model.Family;
+import com.intel.bkp.test.RandomUtils;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Queue;
+import java.util.Locale;
 
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith(MockitoExtension.class)
 class PrefetchEventQueueServiceTest {
 
-    @Mock
-    private PrefetchEvent prefetchEvent;
+    private static final String UID = RandomUtils.generateDeviceIdHex();
+    private static final Object EVENT_SOURCE = new Object();
 
-    @Mock
-    private Queue<PrefetchEvent> prefetchEventQueue;
+    private final PrefetchEventQueueService sut = new PrefetchEventQueueService();
 
-    @InjectMocks
-    private PrefetchEventQueueService sut;
+    @Test
+    void isEmpty_NoEvents_ReturnsTrue() {
+        // when-then
+        assertTrue(sut.isEmpty());
+    }
 
     @Test
-    void isEmpty_CallsIsEmpty() {
+    void add_NewDevice_ReturnsTrueAndMarksInProgress() {
+        // given
+        final DeviceId deviceId = DeviceId.instance(Family.AGILEX, UID);
+
         // when
-        sut.isEmpty();
+        final boolean result = sut.add(new PrefetchEvent(EVENT_SOURCE, deviceId));
 
         // then
-        verify(prefetchEventQueue).isEmpty();
+        assertTrue(result);
+        assertFalse(sut.isEmpty());
+        assertTrue(sut.isInProgress(deviceId));
     }
 
     @Test
-    void add_CallsAdd() {
+    void add_SameDeviceTwice_ReturnsFalseAndCountsDuplicate() {
+        // given
+        final DeviceId deviceId = DeviceId.instance(Family.AGILEX, UID);
+        sut.add(new PrefetchEvent(EVENT_SOURCE, deviceId));
+
         // when
-        sut.add(prefetchEvent);
+        final boolean result = sut.add(new PrefetchEvent(EVENT_SOURCE, DeviceId.instance(Family.AGILEX, UID)));
 
         // then
-        verify(prefetchEventQueue).add(prefetchEvent);
+        assertFalse(result);
+        assertEquals(1, sut.size());
+        assertEquals(1, sut.getDeduplicatedCount());
+        assertEquals(new PrefetchQueueMetrics(1, 1, 0), sut.getMetrics());
+    }
+
+    @Test
+    void isInProgress_DifferentUidCaseOrFamily_MatchesOnlySameFamily() {
+        // given
+        sut.add(new PrefetchEvent(EVENT_SOURCE, DeviceId.instance(Family.S10, UID.toLowerCase(Locale.ROOT))));
+
+        // when-then
+        assertTrue(sut.isInProgress(DeviceId.instance(Family.S10, UID.toUpperCase(Locale.ROOT))));
+        assertFalse(sut.isInProgress(DeviceId.instance(Family.AGILEX, UID)));
     }
 
     @Test
-    void remove_CallsRemove() {
+    void remove_RemovesEvent() {
+        // given
+        final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, DeviceId.instance(Family.AGILEX, UID));
+        sut.add(event);
+
+        // when
+        sut.remove(event);
+
+        // then
+        assertTrue(sut.isEmpty());
+    }
+
+    @Test
+    void reject_RemovesEventAndCountsRejection() {
+        // given
+        final PrefetchEvent event = new PrefetchEvent(EVENT_SOURCE, DeviceId.instance(Family.AGILEX, UID));
+        sut.add(event);
+
+        // when
+        sut.reject(event);
+
+        // then
+        assertTrue(sut.isEmpty());
+        assertEquals(1, sut.getRejectedCount());
+        assertEquals(new PrefetchQueueMetrics(0, 0, 1), sut.getMetrics());
+    }
+
+    @Test
+    void getMetrics_SeveralDevices_ReturnsQueueDepth() {
+        // given
+        sut.add(new PrefetchEvent(EVENT_SOURCE, DeviceId.instance(Family.AGILEX, UID)));
+        sut.add(new PrefetchEvent(EVENT_SOURCE, DeviceId.instance(Family.S10, UID)));
+
         // when
-        sut.remove(prefetchEvent);
+        final PrefetchQueueMetrics result = sut.getMetrics();
 
         // then
-        verify(prefetchEventQueue).remove(prefetchEvent);
+        assertEquals(2, result.queued());
+        assertEquals(0, result.deduplicated());
+        assertEquals(0, result.rejected());
     }
 }
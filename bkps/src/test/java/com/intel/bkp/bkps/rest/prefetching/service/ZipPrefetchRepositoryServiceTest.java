@@ -58,8 +58,9 @@ class ZipPrefetchRepositoryServiceTest {
 
     private static final String UID = "0102030405060708";
     private static final DeviceId DEVICE_ID = DeviceId.instance(Family.AGILEX, UID);
-    private static final String ZIP_PATH_PATTERN = "34_0807060504030201";
-    private static final String S10_PATH_PATTERN = "attestation_0807060504030201";
+    private static final String ZIP_LOOKUP_KEY = "34_0807060504030201";
+    private static final String S10_LOOKUP_KEY = "attestation_0807060504030201";
+    private static final String ZIP_PATH = "https://dp.example.com/content/IPCS/34_0807060504030201_abcd.zip";
 
     @Mock
     private PrefetchRepository prefetchRepository;
@@ -71,7 +72,7 @@ class ZipPrefetchRepositoryServiceTest {
     @ValueSource(booleans = {true, false})
     void isZipPrefetched_ReturnsExpected(boolean expected) {
         // given
-        when(prefetchRepository.existsByPathContainingIgnoreCaseAndType(ZIP_PATH_PATTERN, ZIP))
+        when(prefetchRepository.existsByLookupKeyAndType(ZIP_LOOKUP_KEY, ZIP))
             .thenReturn(expected);
         // when
         final boolean result = sut.isZipPrefetched(DEVICE_ID);
@@ -84,7 +85,7 @@ class ZipPrefetchRepositoryServiceTest {
     @ValueSource(booleans = {true, false})
     void isS10Prefetched_ReturnsExpected(boolean expected) {
         // given
-        when(prefetchRepository.existsByPathContainingIgnoreCaseAndType(S10_PATH_PATTERN, CERT))
+        when(prefetchRepository.existsByLookupKeyAndType(S10_LOOKUP_KEY, CERT))
             .thenReturn(expected);
         // when
         final boolean result = sut.isS10Prefetched(DEVICE_ID);
@@ -97,8 +98,8 @@ class ZipPrefetchRepositoryServiceTest {
     void find_WhenEntityExists_ReturnsZip() {
         // given
         final byte[] zipBytes = {1, 2, 3};
-        final var entity = new PrefetchEntity(ZIP_PATH_PATTERN, toHex(zipBytes), ZIP);
-        when(prefetchRepository.findByPathContainingIgnoreCaseAndType(ZIP_PATH_PATTERN, ZIP))
+        final var entity = new PrefetchEntity(ZIP_PATH, toHex(zipBytes), ZIP);
+        when(prefetchRepository.findFirstByLookupKeyAndType(ZIP_LOOKUP_KEY, ZIP))
             .thenReturn(Optional.of(entity));
 
         // when
@@ -111,7 +112,7 @@ class ZipPrefetchRepositoryServiceTest {
     @Test
     void find_WhenEntityDoesNotExist_ReturnsEmpty() {
         // given
-        when(prefetchRepository.findByPathContainingIgnoreCaseAndType(ZIP_PATH_PATTERN, ZIP))
+        when(prefetchRepository.findFirstByLookupKeyAndType(ZIP_LOOKUP_KEY, ZIP))
             .thenReturn(Optional.empty());
 
         // when
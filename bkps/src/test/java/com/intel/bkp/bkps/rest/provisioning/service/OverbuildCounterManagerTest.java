@@ -44,6 +44,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +63,9 @@ public class OverbuildCounterManagerTest {
     @Mock
     private ProvisioningHistoryService provisioningHistoryService;
 
+    @Mock
+    private OverbuildQuotaLeasePool overbuildQuotaLeasePool;
+
     @InjectMocks
     private OverbuildCounterManager sut;
 
@@ -82,6 +87,40 @@ public class OverbuildCounterManagerTest {
         assertThrows(ExceededOvebuildException.class, () -> sut.increment(configurationCallback, CFG_ID));
     }
 
+    @Test
+    void increment_WithLeaseEnabled_ConsumesLeasedQuota() {
+        //given
+        when(overbuildQuotaLeasePool.isEnabled()).thenReturn(true);
+        when(overbuildQuotaLeasePool.tryConsume(CFG_ID)).thenReturn(true);
+
+        // when-then
+        assertDoesNotThrow(() -> sut.increment(configurationCallback, CFG_ID));
+        verify(configurationCallback, never()).getConfigurationAndUpdate(any());
+    }
+
+    @Test
+    void increment_WithLeaseEnabledAndNoQuota_Throws() {
+        //given
+        when(overbuildQuotaLeasePool.isEnabled()).thenReturn(true);
+        when(overbuildQuotaLeasePool.tryConsume(CFG_ID)).thenReturn(false);
+
+        // when-then
+        assertThrows(ExceededOvebuildException.class, () -> sut.increment(configurationCallback, CFG_ID));
+    }
+
+    @Test
+    void verifyOverbuildCounter_WithOverbuildMax1AndCurrentOverbuild1_WithLeasedQuota_Success() {
+        // given
+        when(configuration.getId()).thenReturn(CFG_ID);
+        when(configuration.getOverbuildMax()).thenReturn(1);
+        when(configuration.getOverbuildCurrent()).thenReturn(1);
+        when(overbuildQuotaLeasePool.hasQuota(CFG_ID)).thenReturn(true);
+
+        // when-then
+        assertDoesNotThrow(() -> sut.verifyOverbuildCounter(configuration, DEVICE_ID));
+        verify(provisioningHistoryService, never()).isProvisioned(any(), any());
+    }
+
     @Test
     void verifyOverbuildCounter_WithOverbuildMax1AndCurrentOverbuild0_Success() {
         //given
@@ -0,0 +1,192 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverbuildQuotaLeasePoolTest {
+
+    private static final Long CFG_ID = 1L;
+    private static final int BLOCK_SIZE = 3;
+
+    @Mock
+    private OverbuildQuotaLeaseService leaseService;
+
+    private OverbuildQuotaLeasePool sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OverbuildQuotaLeasePool(leaseService);
+        ReflectionTestUtils.setField(sut, "enabled", true);
+        ReflectionTestUtils.setField(sut, "blockSize", BLOCK_SIZE);
+        ReflectionTestUtils.setField(sut, "ttl", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void tryConsume_LeasesBlockOnceAndConsumesLocally() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+
+        // when
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            assertTrue(sut.tryConsume(CFG_ID));
+        }
+
+        // then
+        verify(leaseService, times(1)).acquire(CFG_ID, BLOCK_SIZE);
+        assertFalse(sut.hasQuota(CFG_ID));
+    }
+
+    @Test
+    void tryConsume_BlockUsedUp_LeasesNextBlock() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE, 1);
+
+        // when
+        for (int i = 0; i <= BLOCK_SIZE; i++) {
+            assertTrue(sut.tryConsume(CFG_ID));
+        }
+
+        // then
+        verify(leaseService, times(2)).acquire(CFG_ID, BLOCK_SIZE);
+    }
+
+    @Test
+    void tryConsume_NoQuotaInDatabase_ReturnsFalse() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(0);
+
+        // when-then
+        assertFalse(sut.tryConsume(CFG_ID));
+    }
+
+    @Test
+    void hasQuota_WithUnusedLease_ReturnsTrue() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+        sut.tryConsume(CFG_ID);
+
+        // when-then
+        assertTrue(sut.hasQuota(CFG_ID));
+    }
+
+    @Test
+    void tryConsume_LeaseExpired_ReturnsUnusedAndLeasesNewBlock() {
+        // given
+        ReflectionTestUtils.setField(sut, "ttl", Duration.ZERO);
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+
+        // when
+        sut.tryConsume(CFG_ID);
+        sut.tryConsume(CFG_ID);
+
+        // then
+        verify(leaseService).release(CFG_ID, BLOCK_SIZE - 1);
+        verify(leaseService, times(2)).acquire(CFG_ID, BLOCK_SIZE);
+    }
+
+    @Test
+    void releaseExpired_ReturnsUnusedQuota() {
+        // given
+        ReflectionTestUtils.setField(sut, "ttl", Duration.ZERO);
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+        sut.tryConsume(CFG_ID);
+
+        // when
+        sut.releaseExpired();
+
+        // then
+        verify(leaseService).release(CFG_ID, BLOCK_SIZE - 1);
+        assertFalse(sut.hasQuota(CFG_ID));
+    }
+
+    @Test
+    void releaseExpired_LeaseNotExpired_DoesNothing() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+        sut.tryConsume(CFG_ID);
+
+        // when
+        sut.releaseExpired();
+
+        // then
+        verify(leaseService, never()).release(anyLong(), anyInt());
+        assertTrue(sut.hasQuota(CFG_ID));
+    }
+
+    @Test
+    void releaseAll_ReturnsUnusedQuota() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+        sut.tryConsume(CFG_ID);
+
+        // when
+        sut.releaseAll();
+
+        // then
+        verify(leaseService).release(CFG_ID, BLOCK_SIZE - 1);
+        assertFalse(sut.hasQuota(CFG_ID));
+    }
+
+    @Test
+    void releaseAll_ReleaseFails_DoesNotThrow() {
+        // given
+        when(leaseService.acquire(CFG_ID, BLOCK_SIZE)).thenReturn(BLOCK_SIZE);
+        doThrow(new RuntimeException("db down")).when(leaseService).release(CFG_ID, BLOCK_SIZE - 1);
+        sut.tryConsume(CFG_ID);
+
+        // when
+        sut.releaseAll();
+
+        // then
+        assertFalse(sut.hasQuota(CFG_ID));
+    }
+}
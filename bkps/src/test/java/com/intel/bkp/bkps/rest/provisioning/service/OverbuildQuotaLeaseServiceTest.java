@@ -0,0 +1,170 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.rest.provisioning.service;
+
+import com.intel.bkp.bkps.domain.ServiceConfiguration;
+import com.intel.bkp.bkps.exception.ServiceConfigurationNotFound;
+import com.intel.bkp.bkps.repository.ServiceConfigurationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverbuildQuotaLeaseServiceTest {
+
+    private static final Long CFG_ID = 1L;
+    private static final int BLOCK_SIZE = 10;
+
+    @Mock
+    private ServiceConfigurationRepository serviceConfigurationRepository;
+
+    @InjectMocks
+    private OverbuildQuotaLeaseService sut;
+
+    @Test
+    void acquire_EnoughQuota_LeasesFullBlock() {
+        // given
+        mockConfiguration(100, 10);
+        when(serviceConfigurationRepository.updateServiceConfigurationAddOverbuildCurrent(CFG_ID, BLOCK_SIZE))
+            .thenReturn(1);
+
+        // when
+        final int result = sut.acquire(CFG_ID, BLOCK_SIZE);
+
+        // then
+        assertEquals(BLOCK_SIZE, result);
+    }
+
+    @Test
+    void acquire_LessQuotaThanBlock_LeasesRemainder() {
+        // given
+        mockConfiguration(100, 97);
+        when(serviceConfigurationRepository.updateServiceConfigurationAddOverbuildCurrent(CFG_ID, 3))
+            .thenReturn(1);
+
+        // when
+        final int result = sut.acquire(CFG_ID, BLOCK_SIZE);
+
+        // then
+        assertEquals(3, result);
+    }
+
+    @Test
+    void acquire_InfiniteOverbuild_LeasesFullBlock() {
+        // given
+        mockConfiguration(ServiceConfiguration.OVERBUILD_MAX_INFINITE, 1000);
+        when(serviceConfigurationRepository.updateServiceConfigurationAddOverbuildCurrent(CFG_ID, BLOCK_SIZE))
+            .thenReturn(1);
+
+        // when
+        final int result = sut.acquire(CFG_ID, BLOCK_SIZE);
+
+        // then
+        assertEquals(BLOCK_SIZE, result);
+    }
+
+    @Test
+    void acquire_LimitReached_ReturnsZero() {
+        // given
+        mockConfiguration(100, 100);
+
+        // when
+        final int result = sut.acquire(CFG_ID, BLOCK_SIZE);
+
+        // then
+        assertEquals(0, result);
+        verify(serviceConfigurationRepository, never()).updateServiceConfigurationAddOverbuildCurrent(anyLong(),
+            anyInt());
+    }
+
+    @Test
+    void acquire_UpdateNotPerformed_ReturnsZero() {
+        // given
+        mockConfiguration(100, 10);
+        when(serviceConfigurationRepository.updateServiceConfigurationAddOverbuildCurrent(CFG_ID, BLOCK_SIZE))
+            .thenReturn(0);
+
+        // when
+        final int result = sut.acquire(CFG_ID, BLOCK_SIZE);
+
+        // then
+        assertEquals(0, result);
+    }
+
+    @Test
+    void acquire_ConfigurationNotFound_Throws() {
+        // given
+        when(serviceConfigurationRepository.findById(CFG_ID)).thenReturn(Optional.empty());
+
+        // when-then
+        assertThrows(ServiceConfigurationNotFound.class, () -> sut.acquire(CFG_ID, BLOCK_SIZE));
+    }
+
+    @Test
+    void release_ReturnsQuota() {
+        // when
+        sut.release(CFG_ID, 5);
+
+        // then
+        verify(serviceConfigurationRepository).updateServiceConfigurationSubtractOverbuildCurrent(CFG_ID, 5);
+    }
+
+    @Test
+    void release_NothingToReturn_DoesNotUpdate() {
+        // when
+        sut.release(CFG_ID, 0);
+
+        // then
+        verify(serviceConfigurationRepository, never()).updateServiceConfigurationSubtractOverbuildCurrent(anyLong(),
+            anyInt());
+    }
+
+    private void mockConfiguration(int overbuildMax, int overbuildCurrent) {
+        final ServiceConfiguration configuration = new ServiceConfiguration();
+        configuration.setOverbuildMax(overbuildMax);
+        configuration.setOverbuildCurrent(overbuildCurrent);
+        when(serviceConfigurationRepository.findById(CFG_ID)).thenReturn(Optional.of(configuration));
+    }
+}
@@ -37,7 +37,12 @@ import com.intel.bkp.bkps.programmer.model.ProgrammerMessage;
 import com.intel.bkp.bkps.programmer.model.ProgrammerResponse;
 import com.intel.bkp.bkps.programmer.model.dto.MessageDTO;
 import com.intel.bkp.bkps.programmer.model.dto.ResponseDTO;
+import com.intel.bkp.bkps.protocol.common.model.FlowStage;
+import com.intel.bkp.bkps.protocol.common.model.ProtocolType;
 import com.intel.bkp.bkps.protocol.common.model.ProvContext;
+import com.intel.bkp.bkps.protocol.common.model.ProvContextWithFlow;
+import com.intel.bkp.bkps.protocol.spdm.model.ProvSpdmContext;
+import com.intel.bkp.bkps.rest.RestUtil;
 import com.intel.bkp.bkps.rest.provisioning.model.dto.ContextDTO;
 import com.intel.bkp.crypto.ecdh.EcdhKeyPair;
 import com.intel.bkp.test.RandomUtils;
@@ -55,6 +60,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ProvisioningContextConverterTest {
@@ -65,6 +72,7 @@ public class ProvisioningContextConverterTest {
     private static final String TEST_DEVICE_ID = RandomUtils.generateDeviceIdHex();
     private static final byte[] TEST_PUBLIC_KEY = new byte[]{1, 2, 3, 4};
     private static final byte[] TEST_PRIVATE_KEY = new byte[]{5, 6, 7, 8};
+    private static final String SPDM_SESSION_ID = "5b0a3e2c-4f1d-4a8e-9f7b-2c6d8e1f0a3b";
 
     private static final List<ProgrammerMessage> PROGRAMMER_COMMANDS = new ArrayList<>();
     private static final List<ResponseDTO> JTAG_ENCODED_COMMANDS_STRING = new ArrayList<>();
@@ -192,6 +200,114 @@ public class ProvisioningContextConverterTest {
             output.getEcdhKeyPair().getPrivateKey());
     }
 
+    @Test
+    void serialize_deserialize_SpdmContext_UsesBinaryFormat() throws Exception {
+        // given
+        final ProvSpdmContext provContext = new ProvSpdmContext(TEST_DEVICE_ID, TEST_CFG_ID);
+
+        // when
+        final byte[] serialized = ProvisioningContextConverter.serialize(provContext);
+        final ProvSpdmContext output = (ProvSpdmContext) ProvisioningContextConverter
+            .deserialize(serialized, ProvSpdmContext.class);
+
+        // then
+        assertTrue(ProvisioningContextConverter.isBinary(serialized));
+        assertTrue(serialized.length < RestUtil.convertObjectToJsonBytes(provContext).length);
+        assertEquals(TEST_DEVICE_ID, output.getChipId());
+        assertEquals(TEST_CFG_ID, output.getCfgId());
+    }
+
+    @Test
+    void serialize_deserializeBase_ContextWithFlow_Success() throws ProvisioningConverterException {
+        // given
+        final byte[] contextData = ProvisioningContextConverter.serialize(new ProvSpdmContext(TEST_DEVICE_ID, null));
+        final ProvContextWithFlow contextWithFlow = ProvContextWithFlow.builder()
+            .flowStage(FlowStage.SPDM_SESSION)
+            .protocolType(ProtocolType.SPDM)
+            .spdmSessionId(SPDM_SESSION_ID)
+            .contextData(contextData)
+            .build();
+
+        // when
+        final ProvContextWithFlow output = ProvisioningContextConverter
+            .deserializeBase(ProvisioningContextConverter.serialize(contextWithFlow));
+
+        // then
+        assertEquals(FlowStage.SPDM_SESSION, output.getFlowStage());
+        assertEquals(ProtocolType.SPDM, output.getProtocolType());
+        assertEquals(SPDM_SESSION_ID, output.getSpdmSessionId());
+        assertArrayEquals(contextData, output.getContextData());
+
+        final ProvSpdmContext spdmContext = (ProvSpdmContext) ProvisioningContextConverter
+            .deserialize(output.getContextData(), ProvSpdmContext.class);
+        assertEquals(TEST_DEVICE_ID, spdmContext.getChipId());
+        assertNull(spdmContext.getCfgId());
+    }
+
+    @Test
+    void deserializeBase_ContextWithoutOptionalFields_Success() throws ProvisioningConverterException {
+        // given
+        final ProvContextWithFlow contextWithFlow = ProvContextWithFlow.builder()
+            .flowStage(FlowStage.PROTOCOL_DECISION)
+            .build();
+
+        // when
+        final ProvContextWithFlow output = ProvisioningContextConverter
+            .deserializeBase(ProvisioningContextConverter.serialize(contextWithFlow));
+
+        // then
+        assertEquals(FlowStage.PROTOCOL_DECISION, output.getFlowStage());
+        assertNull(output.getProtocolType());
+        assertNull(output.getSpdmSessionId());
+        assertNull(output.getContextData());
+    }
+
+    @Test
+    void deserializeBase_LegacyJsonContext_Success() throws Exception {
+        // given
+        final byte[] contextData = RestUtil.convertObjectToJsonBytes(new ProvSpdmContext(TEST_DEVICE_ID, TEST_CFG_ID));
+        final byte[] legacyContext = RestUtil.convertObjectToJsonBytes(ProvContextWithFlow.builder()
+            .flowStage(FlowStage.SPDM_SESSION)
+            .protocolType(ProtocolType.SPDM)
+            .spdmSessionId(SPDM_SESSION_ID)
+            .contextData(contextData)
+            .build());
+
+        // when
+        final ProvContextWithFlow output = ProvisioningContextConverter.deserializeBase(legacyContext);
+        final ProvSpdmContext spdmContext = (ProvSpdmContext) ProvisioningContextConverter
+            .deserialize(output.getContextData(), ProvSpdmContext.class);
+
+        // then
+        assertEquals(FlowStage.SPDM_SESSION, output.getFlowStage());
+        assertEquals(SPDM_SESSION_ID, output.getSpdmSessionId());
+        assertEquals(TEST_DEVICE_ID, spdmContext.getChipId());
+        assertEquals(TEST_CFG_ID, spdmContext.getCfgId());
+    }
+
+    @Test
+    void deserialize_TruncatedBinaryContext_Throws() throws ProvisioningConverterException {
+        // given
+        final byte[] serialized = ProvisioningContextConverter.serialize(new ProvSpdmContext(TEST_DEVICE_ID,
+            TEST_CFG_ID));
+        final byte[] truncated = Arrays.copyOf(serialized, serialized.length - 1);
+
+        // when-then
+        assertThrows(ProvisioningConverterException.class,
+            () -> ProvisioningContextConverter.deserialize(truncated, ProvSpdmContext.class));
+    }
+
+    @Test
+    void deserialize_BinaryContextOfUnsupportedType_Throws() throws ProvisioningConverterException {
+        // given
+        final byte[] serialized = ProvisioningContextConverter.serialize(new ProvSpdmContext(TEST_DEVICE_ID,
+            TEST_CFG_ID));
+
+        // when-then
+        assertThrows(ProvisioningConverterException.class,
+            () -> ProvisioningContextConverter.deserialize(serialized, ProvContextTest.class));
+    }
+
     private ProvContextTest prepareProvContext(boolean setPrivate) {
         EcdhKeyPair ecdhKeyPair = new EcdhKeyPair();
         ecdhKeyPair.setPublicKey(TEST_PUBLIC_KEY);
@@ -46,16 +46,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static ch.qos.logback.classic.Level.WARN;
 import static com.intel.bkp.command.model.CommandIdentifier.MCTP;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -69,6 +73,8 @@ class SpdmMessageSenderServiceTest {
 
     private static final byte[] PAYLOAD = {1, 2, 3, 4};
     private static final byte[] RESPONSE = {2, 3, 4};
+    private static final String SESSION_ID = "session";
+    private static final Duration LONG_POLL_TIMEOUT = Duration.ofSeconds(30);
 
     @Mock
     private CommandLayerService commandLayer;
@@ -90,13 +96,16 @@ class SpdmMessageSenderServiceTest {
 
     private LoggerTestUtil loggerTestUtil;
 
+    private SpdmSession session;
+
     private SpdmMessageSenderService sut;
 
 
     @BeforeEach
     void setup() {
-        sut =
-            new SpdmMessageSenderService(commandLayer, messageQueue, responseQueue, messageLogger, mctpMessageParser);
+        session = new SpdmSession(SESSION_ID, messageQueue, responseQueue);
+        sut = new SpdmMessageSenderService(commandLayer, messageLogger, mctpMessageParser);
+        ReflectionTestUtils.setField(sut, "messageLongPollTimeout", LONG_POLL_TIMEOUT);
         loggerTestUtil = LoggerTestUtil.instance(sut.getClass());
     }
 
@@ -109,7 +118,7 @@ class SpdmMessageSenderServiceTest {
         when(messageQueue.offer(new SpdmMessageDTO(PAYLOAD))).thenReturn(true);
 
         // when-then
-        assertDoesNotThrow(() -> sut.sendMessage(null, buffer));
+        assertDoesNotThrow(() -> sut.forSession(session).sendMessage(null, buffer));
 
         // then
         assertEquals(0, loggerTestUtil.getSize(Level.ERROR));
@@ -124,7 +133,7 @@ class SpdmMessageSenderServiceTest {
         when(messageQueue.offer(new SpdmMessageDTO(PAYLOAD))).thenReturn(false);
 
         // when-then
-        assertDoesNotThrow(() -> sut.sendMessage(null, buffer));
+        assertDoesNotThrow(() -> sut.forSession(session).sendMessage(null, buffer));
 
         // then
         verifyLogExists(Level.ERROR, "Pushing message to queue failed");
@@ -137,7 +146,7 @@ class SpdmMessageSenderServiceTest {
         when(commandLayer.retrieve(PAYLOAD, MCTP)).thenReturn(RESPONSE);
 
         // when
-        final var result = sut.receiveResponse();
+        final var result = sut.forSession(session).receiveResponse();
 
         // then
         assertEquals(Optional.of(RESPONSE), result);
@@ -150,7 +159,7 @@ class SpdmMessageSenderServiceTest {
         when(responseQueue.poll(anyLong(), eq(TimeUnit.SECONDS))).thenReturn(null);
 
         // when
-        final var ex = assertThrows(SpdmRuntimeException.class, () -> sut.receiveResponse());
+        final var ex = assertThrows(SpdmRuntimeException.class, () -> sut.forSession(session).receiveResponse());
 
         // then
         assertEquals("No response from SPDM Responder.", ex.getMessage());
@@ -164,7 +173,7 @@ class SpdmMessageSenderServiceTest {
         when(responseQueue.poll(anyLong(), eq(TimeUnit.SECONDS))).thenThrow(new InterruptedException());
 
         // when
-        final var ex = assertThrows(SpdmRuntimeException.class, () -> sut.receiveResponse());
+        final var ex = assertThrows(SpdmRuntimeException.class, () -> sut.forSession(session).receiveResponse());
 
         // then
         assertEquals("Receive interrupted.", ex.getMessage());
@@ -180,7 +189,7 @@ class SpdmMessageSenderServiceTest {
         when(commandLayer.retrieve(PAYLOAD, MCTP)).thenThrow(new JtagUnknownCommandResponseException(errorMsg));
 
         // when
-        final var result = sut.receiveResponse();
+        final var result = sut.forSession(session).receiveResponse();
 
         // then
         assertEquals(Optional.empty(), result);
@@ -192,15 +201,72 @@ class SpdmMessageSenderServiceTest {
     void getMessageFromQueue_ReturnsMessage() throws InterruptedException {
         // given
         final var message = new SpdmMessageDTO(PAYLOAD);
-        when(messageQueue.poll(anyLong(), eq(TimeUnit.SECONDS))).thenReturn(message);
+        when(messageQueue.poll()).thenReturn(message);
 
         // when
-        final var result = sut.getMessageFromQueue();
+        final var result = sut.getMessageFromQueue(session);
 
         // then
         assertEquals(message, result);
     }
 
+    @Test
+    void getMessageFromQueue_MessagePublishedWhileWaiting_ReturnsMessageBeforeTimeout() throws Exception {
+        // given
+        final var processingSession = new SpdmSession(SESSION_ID);
+        processingSession.startProcessing();
+        final var message = new SpdmMessageDTO(PAYLOAD);
+
+        // when
+        final var result = CompletableFuture.supplyAsync(() -> getMessageFromQueueUnchecked(processingSession));
+        processingSession.offerMessage(message);
+
+        // then
+        assertEquals(message, result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getMessageFromQueue_ProcessFinishedWhileWaiting_ReturnsNullBeforeTimeout() throws Exception {
+        // given
+        final var processingSession = new SpdmSession(SESSION_ID);
+        processingSession.startProcessing();
+
+        // when
+        final var result = CompletableFuture.supplyAsync(() -> getMessageFromQueueUnchecked(processingSession));
+        processingSession.finishProcessing();
+
+        // then
+        assertNull(result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getMessageFromQueue_NoMessageBeforeTimeout_ReturnsNull() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(sut, "messageLongPollTimeout", Duration.ofMillis(10));
+        final var processingSession = new SpdmSession(SESSION_ID);
+        processingSession.startProcessing();
+
+        // when
+        final var result = sut.getMessageFromQueue(processingSession);
+
+        // then
+        assertNull(result);
+    }
+
+    @Test
+    void awaitProcessFinished_ProcessFinishedWhileWaiting_ReturnsTrue() throws Exception {
+        // given
+        final var processingSession = new SpdmSession(SESSION_ID);
+        processingSession.startProcessing();
+
+        // when
+        final var result = CompletableFuture.supplyAsync(() -> awaitProcessFinishedUnchecked(processingSession));
+        processingSession.finishProcessing();
+
+        // then
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+    }
+
     @Test
     void pushResponseToQueue_WhenResponseAddedToQueue_DoesNotLogError() {
         // given
@@ -208,7 +274,7 @@ class SpdmMessageSenderServiceTest {
         when(responseQueue.offer(PAYLOAD)).thenReturn(true);
 
         // when-then
-        assertDoesNotThrow(() -> sut.pushResponseToQueue(message));
+        assertDoesNotThrow(() -> sut.pushResponseToQueue(session, message));
 
         // then
         assertEquals(0, loggerTestUtil.getSize(Level.ERROR));
@@ -221,12 +287,43 @@ class SpdmMessageSenderServiceTest {
         when(responseQueue.offer(PAYLOAD)).thenReturn(false);
 
         // when-then
-        assertDoesNotThrow(() -> sut.pushResponseToQueue(message));
+        assertDoesNotThrow(() -> sut.pushResponseToQueue(session, message));
 
         // then
         verifyLogExists(Level.ERROR, "Pushing response to queue failed");
     }
 
+    @Test
+    void forSession_KeepsMessagesOfDifferentSessionsSeparate() {
+        // given
+        final var otherSession = new SpdmSession("other");
+        final var message = new SpdmMessageDTO(PAYLOAD);
+        when(responseQueue.offer(PAYLOAD)).thenReturn(true);
+
+        // when
+        sut.pushResponseToQueue(session, message);
+
+        // then
+        verify(responseQueue).offer(PAYLOAD);
+        assertTrue(otherSession.getResponseQueue().isEmpty());
+    }
+
+    private SpdmMessageDTO getMessageFromQueueUnchecked(SpdmSession spdmSession) {
+        try {
+            return sut.getMessageFromQueue(spdmSession);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean awaitProcessFinishedUnchecked(SpdmSession spdmSession) {
+        try {
+            return sut.awaitProcessFinished(spdmSession);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private void verifyLogExists(Level level, String expectedLog) {
         assertTrue(loggerTestUtil.contains(expectedLog, level));
     }
@@ -0,0 +1,195 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.spdm.service;
+
+import com.intel.bkp.bkps.exception.SpdmProcessIsStillRunning;
+import com.intel.bkp.bkps.exception.SpdmSessionNotFound;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpdmSessionRegistryTest {
+
+    private static final String SESSION_ID = "session";
+
+    private SpdmSessionRegistry sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SpdmSessionRegistry();
+        ReflectionTestUtils.setField(sut, "maxSessions", 2);
+        ReflectionTestUtils.setField(sut, "sessionExpiry", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void open_CreatesIndependentSessions() {
+        // when
+        final SpdmSession first = sut.open();
+        final SpdmSession second = sut.open();
+
+        // then
+        assertNotEquals(first.getSessionId(), second.getSessionId());
+        assertNotSame(first.getMessageQueue(), second.getMessageQueue());
+        assertNotSame(first.getResponseQueue(), second.getResponseQueue());
+        assertNotSame(first.getProcessResult(), second.getProcessResult());
+    }
+
+    @Test
+    void open_WithExistingSessionId_ReplacesSession() {
+        // given
+        final SpdmSession previous = sut.open(SESSION_ID);
+
+        // when
+        final SpdmSession result = sut.open(SESSION_ID);
+
+        // then
+        assertNotSame(previous, result);
+        assertEquals(result, sut.get(SESSION_ID));
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void open_MaxSessionsReached_Throws() {
+        // given
+        sut.open();
+        sut.open();
+
+        // when-then
+        assertThrows(SpdmProcessIsStillRunning.class, () -> sut.open());
+    }
+
+    @Test
+    void open_EvictsExpiredSessions() {
+        // given
+        ReflectionTestUtils.setField(sut, "sessionExpiry", Duration.ofMillis(-1));
+        sut.open();
+        sut.open();
+
+        // when
+        sut.open(SESSION_ID);
+
+        // then
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void open_DoesNotEvictExpiredSessionsThatAreProcessing() {
+        // given
+        ReflectionTestUtils.setField(sut, "sessionExpiry", Duration.ofMillis(-1));
+        sut.open(SESSION_ID).startProcessing();
+
+        // when
+        sut.open();
+
+        // then
+        assertTrue(sut.find(SESSION_ID).isPresent());
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void open_Concurrently_DoesNotExceedMaxSessions() throws Exception {
+        // given
+        final int threads = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        sut.open();
+                    } catch (SpdmProcessIsStillRunning e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        // then
+        assertEquals(2, sut.size());
+        assertEquals(threads - 2, rejected.get());
+    }
+
+    @Test
+    void get_SessionNotExists_Throws() {
+        // when-then
+        assertThrows(SpdmSessionNotFound.class, () -> sut.get(SESSION_ID));
+    }
+
+    @Test
+    void closeIfFinished_SessionProcessing_DoesNotClose() {
+        // given
+        sut.open(SESSION_ID).startProcessing();
+
+        // when
+        sut.closeIfFinished(SESSION_ID);
+
+        // then
+        assertTrue(sut.find(SESSION_ID).isPresent());
+    }
+
+    @Test
+    void closeIfFinished_SessionFinished_Closes() {
+        // given
+        final SpdmSession session = sut.open(SESSION_ID);
+        session.startProcessing();
+        session.finishProcessing();
+
+        // when
+        sut.closeIfFinished(SESSION_ID);
+
+        // then
+        assertTrue(sut.find(SESSION_ID).isEmpty());
+    }
+}
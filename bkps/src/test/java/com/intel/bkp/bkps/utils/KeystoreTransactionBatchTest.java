@@ -0,0 +1,110 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.bkps.utils;
+
+import com.intel.bkp.core.security.ISecurityProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class KeystoreTransactionBatchTest {
+
+    @Mock
+    private ISecurityProvider securityService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(securityService);
+    }
+
+    @Test
+    void join_WithoutTransaction_DoesNothing() {
+        // when
+        KeystoreTransactionBatch.join(securityService);
+
+        // then
+        verifyNoInteractions(securityService);
+    }
+
+    @Test
+    void join_CalledTwiceInTransaction_BeginsBatchOnceAndEndsItBeforeCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        KeystoreTransactionBatch.join(securityService);
+        KeystoreTransactionBatch.join(securityService);
+
+        // then
+        verify(securityService, times(1)).beginBatch();
+        final TransactionSynchronization synchronization = getSynchronization();
+        synchronization.beforeCommit(false);
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        verify(securityService, times(1)).endBatch();
+        assertFalse(TransactionSynchronizationManager.hasResource(securityService));
+    }
+
+    @Test
+    void join_TransactionRolledBack_EndsBatchAfterCompletion() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        KeystoreTransactionBatch.join(securityService);
+        final TransactionSynchronization synchronization = getSynchronization();
+
+        // when
+        synchronization.beforeCompletion();
+        verify(securityService, never()).endBatch();
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verify(securityService).endBatch();
+    }
+
+    private static TransactionSynchronization getSynchronization() {
+        return TransactionSynchronizationManager.getSynchronizations().get(0);
+    }
+}
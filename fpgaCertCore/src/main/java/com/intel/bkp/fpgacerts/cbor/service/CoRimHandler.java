@@ -43,6 +43,7 @@ import com.intel.bkp.fpgacerts.cbor.rim.comid.LinkedTag;
 import com.intel.bkp.fpgacerts.cbor.rim.comid.mapping.ReferenceTripleToTcbInfoMeasurementMapper;
 import com.intel.bkp.fpgacerts.cbor.rim.parser.RimSignedParser;
 import com.intel.bkp.fpgacerts.cbor.rim.parser.RimUnsignedParser;
+import com.intel.bkp.fpgacerts.cbor.service.RimSigningChainService.RimSigningChain;
 import com.intel.bkp.fpgacerts.cbor.signer.CborSignatureVerifier;
 import com.intel.bkp.fpgacerts.cbor.utils.ProfileValidator;
 import com.intel.bkp.fpgacerts.cbor.utils.SignatureTimeValidator;
@@ -61,12 +62,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.intel.bkp.utils.HexConverter.fromHex;
 
@@ -116,7 +120,9 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
     public MeasurementHolder getMeasurements(CBORObject rimCbor) {
         final List<CBORObject> cborList = new ArrayList<>();
         cborList.add(rimCbor);
-        final var measurements = fetchMeasurements(cborList, new MeasurementHolder());
+        final var holder = new MeasurementHolder();
+        holder.setValidUntil(Instant.MAX);
+        final var measurements = fetchMeasurements(cborList, holder);
         logMeasurements(measurements);
         return measurements;
     }
@@ -182,6 +188,7 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
 
         measurements.getReferenceMeasurements().addAll(getReferenceMeasurements(helperDTO.rim()));
         measurements.getEndorsedMeasurements().addAll(getEndorsedMeasurements(helperDTO.rim()));
+        measurements.setValidUntil(earliest(measurements.getValidUntil(), helperDTO.validUntil()));
 
         return helperDTO;
     }
@@ -207,26 +214,26 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
 
         appendLinkedTags(rim);
 
-        final var rimSigPubKey = rim.getLocatorLink(LocatorType.CER)
-            .map(chainService::verifyRimSigningChainAndGetRimSigningKey)
-            .orElse(null);
-        return new CoRimHelperDTO(rim, rimSigPubKey);
+        final var chain = rim.getLocatorLink(LocatorType.CER)
+            .map(chainService::verifyRimSigningChain);
+        return new CoRimHelperDTO(rim, chain.map(RimSigningChain::signingKey).orElse(null),
+            chain.map(RimSigningChain::validUntil).orElse(null));
     }
 
     private CoRimHelperDTO handleSigned(CborConverter converter, CBORObject rimCbor) {
         final var signed = ((RimSignedParser) converter.getParser()).parse(rimCbor);
         final var rim = signed.getPayload();
-        SignatureTimeValidator.verify(signed);
+        final Instant signatureValidity = SignatureTimeValidator.verify(signed);
         ProfileValidator.verify(rim.getProfile());
 
         appendLinkedTags(rim);
 
-        final var rimSigPubKey = rim.getLocatorLink(LocatorType.CER)
-            .map(chainService::verifyRimSigningChainAndGetRimSigningKey)
+        final var chain = rim.getLocatorLink(LocatorType.CER)
+            .map(chainService::verifyRimSigningChain)
             .orElseThrow(() -> new RimVerificationException("trusted Anchor is not implemented."));
         log.info(VerificationStatusLogger.success("Verified XCoRIM Signing Certificate chain."));
-        verifyRimSignature(rimCbor, rimSigPubKey);
-        return new CoRimHelperDTO(rim, rimSigPubKey);
+        verifyRimSignature(rimCbor, chain.signingKey());
+        return new CoRimHelperDTO(rim, chain.signingKey(), earliest(signatureValidity, chain.validUntil()));
     }
 
     private void appendLinkedTags(RimUnsigned rim) {
@@ -252,6 +259,13 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
             .orElseThrow(() -> new RimVerificationException("failed to download data from path: %s".formatted(url)));
     }
 
+    private static Instant earliest(Instant first, Instant second) {
+        return Stream.of(first, second)
+            .filter(Objects::nonNull)
+            .min(Comparator.naturalOrder())
+            .orElse(null);
+    }
+
     private void logMeasurements(MeasurementHolder measurements) {
         final var referenceAggregator = new TcbInfoMeasurementsAggregator();
         referenceAggregator.add(measurements.getReferenceMeasurements());
@@ -262,7 +276,7 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
         log.debug("Received TcbInfos from RIM - endorsed: {}", endorsedAggregator.mapToString());
     }
 
-    private record CoRimHelperDTO(RimUnsigned rim, PublicKey rimSigPubKey) {
+    private record CoRimHelperDTO(RimUnsigned rim, PublicKey rimSigPubKey, Instant validUntil) {
 
     }
 }
@@ -42,6 +42,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.LinkedList;
 
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
@@ -64,15 +66,26 @@ public class RimSigningChainService {
     }
 
     public PublicKey verifyRimSigningChainAndGetRimSigningKey(String signingCertUrl) {
+        return verifyRimSigningChain(signingCertUrl).signingKey();
+    }
+
+    public RimSigningChain verifyRimSigningChain(String signingCertUrl) {
         final var chain = fetchRimSigningChain(signingCertUrl);
         chainVerifier.verifyChain(chain);
-        return chain.getFirst().getPublicKey();
+        final Instant validUntil = chain.stream()
+            .map(certificate -> certificate.getNotAfter().toInstant())
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+        return new RimSigningChain(chain.getFirst().getPublicKey(), validUntil);
     }
 
-
     private LinkedList<X509Certificate> fetchRimSigningChain(String url) {
         log.info("Fetching RIM Signing Certificate chain from: {}", url);
         final var chain = chainFetcher.downloadCertificateChainAsX509(url);
         return new LinkedList<>(chain);
     }
+
+    public record RimSigningChain(PublicKey signingKey, Instant validUntil) {
+
+    }
 }
@@ -51,7 +51,7 @@ public class SignatureTimeValidator {
 
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
 
-    public static void verify(RimSigned signedRim) {
+    public static Instant verify(RimSigned signedRim) {
         final Instant signatureValidity = Optional.ofNullable(signedRim.getProtectedData())
             .map(RimProtectedHeader::getMetaMap)
             .map(ProtectedMetaMap::getSignatureValidity)
@@ -63,5 +63,6 @@ public class SignatureTimeValidator {
         }
 
         log.info(VerificationStatusLogger.success("CoRIM signature expiration verification"));
+        return signatureValidity;
     }
 }
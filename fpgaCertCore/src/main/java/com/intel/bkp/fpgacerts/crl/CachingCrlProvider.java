@@ -0,0 +1,157 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.crl;
+
+import com.intel.bkp.crypto.exceptions.X509CrlParsingException;
+import com.intel.bkp.fpgacerts.interfaces.ICrlCacheStore;
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.cert.CRLException;
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.intel.bkp.crypto.x509.parsing.X509CrlParser.toX509Crl;
+
+/**
+ * Keeps downloaded CRLs until their NextUpdate, optionally backed by persistent store.
+ * CRLs without NextUpdate or already expired are never cached.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CachingCrlProvider implements ICrlProvider {
+
+    private final ICrlProvider crlProvider;
+    private final Optional<ICrlCacheStore> crlCacheStore;
+    private final Clock clock;
+
+    private final Map<String, CachedCrl> crlsByUrl = new ConcurrentHashMap<>();
+    private final Map<X509CRL, CrlRevocationIndex> revocationIndexes =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public CachingCrlProvider(ICrlProvider crlProvider) {
+        this(crlProvider, Optional.empty(), Clock.systemUTC());
+    }
+
+    public CachingCrlProvider(ICrlProvider crlProvider, ICrlCacheStore crlCacheStore) {
+        this(crlProvider, Optional.of(crlCacheStore), Clock.systemUTC());
+    }
+
+    @Override
+    public X509CRL getCrl(String crlUrl) {
+        final Instant now = clock.instant();
+        return Optional.ofNullable(crlsByUrl.get(crlUrl))
+            .filter(cached -> cached.isValidAt(now))
+            .or(() -> loadFromStore(crlUrl, now))
+            .map(CachedCrl::crl)
+            .orElseGet(() -> download(crlUrl, now));
+    }
+
+    @Override
+    public Optional<CrlRevocationIndex> getRevocationIndex(X509CRL crl) {
+        return Optional.ofNullable(revocationIndexes.get(crl));
+    }
+
+    public int size() {
+        return crlsByUrl.size();
+    }
+
+    private Optional<CachedCrl> loadFromStore(String crlUrl, Instant now) {
+        return crlCacheStore
+            .flatMap(store -> store.load(crlUrl))
+            .flatMap(crlBytes -> parse(crlUrl, crlBytes))
+            .map(CachedCrl::from)
+            .filter(cached -> cached.isValidAt(now))
+            .map(cached -> {
+                log.debug("Using CRL from persistent cache: {}", crlUrl);
+                return putInMemory(crlUrl, cached);
+            });
+    }
+
+    private X509CRL download(String crlUrl, Instant now) {
+        final X509CRL crl = crlProvider.getCrl(crlUrl);
+        final CachedCrl cached = CachedCrl.from(crl);
+        if (!cached.isValidAt(now)) {
+            log.debug("CRL is not cached as it does not have valid NextUpdate: {}", crlUrl);
+            return crl;
+        }
+
+        putInMemory(crlUrl, cached);
+        crlCacheStore.ifPresent(store -> saveInStore(store, crlUrl, cached));
+        return crl;
+    }
+
+    private CachedCrl putInMemory(String crlUrl, CachedCrl cached) {
+        revocationIndexes.put(cached.crl(), CrlRevocationIndex.of(cached.crl()));
+        Optional.ofNullable(crlsByUrl.put(crlUrl, cached))
+            .ifPresent(previous -> revocationIndexes.remove(previous.crl()));
+        return cached;
+    }
+
+    private void saveInStore(ICrlCacheStore store, String crlUrl, CachedCrl cached) {
+        try {
+            store.save(crlUrl, cached.crl().getEncoded(), cached.nextUpdate());
+        } catch (CRLException e) {
+            log.warn("Failed to store CRL in persistent cache: {}", crlUrl, e);
+        }
+    }
+
+    private Optional<X509CRL> parse(String crlUrl, byte[] crlBytes) {
+        try {
+            return Optional.of(toX509Crl(crlBytes));
+        } catch (X509CrlParsingException e) {
+            log.warn("Ignoring CRL from persistent cache that failed to parse: {}", crlUrl, e);
+            return Optional.empty();
+        }
+    }
+
+    private record CachedCrl(X509CRL crl, Instant nextUpdate) {
+
+        static CachedCrl from(X509CRL crl) {
+            return new CachedCrl(crl, Optional.ofNullable(crl.getNextUpdate()).map(Date::toInstant).orElse(null));
+        }
+
+        boolean isValidAt(Instant now) {
+            return nextUpdate != null && nextUpdate.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.crl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.List;
+import java.util.Map;
+
+import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.getX509CRLEntries;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+/**
+ * Revoked entries of CRL grouped by serial number, so that revocation check does not iterate over whole CRL.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CrlRevocationIndex {
+
+    private final Map<BigInteger, List<X509CRLEntry>> entriesBySerialNumber;
+
+    public static CrlRevocationIndex of(X509CRL crl) {
+        return new CrlRevocationIndex(getX509CRLEntries(crl)
+            .map(X509CRLEntry.class::cast)
+            .collect(groupingBy(X509CRLEntry::getSerialNumber, toUnmodifiableList())));
+    }
+
+    public boolean isRevoked(BigInteger serialNumber) {
+        return entriesBySerialNumber.containsKey(serialNumber);
+    }
+
+    public List<X509CRLEntry> getEntries(BigInteger serialNumber) {
+        return entriesBySerialNumber.getOrDefault(serialNumber, List.of());
+    }
+
+    public int size() {
+        return entriesBySerialNumber.size();
+    }
+}
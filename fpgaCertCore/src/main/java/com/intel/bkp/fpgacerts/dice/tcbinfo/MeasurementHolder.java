@@ -35,6 +35,7 @@ package com.intel.bkp.fpgacerts.dice.tcbinfo;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +47,18 @@ public class MeasurementHolder {
     private List<TcbInfoMeasurement> referenceMeasurements = new ArrayList<>();
     private List<TcbInfoMeasurement> endorsedMeasurements = new ArrayList<>();
 
+    /**
+     * Instant until which the measurements may be reused without verifying the RIM again.
+     * Null means the measurements must not be reused.
+     */
+    private Instant validUntil;
+
+    public MeasurementHolder(MeasurementHolder holder) {
+        this.referenceMeasurements = new ArrayList<>(holder.referenceMeasurements);
+        this.endorsedMeasurements = new ArrayList<>(holder.endorsedMeasurements);
+        this.validUntil = holder.validUntil;
+    }
+
     public void add(MeasurementHolder holder) {
         Optional.ofNullable(holder.referenceMeasurements)
             .ifPresent(this.referenceMeasurements::addAll);
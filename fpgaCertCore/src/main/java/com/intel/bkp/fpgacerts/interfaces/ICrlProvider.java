@@ -32,9 +32,19 @@
 
 package com.intel.bkp.fpgacerts.interfaces;
 
+import com.intel.bkp.fpgacerts.crl.CrlRevocationIndex;
+
 import java.security.cert.X509CRL;
+import java.util.Optional;
 
 public interface ICrlProvider {
 
     X509CRL getCrl(String crlUrl);
+
+    /**
+     * Returns precomputed revocation index of CRL previously returned by this provider, if it keeps one.
+     */
+    default Optional<CrlRevocationIndex> getRevocationIndex(X509CRL crl) {
+        return Optional.empty();
+    }
 }
@@ -33,8 +33,13 @@
 package com.intel.bkp.fpgacerts.rim;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface IRimHandlersProvider {
 
     List<IRimHandler<?>> getRimHandlers();
+
+    default Optional<MeasurementHolderCache> getMeasurementHolderCache() {
+        return Optional.empty();
+    }
 }
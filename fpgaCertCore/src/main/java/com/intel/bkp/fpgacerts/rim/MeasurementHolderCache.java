@@ -0,0 +1,148 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.rim;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+
+/**
+ * Keeps measurements of verified RIMs keyed by SHA-256 of RIM content, so that devices sharing the same RIM
+ * do not repeat its download, signature and chain verification.
+ * Entries expire at the validity returned with measurements, but not later than maxTtl, which bounds how long
+ * XCoRIM and CRL updates may go unnoticed. Measurements without validity are never cached.
+ * Concurrent requests for the same RIM wait for a single verification.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class MeasurementHolderCache {
+
+    private final Duration maxTtl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final Map<String, CompletableFuture<CachedMeasurements>> measurementsByDigest = new ConcurrentHashMap<>();
+
+    public MeasurementHolderCache(Duration maxTtl, int maxEntries) {
+        this(maxTtl, maxEntries, Clock.systemUTC());
+    }
+
+    public MeasurementHolder getMeasurements(String refMeasurementHex, Supplier<MeasurementHolder> loader) {
+        final String digest = CryptoUtils.generateSha256Fingerprint(fromHex(refMeasurementHex));
+        final Instant now = clock.instant();
+        final var loading = new CompletableFuture<CachedMeasurements>();
+        final var entry = measurementsByDigest.compute(digest,
+            (key, current) -> isUsable(current, now) ? current : loading);
+
+        if (entry == loading) {
+            return load(digest, loading, loader, now);
+        }
+
+        return Optional.ofNullable(entry.exceptionally(e -> null).join())
+            .map(cached -> {
+                log.debug("Using cached measurements for RIM with digest: {}", digest);
+                return new MeasurementHolder(cached.measurements());
+            })
+            .orElseGet(loader);
+    }
+
+    public int size() {
+        return measurementsByDigest.size();
+    }
+
+    private MeasurementHolder load(String digest, CompletableFuture<CachedMeasurements> loading,
+                                   Supplier<MeasurementHolder> loader, Instant now) {
+        final MeasurementHolder measurements;
+        try {
+            measurements = loader.get();
+        } catch (RuntimeException e) {
+            measurementsByDigest.remove(digest, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+
+        final Optional<CachedMeasurements> cached = CachedMeasurements.from(measurements, now.plus(maxTtl))
+            .filter(c -> c.isValidAt(now))
+            .filter(c -> hasCapacity(now));
+        if (cached.isEmpty()) {
+            log.debug("Measurements are not cached for RIM with digest: {}", digest);
+            measurementsByDigest.remove(digest, loading);
+        }
+        loading.complete(cached.orElse(null));
+        return measurements;
+    }
+
+    private boolean hasCapacity(Instant now) {
+        if (measurementsByDigest.size() > maxEntries) {
+            measurementsByDigest.values().removeIf(entry -> entry.isDone() && !isUsable(entry, now));
+        }
+        return measurementsByDigest.size() <= maxEntries;
+    }
+
+    private static boolean isUsable(CompletableFuture<CachedMeasurements> entry, Instant now) {
+        if (entry == null) {
+            return false;
+        }
+        if (!entry.isDone()) {
+            return true;
+        }
+        final CachedMeasurements cached = entry.exceptionally(e -> null).join();
+        return cached != null && cached.isValidAt(now);
+    }
+
+    private record CachedMeasurements(MeasurementHolder measurements, Instant expiry) {
+
+        static Optional<CachedMeasurements> from(MeasurementHolder measurements, Instant maxExpiry) {
+            return Optional.ofNullable(measurements.getValidUntil())
+                .map(validUntil -> validUntil.isBefore(maxExpiry) ? validUntil : maxExpiry)
+                .map(expiry -> new CachedMeasurements(new MeasurementHolder(measurements), expiry));
+        }
+
+        boolean isValidAt(Instant now) {
+            return expiry.isAfter(now);
+        }
+    }
+}
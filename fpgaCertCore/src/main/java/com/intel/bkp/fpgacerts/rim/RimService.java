@@ -34,6 +34,7 @@ package com.intel.bkp.fpgacerts.rim;
 
 import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
 import com.intel.bkp.fpgacerts.utils.VerificationStatusLogger;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,14 +44,29 @@ import java.util.Optional;
 import static java.util.Objects.nonNull;
 
 @Slf4j
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class RimService {
 
     private static final String PARSED_MSG_TEMPLATE = "Parsed RIM in %s format.";
 
     private final List<IRimHandler<?>> rimHandlers;
+    private final Optional<MeasurementHolderCache> measurementHolderCache;
+
+    public RimService(List<IRimHandler<?>> rimHandlers) {
+        this(rimHandlers, Optional.empty());
+    }
+
+    public RimService(List<IRimHandler<?>> rimHandlers, MeasurementHolderCache measurementHolderCache) {
+        this(rimHandlers, Optional.of(measurementHolderCache));
+    }
 
     public MeasurementHolder getMeasurements(String refMeasurementHex) {
+        return measurementHolderCache
+            .map(cache -> cache.getMeasurements(refMeasurementHex, () -> verifyAndGetMeasurements(refMeasurementHex)))
+            .orElseGet(() -> verifyAndGetMeasurements(refMeasurementHex));
+    }
+
+    private MeasurementHolder verifyAndGetMeasurements(String refMeasurementHex) {
         Optional<MeasurementHolder> measurements = Optional.empty();
         final var it = rimHandlers.listIterator();
         while (measurements.isEmpty() && it.hasNext()) {
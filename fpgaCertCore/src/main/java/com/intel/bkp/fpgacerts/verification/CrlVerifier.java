@@ -166,7 +166,9 @@ public class CrlVerifier {
     }
 
     boolean isRevokedBySerialNumber(X509CRL crl, X509Certificate cert) {
-        return isRevoked(crl, cert.getSerialNumber());
+        return crlProvider.getRevocationIndex(crl)
+            .map(index -> index.isRevoked(cert.getSerialNumber()))
+            .orElseGet(() -> isRevoked(crl, cert.getSerialNumber()));
     }
 
     private boolean handleRevokedCertificate(X509Certificate certificate, String revocationReason) {
@@ -76,7 +76,10 @@ public class DiceCrlVerifier extends CrlVerifier {
 
     @Override
     protected boolean isRevokedBySerialNumber(X509CRL crl, X509Certificate cert) {
-        return isRevoked(getCrlEntriesWithoutTcbInfoExtension(crl), cert.getSerialNumber());
+        return getCrlProvider().getRevocationIndex(crl)
+            .map(index -> index.getEntries(cert.getSerialNumber()).stream())
+            .map(entries -> entries.anyMatch(entry -> !containsTcbInfoExtension(entry)))
+            .orElseGet(() -> isRevoked(getCrlEntriesWithoutTcbInfoExtension(crl), cert.getSerialNumber()));
     }
 
     private boolean isRevokedByTcbInfo(X509CRL crl, X509Certificate certificate) {
@@ -63,7 +63,9 @@ public class EvidenceVerifier {
     private final RimService rimService;
 
     public EvidenceVerifier(IRimHandlersProvider rimHandlersProvider) {
-        this(new RimService(rimHandlersProvider.getRimHandlers()));
+        this(rimHandlersProvider.getMeasurementHolderCache()
+            .map(cache -> new RimService(rimHandlersProvider.getRimHandlers(), cache))
+            .orElseGet(() -> new RimService(rimHandlersProvider.getRimHandlers())));
     }
 
     public VerificationResult verify(TcbInfoMeasurementsAggregator tcbInfoMeasurementsAggregator,
@@ -46,6 +46,7 @@ import com.intel.bkp.fpgacerts.cbor.rim.comid.Claims;
 import com.intel.bkp.fpgacerts.cbor.rim.comid.ReferenceTriple;
 import com.intel.bkp.fpgacerts.cbor.rim.comid.mapping.ReferenceTripleToTcbInfoMeasurementMapper;
 import com.intel.bkp.fpgacerts.cbor.rim.parser.RimSignedParser;
+import com.intel.bkp.fpgacerts.cbor.service.RimSigningChainService.RimSigningChain;
 import com.intel.bkp.fpgacerts.cbor.signer.CborSignatureVerifier;
 import com.intel.bkp.fpgacerts.cbor.signer.cose.CborKeyPair;
 import com.intel.bkp.fpgacerts.cbor.utils.ProfileValidator;
@@ -67,6 +68,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -93,6 +96,7 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class CoRimHandlerTest {
 
+    private static final Instant CHAIN_VALID_UNTIL = Instant.now().plus(1, ChronoUnit.HOURS);
     private static final String CERTIFICATE_PATH_REGEX = "http://localhost:9090/content/IPCS/rims/agilex_L1_.*\\.corim";
 
     private static CborKeyPair signingKey;
@@ -170,8 +174,8 @@ class CoRimHandlerTest {
     void getMeasurements_Success() {
         // given
         final var cbor = generateSignedRim(false);
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), CHAIN_VALID_UNTIL));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(true);
         when(measurementMapper.map(any())).thenReturn(tcbInfoMeasurement).thenReturn(tcbInfoMeasurement)
             .thenReturn(tcbInfoMeasurement);
@@ -183,6 +187,25 @@ class CoRimHandlerTest {
         // then
         assertIterableEquals(List.of(tcbInfoMeasurement, tcbInfoMeasurement), result.getReferenceMeasurements());
         assertIterableEquals(List.of(tcbInfoMeasurement), result.getEndorsedMeasurements());
+        assertEquals(CHAIN_VALID_UNTIL, result.getValidUntil());
+    }
+
+    @Test
+    void getMeasurements_WithSignatureValidityBeforeChainExpiry_ReturnsSignatureValidity() {
+        // given
+        final var cbor = generateSignedRim(false);
+        final var chainValidUntil = Instant.MAX.minusSeconds(1);
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), chainValidUntil));
+        when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(true);
+        when(measurementMapper.map(any())).thenReturn(tcbInfoMeasurement);
+        mockTcbInfoMeasurement();
+
+        // when
+        final var result = sut.getMeasurements(cbor);
+
+        // then
+        assertTrue(result.getValidUntil().isBefore(chainValidUntil));
     }
 
     @Test
@@ -190,8 +213,8 @@ class CoRimHandlerTest {
         // given
         final var designRimCbor = generateSignedRim(true);
         final var signedRimCbor = generateSignedRim();
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), CHAIN_VALID_UNTIL));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), designRimCbor)).thenReturn(true);
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), CborObjectParser.instance().parse(signedRimCbor)))
             .thenReturn(true);
@@ -211,8 +234,8 @@ class CoRimHandlerTest {
     void getMeasurements_WithDesignRim_WithMissingRimOnDp_ThrowsException() {
         // given
         final var designRimCbor = generateSignedRim(true);
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), CHAIN_VALID_UNTIL));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), designRimCbor)).thenReturn(true);
         when(distributionPointConnector.tryGetBytes(matches(CERTIFICATE_PATH_REGEX)))
             .thenReturn(Optional.empty());
@@ -261,8 +284,8 @@ class CoRimHandlerTest {
     void getMeasurements_WithSignatureVerificationFailure_Throws() {
         // given
         final var cbor = generateSignedRim(false);
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), CHAIN_VALID_UNTIL));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(false);
 
         // when-then
@@ -295,8 +318,8 @@ class CoRimHandlerTest {
     @Test
     void getMeasurements_WithLocatorsTree_Success() {
         // given
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), CHAIN_VALID_UNTIL));
 
         try (var cborBrokerMockedStatic = mockStatic(CborBroker.class);
              var signatureTimeValidatorMockedStatic = mockStatic(SignatureTimeValidator.class);
@@ -325,8 +348,8 @@ class CoRimHandlerTest {
     @Test
     void getMeasurements_WithMaxDepth_Success() {
         // given
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningChain(signingKey.getPublicKey(), CHAIN_VALID_UNTIL));
 
         try (var cborBrokerMockedStatic = mockStatic(CborBroker.class);
              var signatureTimeValidatorMockedStatic = mockStatic(SignatureTimeValidator.class);
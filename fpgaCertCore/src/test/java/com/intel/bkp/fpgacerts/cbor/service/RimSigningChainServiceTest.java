@@ -44,6 +44,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -71,6 +73,9 @@ class RimSigningChainServiceTest {
     @Mock
     private X509Certificate x509Certificate;
 
+    @Mock
+    private X509Certificate rootCertificate;
+
     @Mock
     private PublicKey pubKey;
 
@@ -111,6 +116,7 @@ class RimSigningChainServiceTest {
         when(chainFetcher.downloadCertificateChainAsX509(matches(CERTIFICATE_PATH_REGEX))).thenReturn(list);
         doNothing().when(chainVerifier).verifyChain(List.of(x509Certificate));
         when(x509Certificate.getPublicKey()).thenReturn(pubKey);
+        when(x509Certificate.getNotAfter()).thenReturn(new Date());
 
         // when
         var result = sut.verifyRimSigningChainAndGetRimSigningKey(url);
@@ -118,4 +124,26 @@ class RimSigningChainServiceTest {
         // then
         assertEquals(pubKey, result);
     }
+
+    @Test
+    void verifyRimSigningChain_ReturnsEarliestNotAfterInChain() {
+        // given
+        final var url = "http://localhost:9090/content/IPCS/certs/RIM_Signing_agilex_5WL28Ty-Nta3Si1dR3ralQ7jFHw.cer";
+        final var leafNotAfter = Instant.parse("2030-01-01T00:00:00Z");
+        final var rootNotAfter = Instant.parse("2029-01-01T00:00:00Z");
+        list.add(x509Certificate);
+        list.add(rootCertificate);
+        when(chainFetcher.downloadCertificateChainAsX509(matches(CERTIFICATE_PATH_REGEX))).thenReturn(list);
+        doNothing().when(chainVerifier).verifyChain(List.of(x509Certificate, rootCertificate));
+        when(x509Certificate.getPublicKey()).thenReturn(pubKey);
+        when(x509Certificate.getNotAfter()).thenReturn(Date.from(leafNotAfter));
+        when(rootCertificate.getNotAfter()).thenReturn(Date.from(rootNotAfter));
+
+        // when
+        var result = sut.verifyRimSigningChain(url);
+
+        // then
+        assertEquals(pubKey, result.signingKey());
+        assertEquals(rootNotAfter, result.validUntil());
+    }
 }
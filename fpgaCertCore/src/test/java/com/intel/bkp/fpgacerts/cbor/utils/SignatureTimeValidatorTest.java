@@ -55,8 +55,11 @@ class SignatureTimeValidatorTest {
         // given
         final RimSigned data = generateSignedRim(false);
 
-        // when-then
-        assertDoesNotThrow(() -> SignatureTimeValidator.verify(data));
+        // when
+        final var result = assertDoesNotThrow(() -> SignatureTimeValidator.verify(data));
+
+        // then
+        assertEquals(data.getProtectedData().getMetaMap().getSignatureValidity(), result);
     }
 
     @Test
@@ -0,0 +1,194 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.crl;
+
+import com.intel.bkp.fpgacerts.interfaces.ICrlCacheStore;
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCrlProviderTest {
+
+    private static final String URL = "https://tsci.intel.com/content/IPCS/crls/IPCS_agilex_L1.crl";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final BigInteger REVOKED_SERIAL_NUMBER = BigInteger.TEN;
+
+    @Mock
+    private ICrlProvider crlProvider;
+
+    @Mock
+    private ICrlCacheStore crlCacheStore;
+
+    @Mock
+    private X509CRL crl;
+
+    @Mock
+    private X509CRL newerCrl;
+
+    @Test
+    void getCrl_CalledTwiceBeforeNextUpdate_DownloadsOnce() {
+        // given
+        final CachingCrlProvider sut = prepareSut(NOW);
+        mockNextUpdate(crl, NOW.plus(Duration.ofDays(1)));
+        when(crlProvider.getCrl(URL)).thenReturn(crl);
+
+        // when
+        sut.getCrl(URL);
+        final X509CRL result = sut.getCrl(URL);
+
+        // then
+        assertSame(crl, result);
+        verify(crlProvider, times(1)).getCrl(URL);
+    }
+
+    @Test
+    void getCrl_AfterNextUpdate_DownloadsAgain() {
+        // given
+        final Instant nextUpdate = NOW.plus(Duration.ofHours(1));
+        final Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, nextUpdate);
+        final CachingCrlProvider sut = new CachingCrlProvider(crlProvider, Optional.empty(), clock);
+        mockNextUpdate(crl, nextUpdate);
+        mockNextUpdate(newerCrl, nextUpdate.plus(Duration.ofDays(1)));
+        when(crlProvider.getCrl(URL)).thenReturn(crl, newerCrl);
+
+        // when
+        sut.getCrl(URL);
+        final X509CRL result = sut.getCrl(URL);
+
+        // then
+        assertSame(newerCrl, result);
+        assertTrue(sut.getRevocationIndex(crl).isEmpty());
+        assertTrue(sut.getRevocationIndex(newerCrl).isPresent());
+    }
+
+    @Test
+    void getCrl_WithoutNextUpdate_IsNotCached() {
+        // given
+        final CachingCrlProvider sut = prepareSut(NOW);
+        when(crlProvider.getCrl(URL)).thenReturn(crl);
+
+        // when
+        sut.getCrl(URL);
+        sut.getCrl(URL);
+
+        // then
+        verify(crlProvider, times(2)).getCrl(URL);
+        assertTrue(sut.getRevocationIndex(crl).isEmpty());
+    }
+
+    @Test
+    void getCrl_Downloaded_SavedInStore() throws Exception {
+        // given
+        final Instant nextUpdate = NOW.plus(Duration.ofDays(1));
+        final byte[] encoded = new byte[]{0x01, 0x02};
+        final CachingCrlProvider sut = new CachingCrlProvider(crlProvider, Optional.of(crlCacheStore),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+        mockNextUpdate(crl, nextUpdate);
+        when(crl.getEncoded()).thenReturn(encoded);
+        when(crlProvider.getCrl(URL)).thenReturn(crl);
+
+        // when
+        sut.getCrl(URL);
+
+        // then
+        verify(crlCacheStore).save(URL, encoded, nextUpdate);
+    }
+
+    @Test
+    void getCrl_NotInStore_Downloads() {
+        // given
+        final CachingCrlProvider sut = new CachingCrlProvider(crlProvider, Optional.of(crlCacheStore),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+        when(crlCacheStore.load(URL)).thenReturn(Optional.empty());
+        when(crlProvider.getCrl(URL)).thenReturn(crl);
+
+        // when
+        final X509CRL result = sut.getCrl(URL);
+
+        // then
+        assertSame(crl, result);
+        verify(crlCacheStore, never()).save(any(), any(), any());
+    }
+
+    @Test
+    void getRevocationIndex_CachedCrl_ContainsRevokedSerialNumbers() {
+        // given
+        final CachingCrlProvider sut = prepareSut(NOW);
+        final X509CRLEntry entry = mock(X509CRLEntry.class);
+        when(entry.getSerialNumber()).thenReturn(REVOKED_SERIAL_NUMBER);
+        mockNextUpdate(crl, NOW.plus(Duration.ofDays(1)));
+        when(crl.getRevokedCertificates()).thenAnswer(invocation -> Set.of(entry));
+        when(crlProvider.getCrl(URL)).thenReturn(crl);
+
+        // when
+        sut.getCrl(URL);
+
+        // then
+        final CrlRevocationIndex index = sut.getRevocationIndex(crl).orElseThrow();
+        assertTrue(index.isRevoked(REVOKED_SERIAL_NUMBER));
+        assertFalse(index.isRevoked(BigInteger.ONE));
+    }
+
+    private CachingCrlProvider prepareSut(Instant now) {
+        return new CachingCrlProvider(crlProvider, Optional.empty(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static void mockNextUpdate(X509CRL crl, Instant nextUpdate) {
+        when(crl.getNextUpdate()).thenReturn(Date.from(nextUpdate));
+    }
+}
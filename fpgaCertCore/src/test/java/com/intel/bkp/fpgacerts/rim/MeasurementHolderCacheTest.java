@@ -0,0 +1,197 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.fpgacerts.rim;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeasurementHolderCacheTest {
+
+    private static final String RIM_HEX = "A1B2C3D4";
+    private static final String OTHER_RIM_HEX = "D4C3B2A1";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration MAX_TTL = Duration.ofHours(1);
+
+    @Mock
+    private Supplier<MeasurementHolder> loader;
+
+    @Mock
+    private TcbInfoMeasurement tcbInfoMeasurement;
+
+    @Test
+    void getMeasurements_CalledTwiceBeforeExpiry_LoadsOnce() {
+        // given
+        final MeasurementHolderCache sut = prepareSut(NOW, 10);
+        when(loader.get()).thenReturn(prepareHolder(NOW.plus(Duration.ofDays(1))));
+
+        // when
+        sut.getMeasurements(RIM_HEX, loader);
+        final MeasurementHolder result = sut.getMeasurements(RIM_HEX.toLowerCase(), loader);
+
+        // then
+        assertIterableEquals(List.of(tcbInfoMeasurement), result.getReferenceMeasurements());
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void getMeasurements_ReturnsCopyOfCachedMeasurements() {
+        // given
+        final MeasurementHolderCache sut = prepareSut(NOW, 10);
+        final MeasurementHolder loaded = prepareHolder(NOW.plus(Duration.ofDays(1)));
+        when(loader.get()).thenReturn(loaded);
+        final MeasurementHolder first = sut.getMeasurements(RIM_HEX, loader);
+        first.getEndorsedMeasurements().add(tcbInfoMeasurement);
+
+        // when
+        final MeasurementHolder result = sut.getMeasurements(RIM_HEX, loader);
+
+        // then
+        assertSame(loaded, first);
+        assertNotSame(loaded, result);
+        assertTrue(result.getEndorsedMeasurements().isEmpty());
+    }
+
+    @Test
+    void getMeasurements_AfterValidUntil_LoadsAgain() {
+        // given
+        final Instant validUntil = NOW.plus(Duration.ofMinutes(10));
+        final Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, validUntil);
+        final MeasurementHolderCache sut = new MeasurementHolderCache(MAX_TTL, 10, clock);
+        when(loader.get()).thenReturn(prepareHolder(validUntil));
+
+        // when
+        sut.getMeasurements(RIM_HEX, loader);
+        sut.getMeasurements(RIM_HEX, loader);
+
+        // then
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void getMeasurements_AfterMaxTtl_LoadsAgain() {
+        // given
+        final Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plus(MAX_TTL));
+        final MeasurementHolderCache sut = new MeasurementHolderCache(MAX_TTL, 10, clock);
+        when(loader.get()).thenReturn(prepareHolder(NOW.plus(Duration.ofDays(1))));
+
+        // when
+        sut.getMeasurements(RIM_HEX, loader);
+        sut.getMeasurements(RIM_HEX, loader);
+
+        // then
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void getMeasurements_WithoutValidUntil_NotCached() {
+        // given
+        final MeasurementHolderCache sut = prepareSut(NOW, 10);
+        when(loader.get()).thenReturn(prepareHolder(null));
+
+        // when
+        sut.getMeasurements(RIM_HEX, loader);
+        sut.getMeasurements(RIM_HEX, loader);
+
+        // then
+        verify(loader, times(2)).get();
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void getMeasurements_LoaderThrows_NotCached() {
+        // given
+        final MeasurementHolderCache sut = prepareSut(NOW, 10);
+        final MeasurementHolder holder = prepareHolder(NOW.plus(Duration.ofDays(1)));
+        when(loader.get()).thenThrow(new IllegalArgumentException("Unknown RIM content format.")).thenReturn(holder);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> sut.getMeasurements(RIM_HEX, loader));
+        final MeasurementHolder result = sut.getMeasurements(RIM_HEX, loader);
+
+        // then
+        assertSame(holder, result);
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void getMeasurements_WhenFull_DoesNotCacheNewRim() {
+        // given
+        final MeasurementHolderCache sut = prepareSut(NOW, 1);
+        when(loader.get()).thenReturn(prepareHolder(NOW.plus(Duration.ofDays(1))));
+
+        // when
+        sut.getMeasurements(RIM_HEX, loader);
+        sut.getMeasurements(OTHER_RIM_HEX, loader);
+        sut.getMeasurements(OTHER_RIM_HEX, loader);
+
+        // then
+        verify(loader, times(3)).get();
+        assertEquals(1, sut.size());
+    }
+
+    private MeasurementHolderCache prepareSut(Instant now, int maxEntries) {
+        return new MeasurementHolderCache(MAX_TTL, maxEntries, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private MeasurementHolder prepareHolder(Instant validUntil) {
+        final MeasurementHolder holder = new MeasurementHolder();
+        holder.getReferenceMeasurements().add(tcbInfoMeasurement);
+        holder.setValidUntil(validUntil);
+        return holder;
+    }
+}
@@ -35,6 +35,7 @@ package com.intel.bkp.fpgacerts.verification;
 import ch.qos.logback.classic.Level;
 import com.intel.bkp.crypto.x509.utils.CrlDistributionPointsUtils;
 import com.intel.bkp.crypto.x509.validation.SignatureVerifier;
+import com.intel.bkp.fpgacerts.crl.CrlRevocationIndex;
 import com.intel.bkp.fpgacerts.exceptions.CrlSignatureException;
 import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
 import com.intel.bkp.test.LoggerTestUtil;
@@ -68,6 +69,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -157,6 +159,22 @@ class CrlVerifierTest {
         verify(signatureVerifier).verify(leafCRL, parentCertificate);
     }
 
+    @Test
+    void verify_WithRevokedDeviceInRevocationIndex_ReturnFalse() {
+        // given
+        mockChainWith2Certs();
+        mockLeafCrlOnDp();
+        mockLeafCrlSignedByDirectParent();
+        mockLeafCertIsRevoked();
+        when(crlProvider.getRevocationIndex(leafCRL)).thenReturn(Optional.of(CrlRevocationIndex.of(leafCRL)));
+
+        // when-then
+        assertFalse(() -> sut.verify());
+
+        // then
+        verify(leafCRL, times(1)).getRevokedCertificates();
+    }
+
     @Test
     void verify_WithRevokedDevice_ReturnFalse() {
         // given
@@ -36,39 +36,106 @@
 session_callbacks_t *cb;
 
 bool m_send_receive_buffer_acquired = false;
-uint8_t m_send_receive_buffer[20064];
-size_t m_send_receive_buffer_size = 20064;
+uint8_t m_send_receive_buffer[SEND_RECEIVE_BUFFER_SIZE];
+size_t m_send_receive_buffer_size = SEND_RECEIVE_BUFFER_SIZE;
+
+// Every SPDM context gets its own callbacks and transport buffer, so that several contexts
+// (one per provisioned device) can be driven concurrently from separate threads.
+std::map<const void *, context_state_t *> m_context_states;
+std::mutex m_context_states_mutex;
+
+context_state_t *find_context_state(const void *spdm_context) {
+    std::lock_guard<std::mutex> lock(m_context_states_mutex);
+    auto it = m_context_states.find(spdm_context);
+    return it == m_context_states.end() ? nullptr : it->second;
+}
+
+// libspdm_requester_data_sign does not get the SPDM context in libspdm 3.2, so every wrapper call that may
+// end up signing remembers its context for the calling thread.
+thread_local void *m_current_spdm_context = nullptr;
+
+class current_context_scope {
+public:
+    explicit current_context_scope(void *spdm_context) : previous_spdm_context(m_current_spdm_context) {
+        m_current_spdm_context = spdm_context;
+    }
+
+    ~current_context_scope() {
+        m_current_spdm_context = previous_spdm_context;
+    }
+
+private:
+    void *previous_spdm_context;
+};
+
+session_callbacks_t *get_callbacks(const void *spdm_context) {
+    context_state_t *state = find_context_state(spdm_context);
+    return state != nullptr ? state->callbacks : cb;
+}
+
+void register_context_state(void *spdm_context) {
+    auto *state = new context_state_t();
+    state->callbacks = cb;
+    state->send_receive_buffer_acquired = false;
+
+    std::lock_guard<std::mutex> lock(m_context_states_mutex);
+    auto it = m_context_states.find(spdm_context);
+    if (it != m_context_states.end()) {
+        delete it->second;
+    }
+    m_context_states[spdm_context] = state;
+}
+
+void unregister_context_state(void *spdm_context) {
+    std::lock_guard<std::mutex> lock(m_context_states_mutex);
+    auto it = m_context_states.find(spdm_context);
+    if (it == m_context_states.end()) {
+        return;
+    }
+
+    session_callbacks_t *released_callbacks = it->second->callbacks;
+    delete it->second;
+    m_context_states.erase(it);
+
+    // calls made without a registered context must not point to a released session
+    if (cb == released_callbacks && !m_context_states.empty()) {
+        cb = m_context_states.begin()->second->callbacks;
+    }
+}
 
 libspdm_return_t spdm_device_acquire_sender_buffer(
         void *context, void **msg_buf_ptr) {
-    if (m_send_receive_buffer_acquired) {
+    context_state_t *state = find_context_state(context);
+    bool *acquired = state != nullptr ? &state->send_receive_buffer_acquired : &m_send_receive_buffer_acquired;
+    uint8_t *buffer = state != nullptr ? state->send_receive_buffer : m_send_receive_buffer;
+
+    if (*acquired) {
         return LIBSPDM_STATUS_ACQUIRE_FAIL;
     }
-    *msg_buf_ptr = m_send_receive_buffer;
-    libspdm_zero_mem(m_send_receive_buffer, m_send_receive_buffer_size);
-    m_send_receive_buffer_acquired = true;
+    *msg_buf_ptr = buffer;
+    libspdm_zero_mem(buffer, m_send_receive_buffer_size);
+    *acquired = true;
     return LIBSPDM_STATUS_SUCCESS;
 }
 
 void spdm_device_release_sender_buffer(
         void *context, const void *msg_buf_ptr) {
-    m_send_receive_buffer_acquired = false;
+    context_state_t *state = find_context_state(context);
+    if (state != nullptr) {
+        state->send_receive_buffer_acquired = false;
+    } else {
+        m_send_receive_buffer_acquired = false;
+    }
 }
 
 libspdm_return_t spdm_device_acquire_receiver_buffer(
         void *context, void **msg_buf_ptr) {
-    if (m_send_receive_buffer_acquired) {
-        return LIBSPDM_STATUS_ACQUIRE_FAIL;
-    }
-    *msg_buf_ptr = m_send_receive_buffer;
-    libspdm_zero_mem(m_send_receive_buffer, m_send_receive_buffer_size);
-    m_send_receive_buffer_acquired = true;
-    return LIBSPDM_STATUS_SUCCESS;
+    return spdm_device_acquire_sender_buffer(context, msg_buf_ptr);
 }
 
 void spdm_device_release_receiver_buffer(
         void *context, const void *msg_buf_ptr) {
-    m_send_receive_buffer_acquired = false;
+    spdm_device_release_sender_buffer(context, msg_buf_ptr);
 }
 
 bool libspdm_requester_data_sign(
@@ -77,18 +144,20 @@ bool libspdm_requester_data_sign(
         uint32_t base_hash_algo, bool is_data_hash,
         const uint8_t *message, size_t message_size,
         uint8_t *signature, size_t *sig_size) {
-    cb->printCallback("Called libspdm_requester_data_sign.");
+    session_callbacks_t *callbacks = get_callbacks(m_current_spdm_context);
+    callbacks->printCallback("Called libspdm_requester_data_sign.");
 
-    return cb->spdmRequesterDataSignCallback != nullptr &&
-           cb->spdmRequesterDataSignCallback(spdm_version, op_code, req_base_asym_alg, base_hash_algo, is_data_hash,
-                                             message, message_size, signature, sig_size);
+    return callbacks->spdmRequesterDataSignCallback != nullptr &&
+           callbacks->spdmRequesterDataSignCallback(spdm_version, op_code, req_base_asym_alg, base_hash_algo,
+                                                    is_data_hash, message, message_size, signature, sig_size);
 }
 
 libspdm_return_t libspdm_transport_mctp_encode_message_w(
         void *spdm_context, const uint32_t *session_id, bool is_app_message,
         bool is_request_message, size_t message_size, void *message,
         size_t *transport_message_size, void **transport_message) {
-    cb->printCallback("Called libspdm_transport_mctp_encode_message_w.");
+    session_callbacks_t *callbacks = get_callbacks(spdm_context);
+    callbacks->printCallback("Called libspdm_transport_mctp_encode_message_w.");
 
     libspdm_return_t encode_result = libspdm_transport_mctp_encode_message(spdm_context, session_id, is_app_message,
                                                                            is_request_message, message_size,
@@ -96,7 +165,7 @@ libspdm_return_t libspdm_transport_mctp_encode_message_w(
                                                                            transport_message);
 
     if (encode_result != LIBSPDM_STATUS_SUCCESS || *transport_message_size == 0) {
-        cb->printCallback("MCTP encode failed.");
+        callbacks->printCallback("MCTP encode failed.");
         return encode_result;
     }
 
@@ -108,8 +177,8 @@ libspdm_return_t libspdm_transport_mctp_encode_message_w(
 
     uint8_t mctp_encapsulation_type = tmp_buffer_with_mctp_header[3] == SECURE_MCTP_MESSAGE_TYPE
                                       ? MCTP_ENCAPSULATION_TYPE_0
-                                      : (cb->mctpEncapsulationTypeCallback != nullptr)
-                                        ? cb->mctpEncapsulationTypeCallback()
+                                      : (callbacks->mctpEncapsulationTypeCallback != nullptr)
+                                        ? callbacks->mctpEncapsulationTypeCallback()
                                         : MCTP_ENCAPSULATION_TYPE_1;
     tmp_buffer_with_mctp_header[2] = MCTP_MSG_TAG << 5 | MCTP_TO << 4 | MCTP_RSVD << 1 | mctp_encapsulation_type;
 
@@ -128,10 +197,10 @@ libspdm_return_t libspdm_transport_mctp_decode_message_w(
         bool *is_app_message, bool is_request_message,
         size_t transport_message_size, void *transport_message,
         size_t *message_size, void **message) {
-    cb->printCallback("Called libspdm_transport_mctp_decode_message_w.");
+    get_callbacks(spdm_context)->printCallback("Called libspdm_transport_mctp_decode_message_w.");
 
     if (transport_message_size < MCTP_ALIGNMENT_LEN) {
-        cb->printCallback("MCTP decode failed.");
+        get_callbacks(spdm_context)->printCallback("MCTP decode failed.");
         return LIBSPDM_STATUS_INVALID_PARAMETER;
     }
 
@@ -158,7 +227,7 @@ bool verify_spdm_cert_chain_func(void *spdm_context,
 }
 
 void libspdm_get_version_w(void *spdm_context, uint8_t *version_p) {
-    cb->printCallback("Called libspdm_get_version_w.");
+    get_callbacks(spdm_context)->printCallback("Called libspdm_get_version_w.");
 
     spdm_version_number_t spdm_version_number_entry;
     libspdm_data_parameter_t parameter;
@@ -184,13 +253,14 @@ size_t libspdm_get_context_size_w() {
 }
 
 void libspdm_deinit_context_w(void *spdm_context) {
-    cb->printCallback("Called libspdm_deinit_context_w.");
+    get_callbacks(spdm_context)->printCallback("Called libspdm_deinit_context_w.");
     libspdm_deinit_context(spdm_context);
+    unregister_context_state(spdm_context);
 }
 
 bool libspdm_is_capabilities_flag_supported_by_responder(void *spdm_context,
                                                          uint32_t responder_capabilities_flag) {
-    cb->printCallback("Called libspdm_is_capabilities_flag_supported_by_responder.");
+    get_callbacks(spdm_context)->printCallback("Called libspdm_is_capabilities_flag_supported_by_responder.");
 
     libspdm_data_parameter_t parameter;
     parameter.location = LIBSPDM_DATA_LOCATION_CONNECTION;
@@ -206,7 +276,7 @@ bool libspdm_is_capabilities_flag_supported_by_responder(void *spdm_context,
     }
 
     if (data_size != sizeof(uint32_t)) {
-        cb->printCallback("Returned data_size is invalid.");
+        get_callbacks(spdm_context)->printCallback("Returned data_size is invalid.");
         return false;
     }
 
@@ -228,36 +298,39 @@ libspdm_return_t libspdm_prepare_context_w(void *spdm_context,
         return status;
     }
 
+    register_context_state(spdm_context);
+    session_callbacks_t *callbacks = get_callbacks(spdm_context);
+
     libspdm_register_verify_spdm_cert_chain_func(spdm_context, verify_spdm_cert_chain_func);
 
     libspdm_register_device_buffer_func(spdm_context,
                                         senderBufferSize,
                                         receiverBufferSize,
-                                        cb->spdmDeviceAcquireSenderBufferCallback != nullptr
-                                        ? cb->spdmDeviceAcquireSenderBufferCallback
+                                        callbacks->spdmDeviceAcquireSenderBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceAcquireSenderBufferCallback
                                         : spdm_device_acquire_sender_buffer,
-                                        cb->spdmDeviceReleaseSenderBufferCallback != nullptr
-                                        ? cb->spdmDeviceReleaseSenderBufferCallback
+                                        callbacks->spdmDeviceReleaseSenderBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceReleaseSenderBufferCallback
                                         : spdm_device_release_sender_buffer,
-                                        cb->spdmDeviceAcquireReceiverBufferCallback != nullptr
-                                        ? cb->spdmDeviceAcquireReceiverBufferCallback
+                                        callbacks->spdmDeviceAcquireReceiverBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceAcquireReceiverBufferCallback
                                         : spdm_device_acquire_receiver_buffer,
-                                        cb->spdmDeviceReleaseReceiverBufferCallback != nullptr
-                                        ? cb->spdmDeviceReleaseReceiverBufferCallback
+                                        callbacks->spdmDeviceReleaseReceiverBufferCallback != nullptr
+                                        ? callbacks->spdmDeviceReleaseReceiverBufferCallback
                                         : spdm_device_release_receiver_buffer);
 
-    libspdm_register_device_io_func(spdm_context, cb->spdmDeviceSendMessageCallback,
-                                    cb->spdmDeviceReceiveMessageCallback);
+    libspdm_register_device_io_func(spdm_context, callbacks->spdmDeviceSendMessageCallback,
+                                    callbacks->spdmDeviceReceiveMessageCallback);
 
     libspdm_register_transport_layer_func(spdm_context,
                                           maxSpdmMessageSize,
                                           LIBSPDM_MCTP_TRANSPORT_HEADER_SIZE + MCTP_ALIGNMENT_LEN,
                                           LIBSPDM_MCTP_TRANSPORT_TAIL_SIZE,
-                                          cb->mctpEncodeCallback != nullptr
-                                          ? cb->mctpEncodeCallback
+                                          callbacks->mctpEncodeCallback != nullptr
+                                          ? callbacks->mctpEncodeCallback
                                           : libspdm_transport_mctp_encode_message_w,
-                                          cb->mctpDecodeCallback != nullptr
-                                          ? cb->mctpDecodeCallback
+                                          callbacks->mctpDecodeCallback != nullptr
+                                          ? callbacks->mctpDecodeCallback
                                           : libspdm_transport_mctp_decode_message_w);
     return LIBSPDM_STATUS_SUCCESS;
 }
@@ -274,7 +347,8 @@ void libspdm_set_scratch_buffer_w(void *spdm_context,
 
 libspdm_return_t libspdm_init_connection_w(void *spdm_context,
                                            bool get_version_only) {
-    cb->printCallback("Called libspdm_init_connection_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_init_connection_w.");
     return libspdm_init_connection(spdm_context, get_version_only);
 }
 
@@ -282,7 +356,8 @@ libspdm_return_t libspdm_get_digest_w(void *spdm_context,
                                       const uint32_t *session_id,
                                       uint8_t *slot_mask,
                                       void *total_digest_buffer) {
-    cb->printCallback("Called libspdm_get_digest_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_get_digest_w.");
     return libspdm_get_digest(spdm_context, session_id, slot_mask, total_digest_buffer);
 }
 
@@ -291,7 +366,8 @@ libspdm_return_t libspdm_get_certificate_w(void *spdm_context,
                                            uint8_t slot_id,
                                            size_t *cert_chain_size,
                                            void *cert_chain) {
-    cb->printCallback("Called libspdm_get_certificate_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_get_certificate_w.");
     return libspdm_get_certificate(spdm_context, session_id, slot_id, cert_chain_size, cert_chain);
 }
 
@@ -304,7 +380,8 @@ libspdm_return_t libspdm_get_measurement_w(void *spdm_context,
                                            uint8_t *number_of_blocks,
                                            uint32_t *measurement_record_length,
                                            void *measurement_record) {
-    cb->printCallback("Called libspdm_get_measurement_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_get_measurement_w.");
     return libspdm_get_measurement(spdm_context, session_id, request_attribute, measurement_operation,
                                    slot_id, content_changed, number_of_blocks, measurement_record_length,
                                    measurement_record);
@@ -315,7 +392,8 @@ libspdm_return_t libspdm_set_certificate_w(void *spdm_context,
                                            uint8_t slot_id,
                                            void *cert_chain,
                                            size_t cert_chain_size) {
-    cb->printCallback("Called libspdm_set_certificate_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_set_certificate_w.");
     return libspdm_set_certificate(spdm_context, session_id, slot_id, cert_chain, cert_chain_size);
 }
 
@@ -329,7 +407,8 @@ libspdm_return_t libspdm_start_session_w(void *spdm_context,
                                          uint32_t *session_id,
                                          uint8_t *heartbeat_period,
                                          void *measurement_hash) {
-    cb->printCallback("Called libspdm_start_session_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_start_session_w.");
     return libspdm_start_session(spdm_context, use_psk, psk_hint, psk_hint_size, measurement_hash_type,
                                  slot_id, session_policy, session_id, heartbeat_period, measurement_hash);
 }
@@ -337,7 +416,8 @@ libspdm_return_t libspdm_start_session_w(void *spdm_context,
 libspdm_return_t libspdm_stop_session_w(void *spdm_context,
                                         uint32_t session_id,
                                         uint8_t end_session_attributes) {
-    cb->printCallback("Called libspdm_stop_session_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_stop_session_w.");
     return libspdm_stop_session(spdm_context, session_id, end_session_attributes);
 }
 
@@ -348,7 +428,8 @@ libspdm_return_t libspdm_send_receive_data_w(void *spdm_context,
                                              size_t request_size,
                                              void *response,
                                              size_t *response_size) {
-    cb->printCallback("Called libspdm_send_receive_data_w.");
+    current_context_scope scope(spdm_context);
+    get_callbacks(spdm_context)->printCallback("Called libspdm_send_receive_data_w.");
     return libspdm_send_receive_data(spdm_context, session_id, is_app_message, request,
                                      request_size, response, response_size);
 }
@@ -37,6 +37,8 @@
 #include <cstdlib>
 #include <cstdio>
 #include <cstring>
+#include <map>
+#include <mutex>
 
 extern "C" {
 #include "library/spdm_common_lib.h"
@@ -73,6 +75,7 @@ const uint8_t MCTP_ENCAPSULATION_TYPE_0 = 0x0;
 const uint8_t MCTP_ENCAPSULATION_TYPE_1 = 0x1;
 const uint8_t WORD_SIZE = 4;
 const uint8_t SECURE_MCTP_MESSAGE_TYPE = 0x06;
+const size_t SEND_RECEIVE_BUFFER_SIZE = 20064;
 
 typedef void (*print_callback)
         (const char *message);
@@ -131,6 +134,12 @@ typedef struct {
 
 } session_callbacks_t;
 
+typedef struct {
+    session_callbacks_t *callbacks;
+    bool send_receive_buffer_acquired;
+    uint8_t send_receive_buffer[SEND_RECEIVE_BUFFER_SIZE];
+} context_state_t;
+
 libspdm_return_t libspdm_transport_mctp_encode_message_w(
         void *spdm_context, const uint32_t *session_id, bool is_app_message,
         bool is_request_message, size_t message_size, void *message,
@@ -33,6 +33,7 @@
 package com.intel.bkp.workload;
 
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
+import com.intel.bkp.workload.service.FleetService;
 import com.intel.bkp.workload.service.VerifierService;
 import com.intel.bkp.workload.util.AppArgument;
 import com.intel.bkp.workload.util.AppArgumentParser;
@@ -48,7 +49,9 @@ public class WorkloadApp {
             final AppArgument appArgs = AppArgumentParser.parseArguments(args);
             log.info("[WORKLOAD] Running using commandline appArgs: {}", appArgs);
             setLogLevel(appArgs.getLogLevel());
-            returnCode = new VerifierService().callVerifier(appArgs);
+            returnCode = appArgs.isFleetMode()
+                         ? new FleetService().callVerifier(appArgs)
+                         : new VerifierService().callVerifier(appArgs);
         } catch (Exception e) {
             log.error("[WORKLOAD] Exception occurred: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
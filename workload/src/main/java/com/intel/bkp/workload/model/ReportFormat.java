@@ -30,7 +30,9 @@
  * **************************************************************************
  */
 
-package com.intel.bkp.bkps.crypto.sealingkey.event;
 
-public class SealingKeyTransactionEvent {
+package com.intel.bkp.workload.model;
+
+public enum ReportFormat {
+    JSON, CSV
 }
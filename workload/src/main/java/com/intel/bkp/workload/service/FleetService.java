@@ -0,0 +1,273 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.service;
+
+import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.VerifierExchangeResponse;
+import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
+import com.intel.bkp.verifier.service.VerifierEngine;
+import com.intel.bkp.verifier.service.VerifierExchangeImpl;
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.DeviceReport;
+import com.intel.bkp.workload.model.FleetDevice;
+import com.intel.bkp.workload.model.FleetReport;
+import com.intel.bkp.workload.model.ReportFormat;
+import com.intel.bkp.workload.util.AppArgument;
+import com.intel.bkp.workload.util.FleetFileReader;
+import com.intel.bkp.workload.util.FleetReportWriter;
+import com.intel.bkp.workload.util.WorkloadFileReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.FAIL;
+import static com.intel.bkp.verifier.model.VerifierExchangeResponse.OK;
+
+/**
+ * Runs single command against multiple devices within one Verifier engine, so the application context is initialized
+ * only once. Devices are handled concurrently by bounded worker pool and the outcome is gathered in a report with
+ * per-device status and phase timings.
+ */
+@Slf4j
+public class FleetService {
+
+    static final int DEFAULT_PARALLELISM = 4;
+    static final String PHASE_QUEUE = "queue";
+    static final String PHASE_READ_RIM = "readRim";
+    static final String PHASE_EXCHANGE = "exchange";
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String NOT_SUPPORTED_COMMAND_TYPE = "Not supported command type";
+    private static final String INVALID_REF_MEASUREMENT
+        = "Provide valid ref-measurement for device to invoke GET command.";
+    private static final String INVALID_CONTEXT = "Provide valid --context parameter to invoke CREATE command.";
+    private static final String INVALID_PUF_TYPE = "Provide valid --puf-type parameter to invoke CREATE command.";
+    private static final String INVALID_PARALLELISM = "Provide positive --parallelism parameter.";
+
+    public int callVerifier(AppArgument appArgs) {
+        verifyParam(appArgs.getCommand() != null, NOT_SUPPORTED_COMMAND_TYPE);
+        if (CommandType.CREATE == appArgs.getCommand()) {
+            verifyParam(appArgs.getContext() != null, INVALID_CONTEXT);
+            verifyParam(appArgs.getPufType() != null, INVALID_PUF_TYPE);
+        }
+
+        final List<FleetDevice> devices = getFleetFileReader()
+            .read(appArgs.getFleetFile(), appArgs.getRefMeasurement());
+        final FleetReport report = run(appArgs, devices);
+
+        Optional.ofNullable(appArgs.getReport())
+            .ifPresent(fileName -> getReportWriter().write(report, fileName, getReportFormat(appArgs)));
+
+        final int returnCode = getReturnCode(report);
+        log.info("[WORKLOAD] Fleet {} finished for {} devices in {} ms with result: {}", report.getCommand(),
+            report.getDevices().size(), report.getTotalMs(), returnCode);
+        return returnCode;
+    }
+
+    FleetFileReader getFleetFileReader() {
+        return new FleetFileReader();
+    }
+
+    FleetReportWriter getReportWriter() {
+        return new FleetReportWriter();
+    }
+
+    WorkloadFileReader getFileReader() {
+        return new WorkloadFileReader();
+    }
+
+    VerifierEngine startEngine() {
+        return VerifierEngine.start();
+    }
+
+    VerifierExchange getVerifierExchange(VerifierEngine engine) {
+        return new VerifierExchangeImpl(engine);
+    }
+
+    FleetReport run(AppArgument appArgs, List<FleetDevice> devices) {
+        final int parallelism = Math.min(getParallelism(appArgs), devices.size());
+        final FleetReport report = new FleetReport(appArgs.getCommand(), parallelism);
+
+        final long fleetStart = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try (VerifierEngine engine = startEngine()) {
+            report.setStartupMs(elapsedMs(fleetStart));
+            final VerifierExchange verifierExchange = getVerifierExchange(engine);
+
+            final List<Future<DeviceReport>> results = new ArrayList<>(devices.size());
+            for (FleetDevice device : devices) {
+                final long queuedAt = System.nanoTime();
+                results.add(executor.submit(() -> perform(appArgs, device, verifierExchange, queuedAt)));
+            }
+
+            for (int i = 0; i < devices.size(); i++) {
+                report.getDevices().add(await(results.get(i), devices.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        report.setTotalMs(elapsedMs(fleetStart));
+
+        return report;
+    }
+
+    DeviceReport perform(AppArgument appArgs, FleetDevice device, VerifierExchange verifierExchange,
+                         long queuedAt) {
+        final DeviceReport deviceReport = new DeviceReport(device.getTransportId());
+        final long start = System.nanoTime();
+        deviceReport.addPhaseTiming(PHASE_QUEUE, toMs(start - queuedAt));
+
+        try {
+            final int returnCode = switch (appArgs.getCommand()) {
+                case GET -> performGet(device, verifierExchange, deviceReport);
+                case CREATE -> timed(deviceReport, PHASE_EXCHANGE, () -> verifierExchange
+                    .createDeviceAttestationSubKey(device.getTransportId(), appArgs.getContext(),
+                        appArgs.getPufType()));
+                case HEALTH -> timed(deviceReport, PHASE_EXCHANGE,
+                    () -> verifierExchange.healthCheck(device.getTransportId()));
+            };
+            setStatus(deviceReport, returnCode);
+        } catch (Exception e) {
+            log.error("[WORKLOAD] Command {} failed for transportId {}: {}", appArgs.getCommand(),
+                device.getTransportId(), e.getMessage());
+            log.debug("Stacktrace: ", e);
+            deviceReport.setError(e.getMessage());
+            setStatus(deviceReport, ERROR.getCode());
+        }
+
+        deviceReport.setTotalMs(elapsedMs(start));
+        log.info("[WORKLOAD] {} result for transportId {}: {}", appArgs.getCommand(), device.getTransportId(),
+            deviceReport.getStatus());
+        return deviceReport;
+    }
+
+    private int performGet(FleetDevice device, VerifierExchange verifierExchange, DeviceReport deviceReport) {
+        final WorkloadFileReader fileReader = getFileReader();
+        final String refMeasurementFilePath = device.getRefMeasurement();
+
+        verifyParam(refMeasurementFilePath != null
+            && fileReader.exists(refMeasurementFilePath), INVALID_REF_MEASUREMENT);
+
+        final String refMeasurementHex = timed(deviceReport, PHASE_READ_RIM,
+            () -> fileReader.readFile(refMeasurementFilePath));
+        final VerifierExchangeResponseDTO result = timed(deviceReport, PHASE_EXCHANGE,
+            () -> verifierExchange.getDeviceAttestation(device.getTransportId(), refMeasurementHex));
+        deviceReport.setDeviceId(result.getDeviceId());
+        return result.getStatus();
+    }
+
+    private DeviceReport await(Future<DeviceReport> result, FleetDevice device) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WorkloadAppException("Interrupted while waiting for fleet results.", e);
+        } catch (ExecutionException e) {
+            final DeviceReport deviceReport = new DeviceReport(device.getTransportId());
+            deviceReport.setError(e.getCause().getMessage());
+            setStatus(deviceReport, ERROR.getCode());
+            return deviceReport;
+        }
+    }
+
+    private static int getReturnCode(FleetReport report) {
+        final List<Integer> statuses = report.getDevices().stream().map(DeviceReport::getStatus).toList();
+        if (statuses.stream().allMatch(status -> status == OK.getCode())) {
+            return OK.getCode();
+        }
+        if (statuses.stream().allMatch(status -> status == OK.getCode() || status == FAIL.getCode())) {
+            return FAIL.getCode();
+        }
+        return ERROR.getCode();
+    }
+
+    private static int getParallelism(AppArgument appArgs) {
+        final int parallelism = Optional.ofNullable(appArgs.getParallelism()).orElse(DEFAULT_PARALLELISM);
+        verifyParam(parallelism > 0, INVALID_PARALLELISM);
+        return parallelism;
+    }
+
+    private static ReportFormat getReportFormat(AppArgument appArgs) {
+        return Optional.ofNullable(appArgs.getReportFormat())
+            .orElseGet(() -> appArgs.getReport().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION)
+                             ? ReportFormat.CSV
+                             : ReportFormat.JSON);
+    }
+
+    private static void setStatus(DeviceReport deviceReport, int returnCode) {
+        deviceReport.setStatus(returnCode);
+        deviceReport.setResult(getResultName(returnCode));
+    }
+
+    private static String getResultName(int returnCode) {
+        try {
+            return VerifierExchangeResponse.from(returnCode).name();
+        } catch (IllegalArgumentException e) {
+            return String.valueOf(returnCode);
+        }
+    }
+
+    private static <T> T timed(DeviceReport deviceReport, String phase, Supplier<T> action) {
+        final long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            deviceReport.addPhaseTiming(phase, elapsedMs(start));
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return toMs(System.nanoTime() - startNanos);
+    }
+
+    private static long toMs(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static void verifyParam(boolean isValid, String errorMsg) {
+        if (!isValid) {
+            throw new WorkloadAppException(errorMsg);
+        }
+    }
+}
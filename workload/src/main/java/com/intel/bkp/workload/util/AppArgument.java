@@ -33,6 +33,7 @@
 package com.intel.bkp.workload.util;
 
 import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.ReportFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -56,6 +57,14 @@ public class AppArgument {
     private String pufType;
     private String refMeasurement;
     private String logLevel;
+    private String fleetFile;
+    private Integer parallelism;
+    private String report;
+    private ReportFormat reportFormat;
+
+    public boolean isFleetMode() {
+        return fleetFile != null;
+    }
 
     public static class AppArgumentBuilder {
 
@@ -68,5 +77,12 @@ public class AppArgument {
             }
             return this;
         }
+
+        public AppArgumentBuilder reportFormat(String reportFormat) {
+            this.reportFormat = reportFormat == null
+                                ? null
+                                : ReportFormat.valueOf(reportFormat.trim().toUpperCase());
+            return this;
+        }
     }
 }
@@ -40,16 +40,21 @@ import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
+import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.util.Optional;
+
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class AppArgumentParser {
 
     private static final String WORKLOAD_APP_DESC =
         "WorkloadApp --command GET --transport-id \"host:127.0.0.1;port:50001\" "
-            + "--ref-measurement /path/to/reference.rim";
+            + "--ref-measurement /path/to/reference.rim\n"
+            + "WorkloadApp --command GET --fleet-file /path/to/devices.txt --parallelism 8 "
+            + "--report /path/to/report.json";
 
     public static AppArgument parseArguments(String[] args) {
         Options options = getOptions();
@@ -57,9 +62,11 @@ public class AppArgumentParser {
         CommandLineParser parser = new DefaultParser();
         HelpFormatter formatter = new HelpFormatter();
         CommandLine cmd = null;
+        Integer parallelism = null;
 
         try {
             cmd = parser.parse(options, args);
+            parallelism = parseParallelism(cmd.getOptionValue("parallelism"));
         } catch (ParseException e) {
             log.error("[WORKLOAD] Failed to parse arguments: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -68,21 +75,41 @@ public class AppArgumentParser {
         }
 
         return AppArgument.instance()
-            .transportId(cmd.getOptionValue("transport-id").trim())
+            .transportId(Optional.ofNullable(cmd.getOptionValue("transport-id")).map(String::trim).orElse(null))
             .context(cmd.getOptionValue("context"))
             .pufType(cmd.getOptionValue("puf-type"))
             .refMeasurement(cmd.getOptionValue("ref-measurement"))
             .command(cmd.getOptionValue("command").trim())
             .logLevel(cmd.getOptionValue("log-level"))
+            .fleetFile(cmd.getOptionValue("fleet-file"))
+            .parallelism(parallelism)
+            .report(cmd.getOptionValue("report"))
+            .reportFormat(cmd.getOptionValue("report-format"))
             .build();
     }
 
+    private static Integer parseParallelism(String value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid --parallelism value: " + value);
+        }
+    }
+
     private static Options getOptions() {
         Options options = new Options();
 
         Option transportId = new Option("i", "transport-id", true, "JTAG Identifier");
-        transportId.setRequired(true);
-        options.addOption(transportId);
+        Option fleetFile = new Option(null, "fleet-file", true, "Path to file with one transport id per line, "
+            + "optionally followed by '|' and path to device specific RIM. Runs command on all listed devices.");
+        OptionGroup target = new OptionGroup();
+        target.addOption(transportId);
+        target.addOption(fleetFile);
+        target.setRequired(true);
+        options.addOptionGroup(target);
 
         Option command = new Option("c", "command", true, "Command which should be invoked. "
             + "Possible values: CREATE, GET, HEALTH");
@@ -104,6 +131,18 @@ public class AppArgumentParser {
             + "Possible values: OFF, ERROR, WARN, INFO (default), DEBUG, TRACE");
         options.addOption(logLevel);
 
+        Option parallelism = new Option(null, "parallelism", true, "Fleet mode only. "
+            + "Maximum number of devices handled concurrently. Default: 4");
+        options.addOption(parallelism);
+
+        Option report = new Option(null, "report", true, "Fleet mode only. "
+            + "Path to report file with per-device status and phase timings.");
+        options.addOption(report);
+
+        Option reportFormat = new Option(null, "report-format", true, "Fleet mode only. "
+            + "Possible values: JSON, CSV. By default deduced from --report file extension.");
+        options.addOption(reportFormat);
+
         return options;
     }
 }
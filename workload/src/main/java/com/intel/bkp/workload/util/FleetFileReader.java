@@ -0,0 +1,100 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.util;
+
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.FleetDevice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads list of devices for fleet mode.
+ * Each non-empty line contains transport id, optionally followed by '|' and path to device specific RIM:
+ * <pre>
+ * # comment
+ * host:127.0.0.1; port:50001
+ * host:127.0.0.1; port:50002 | /path/to/reference.rim
+ * </pre>
+ */
+@Slf4j
+public class FleetFileReader {
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String RIM_SEPARATOR = "|";
+
+    public List<FleetDevice> read(String fileName, String defaultRefMeasurement) {
+        log.debug("[WORKLOAD] Reading fleet file: {}", fileName);
+        final Path filePath = Paths.get(fileName);
+        try {
+            return parse(Files.readAllLines(filePath), defaultRefMeasurement);
+        } catch (IOException e) {
+            throw new WorkloadAppException("Failed to read fleet file: " + filePath, e);
+        }
+    }
+
+    List<FleetDevice> parse(List<String> lines, String defaultRefMeasurement) {
+        final List<FleetDevice> devices = new ArrayList<>();
+        for (String line : lines) {
+            final String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            devices.add(parseLine(trimmed, defaultRefMeasurement));
+        }
+
+        if (devices.isEmpty()) {
+            throw new WorkloadAppException("Fleet file does not contain any transport id.");
+        }
+        return devices;
+    }
+
+    private FleetDevice parseLine(String line, String defaultRefMeasurement) {
+        final int separatorIdx = line.indexOf(RIM_SEPARATOR);
+        if (separatorIdx < 0) {
+            return new FleetDevice(line, defaultRefMeasurement);
+        }
+
+        final String transportId = line.substring(0, separatorIdx).trim();
+        final String refMeasurement = line.substring(separatorIdx + 1).trim();
+        if (transportId.isEmpty()) {
+            throw new WorkloadAppException("Missing transport id in fleet file line: " + line);
+        }
+        return new FleetDevice(transportId, refMeasurement.isEmpty() ? defaultRefMeasurement : refMeasurement);
+    }
+}
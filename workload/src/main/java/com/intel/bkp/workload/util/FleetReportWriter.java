@@ -0,0 +1,123 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.DeviceReport;
+import com.intel.bkp.workload.model.FleetReport;
+import com.intel.bkp.workload.model.ReportFormat;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+public class FleetReportWriter {
+
+    private static final String CSV_SEPARATOR = ",";
+    private static final String CSV_PHASE_SUFFIX = "Ms";
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public void write(FleetReport report, String fileName, ReportFormat format) {
+        final Path filePath = Paths.get(fileName);
+        log.info("[WORKLOAD] Writing {} fleet report to: {}", format, filePath);
+        try {
+            Files.writeString(filePath, format(report, format), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new WorkloadAppException("Failed to write fleet report: " + filePath, e);
+        }
+    }
+
+    String format(FleetReport report, ReportFormat format) {
+        return switch (format) {
+            case JSON -> toJson(report);
+            case CSV -> toCsv(report);
+        };
+    }
+
+    private String toJson(FleetReport report) {
+        try {
+            return mapper.writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new WorkloadAppException("Failed to serialize fleet report.", e);
+        }
+    }
+
+    private String toCsv(FleetReport report) {
+        final Set<String> phases = new LinkedHashSet<>();
+        report.getDevices().forEach(device -> phases.addAll(device.getPhaseTimingsMs().keySet()));
+
+        final StringBuilder sb = new StringBuilder();
+        final Stream<String> phaseColumns = phases.stream().map(phase -> phase + CSV_PHASE_SUFFIX);
+        appendRow(sb, Stream.concat(Stream.of("transportId", "deviceId", "status", "result", "error", "totalMs"),
+            phaseColumns));
+
+        for (DeviceReport device : report.getDevices()) {
+            final Stream<String> phaseValues = phases.stream()
+                .map(phase -> Optional.ofNullable(device.getPhaseTimingsMs().get(phase))
+                    .map(String::valueOf)
+                    .orElse(""));
+            appendRow(sb, Stream.concat(Stream.of(device.getTransportId(), device.getDeviceId(),
+                String.valueOf(device.getStatus()), device.getResult(), device.getError(),
+                String.valueOf(device.getTotalMs())), phaseValues));
+        }
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, Stream<String> values) {
+        sb.append(values.map(FleetReportWriter::escapeCsv).collect(Collectors.joining(CSV_SEPARATOR)))
+            .append(System.lineSeparator());
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(CSV_SEPARATOR) || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.service;
+
+import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
+import com.intel.bkp.verifier.service.VerifierEngine;
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.DeviceReport;
+import com.intel.bkp.workload.model.FleetDevice;
+import com.intel.bkp.workload.model.FleetReport;
+import com.intel.bkp.workload.model.ReportFormat;
+import com.intel.bkp.workload.util.AppArgument;
+import com.intel.bkp.workload.util.FleetFileReader;
+import com.intel.bkp.workload.util.FleetReportWriter;
+import com.intel.bkp.workload.util.WorkloadFileReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.intel.bkp.workload.service.FleetService.PHASE_EXCHANGE;
+import static com.intel.bkp.workload.service.FleetService.PHASE_QUEUE;
+import static com.intel.bkp.workload.service.FleetService.PHASE_READ_RIM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FleetServiceTest {
+
+    private static final String FLEET_FILE = "devices.txt";
+    private static final String TRANSPORT_ID_1 = "host:127.0.0.1; port:50001";
+    private static final String TRANSPORT_ID_2 = "host:127.0.0.1; port:50002";
+    private static final String RIM_1 = "board1.rim";
+    private static final String RIM_2 = "board2.rim";
+
+    @Mock
+    private FleetFileReader fleetFileReader;
+
+    @Mock
+    private FleetReportWriter reportWriter;
+
+    @Mock
+    private WorkloadFileReader fileReader;
+
+    @Mock
+    private VerifierEngine engine;
+
+    @Mock
+    private VerifierExchange verifierExchange;
+
+    private FleetService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = spy(new FleetService());
+    }
+
+    @Test
+    void callVerifier_WithHealthCommand_RunsAllDevicesOnSingleEngine() {
+        // given
+        mockEngine();
+        mockDevices(new FleetDevice(TRANSPORT_ID_1, null), new FleetDevice(TRANSPORT_ID_2, null));
+        when(verifierExchange.healthCheck(TRANSPORT_ID_1)).thenReturn(0);
+        when(verifierExchange.healthCheck(TRANSPORT_ID_2)).thenReturn(0);
+
+        final AppArgument appArgument = AppArgument.instance()
+            .command(CommandType.HEALTH.name())
+            .fleetFile(FLEET_FILE)
+            .build();
+
+        // when
+        final int result = sut.callVerifier(appArgument);
+
+        // then
+        assertEquals(0, result);
+        verify(sut).startEngine();
+        verify(engine).close();
+        verify(reportWriter, never()).write(any(), any(), any());
+    }
+
+    @Test
+    void callVerifier_WithGetCommand_WritesReportInFormatFromExtension() {
+        // given
+        final String reportFile = "report.CSV";
+        mockEngine();
+        doReturn(reportWriter).when(sut).getReportWriter();
+        mockDevices(new FleetDevice(TRANSPORT_ID_1, RIM_1), new FleetDevice(TRANSPORT_ID_2, RIM_2));
+        mockRim(RIM_1, "0A");
+        mockRim(RIM_2, "0B");
+        when(verifierExchange.getDeviceAttestation(TRANSPORT_ID_1, "0A"))
+            .thenReturn(new VerifierExchangeResponseDTO(0, "01"));
+        when(verifierExchange.getDeviceAttestation(TRANSPORT_ID_2, "0B"))
+            .thenReturn(new VerifierExchangeResponseDTO(-1, "02"));
+
+        final AppArgument appArgument = AppArgument.instance()
+            .command(CommandType.GET.name())
+            .fleetFile(FLEET_FILE)
+            .parallelism(2)
+            .report(reportFile)
+            .build();
+
+        // when
+        final int result = sut.callVerifier(appArgument);
+
+        // then
+        assertEquals(-1, result);
+        final ArgumentCaptor<FleetReport> captor = ArgumentCaptor.forClass(FleetReport.class);
+        verify(reportWriter).write(captor.capture(), eq(reportFile), eq(ReportFormat.CSV));
+
+        final FleetReport report = captor.getValue();
+        assertEquals(CommandType.GET, report.getCommand());
+        assertEquals(2, report.getParallelism());
+        assertEquals(2, report.getDevices().size());
+
+        final DeviceReport first = report.getDevices().get(0);
+        assertEquals(TRANSPORT_ID_1, first.getTransportId());
+        assertEquals("01", first.getDeviceId());
+        assertEquals("OK", first.getResult());
+        assertEquals(List.of(PHASE_QUEUE, PHASE_READ_RIM, PHASE_EXCHANGE),
+            List.copyOf(first.getPhaseTimingsMs().keySet()));
+
+        final DeviceReport second = report.getDevices().get(1);
+        assertEquals(TRANSPORT_ID_2, second.getTransportId());
+        assertEquals("FAIL", second.getResult());
+    }
+
+    @Test
+    void run_WithGetCommand_MissingRimReportedAsDeviceError() {
+        // given
+        mockEngine();
+        mockRim(RIM_1, "0A");
+        when(verifierExchange.getDeviceAttestation(TRANSPORT_ID_1, "0A"))
+            .thenReturn(new VerifierExchangeResponseDTO(0, "01"));
+
+        final AppArgument appArgument = AppArgument.instance()
+            .command(CommandType.GET.name())
+            .fleetFile(FLEET_FILE)
+            .build();
+
+        // when
+        final FleetReport report = sut.run(appArgument,
+            List.of(new FleetDevice(TRANSPORT_ID_1, RIM_1), new FleetDevice(TRANSPORT_ID_2, null)));
+
+        // then
+        assertEquals(2, report.getParallelism());
+        assertEquals("OK", report.getDevices().get(0).getResult());
+        final DeviceReport failed = report.getDevices().get(1);
+        assertEquals(1, failed.getStatus());
+        assertEquals("ERROR", failed.getResult());
+        assertNotNull(failed.getError());
+        assertTrue(report.getTotalMs() >= report.getStartupMs());
+    }
+
+    @Test
+    void callVerifier_WithCreateCommandWithoutContext_Throws() {
+        // given
+        final AppArgument appArgument = AppArgument.instance()
+            .command(CommandType.CREATE.name())
+            .fleetFile(FLEET_FILE)
+            .pufType("EFUSE")
+            .build();
+
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> sut.callVerifier(appArgument));
+        verify(sut, never()).startEngine();
+    }
+
+    @Test
+    void callVerifier_WithInvalidParallelism_Throws() {
+        // given
+        mockDevices(new FleetDevice(TRANSPORT_ID_1, null));
+
+        final AppArgument appArgument = AppArgument.instance()
+            .command(CommandType.HEALTH.name())
+            .fleetFile(FLEET_FILE)
+            .parallelism(0)
+            .build();
+
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> sut.callVerifier(appArgument));
+        verify(sut, never()).startEngine();
+    }
+
+    private void mockEngine() {
+        doReturn(engine).when(sut).startEngine();
+        doReturn(verifierExchange).when(sut).getVerifierExchange(engine);
+    }
+
+    private void mockDevices(FleetDevice... devices) {
+        doReturn(fleetFileReader).when(sut).getFleetFileReader();
+        when(fleetFileReader.read(eq(FLEET_FILE), any())).thenReturn(List.of(devices));
+    }
+
+    private void mockRim(String fileName, String content) {
+        doReturn(fileReader).when(sut).getFileReader();
+        when(fileReader.exists(fileName)).thenReturn(true);
+        when(fileReader.readFile(fileName)).thenReturn(content);
+    }
+}
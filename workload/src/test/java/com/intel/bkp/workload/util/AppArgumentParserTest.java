@@ -33,9 +33,11 @@
 package com.intel.bkp.workload.util;
 
 import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.ReportFormat;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AppArgumentParserTest {
 
@@ -47,7 +49,7 @@ class AppArgumentParserTest {
         args[1] = "-cCREATE";
 
         final var expected = new AppArgument("10", CommandType.CREATE,
-            null, null, null, null);
+            null, null, null, null, null, null, null, null);
 
         // when
         final AppArgument result = AppArgumentParser.parseArguments(args);
@@ -69,7 +71,7 @@ class AppArgumentParserTest {
         args[5] = "--log-level=INFO";
 
         final var expected = new AppArgument("10", CommandType.CREATE,
-            "00010203", pufType, "file", "INFO");
+            "00010203", pufType, "file", "INFO", null, null, null, null);
 
         // when
         final AppArgument result = AppArgumentParser.parseArguments(args);
@@ -77,4 +79,25 @@ class AppArgumentParserTest {
         // then
         assertEquals(expected, result);
     }
+
+    @Test
+    void parseArgumentsFleet_Success() {
+        // given
+        String[] args = new String[5];
+        args[0] = "--fleet-file=devices.txt";
+        args[1] = "-cGET";
+        args[2] = "--parallelism=8";
+        args[3] = "--report=report.out";
+        args[4] = "--report-format=csv";
+
+        final var expected = new AppArgument(null, CommandType.GET,
+            null, null, null, null, "devices.txt", 8, "report.out", ReportFormat.CSV);
+
+        // when
+        final AppArgument result = AppArgumentParser.parseArguments(args);
+
+        // then
+        assertEquals(expected, result);
+        assertTrue(result.isFleetMode());
+    }
 }
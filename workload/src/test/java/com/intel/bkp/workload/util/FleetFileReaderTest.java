@@ -0,0 +1,87 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.util;
+
+import com.intel.bkp.workload.exceptions.WorkloadAppException;
+import com.intel.bkp.workload.model.FleetDevice;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FleetFileReaderTest {
+
+    private static final String DEFAULT_RIM = "default.rim";
+
+    private final FleetFileReader sut = new FleetFileReader();
+
+    @Test
+    void parse_Success() {
+        // given
+        final List<String> lines = List.of(
+            "# rack 1",
+            "host:127.0.0.1; port:50001",
+            "",
+            "  host:127.0.0.1; port:50002 | board2.rim  ",
+            "host:127.0.0.1; port:50003 |");
+
+        // when
+        final List<FleetDevice> result = sut.parse(lines, DEFAULT_RIM);
+
+        // then
+        assertEquals(List.of(
+            new FleetDevice("host:127.0.0.1; port:50001", DEFAULT_RIM),
+            new FleetDevice("host:127.0.0.1; port:50002", "board2.rim"),
+            new FleetDevice("host:127.0.0.1; port:50003", DEFAULT_RIM)), result);
+    }
+
+    @Test
+    void parse_NoDevices_Throws() {
+        // given
+        final List<String> lines = List.of("# empty", " ");
+
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> sut.parse(lines, DEFAULT_RIM));
+    }
+
+    @Test
+    void parse_MissingTransportId_Throws() {
+        // given
+        final List<String> lines = List.of("| board.rim");
+
+        // when-then
+        assertThrows(WorkloadAppException.class, () -> sut.parse(lines, DEFAULT_RIM));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2025 Altera Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ */
+
+package com.intel.bkp.workload.util;
+
+import com.intel.bkp.workload.model.CommandType;
+import com.intel.bkp.workload.model.DeviceReport;
+import com.intel.bkp.workload.model.FleetReport;
+import com.intel.bkp.workload.model.ReportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FleetReportWriterTest {
+
+    private final FleetReportWriter sut = new FleetReportWriter();
+
+    private FleetReport report;
+
+    @BeforeEach
+    void setUp() {
+        report = new FleetReport(CommandType.GET, 2);
+        report.setStartupMs(100);
+        report.setTotalMs(300);
+
+        final DeviceReport passed = new DeviceReport("host:127.0.0.1; port:50001");
+        passed.setDeviceId("0102030405060708");
+        passed.setStatus(0);
+        passed.setResult("OK");
+        passed.setTotalMs(20);
+        passed.addPhaseTiming("queue", 0);
+        passed.addPhaseTiming("readRim", 5);
+        passed.addPhaseTiming("exchange", 15);
+        report.getDevices().add(passed);
+
+        final DeviceReport failed = new DeviceReport("host:127.0.0.1, port:50002");
+        failed.setStatus(1);
+        failed.setResult("ERROR");
+        failed.setError("Provide \"valid\" RIM");
+        failed.addPhaseTiming("queue", 3);
+        report.getDevices().add(failed);
+    }
+
+    @Test
+    void format_Csv_Success() {
+        // given
+        final String lineSeparator = System.lineSeparator();
+        final String expected = "transportId,deviceId,status,result,error,totalMs,queueMs,readRimMs,exchangeMs"
+            + lineSeparator
+            + "host:127.0.0.1; port:50001,0102030405060708,0,OK,,20,0,5,15" + lineSeparator
+            + "\"host:127.0.0.1, port:50002\",,1,ERROR,\"Provide \"\"valid\"\" RIM\",0,3,," + lineSeparator;
+
+        // when
+        final String result = sut.format(report, ReportFormat.CSV);
+
+        // then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void format_Json_Success() {
+        // when
+        final String result = sut.format(report, ReportFormat.JSON);
+
+        // then
+        assertTrue(result.contains("\"command\" : \"GET\""));
+        assertTrue(result.contains("\"startupMs\" : 100"));
+        assertTrue(result.contains("\"deviceId\" : \"0102030405060708\""));
+        assertTrue(result.contains("\"readRim\" : 5"));
+        assertTrue(result.contains("\"error\" : \"Provide \\\"valid\\\" RIM\""));
+    }
+}